@@ -0,0 +1,107 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package backtype.storm.benchmark;
+
+import backtype.storm.generated.StormTopology;
+import backtype.storm.task.GeneralTopologyContext;
+import backtype.storm.testing.FeederSpout;
+import backtype.storm.topology.TopologyBuilder;
+import backtype.storm.tuple.Fields;
+import backtype.storm.tuple.TupleImpl;
+import backtype.storm.utils.Utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A single spout topology with a configurable output schema, used by the
+ * benchmarks to build a GeneralTopologyContext and tuples without a cluster.
+ */
+public class BenchmarkTopology {
+    public static final String COMPONENT = "spout";
+    public static final int TASK = 1;
+
+    private final Fields _fields;
+    private final Map _conf;
+    private final GeneralTopologyContext _context;
+
+    /**
+     * @param numFields number of fields in the spout's default stream, named f0..f(n-1)
+     */
+    public BenchmarkTopology(int numFields) {
+        List<String> names = new ArrayList<String>();
+        for(int i=0; i<numFields; i++) {
+            names.add("f" + i);
+        }
+        _fields = new Fields(names);
+
+        TopologyBuilder builder = new TopologyBuilder();
+        builder.setSpout(COMPONENT, new FeederSpout(_fields));
+        StormTopology topology = builder.createTopology();
+
+        _conf = Utils.readDefaultConfig();
+
+        Map<Integer, String> taskToComponent = new HashMap<Integer, String>();
+        taskToComponent.put(TASK, COMPONENT);
+        Map<String, List<Integer>> componentToTasks = new HashMap<String, List<Integer>>();
+        List<Integer> tasks = new ArrayList<Integer>();
+        tasks.add(TASK);
+        componentToTasks.put(COMPONENT, tasks);
+        Map<String, Map<String, Fields>> componentToStreamToFields = new HashMap<String, Map<String, Fields>>();
+        Map<String, Fields> streamToFields = new HashMap<String, Fields>();
+        streamToFields.put(Utils.DEFAULT_STREAM_ID, _fields);
+        componentToStreamToFields.put(COMPONENT, streamToFields);
+
+        _context = new GeneralTopologyContext(topology, _conf, taskToComponent, componentToTasks,
+                componentToStreamToFields, "benchmark-1-1");
+    }
+
+    public Fields getFields() {
+        return _fields;
+    }
+
+    public Map getConf() {
+        return _conf;
+    }
+
+    public GeneralTopologyContext getContext() {
+        return _context;
+    }
+
+    /**
+     * Builds a tuple whose fields are strings of valueSize characters, a
+     * reasonable stand-in for the word/id payloads typical topologies carry.
+     */
+    public TupleImpl mkTuple(int valueSize) {
+        return new TupleImpl(_context, mkValues(valueSize), TASK, Utils.DEFAULT_STREAM_ID);
+    }
+
+    public List<Object> mkValues(int valueSize) {
+        List<Object> values = new ArrayList<Object>();
+        for(int i=0; i<_fields.size(); i++) {
+            StringBuilder sb = new StringBuilder(valueSize);
+            for(int j=0; j<valueSize; j++) {
+                sb.append((char) ('a' + (i + j) % 26));
+            }
+            values.add(sb.toString());
+        }
+        return values;
+    }
+}
@@ -0,0 +1,119 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package backtype.storm.benchmark;
+
+import backtype.storm.utils.DisruptorQueue;
+import backtype.storm.utils.ProgressiveWaitStrategy;
+import backtype.storm.utils.Utils;
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.EventHandler;
+import com.lmax.disruptor.MultiThreadedClaimStrategy;
+import com.lmax.disruptor.SleepingWaitStrategy;
+import com.lmax.disruptor.WaitStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Producer throughput of DisruptorQueue, the queue behind every executor and
+ * the worker transfer thread. The benchmark threads publish (run with -t N for
+ * N producers) while a background thread drains the queue the way an executor
+ * does, so at steady state the score is the end to end rate of the queue.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DisruptorQueueBenchmark {
+    private static final Object EVENT = new Object();
+
+    @Param({"1024", "16384"})
+    public int queueSize;
+
+    @Param({"1", "100"})
+    public int batchSize;
+
+    @Param({"blocking", "sleeping", "progressive"})
+    public String waitStrategy;
+
+    private DisruptorQueue _queue;
+    private Thread _consumer;
+    private volatile long _consumed;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        WaitStrategy wait;
+        if("blocking".equals(waitStrategy)) {
+            wait = new BlockingWaitStrategy();
+        } else if("sleeping".equals(waitStrategy)) {
+            wait = new SleepingWaitStrategy();
+        } else {
+            wait = new ProgressiveWaitStrategy();
+        }
+        _queue = new DisruptorQueue("benchmark", new MultiThreadedClaimStrategy(queueSize), wait, 1000L,
+                batchSize, 1L);
+        _queue.consumerStarted();
+        _consumer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                EventHandler<Object> handler = new EventHandler<Object>() {
+                    @Override
+                    public void onEvent(Object o, long seqId, boolean endOfBatch) {
+                        _consumed++;
+                    }
+                };
+                try {
+                    while(true) {
+                        _queue.consumeBatchWhenAvailable(handler);
+                    }
+                } catch (RuntimeException e) {
+                    if(!Utils.exceptionCauseIsInstanceOf(InterruptedException.class, e)) {
+                        throw e;
+                    }
+                }
+            }
+        }, "benchmark-consumer");
+        _consumer.setDaemon(true);
+        _consumer.start();
+    }
+
+    @TearDown(Level.Iteration)
+    public void teardown() throws InterruptedException {
+        _queue.haltWithInterrupt();
+        _consumer.join();
+    }
+
+    @Benchmark
+    public void publish() {
+        _queue.publish(EVENT);
+    }
+}
@@ -0,0 +1,112 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package backtype.storm.benchmark;
+
+import backtype.storm.tuple.Fields;
+import backtype.storm.utils.Utils;
+import clojure.lang.IFn;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per tuple cost of the grouping functions built by executor.clj. The groupers
+ * are loaded from the executor namespace itself, so this measures exactly what
+ * the executor's send path calls.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GroupingBenchmark {
+    private static final int NUM_TUPLES = 1024;
+
+    // number of tasks of the downstream component
+    @Param({"4", "64", "512"})
+    public int fanOut;
+
+    @Param({"4", "16"})
+    public int numFields;
+
+    // number of fields the fields grouping hashes
+    @Param({"1", "3"})
+    public int groupFields;
+
+    private IFn _fieldsGrouper;
+    private IFn _shuffleGrouper;
+    private List<Object>[] _tuples;
+    private int _next;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchmarkTopology topology = new BenchmarkTopology(numFields);
+        List<Integer> targetTasks = new ArrayList<Integer>();
+        for(int i=0; i<fanOut; i++) {
+            targetTasks.add(100 + i);
+        }
+        List<String> groupNames = new ArrayList<String>();
+        for(int i=0; i<Math.min(groupFields, numFields); i++) {
+            groupNames.add("f" + i);
+        }
+
+        IFn mkFieldsGrouper = Utils.loadClojureFn("backtype.storm.daemon.executor", "mk-fields-grouper");
+        IFn mkShuffleGrouper = Utils.loadClojureFn("backtype.storm.daemon.executor", "mk-shuffle-grouper");
+        _fieldsGrouper = (IFn) mkFieldsGrouper.invoke(topology.getFields(), new Fields(groupNames), targetTasks);
+        _shuffleGrouper = (IFn) mkShuffleGrouper.invoke(targetTasks);
+
+        _tuples = new List[NUM_TUPLES];
+        for(int i=0; i<NUM_TUPLES; i++) {
+            List<Object> values = new ArrayList<Object>();
+            for(int f=0; f<numFields; f++) {
+                values.add("key-" + i + "-" + f);
+            }
+            _tuples[i] = values;
+        }
+    }
+
+    private List<Object> nextTuple() {
+        List<Object> ret = _tuples[_next];
+        _next = (_next + 1) & (NUM_TUPLES - 1);
+        return ret;
+    }
+
+    @Benchmark
+    public Object fieldsGrouping() {
+        return _fieldsGrouper.invoke(BenchmarkTopology.TASK, nextTuple());
+    }
+
+    @Benchmark
+    public Object shuffleGrouping() {
+        return _shuffleGrouper.invoke(BenchmarkTopology.TASK, nextTuple());
+    }
+}
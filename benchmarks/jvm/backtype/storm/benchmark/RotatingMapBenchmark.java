@@ -0,0 +1,109 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package backtype.storm.benchmark;
+
+import backtype.storm.utils.LongRotatingMap;
+import backtype.storm.utils.RotatingMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The acker's pending map access pattern: every tuple tree is created, updated
+ * fanOut times and then completed. Compares the generic RotatingMap, as used
+ * with boxed keys, against LongRotatingMap.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RotatingMapBenchmark {
+    private static final int NUM_IDS = 1 << 16;
+
+    // number of tuple trees in flight when the benchmark runs
+    @Param({"1000", "100000"})
+    public int pending;
+
+    // acks each tuple tree receives before it completes
+    @Param({"1", "8"})
+    public int fanOut;
+
+    private long[] _ids;
+    private int _next;
+    private RotatingMap<Long, Long> _map;
+    private LongRotatingMap<Object> _longMap;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random rand = new Random(42);
+        _ids = new long[NUM_IDS];
+        for(int i=0; i<NUM_IDS; i++) {
+            _ids[i] = rand.nextLong();
+        }
+        _map = new RotatingMap<Long, Long>(2);
+        _longMap = new LongRotatingMap<Object>(2);
+        for(int i=0; i<pending; i++) {
+            long id = rand.nextLong();
+            _map.put(id, id);
+            _longMap.updateAck(id, id);
+        }
+    }
+
+    private long nextId() {
+        long id = _ids[_next];
+        _next = (_next + 1) & (NUM_IDS - 1);
+        return id;
+    }
+
+    @Benchmark
+    public Object rotatingMap() {
+        long id = nextId();
+        Long curr = id;
+        _map.put(id, curr);
+        for(int i=0; i<fanOut; i++) {
+            curr = _map.get(id) ^ (id + i);
+            _map.put(id, curr);
+        }
+        return _map.remove(id);
+    }
+
+    @Benchmark
+    public long longRotatingMap() {
+        long id = nextId();
+        long curr = _longMap.updateAck(id, id);
+        for(int i=0; i<fanOut; i++) {
+            curr = _longMap.updateAck(id, id + i);
+        }
+        _longMap.remove(id);
+        return curr;
+    }
+}
@@ -0,0 +1,119 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package backtype.storm.benchmark;
+
+import backtype.storm.messaging.IConnection;
+import backtype.storm.messaging.TaskMessage;
+import backtype.storm.utils.TransferDrainer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One drain cycle of the worker transfer thread: the batches produced by a
+ * transfer queue consume are bundled per task, regrouped per destination worker
+ * and handed to the connections, which here only walk the iterators.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransferDrainerBenchmark {
+    // number of remote tasks messages are spread over
+    @Param({"4", "64"})
+    public int numTasks;
+
+    // number of remote workers those tasks live in
+    @Param({"1", "8"})
+    public int numWorkers;
+
+    // messages per task per drain cycle
+    @Param({"1", "32"})
+    public int messagesPerTask;
+
+    private HashMap<Integer, ArrayList<TaskMessage>> _batch;
+    private HashMap<Integer, String> _taskToNode;
+    private HashMap<String, IConnection> _connections;
+    private TransferDrainer _drainer;
+
+    @Setup(Level.Trial)
+    public void setup(final Blackhole bh) {
+        byte[] payload = new byte[64];
+        _batch = new HashMap<Integer, ArrayList<TaskMessage>>();
+        _taskToNode = new HashMap<Integer, String>();
+        _connections = new HashMap<String, IConnection>();
+        IConnection connection = new IConnection() {
+            @Override
+            public Iterator<TaskMessage> recv(int flags, int clientId) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void send(int taskId, byte[] payload) {
+                bh.consume(payload);
+            }
+
+            @Override
+            public void send(Iterator<TaskMessage> msgs) {
+                while(msgs.hasNext()) {
+                    bh.consume(msgs.next());
+                }
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        for(int w=0; w<numWorkers; w++) {
+            _connections.put("host" + w + ":6700", connection);
+        }
+        for(int task=0; task<numTasks; task++) {
+            ArrayList<TaskMessage> msgs = new ArrayList<TaskMessage>();
+            for(int i=0; i<messagesPerTask; i++) {
+                msgs.add(new TaskMessage(task, payload));
+            }
+            _batch.put(task, msgs);
+            _taskToNode.put(task, "host" + (task % numWorkers) + ":6700");
+        }
+        _drainer = new TransferDrainer();
+    }
+
+    @Benchmark
+    public void drain() {
+        _drainer.add(_batch);
+        _drainer.send(_taskToNode, _connections);
+        _drainer.clear();
+    }
+}
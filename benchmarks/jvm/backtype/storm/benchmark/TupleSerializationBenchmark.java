@@ -0,0 +1,89 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package backtype.storm.benchmark;
+
+import backtype.storm.messaging.TaskMessage;
+import backtype.storm.serialization.KryoTupleDeserializer;
+import backtype.storm.serialization.KryoTupleSerializer;
+import backtype.storm.tuple.Tuple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of moving one tuple through KryoTupleSerializer/KryoTupleDeserializer,
+ * for both the array-per-tuple and the slab based serialization paths.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TupleSerializationBenchmark {
+    @Param({"1", "4", "16"})
+    public int numFields;
+
+    @Param({"8", "128", "1024"})
+    public int valueSize;
+
+    private KryoTupleSerializer _serializer;
+    private KryoTupleDeserializer _deserializer;
+    private Tuple _tuple;
+    private byte[] _serialized;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchmarkTopology topology = new BenchmarkTopology(numFields);
+        _serializer = new KryoTupleSerializer(topology.getConf(), topology.getContext());
+        _deserializer = new KryoTupleDeserializer(topology.getConf(), topology.getContext());
+        _tuple = topology.mkTuple(valueSize);
+        _serialized = _serializer.serialize(_tuple);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return _serializer.serialize(_tuple);
+    }
+
+    @Benchmark
+    public TaskMessage serializeToMessage() {
+        return _serializer.serializeToMessage(BenchmarkTopology.TASK, _tuple);
+    }
+
+    @Benchmark
+    public Tuple deserialize() {
+        return _deserializer.deserialize(_serialized);
+    }
+
+    @Benchmark
+    public Tuple roundTrip() {
+        return _deserializer.deserialize(_serializer.serialize(_tuple));
+    }
+}
@@ -0,0 +1,102 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package backtype.storm.messaging.netty;
+
+import backtype.storm.messaging.TaskMessage;
+import org.jboss.netty.buffer.ChannelBuffer;
+import org.jboss.netty.buffer.ChannelBuffers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding of a MessageBatch, copying and zero copy, and decoding of the
+ * resulting frame by MessageDecoder. Lives in the netty package because
+ * MessageBatch and MessageDecoder.decode are not public.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageBatchBenchmark {
+    @Param({"1", "64", "512"})
+    public int batchSize;
+
+    @Param({"16", "256", "4096"})
+    public int messageSize;
+
+    private TaskMessage[] _messages;
+    private ChannelBuffer _encoded;
+    private MessageDecoder _decoder;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        _messages = new TaskMessage[batchSize];
+        for(int i=0; i<batchSize; i++) {
+            byte[] payload = new byte[messageSize];
+            for(int j=0; j<messageSize; j++) {
+                payload[j] = (byte) (i + j);
+            }
+            _messages[i] = new TaskMessage(i % 16, payload);
+        }
+        _encoded = mkBatch(false).buffer();
+        _decoder = new MessageDecoder();
+    }
+
+    private MessageBatch mkBatch(boolean zeroCopy) {
+        MessageBatch batch = new MessageBatch(Integer.MAX_VALUE, zeroCopy);
+        for(TaskMessage msg : _messages) {
+            batch.add(msg);
+        }
+        return batch;
+    }
+
+    @Benchmark
+    public ChannelBuffer encode() throws Exception {
+        return mkBatch(false).buffer();
+    }
+
+    @Benchmark
+    public ChannelBuffer encodeZeroCopy() throws Exception {
+        return mkBatch(true).buffer();
+    }
+
+    @Benchmark
+    public Object decode() throws Exception {
+        // the decoder consumes the buffer, so hand it a fresh view each time
+        ChannelBuffer buf = ChannelBuffers.wrappedBuffer(_encoded.duplicate());
+        Object ret = null;
+        while(buf.readable()) {
+            ret = _decoder.decode(null, null, buf);
+        }
+        return ret;
+    }
+}
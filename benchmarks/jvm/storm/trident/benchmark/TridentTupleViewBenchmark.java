@@ -0,0 +1,108 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package storm.trident.benchmark;
+
+import backtype.storm.tuple.Fields;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import storm.trident.tuple.TridentTuple;
+import storm.trident.tuple.TridentTupleView;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Trident tuple construction along a typical chain: a fresh tuple, an each()
+ * that appends fields, and the projection handed to the next operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TridentTupleViewBenchmark {
+    @Param({"2", "8", "32"})
+    public int numFields;
+
+    // number of fields the projection keeps
+    @Param({"1", "2"})
+    public int projected;
+
+    private TridentTupleView.FreshOutputFactory _freshFactory;
+    private TridentTupleView.OperationOutputFactory _opFactory;
+    private TridentTupleView.ProjectionFactory _projectionFactory;
+    private List<Object> _values;
+    private List<Object> _opValues;
+    private TridentTupleView _opTuple;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        List<String> names = new ArrayList<String>();
+        _values = new ArrayList<Object>();
+        for(int i=0; i<numFields; i++) {
+            names.add("f" + i);
+            _values.add("value" + i);
+        }
+        _freshFactory = new TridentTupleView.FreshOutputFactory(new Fields(names));
+        _opFactory = new TridentTupleView.OperationOutputFactory(_freshFactory, new Fields("out"));
+        _opValues = new ArrayList<Object>();
+        _opValues.add("result");
+
+        // keep the appended field plus the last input fields
+        List<String> projectNames = new ArrayList<String>();
+        projectNames.add("out");
+        for(int i=1; i<projected; i++) {
+            projectNames.add("f" + (numFields - i));
+        }
+        _projectionFactory = new TridentTupleView.ProjectionFactory(_opFactory, new Fields(projectNames));
+        _opTuple = (TridentTupleView) _opFactory.create((TridentTupleView) _freshFactory.create(_values), _opValues);
+    }
+
+    @Benchmark
+    public TridentTuple create() {
+        TridentTupleView fresh = (TridentTupleView) _freshFactory.create(_values);
+        return _opFactory.create(fresh, _opValues);
+    }
+
+    @Benchmark
+    public TridentTuple project() {
+        return _projectionFactory.create(_opTuple);
+    }
+
+    @Benchmark
+    public Object projectAndRead() {
+        TridentTuple projection = _projectionFactory.create(_opTuple);
+        Object ret = null;
+        for(int i=0; i<projection.size(); i++) {
+            ret = projection.getValue(i);
+        }
+        return ret;
+    }
+}
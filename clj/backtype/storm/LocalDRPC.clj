@@ -43,6 +43,10 @@
   (.fetchRequest (:handler (. this state)) func)
   )
 
+(defn -fetchRequests [this func maxCount waitMs]
+  (.fetchRequests (:handler (. this state)) func maxCount waitMs)
+  )
+
 (defn -failRequest [this id]
   (.failRequest (:handler (. this state)) id)
   )
@@ -20,6 +20,7 @@
            [java.io Serializable])
   (:import [org.apache.zookeeper KeeperException KeeperException$NoNodeException ZooDefs ZooDefs$Ids ZooDefs$Perms])
   (:import [backtype.storm.utils Utils])
+  (:import [backtype.storm.nimbus IHeartbeatStore NimbusHeartbeatStore])
   (:import [java.security MessageDigest])
   (:import [org.apache.zookeeper.server.auth DigestAuthenticationProvider])
   (:use [backtype.storm util log config converter])
@@ -156,6 +157,10 @@
   (error-topologies [this])
   (worker-heartbeat! [this storm-id node port info])
   (remove-worker-heartbeat! [this storm-id node port])
+  (worker-backpressure! [this storm-id node port on?])
+  (topology-backpressure [this storm-id callback])
+  (setup-backpressure! [this storm-id])
+  (teardown-backpressure! [this storm-id])
   (supervisor-heartbeat! [this supervisor-id info])
   (activate-storm! [this storm-id storm-base])
   (update-storm! [this storm-id new-elems])
@@ -176,6 +181,7 @@
 (def WORKERBEATS-ROOT "workerbeats")
 (def ERRORS-ROOT "errors")
 (def CREDENTIALS-ROOT "credentials")
+(def BACKPRESSURE-ROOT "backpressure")
 
 (def ASSIGNMENTS-SUBTREE (str "/" ASSIGNMENTS-ROOT))
 (def STORMS-SUBTREE (str "/" STORMS-ROOT))
@@ -183,6 +189,7 @@
 (def WORKERBEATS-SUBTREE (str "/" WORKERBEATS-ROOT))
 (def ERRORS-SUBTREE (str "/" ERRORS-ROOT))
 (def CREDENTIALS-SUBTREE (str "/" CREDENTIALS-ROOT))
+(def BACKPRESSURE-SUBTREE (str "/" BACKPRESSURE-ROOT))
 
 (defn supervisor-path
   [id]
@@ -204,6 +211,14 @@
   [storm-id node port]
   (str (workerbeat-storm-root storm-id) "/" node "-" port))
 
+(defn backpressure-storm-root
+  [storm-id]
+  (str BACKPRESSURE-SUBTREE "/" storm-id))
+
+(defn backpressure-path
+  [storm-id node port]
+  (str (backpressure-storm-root storm-id) "/" node "-" port))
+
 (defn error-storm-root
   [storm-id]
   (str ERRORS-SUBTREE "/" storm-id))
@@ -264,9 +279,24 @@
                       :stats (get executor-stats t)}})))
          (into {}))))
 
+(defn mk-heartbeat-store
+  "Returns the IHeartbeatStore configured with STORM-HEARTBEAT-STORE, or nil if
+  worker heartbeats go to ZooKeeper. The NimbusHeartbeatStore falls back to
+  ZooKeeper in local mode, where Nimbus has no Thrift server to send them to."
+  [conf nimbus?]
+  (when-let [klass (conf STORM-HEARTBEAT-STORE)]
+    (if (and (= klass (.getName NimbusHeartbeatStore))
+             (local-mode? conf))
+      (log-message "Ignoring " STORM-HEARTBEAT-STORE " " klass
+                   " in local mode, heartbeats go to ZooKeeper")
+      (let [^IHeartbeatStore store (new-instance klass)]
+        (.prepare store conf (boolean nimbus?))
+        store))))
+
 ;; Watches should be used for optimization. When ZK is reconnecting, they're not guaranteed to be called.
+;; Worker heartbeats go to heartbeat-store when one is given, it is closed on disconnect.
 (defnk mk-storm-cluster-state
-  [cluster-state-spec :acls nil]
+  [cluster-state-spec :acls nil :heartbeat-store nil]
   (let [[solo? cluster-state] (if (satisfies? ClusterState cluster-state-spec)
                                 [false cluster-state-spec]
                                 [true (mk-distributed-cluster-state cluster-state-spec :auth-conf cluster-state-spec :acls acls)])
@@ -277,6 +307,7 @@
         assignments-callback (atom nil)
         storm-base-callback (atom {})
         credentials-callback (atom {})
+        backpressure-callback (atom {})
         state-id (register
                   cluster-state
                   (fn [type path]
@@ -291,9 +322,10 @@
                          SUPERVISORS-ROOT (issue-callback! supervisors-callback)
                          STORMS-ROOT (issue-map-callback! storm-base-callback (first args))
                          CREDENTIALS-ROOT (issue-map-callback! credentials-callback (first args))
+                         BACKPRESSURE-ROOT (issue-map-callback! backpressure-callback (first args))
                          ;; this should never happen
                          (exit-process! 30 "Unknown callback for subtree " subtree args)))))]
-    (doseq [p [ASSIGNMENTS-SUBTREE STORMS-SUBTREE SUPERVISORS-SUBTREE WORKERBEATS-SUBTREE ERRORS-SUBTREE]]
+    (doseq [p [ASSIGNMENTS-SUBTREE STORMS-SUBTREE SUPERVISORS-SUBTREE WORKERBEATS-SUBTREE ERRORS-SUBTREE BACKPRESSURE-SUBTREE]]
       (mkdirs cluster-state p acls))
     (reify
       StormClusterState
@@ -331,7 +363,9 @@
 
       (heartbeat-storms
         [this]
-        (get-children cluster-state WORKERBEATS-SUBTREE false))
+        (if heartbeat-store
+          (.heartbeatStorms ^IHeartbeatStore heartbeat-store)
+          (get-children cluster-state WORKERBEATS-SUBTREE false)))
 
       (error-topologies
         [this]
@@ -339,7 +373,9 @@
 
       (get-worker-heartbeat
         [this storm-id node port]
-        (let [worker-hb (get-data cluster-state (workerbeat-path storm-id node port) false)]
+        (let [worker-hb (if heartbeat-store
+                          (.getWorkerHeartbeat ^IHeartbeatStore heartbeat-store storm-id node (int port))
+                          (get-data cluster-state (workerbeat-path storm-id node port) false))]
           (if worker-hb
             (-> worker-hb
               (maybe-deserialize ClusterWorkerHeartbeat)
@@ -373,22 +409,59 @@
         [this storm-id node port info]
         (let [thrift-worker-hb (thriftify-zk-worker-hb info)]
           (if thrift-worker-hb
-            (set-data cluster-state (workerbeat-path storm-id node port) (Utils/serialize thrift-worker-hb) acls))))
+            (if heartbeat-store
+              (.putWorkerHeartbeat ^IHeartbeatStore heartbeat-store storm-id node (int port) (Utils/serialize thrift-worker-hb))
+              (set-data cluster-state (workerbeat-path storm-id node port) (Utils/serialize thrift-worker-hb) acls)))))
 
       (remove-worker-heartbeat!
         [this storm-id node port]
-        (delete-node cluster-state (workerbeat-path storm-id node port)))
+        (if heartbeat-store
+          (.removeWorkerHeartbeat ^IHeartbeatStore heartbeat-store storm-id node (int port))
+          (delete-node cluster-state (workerbeat-path storm-id node port))))
+
+      (worker-backpressure!
+        [this storm-id node port on?]
+        ;; ephemeral, so that a dead worker does not keep the topology throttled
+        (let [path (backpressure-path storm-id node port)
+              existed? (exists-node? cluster-state path false)]
+          (cond
+            (and on? (not existed?)) (set-ephemeral-node cluster-state path nil acls)
+            (and (not on?) existed?) (delete-node cluster-state path))))
+
+      (topology-backpressure
+        [this storm-id callback]
+        ;; true if any worker of the topology is currently throttling
+        (when callback
+          (swap! backpressure-callback assoc storm-id callback))
+        (let [path (backpressure-storm-root storm-id)]
+          (if (exists-node? cluster-state path false)
+            (not (empty? (get-children cluster-state path (not-nil? callback))))
+            false)))
 
-      (setup-heartbeats!
+      (setup-backpressure!
         [this storm-id]
-        (mkdirs cluster-state (workerbeat-storm-root storm-id) acls))
+        (mkdirs cluster-state (backpressure-storm-root storm-id) acls))
 
-      (teardown-heartbeats!
+      (teardown-backpressure!
         [this storm-id]
         (try-cause
-          (delete-node cluster-state (workerbeat-storm-root storm-id))
+          (delete-node cluster-state (backpressure-storm-root storm-id))
           (catch KeeperException e
-            (log-warn-error e "Could not teardown heartbeats for " storm-id))))
+            (log-warn-error e "Could not teardown backpressure for " storm-id))))
+
+      (setup-heartbeats!
+        [this storm-id]
+        (when-not heartbeat-store
+          (mkdirs cluster-state (workerbeat-storm-root storm-id) acls)))
+
+      (teardown-heartbeats!
+        [this storm-id]
+        (if heartbeat-store
+          (.removeHeartbeats ^IHeartbeatStore heartbeat-store storm-id)
+          (try-cause
+            (delete-node cluster-state (workerbeat-storm-root storm-id))
+            (catch KeeperException e
+              (log-warn-error e "Could not teardown heartbeats for " storm-id)))))
 
       (teardown-topology-errors!
         [this storm-id]
@@ -497,6 +570,8 @@
       (disconnect
          [this]
         (unregister cluster-state state-id)
+        (when heartbeat-store
+          (.close ^IHeartbeatStore heartbeat-store))
         (when solo?
           (close cluster-state))))))
 
@@ -206,6 +206,16 @@
     (FileUtils/forceMkdir (File. ret))
     ret ))
 
+(defn supervisor-downloads-dir
+  [conf]
+  (let [ret (str (supervisor-local-dir conf) file-path-separator "downloads")]
+    (FileUtils/forceMkdir (File. ret))
+    ret))
+
+(defn supervisor-partial-download-path
+  [conf storm-id file-name]
+  (str (supervisor-downloads-dir conf) file-path-separator (url-encode storm-id) "-" file-name))
+
 (defn supervisor-storm-resources-path
   [stormroot]
   (str stormroot file-path-separator RESOURCES-SUBDIR))
@@ -268,6 +278,10 @@
   [conf id pid]
   (str (worker-pids-root conf id) file-path-separator pid))
 
+(defn worker-tmp-root
+  [conf id]
+  (str (worker-root conf id) file-path-separator "tmp"))
+
 (defn worker-heartbeats-root
   [conf id]
   (str (worker-root conf id) file-path-separator "heartbeats"))
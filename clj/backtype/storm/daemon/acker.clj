@@ -16,7 +16,7 @@
 (ns backtype.storm.daemon.acker
   (:import [backtype.storm.task OutputCollector TopologyContext IBolt])
   (:import [backtype.storm.tuple Tuple Fields])
-  (:import [backtype.storm.utils RotatingMap MutableObject])
+  (:import [backtype.storm.utils LongRotatingMap MutableObject])
   (:import [java.util List Map])
   (:import [backtype.storm Constants])
   (:use [backtype.storm config util log])
@@ -31,13 +31,8 @@
 (def ACKER-ACK-STREAM-ID "__ack_ack")
 (def ACKER-FAIL-STREAM-ID "__ack_fail")
 
-(defn- update-ack [curr-entry val]
-  (let [old (get curr-entry :val 0)]
-    (assoc curr-entry :val (bit-xor old val))
-    ))
-
-(defn- acker-emit-direct [^OutputCollector collector ^Integer task ^String stream ^List values]
-  (.emitDirect collector task stream values)
+(defn- acker-emit-direct [^OutputCollector collector task ^String stream ^List values]
+  (.emitDirect collector (int task) stream values)
   )
 
 (defn mk-acker-bolt []
@@ -46,41 +41,28 @@
     (reify IBolt
       (^void prepare [this ^Map storm-conf ^TopologyContext context ^OutputCollector collector]
                (.setObject output-collector collector)
-               (.setObject pending (RotatingMap. 2))
+               (.setObject pending (LongRotatingMap. 2))
                )
       (^void execute [this ^Tuple tuple]
-             (let [^RotatingMap pending (.getObject pending)
+             (let [^LongRotatingMap pending (.getObject pending)
                    stream-id (.getSourceStreamId tuple)]
                (if (= stream-id Constants/SYSTEM_TICK_STREAM_ID)
                  (.rotate pending)
-                 (let [id (.getValue tuple 0)
-                       ^OutputCollector output-collector (.getObject output-collector)
-                       curr (.get pending id)
-                       curr (condp = stream-id
-                                ACKER-INIT-STREAM-ID (-> curr
-                                                         (update-ack (.getValue tuple 1))
-                                                         (assoc :spout-task (.getValue tuple 2)))
-                                ACKER-ACK-STREAM-ID (update-ack curr (.getValue tuple 1))
-                                ACKER-FAIL-STREAM-ID (assoc curr :failed true))]
-                   (.put pending id curr)
-                   (when (and curr (:spout-task curr))
-                     (cond (= 0 (:val curr))
-                           (do
-                             (.remove pending id)
-                             (acker-emit-direct output-collector
-                                                (:spout-task curr)
-                                                ACKER-ACK-STREAM-ID
-                                                [id]
-                                                ))
-                           (:failed curr)
-                           (do
-                             (.remove pending id)
-                             (acker-emit-direct output-collector
-                                                (:spout-task curr)
-                                                ACKER-FAIL-STREAM-ID
-                                                [id]
-                                                ))
-                           ))
+                 (let [id (long (.getValue tuple 0))
+                       ^OutputCollector output-collector (.getObject output-collector)]
+                   (condp = stream-id
+                     ACKER-INIT-STREAM-ID (do
+                                            (.updateAck pending id (long (.getValue tuple 1)))
+                                            (.setSpoutTask pending id (int (.getValue tuple 2))))
+                     ACKER-ACK-STREAM-ID (.updateAck pending id (long (.getValue tuple 1)))
+                     ACKER-FAIL-STREAM-ID (.setFailed pending id))
+                   (let [done (.removeIfDone pending id)]
+                     (when (>= done 0)
+                       (acker-emit-direct output-collector
+                                          (bit-shift-right done 1)
+                                          (if (odd? done) ACKER-FAIL-STREAM-ID ACKER-ACK-STREAM-ID)
+                                          [id]
+                                          )))
                    (.ack output-collector tuple)
                    ))))
       (^void cleanup [this]
@@ -14,7 +14,7 @@
 ;; See the License for the specific language governing permissions and
 ;; limitations under the License.
 (ns backtype.storm.daemon.builtin-metrics
-  (:import [backtype.storm.metric.api MultiCountMetric MultiReducedMetric MeanReducer StateMetric IMetric IStatefulObject])
+  (:import [backtype.storm.metric.api MultiCountMetric MultiReducedMetric MeanReducer MultiHistogramMetric StateMetric IMetric IStatefulObject])
   (:import [backtype.storm Config])
   (:use [backtype.storm.stats :only [stats-rate]]))
 
@@ -22,14 +22,17 @@
                                 ^MultiReducedMetric complete-latency
                                 ^MultiCountMetric fail-count
                                 ^MultiCountMetric emit-count
-                                ^MultiCountMetric transfer-count])
+                                ^MultiCountMetric transfer-count
+                                ^MultiHistogramMetric complete-latency-percentiles])
 (defrecord BuiltinBoltMetrics [^MultiCountMetric ack-count
                                ^MultiReducedMetric process-latency
                                ^MultiCountMetric fail-count
                                ^MultiCountMetric execute-count
                                ^MultiReducedMetric execute-latency
                                ^MultiCountMetric emit-count
-                               ^MultiCountMetric transfer-count])
+                               ^MultiCountMetric transfer-count
+                               ^MultiHistogramMetric process-latency-percentiles
+                               ^MultiHistogramMetric execute-latency-percentiles])
 
 (defn make-data [executor-type]
   (condp = executor-type
@@ -37,14 +40,17 @@
                                  (MultiReducedMetric. (MeanReducer.))
                                  (MultiCountMetric.)
                                  (MultiCountMetric.)
-                                 (MultiCountMetric.))
+                                 (MultiCountMetric.)
+                                 (MultiHistogramMetric.))
     :bolt (BuiltinBoltMetrics. (MultiCountMetric.)
                                (MultiReducedMetric. (MeanReducer.))
                                (MultiCountMetric.)
                                (MultiCountMetric.)
                                (MultiReducedMetric. (MeanReducer.))
                                (MultiCountMetric.)
-                               (MultiCountMetric.))))
+                               (MultiCountMetric.)
+                               (MultiHistogramMetric.)
+                               (MultiHistogramMetric.))))
 
 (defn register-all [builtin-metrics  storm-conf topology-context]
   (doseq [[kw imetric] builtin-metrics]
@@ -75,7 +81,8 @@
 
 (defn spout-acked-tuple! [^BuiltinSpoutMetrics m stats stream latency-ms]  
   (-> m .ack-count (.scope stream) (.incrBy (stats-rate stats)))
-  (-> m .complete-latency (.scope stream) (.update latency-ms)))
+  (-> m .complete-latency (.scope stream) (.update latency-ms))
+  (-> m .complete-latency-percentiles (.scope stream) (.update (long latency-ms))))
 
 (defn spout-failed-tuple! [^BuiltinSpoutMetrics m stats stream]  
   (-> m .fail-count (.scope stream) (.incrBy (stats-rate stats))))
@@ -83,12 +90,14 @@
 (defn bolt-execute-tuple! [^BuiltinBoltMetrics m stats comp-id stream latency-ms]
   (let [scope (str comp-id ":" stream)]    
     (-> m .execute-count (.scope scope) (.incrBy (stats-rate stats)))
-    (-> m .execute-latency (.scope scope) (.update latency-ms))))
+    (-> m .execute-latency (.scope scope) (.update latency-ms))
+    (-> m .execute-latency-percentiles (.scope scope) (.update (long latency-ms)))))
 
 (defn bolt-acked-tuple! [^BuiltinBoltMetrics m stats comp-id stream latency-ms]
   (let [scope (str comp-id ":" stream)]
     (-> m .ack-count (.scope scope) (.incrBy (stats-rate stats)))
-    (-> m .process-latency (.scope scope) (.update latency-ms))))
+    (-> m .process-latency (.scope scope) (.update latency-ms))
+    (-> m .process-latency-percentiles (.scope scope) (.update (long latency-ms)))))
 
 (defn bolt-failed-tuple! [^BuiltinBoltMetrics m stats comp-id stream]
   (let [scope (str comp-id ":" stream)]    
@@ -15,13 +15,16 @@
 ;; limitations under the License.
 
 (ns backtype.storm.daemon.drpc
-  (:import [backtype.storm.security.auth AuthUtils ThriftServer ThriftConnectionType ReqContext])
+  (:import [backtype.storm.security.auth AuthUtils ThriftServer ThriftConnectionType ReqContext
+            SimpleTransportPlugin])
   (:import [backtype.storm.security.auth.authorizer DRPCAuthorizerBase])
   (:import [backtype.storm.generated DistributedRPC DistributedRPC$Iface DistributedRPC$Processor
+            DistributedRPC$AsyncIface DistributedRPC$AsyncProcessor
             DRPCRequest DRPCExecutionException DistributedRPCInvocations DistributedRPCInvocations$Iface
-            DistributedRPCInvocations$Processor])
-  (:import [java.util.concurrent Semaphore ConcurrentLinkedQueue
-            ThreadPoolExecutor ArrayBlockingQueue TimeUnit])
+            DistributedRPCInvocations$Processor DistributedRPCInvocations$AsyncIface
+            DistributedRPCInvocations$AsyncProcessor])
+  (:import [backtype.storm.drpc DRPCRequestTable])
+  (:import [org.apache.thrift.async AsyncMethodCallback])
   (:import [backtype.storm.daemon Shutdownable])
   (:import [java.net InetAddress])
   (:import [backtype.storm.generated AuthorizationException])
@@ -33,15 +36,7 @@
   (:require [compojure.handler :as handler])
   (:gen-class))
 
-(defn timeout-check-secs [] 5)
-
-(defn acquire-queue [queues-atom function]
-  (swap! queues-atom
-    (fn [amap]
-      (if-not (amap function)
-        (assoc amap function (ConcurrentLinkedQueue.))
-        amap)))
-  (@queues-atom function))
+(defn timeout-check-secs [] 1)
 
 (defn check-authorization
   ([aclHandler mapping operation context]
@@ -56,103 +51,135 @@
   ([aclHandler mapping operation]
     (check-authorization aclHandler mapping operation (ReqContext/context))))
 
-;; TODO: change this to use TimeCacheMap
+(defn- callback-promise
+  "Returns a promise and an AsyncMethodCallback that delivers the result, or
+  the error, to it, so the blocking flavour of a call can run the async one."
+  []
+  (let [p (promise)]
+    [p (reify AsyncMethodCallback
+         (onComplete [this result] (deliver p result))
+         (onError [this error] (deliver p error)))]))
+
+(defn- await-callback [p]
+  (let [ret @p]
+    (if (instance? Exception ret)
+      (throw ret)
+      ret)))
+
+(defmacro ^:private with-callback
+  "Hands anything body throws to callback. Thrift's async processors expect
+  errors there and drop the connection on a thrown exception."
+  [callback & body]
+  `(let [^AsyncMethodCallback cb# ~callback]
+     (try
+       ~@body
+       (catch Exception e#
+         (.onError cb# e#)))))
+
 (defn service-handler [conf]
   (let [drpc-acl-handler (mk-authorization-handler (conf DRPC-AUTHORIZER) conf)
-        ctr (atom 0)
-        id->sem (atom {})
-        id->result (atom {})
-        id->start (atom {})
-        id->function (atom {})
-        id->request (atom {})
-        request-queues (atom {})
-        cleanup (fn [id] (swap! id->sem dissoc id)
-                  (swap! id->result dissoc id)
-                  (swap! id->function dissoc id)
-                  (swap! id->request dissoc id)
-                  (swap! id->start dissoc id))
-        my-ip (.getHostAddress (InetAddress/getLocalHost))
+        ^DRPCRequestTable request-table (DRPCRequestTable.
+                                          (* 1000 (conf DRPC-REQUEST-TIMEOUT-SECS))
+                                          (* 1000 (timeout-check-secs)))
+        fetch! (fn [func operation max-count wait-ms callback]
+                 (check-authorization drpc-acl-handler
+                                      {DRPCAuthorizerBase/FUNCTION_NAME func}
+                                      operation)
+                 (.fetch request-table func (int max-count) (long (max wait-ms 0)) callback))
         clear-thread (async-loop
                        (fn []
-                         (doseq [[id start] @id->start]
-                           (when (> (time-delta start) (conf DRPC-REQUEST-TIMEOUT-SECS))
-                             (when-let [sem (@id->sem id)]
-                               (.remove (acquire-queue request-queues (@id->function id)) (@id->request id))
-                               (log-warn "Timeout DRPC request id: " id " start at " start)
-                               (.release sem))
-                             (cleanup id)))
+                         (.expire request-table)
                          (timeout-check-secs)))]
     (reify DistributedRPC$Iface
       (^String execute
         [this ^String function ^String args]
-        (log-debug "Received DRPC request for " function " (" args ") at " (System/currentTimeMillis))
-        (check-authorization drpc-acl-handler
-                             {DRPCAuthorizerBase/FUNCTION_NAME function}
-                             "execute")
-        (let [id (str (swap! ctr (fn [v] (mod (inc v) 1000000000))))
-              ^Semaphore sem (Semaphore. 0)
-              req (DRPCRequest. args id)
-              ^ConcurrentLinkedQueue queue (acquire-queue request-queues function)]
-          (swap! id->start assoc id (current-time-secs))
-          (swap! id->sem assoc id sem)
-          (swap! id->function assoc id function)
-          (swap! id->request assoc id req)
-          (.add queue req)
+        (let [[p callback] (callback-promise)]
+          (.execute ^DistributedRPC$AsyncIface this function args callback)
           (log-debug "Waiting for DRPC result for " function " " args " at " (System/currentTimeMillis))
-          (.acquire sem)
-          (log-debug "Acquired DRPC result for " function " " args " at " (System/currentTimeMillis))
-          (let [result (@id->result id)]
-            (cleanup id)
+          (let [result (await-callback p)]
             (log-debug "Returning DRPC result for " function " " args " at " (System/currentTimeMillis))
-            (if (instance? DRPCExecutionException result)
-              (throw result)
-              (if (nil? result)
-                (throw (DRPCExecutionException. "Request timed out"))
-                result)))))
+            result)))
+
+      DistributedRPC$AsyncIface
+
+      (^void execute
+        [this ^String function ^String args ^AsyncMethodCallback callback]
+        (with-callback callback
+          (log-debug "Received DRPC request for " function " (" args ") at " (System/currentTimeMillis))
+          (check-authorization drpc-acl-handler
+                               {DRPCAuthorizerBase/FUNCTION_NAME function}
+                               "execute")
+          (.submit request-table function args callback)))
 
       DistributedRPCInvocations$Iface
 
       (^void result
         [this ^String id ^String result]
-        (when-let [func (@id->function id)]
+        (when-let [func (.getFunction request-table id)]
           (check-authorization drpc-acl-handler
                                {DRPCAuthorizerBase/FUNCTION_NAME func}
                                "result")
-          (let [^Semaphore sem (@id->sem id)]
-            (log-debug "Received result " result " for " id " at " (System/currentTimeMillis))
-            (when sem
-              (swap! id->result assoc id result)
-              (.release sem)
-              ))))
+          (log-debug "Received result " result " for " id " at " (System/currentTimeMillis))
+          (.complete request-table id result)))
 
       (^void failRequest
         [this ^String id]
-        (when-let [func (@id->function id)]
+        (when-let [func (.getFunction request-table id)]
           (check-authorization drpc-acl-handler
                                {DRPCAuthorizerBase/FUNCTION_NAME func}
                                "failRequest")
-          (let [^Semaphore sem (@id->sem id)]
-            (when sem
-              (swap! id->result assoc id (DRPCExecutionException. "Request failed"))
-              (.release sem)))))
+          (.fail request-table id (DRPCExecutionException. "Request failed"))))
 
       (^DRPCRequest fetchRequest
         [this ^String func]
-        (check-authorization drpc-acl-handler
-                             {DRPCAuthorizerBase/FUNCTION_NAME func}
-                             "fetchRequest")
-        (let [^ConcurrentLinkedQueue queue (acquire-queue request-queues func)
-              ret (.poll queue)]
-          (if ret
+        (let [[p callback] (callback-promise)]
+          (fetch! func "fetchRequest" 1 0 callback)
+          (if-let [ret (first (await-callback p))]
             (do (log-debug "Fetched request for " func " at " (System/currentTimeMillis))
               ret)
             (DRPCRequest. "" ""))))
 
+      (fetchRequests
+        [this ^String func max-count wait-ms]
+        (let [[p callback] (callback-promise)]
+          (fetch! func "fetchRequests" max-count wait-ms callback)
+          (await-callback p)))
+
+      DistributedRPCInvocations$AsyncIface
+
+      (^void result
+        [this ^String id ^String result ^AsyncMethodCallback callback]
+        (with-callback callback
+          (.result ^DistributedRPCInvocations$Iface this id result)
+          (.onComplete callback nil)))
+
+      (^void failRequest
+        [this ^String id ^AsyncMethodCallback callback]
+        (with-callback callback
+          (.failRequest ^DistributedRPCInvocations$Iface this id)
+          (.onComplete callback nil)))
+
+      (^void fetchRequest
+        [this ^String func ^AsyncMethodCallback callback]
+        (with-callback callback
+          (.onComplete callback (.fetchRequest ^DistributedRPCInvocations$Iface this func))))
+
+      (^void fetchRequests
+        [this ^String func max-count wait-ms ^AsyncMethodCallback callback]
+        (with-callback callback
+          (fetch! func "fetchRequests" max-count wait-ms callback)))
+
       Shutdownable
 
       (shutdown
         [this]
-        (.interrupt clear-thread)))))
+        (.interrupt clear-thread)
+        (.close request-table)))))
+
+(defn- async-transport?
+  "Only the nonblocking server of the simple transport runs async processors."
+  [conf ^ThriftConnectionType type]
+  (.isAssignableFrom SimpleTransportPlugin (Class/forName (.getTransportPlugin type conf))))
 
 (defn handle-request [handler]
   (fn [request]
@@ -198,13 +225,18 @@
           ;; requests and returns need to be on separate thread pools, since calls to
           ;; "execute" don't unblock until other thrift methods are called. So if
           ;; 64 threads are calling execute, the server won't accept the result
-          ;; invocations that will unblock those threads
+          ;; invocations that will unblock those threads. Transports that can run
+          ;; async processors don't park a thread per call at all.
           handler-server (when (> drpc-port 0)
                            (ThriftServer. conf
-                             (DistributedRPC$Processor. drpc-service-handler)
+                             (if (async-transport? conf ThriftConnectionType/DRPC)
+                               (DistributedRPC$AsyncProcessor. drpc-service-handler)
+                               (DistributedRPC$Processor. drpc-service-handler))
                              ThriftConnectionType/DRPC))
           invoke-server (ThriftServer. conf
-                          (DistributedRPCInvocations$Processor. drpc-service-handler)
+                          (if (async-transport? conf ThriftConnectionType/DRPC_INVOCATIONS)
+                            (DistributedRPCInvocations$AsyncProcessor. drpc-service-handler)
+                            (DistributedRPCInvocations$Processor. drpc-service-handler))
                           ThriftConnectionType/DRPC_INVOCATIONS)
           http-creds-handler (AuthUtils/GetDrpcHttpCredentialsPlugin conf)]
       (add-shutdown-hook-with-force-kill-in-1-sec (fn []
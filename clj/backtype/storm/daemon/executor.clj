@@ -25,10 +25,10 @@
   (:import [backtype.storm.spout ISpoutWaitStrategy ISpout SpoutOutputCollector ISpoutOutputCollector])
   (:import [backtype.storm.hooks.info SpoutAckInfo SpoutFailInfo
             EmitInfo BoltFailInfo BoltAckInfo BoltExecuteInfo])
-  (:import [backtype.storm.grouping CustomStreamGrouping])
+  (:import [backtype.storm.grouping CustomStreamGrouping FieldsSelector])
   (:import [backtype.storm.task WorkerTopologyContext IBolt OutputCollector IOutputCollector])
   (:import [backtype.storm.generated GlobalStreamId])
-  (:import [backtype.storm.utils Utils MutableObject RotatingMap RotatingMap$ExpiredCallback MutableLong Time])
+  (:import [backtype.storm.utils Utils MutableObject PendingTimeoutMap PendingTimeoutMap$ExpiredCallback MutableLong Time])
   (:import [com.lmax.disruptor InsufficientCapacityException])
   (:import [backtype.storm.serialization KryoTupleSerializer KryoTupleDeserializer])
   (:import [backtype.storm.daemon Shutdownable])
@@ -42,13 +42,10 @@
   (:require [clojure.set :as set]))
 
 (defn- mk-fields-grouper [^Fields out-fields ^Fields group-fields ^List target-tasks]
-  (let [num-tasks (count target-tasks)
-        task-getter (fn [i] (.get target-tasks i))]
+  (let [num-tasks (int (count target-tasks))
+        selector (FieldsSelector. out-fields group-fields)]
     (fn [task-id ^List values]
-      (-> (.select out-fields group-fields values)
-          tuple/list-hash-code
-          (mod num-tasks)
-          task-getter))))
+      (.get target-tasks (.chooseIndex selector values num-tasks)))))
 
 (defn- mk-shuffle-grouper [^List target-tasks]
   (let [choices (rotating-random-range target-tasks)]
@@ -194,7 +191,11 @@
         ))))
 
 ;; in its own function so that it can be mocked out by tracked topologies
-(defn mk-executor-transfer-fn [batch-transfer->worker storm-conf]
+(defn mk-executor-transfer-fn
+  "local-queues maps the tasks of other executors of the worker to their receive
+  queues when tuples for them skip the send queue, see
+  topology.executor.direct.local.transfer."
+  [batch-transfer->worker storm-conf & [local-queues]]
   (fn this
     ([task tuple block? ^ConcurrentLinkedQueue overflow-buffer]
       (when (= true (storm-conf TOPOLOGY-DEBUG))
@@ -202,7 +203,9 @@
       (if (and overflow-buffer (not (.isEmpty overflow-buffer)))
         (.add overflow-buffer [task tuple])
         (try-cause
-          (disruptor/publish batch-transfer->worker [task tuple] block?)
+          (if-let [receive-queue (and local-queues (local-queues task))]
+            (disruptor/publish receive-queue [[task tuple]] block?)
+            (disruptor/publish batch-transfer->worker [task tuple] block?))
         (catch InsufficientCapacityException e
           (if overflow-buffer
             (.add overflow-buffer [task tuple])
@@ -214,6 +217,21 @@
       (this task tuple nil)
       )))
 
+(defn- direct-local-queues
+  "Receive queues of the other executors of the worker by task, or nil when
+  executors hand all their tuples to their send queue."
+  [worker executor-id storm-conf]
+  (when (and (storm-conf TOPOLOGY-EXECUTOR-DIRECT-LOCAL-TRANSFER)
+             (not (storm-conf TOPOLOGY-TESTING-ALWAYS-TRY-SERIALIZE)))
+    (let [own-tasks (set (executor-id->tasks executor-id))
+          receive-queues (:short-executor-receive-queue-map worker)]
+      (into {}
+            (for [[task short-executor] (:task->short-executor worker)
+                  :when (not (own-tasks task))
+                  :let [q (receive-queues short-executor)]
+                  :when q]
+              [task q])))))
+
 (defn mk-executor-data [worker executor-id]
   (let [worker-context (worker-context worker)
         task-ids (executor-id->tasks executor-id)
@@ -241,7 +259,8 @@
      :shared-executor-data (HashMap.)
      :storm-active-atom (:storm-active-atom worker)
      :batch-transfer-queue batch-transfer->worker
-     :transfer-fn (mk-executor-transfer-fn batch-transfer->worker storm-conf)
+     :transfer-fn (mk-executor-transfer-fn batch-transfer->worker storm-conf
+                                           (direct-local-queues worker executor-id storm-conf))
      :suicide-fn (:suicide-fn worker)
      :storm-cluster-state (cluster/mk-storm-cluster-state (:cluster-state worker) 
                                                           :acls (Utils/getWorkerACL storm-conf))
@@ -472,24 +491,28 @@
         ;; preventing memory issues
         overflow-buffer (ConcurrentLinkedQueue.)
 
-        pending (RotatingMap.
-                 2 ;; microoptimize for performance of .size method
-                 (reify RotatingMap$ExpiredCallback
-                   (expire [this id [task-id spout-id tuple-info start-time-ms]]
-                     (let [time-delta (if start-time-ms (time-delta-ms start-time-ms))]
-                       (fail-spout-msg executor-data (get task-datas task-id) spout-id tuple-info time-delta "TIMEOUT" id)
-                       ))))
+        ;; tuple trees time out one by one off a timing wheel, checked on every pass of the spout loop
+        timeouts? (not= false (storm-conf TOPOLOGY-ENABLE-MESSAGE-TIMEOUTS))
+        ^PendingTimeoutMap pending (PendingTimeoutMap.
+                                    (* 1000 (long (Utils/getInt (storm-conf TOPOLOGY-MESSAGE-TIMEOUT-SECS) (int 30))))
+                                    (Utils/getInt (storm-conf TOPOLOGY-SPOUT-TIMEOUT-RESOLUTION-MS)
+                                                  (int PendingTimeoutMap/DEFAULT_TICK_MS))
+                                    (reify PendingTimeoutMap$ExpiredCallback
+                                      (expire [this id [task-id spout-id tuple-info start-time-ms]]
+                                        (let [time-delta (if start-time-ms (time-delta-ms start-time-ms))]
+                                          (fail-spout-msg executor-data (get task-datas task-id) spout-id tuple-info time-delta "TIMEOUT" id)
+                                          ))))
         tuple-action-fn (fn [task-id ^TupleImpl tuple]
                           (let [stream-id (.getSourceStreamId tuple)]
                             (condp = stream-id
-                              Constants/SYSTEM_TICK_STREAM_ID (.rotate pending)
+                              Constants/SYSTEM_TICK_STREAM_ID nil
                               Constants/METRICS_TICK_STREAM_ID (metrics-tick executor-data (get task-datas task-id) tuple overflow-buffer)
                               Constants/CREDENTIALS_CHANGED_STREAM_ID 
                                 (let [task-data (get task-datas task-id)
                                       spout-obj (:object task-data)]
                                   (when (instance? ICredentialsListener spout-obj)
                                     (.setCredentials spout-obj (.getValue tuple 0))))
-                              (let [id (.getValue tuple 0)
+                              (let [id (long (.getValue tuple 0))
                                     [stored-task-id spout-id tuple-finished-info start-time-ms] (.remove pending id)]
                                 (when spout-id
                                   (when-not (= stored-task-id task-id)
@@ -506,6 +529,8 @@
         receive-queue (:receive-queue executor-data)
         event-handler (mk-task-receiver executor-data tuple-action-fn)
         has-ackers? (has-ackers? storm-conf)
+        ;; set by the worker when backpressure is on anywhere in the topology
+        throttle-on (:throttle-on (:worker executor-data))
         emitted-count (MutableLong. 0)
         empty-emit-streak (MutableLong. 0)]
    
@@ -544,10 +569,10 @@
                                                   (not (.isEmpty out-ids)))
                                            (do
                                              (log-message "EmitTime: " message-id " " (System/currentTimeMillis))
-                                             (.put pending root-id [task-id
-                                                                    message-id
-                                                                    {:stream out-stream-id :values values}
-                                                                    (if (sampler) (System/currentTimeMillis))])
+                                             (.put pending (long root-id) [task-id
+                                                                           message-id
+                                                                           {:stream out-stream-id :values values}
+                                                                           (if (sampler) (System/currentTimeMillis))])
                                              (task/send-unanchored task-data
                                                                    ACKER-INIT-STREAM-ID
                                                                    [root-id (bit-xor-vals out-ids) task-id]
@@ -587,6 +612,7 @@
         (fn []
           ;; This design requires that spouts be non-blocking
           (disruptor/consume-batch receive-queue event-handler)
+          (when timeouts? (.expire pending))
           
           ;; try to clear the overflow-buffer
           (try-cause
@@ -608,8 +634,9 @@
                     (reset! last-active true)
                     (log-message "Activating spout " component-id ":" (keys task-datas))
                     (fast-list-iter [^ISpout spout spouts] (.activate spout)))
-               
-                  (fast-list-iter [^ISpout spout spouts] (.nextTuple spout)))
+                  ;; a throttled spout still gets activated and deactivated, it just doesn't emit
+                  (when-not @throttle-on
+                    (fast-list-iter [^ISpout spout spouts] (.nextTuple spout))))
                 (do
                   (when @last-active
                     (reset! last-active false)
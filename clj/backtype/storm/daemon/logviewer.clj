@@ -21,13 +21,15 @@
   (:use [backtype.storm config util log timer])
   (:use [backtype.storm.ui helpers])
   (:import [org.slf4j LoggerFactory])
-  (:import [java.io File FileFilter FileInputStream])
+  (:import [java.io File FileFilter FileInputStream InputStream IOException])
+  (:import [java.nio ByteBuffer])
+  (:import [java.util.zip GZIPInputStream])
   (:import [org.apache.logging.log4j LogManager])
   (:import [org.apache.logging.log4j.core Appender LoggerContext])
   (:import [org.apache.logging.log4j.core.appender RollingFileAppender])
   (:import [org.yaml.snakeyaml Yaml]
            [org.yaml.snakeyaml.constructor SafeConstructor])
-  (:import [backtype.storm.ui InvalidRequestException]
+  (:import [backtype.storm.ui InvalidRequestException LogSearch LogLineIndex]
            [backtype.storm.security.auth AuthUtils])
   (:require [compojure.route :as route]
             [compojure.handler :as handler]
@@ -154,33 +156,54 @@
                           interval-secs
                           (fn [] (cleanup-fn! log-root-dir))))))
 
+(defn- skip-fully [^InputStream input start]
+  ;; InputStream#skip may not skip everything the first time.
+  (loop [skipped 0]
+    (when (< skipped start)
+      (let [n (.skip input (- start skipped))]
+        (if (pos? n)
+          (recur (+ skipped n))
+          (throw
+            (InvalidRequestException. "Cannot start past the end of the file")))))))
+
 (defn page-file
   ([path tail]
-    (let [flen (.length (clojure.java.io/file path))
+    (let [flen (LogSearch/logLength (clojure.java.io/file path))
           skip (- flen tail)]
       (page-file path skip tail)))
   ([path start length]
-    (with-open [input (FileInputStream. path)
-                output (java.io.ByteArrayOutputStream.)]
-      (if (>= start (.length (clojure.java.io/file path)))
+    (let [file (clojure.java.io/file path)
+          flen (LogSearch/logLength file)
+          start (max start 0)]
+      (if (>= start flen)
         (throw
           (InvalidRequestException. "Cannot start past the end of the file")))
-      (if (> start 0)
-        ;; FileInputStream#skip may not work the first time.
-        (loop [skipped 0]
-          (let [skipped (+ skipped (.skip input (- start skipped)))]
-            (if (< skipped start) (recur skipped)))))
-      (let [buffer (make-array Byte/TYPE 1024)]
-        (loop []
-          (when (< (.size output) length)
-            (let [size (.read input buffer 0 (min 1024 (- length (.size output))))]
-              (when (pos? size)
-                (.write output buffer 0 size)
-                (recur)))))
-      (.toString output)))))
+      (let [buffer (ByteBuffer/allocate (int (min length (- flen start))))]
+        (if (LogSearch/isGzip file)
+          (with-open [input (GZIPInputStream. (FileInputStream. file))]
+            (skip-fully input start)
+            (loop []
+              (when (.hasRemaining buffer)
+                (let [size (.read input (.array buffer) (.position buffer) (.remaining buffer))]
+                  (when (pos? size)
+                    (.position buffer (+ (.position buffer) size))
+                    (recur))))))
+          ;; a positioned channel read jumps straight to the page
+          (with-open [input (FileInputStream. file)]
+            (let [channel (.getChannel input)]
+              (loop []
+                (when (and (.hasRemaining buffer)
+                           (pos? (.read channel buffer (+ start (.position buffer)))))
+                  (recur))))))
+        (String. (.array buffer) 0 (.position buffer))))))
+
+(defn- log-base-name
+  "The name of the log a rotated log file, like worker-6700.log.1.gz, was rotated from."
+  [fname]
+  (string/replace fname #"\.log\..*$" ".log"))
 
 (defn get-log-user-group-whitelist [fname]
-  (let [wl-file (get-log-metadata-file fname)
+  (let [wl-file (get-log-metadata-file (log-base-name fname))
         m (clojure-from-yaml-file wl-file)]
     (if (not-nil? m)
       (do
@@ -256,16 +279,20 @@ Note that if anything goes wrong, this will throw an Error and exit."
 (defn- download-link [fname]
   [[:p (link-to (url-format "/download/%s" fname) "Download Full Log")]])
 
+(def default-search-matches 10)
+(def max-search-matches 100)
+(def default-page-length 51200)
+
 (defn log-page [fname start length grep user root-dir]
   (if (or (blank? (*STORM-CONF* UI-FILTER))
           (authorized-log-user? user fname *STORM-CONF*))
     (let [file (.getCanonicalFile (File. root-dir fname))
-          file-length (.length file)
+          file-length (if (.exists file) (LogSearch/logLength file) 0)
           path (.getCanonicalPath file)]
       (if (and (= (.getCanonicalFile (File. root-dir))
                   (.getParentFile file))
                (.exists file))
-        (let [default-length 51200
+        (let [default-length default-page-length
               length (if length
                        (min 10485760 length)
                      default-length)
@@ -304,6 +331,38 @@ Note that if anything goes wrong, this will throw an Error and exit."
       (-> (resp/response "Page not found")
           (resp/status 404)))))
 
+(defn- search-match-url
+  "A link to the page of the log starting at the line of a match."
+  [fname ^File file match]
+  (let [offset (get match "byteOffset")
+        start (if (LogSearch/isGzip file)
+                (get match "beforeByteOffset")
+                (LogLineIndex/lineStart file offset))]
+    (url "/log" {:file fname
+                 :start start
+                 :length default-page-length})))
+
+(defn search-log-file
+  "Searches a whole log file for search, num-matches at a time, starting at
+  start-byte-offset."
+  [fname user ^String root-dir search num-matches start-byte-offset callback]
+  (if (or (blank? (*STORM-CONF* UI-FILTER))
+          (authorized-log-user? user fname *STORM-CONF*))
+    (let [file (.getCanonicalFile (File. root-dir fname))]
+      (if (and (= (.getCanonicalFile (File. root-dir)) (.getParentFile file))
+               (.exists file))
+        (let [num-matches (min (or num-matches default-search-matches) max-search-matches)
+              result (LogSearch/search file search (or start-byte-offset 0) (int num-matches))
+              matches (for [match (get result "matches")]
+                        (assoc (into {} match) "logviewerURL" (search-match-url fname file match)))]
+          (json-response (assoc (into {} result)
+                                "fileName" fname
+                                "matches" matches)
+                         callback))
+        (json-response {"error" "Not Found" "errorMessage" "Page not found"} callback :status 404)))
+    (json-response {"error" "Not Authorized" "errorMessage" (str "User '" user "' is not authorized.")}
+                   callback :status 401)))
+
 (defn log-template
   ([body] (log-template body nil nil))
   ([body fname user]
@@ -345,6 +404,18 @@ Note that if anything goes wrong, this will throw an Error and exit."
          (catch InvalidRequestException ex
            (log-error ex)
            (ring-response-from-exception ex))))
+  (GET "/search/:file" [:as {:keys [servlet-request log-root]} file & m]
+       (try
+         (let [user (.getUserName http-creds-handler servlet-request)
+               num-matches (if (:num-matches m) (parse-long-from-map m :num-matches))
+               start-byte-offset (if (:start-byte-offset m) (parse-long-from-map m :start-byte-offset))]
+           (search-log-file file user log-root (:search m) num-matches start-byte-offset (:callback m)))
+         (catch InvalidRequestException ex
+           (log-error ex)
+           (json-response {"error" "Bad Request" "errorMessage" (.getMessage ex)} (:callback m) :status 400))
+         (catch IOException ex
+           (log-error ex)
+           (json-response {"error" "Internal Server Error" "errorMessage" (.getMessage ex)} (:callback m) :status 500))))
   (GET "/download/:file" [:as {:keys [servlet-request servlet-response log-root]} file & m]
        (try
          (let [user (.getUserName http-creds-handler servlet-request)]
@@ -34,6 +34,8 @@
             KillOptions RebalanceOptions ClusterSummary SupervisorSummary TopologySummary TopologyInfo
             ExecutorSummary AuthorizationException GetInfoOptions NumErrorsChoice])
   (:import [backtype.storm.daemon Shutdownable])
+  (:import [backtype.storm.codedist CodeServer CodeServer$Resolver])
+  (:import [backtype.storm.nimbus IHeartbeatStore NimbusHeartbeatStore])
   (:use [backtype.storm util config log timer])
   (:require [backtype.storm [cluster :as cluster] [stats :as stats]])
   (:require [clojure.set :as set])
@@ -75,7 +77,8 @@
    (ACL. (bit-or ZooDefs$Perms/READ ZooDefs$Perms/CREATE) ZooDefs$Ids/ANYONE_ID_UNSAFE)])
 
 (defn nimbus-data [conf inimbus]
-  (let [forced-scheduler (.getForcedScheduler inimbus)]
+  (let [forced-scheduler (.getForcedScheduler inimbus)
+        heartbeat-store (cluster/mk-heartbeat-store conf true)]
     {:conf conf
      :inimbus inimbus
      :authorization-handler (mk-authorization-handler (conf NIMBUS-AUTHORIZER) conf)
@@ -84,7 +87,10 @@
      :storm-cluster-state (cluster/mk-storm-cluster-state conf :acls (when
                                                                        (Utils/isZkAuthenticationConfiguredStormServer
                                                                          conf)
-                                                                       NIMBUS-ZK-ACLS))
+                                                                       NIMBUS-ZK-ACLS)
+                                                          :heartbeat-store heartbeat-store)
+     ;; nil when worker heartbeats go to ZooKeeper
+     :heartbeat-store heartbeat-store
      :submit-lock (Object.)
      :cred-update-lock (Object.)
      :heartbeats-cache (atom {})
@@ -98,6 +104,15 @@
                                  ))
      :scheduler (mk-scheduler conf inimbus)
      :id->sched-status (atom {})
+     ;; storm-id -> {:key scheduling view of the storm base, :details TopologyDetails, :executors #{executor}}
+     :topology-details-cache (atom {})
+     ;; storm-id -> {:version assignment version, :assignment assignment}
+     :assignments-cache (atom {})
+     ;; what the last scheduling round saw, to tell whether the next one can be skipped
+     :scheduling-state (atom nil)
+     ;; {:phases {phase ms} of the running round, :last-phases those of the last finished one,
+     ;;  :full-rounds n, :skipped-rounds n}, reported in the ClusterSummary
+     :scheduling-stats (atom {:phases {} :last-phases {} :full-rounds 0 :skipped-rounds 0})
      :cred-renewers (AuthUtils/GetCredentialRenewers conf)
      :nimbus-autocred-plugins (AuthUtils/getNimbusAutoCredPlugins conf)
      }))
@@ -301,11 +316,8 @@
        )))
 
 (defn- all-scheduling-slots
-  [nimbus topologies missing-assignment-topologies]
-  (let [storm-cluster-state (:storm-cluster-state nimbus)
-        ^INimbus inimbus (:inimbus nimbus)
-
-        supervisor-infos (all-supervisor-info storm-cluster-state nil)
+  [nimbus topologies missing-assignment-topologies supervisor-infos]
+  (let [^INimbus inimbus (:inimbus nimbus)
 
         supervisor-details (dofor [[id info] supervisor-infos]
                              (SupervisorDetails. id (:meta info)))
@@ -337,7 +349,7 @@
         (File. (master-stormcode-path stormroot))
         ) StormTopology)))
 
-(declare compute-executor->component)
+(declare compute-executor->component compute-executors)
 
 (defn read-topology-details [nimbus storm-id]
   (let [conf (:conf nimbus)
@@ -354,6 +366,47 @@
                       executor->component
                       )))
 
+;; only changes to these mean the topology has to be read from disk again
+(defn- storm-base-scheduling-key [storm-base]
+  (select-keys storm-base [:num-workers :component->executors]))
+
+(defn- cached-topology-details
+  "Returns {:details TopologyDetails :executors #{executor}} of storm-id. The topology
+  and its conf are only read from disk again when the storm base changed in a way
+  that affects scheduling, e.g. after a rebalance."
+  [nimbus storm-id]
+  (let [storm-base (.storm-base (:storm-cluster-state nimbus) storm-id nil)
+        key (storm-base-scheduling-key storm-base)
+        cached (@(:topology-details-cache nimbus) storm-id)]
+    (if (and cached (= key (:key cached)))
+      cached
+      (let [entry {:key key
+                   :details (read-topology-details nimbus storm-id)
+                   :executors (set (compute-executors nimbus storm-id))}]
+        (swap! (:topology-details-cache nimbus) assoc storm-id entry)
+        entry))))
+
+(defn- cached-assignment-info
+  "Returns the assignment of storm-id, only reading it from ZooKeeper when its
+  version changed since the last read."
+  [nimbus storm-id]
+  (let [storm-cluster-state (:storm-cluster-state nimbus)
+        version (.assignment-version storm-cluster-state storm-id nil)
+        cached (@(:assignments-cache nimbus) storm-id)]
+    (if (and cached version (= version (:version cached)))
+      (:assignment cached)
+      (let [{assignment :data version :version} (.assignment-info-with-version storm-cluster-state storm-id nil)]
+        (swap! (:assignments-cache nimbus) assoc storm-id {:version version :assignment assignment})
+        assignment))))
+
+(defmacro ^:private timed-phase
+  "Evaluates body, recording how long it took as phase of the current scheduling round."
+  [nimbus phase & body]
+  `(let [start# (current-time-millis)
+         ret# (do ~@body)]
+     (swap! (:scheduling-stats ~nimbus) assoc-in [:phases ~phase] (time-delta-ms start#))
+     ret#))
+
 ;; Does not assume that clocks are synchronized. Executor heartbeat is only used so that
 ;; nimbus knows when it's received a new heartbeat. All timing is done by nimbus and
 ;; tracked through heartbeat-cache
@@ -465,7 +518,9 @@
 (defn- compute-topology->executors [nimbus storm-ids]
   "compute a topology-id -> executors map"
   (into {} (for [tid storm-ids]
-             {tid (set (compute-executors nimbus tid))})))
+             {tid (if-let [cached (@(:topology-details-cache nimbus) tid)]
+                    (:executors cached)
+                    (set (compute-executors nimbus tid)))})))
 
 (defn- compute-topology->alive-executors [nimbus existing-assignments topologies topology->executors scratch-topology-id]
   "compute a topology-id -> alive executors map"
@@ -506,11 +561,9 @@
                                                    {})))]]
              {tid (SchedulerAssignmentImpl. tid executor->slot)})))
 
-(defn- read-all-supervisor-details [nimbus all-scheduling-slots supervisor->dead-ports]
+(defn- read-all-supervisor-details [nimbus all-scheduling-slots supervisor->dead-ports supervisor-infos]
   "return a map: {topology-id SupervisorDetails}"
-  (let [storm-cluster-state (:storm-cluster-state nimbus)
-        supervisor-infos (all-supervisor-info storm-cluster-state)
-        nonexistent-supervisor-slots (apply dissoc all-scheduling-slots (keys supervisor-infos))
+  (let [nonexistent-supervisor-slots (apply dissoc all-scheduling-slots (keys supervisor-infos))
         all-supervisor-details (into {} (for [[sid supervisor-info] supervisor-infos
                                               :let [hostname (:hostname supervisor-info)
                                                     scheduler-meta (:scheduler-meta supervisor-info)
@@ -565,18 +618,26 @@
     (count (.getSlots scheduler-assignment))
     0 ))
 
+;; the parts of the supervisors that the scheduler looks at
+(defn- supervisors-scheduling-view [supervisor-infos]
+  (map-val (fn [info] (select-keys info [:hostname :meta :scheduler-meta])) supervisor-infos))
+
+(defn- incremental-scheduling? [conf]
+  (not= false (conf NIMBUS-SCHEDULING-INCREMENTAL)))
+
 ;; public so it can be mocked out
 (defn compute-new-topology->executor->node+port [nimbus existing-assignments topologies scratch-topology-id]
   (let [conf (:conf nimbus)
         storm-cluster-state (:storm-cluster-state nimbus)
         topology->executors (compute-topology->executors nimbus (keys existing-assignments))
-        ;; update the executors heartbeats first.
-        _ (update-all-heartbeats! nimbus existing-assignments topology->executors)
-        topology->alive-executors (compute-topology->alive-executors nimbus
-                                                                     existing-assignments
-                                                                     topologies
-                                                                     topology->executors
-                                                                     scratch-topology-id)
+        topology->alive-executors (timed-phase nimbus :heartbeats
+                                    ;; update the executors heartbeats first.
+                                    (update-all-heartbeats! nimbus existing-assignments topology->executors)
+                                    (compute-topology->alive-executors nimbus
+                                                                       existing-assignments
+                                                                       topologies
+                                                                       topology->executors
+                                                                       scratch-topology-id))
         supervisor->dead-ports (compute-supervisor->dead-ports nimbus
                                                                existing-assignments
                                                                topology->executors
@@ -599,36 +660,52 @@
                                                                    (-> topologies (.getById t) .getNumWorkers)
                                                                    ))
                                                             ))))
-        all-scheduling-slots (->> (all-scheduling-slots nimbus topologies missing-assignment-topologies)
-                                  (map (fn [[node-id port]] {node-id #{port}}))
-                                  (apply merge-with set/union))
-
-        supervisors (read-all-supervisor-details nimbus all-scheduling-slots supervisor->dead-ports)
-        cluster (Cluster. (:inimbus nimbus) supervisors topology->scheduler-assignment)
-
-        ;; call scheduler.schedule to schedule all the topologies
-        ;; the new assignments for all the topologies are in the cluster object.
-        _ (.schedule (:scheduler nimbus) topologies cluster)
-        new-scheduler-assignments (.getAssignments cluster)
-        ;; add more information to convert SchedulerAssignment to Assignment
-        new-topology->executor->node+port (compute-topology->executor->node+port new-scheduler-assignments)]
-    (reset! (:id->sched-status nimbus) (.getStatusMap cluster))
-    ;; print some useful information.
-    (doseq [[topology-id executor->node+port] new-topology->executor->node+port
-            :let [old-executor->node+port (-> topology-id
-                                          existing-assignments
-                                          :executor->node+port)
-                  reassignment (filter (fn [[executor node+port]]
-                                         (and (contains? old-executor->node+port executor)
-                                              (not (= node+port (old-executor->node+port executor)))))
-                                       executor->node+port)]]
-      (when-not (empty? reassignment)
-        (let [new-slots-cnt (count (set (vals executor->node+port)))
-              reassign-executors (keys reassignment)]
-          (log-message "Reassigning " topology-id " to " new-slots-cnt " slots")
-          (log-message "Reassign executors: " (vec reassign-executors)))))
-
-    new-topology->executor->node+port))
+        supervisor-infos (timed-phase nimbus :read-supervisors
+                           (all-supervisor-info storm-cluster-state))
+        scheduling-state {:topology-ids (->> topologies .getTopologies (map (memfn getId)) set)
+                          :supervisors (supervisors-scheduling-view supervisor-infos)}
+        ;; nothing the scheduler acts on changed since the last round: every topology is
+        ;; fully assigned and alive, and no topology or supervisor came or went
+        unchanged? (and (incremental-scheduling? conf)
+                        (nil? scratch-topology-id)
+                        (empty? missing-assignment-topologies)
+                        (= scheduling-state @(:scheduling-state nimbus)))]
+    (reset! (:scheduling-state nimbus) scheduling-state)
+    (if unchanged?
+      (do
+        (log-debug "Cluster unchanged since the last scheduling round, keeping all assignments")
+        (map-val :executor->node+port existing-assignments))
+      (let [all-scheduling-slots (->> (all-scheduling-slots nimbus topologies missing-assignment-topologies supervisor-infos)
+                                      (map (fn [[node-id port]] {node-id #{port}}))
+                                      (apply merge-with set/union))
+
+            supervisors (read-all-supervisor-details nimbus all-scheduling-slots supervisor->dead-ports supervisor-infos)
+            cluster (Cluster. (:inimbus nimbus) supervisors topology->scheduler-assignment)
+
+            ;; call scheduler.schedule to schedule all the topologies
+            ;; the new assignments for all the topologies are in the cluster object.
+            _ (timed-phase nimbus :schedule
+                (.schedule (:scheduler nimbus) topologies cluster))
+            new-scheduler-assignments (.getAssignments cluster)
+            ;; add more information to convert SchedulerAssignment to Assignment
+            new-topology->executor->node+port (compute-topology->executor->node+port new-scheduler-assignments)]
+        (reset! (:id->sched-status nimbus) (.getStatusMap cluster))
+        ;; print some useful information.
+        (doseq [[topology-id executor->node+port] new-topology->executor->node+port
+                :let [old-executor->node+port (-> topology-id
+                                              existing-assignments
+                                              :executor->node+port)
+                      reassignment (filter (fn [[executor node+port]]
+                                             (and (contains? old-executor->node+port executor)
+                                                  (not (= node+port (old-executor->node+port executor)))))
+                                           executor->node+port)]]
+          (when-not (empty? reassignment)
+            (let [new-slots-cnt (count (set (vals executor->node+port)))
+                  reassign-executors (keys reassignment)]
+              (log-message "Reassigning " topology-id " to " new-slots-cnt " slots")
+              (log-message "Reassign executors: " (vec reassign-executors)))))
+
+        new-topology->executor->node+port))))
 
 (defn changed-executors [executor->node+port new-executor->node+port]
   (let [executor->node+port (if executor->node+port (sort executor->node+port) nil)
@@ -659,37 +736,13 @@
 (defn- to-worker-slot [[node port]]
   (WorkerSlot. node port))
 
-;; get existing assignment (just the executor->node+port map) -> default to {}
-;; filter out ones which have a executor timeout
-;; figure out available slots on cluster. add to that the used valid slots to get total slots. figure out how many executors should be in each slot (e.g., 4, 4, 4, 5)
-;; only keep existing slots that satisfy one of those slots. for rest, reassign them across remaining slots
-;; edge case for slots with no executor timeout but with supervisor timeout... just treat these as valid slots that can be reassigned to. worst comes to worse the executor will timeout and won't assign here next time around
-(defnk mk-assignments [nimbus :scratch-topology-id nil]
+(defn- write-new-assignments!
+  "Turns the new executor->node+port maps into Assignments, writes the ones that
+  changed and tells the INimbus about newly used slots."
+  [nimbus topologies existing-assignments topology->executor->node+port]
   (let [conf (:conf nimbus)
         storm-cluster-state (:storm-cluster-state nimbus)
         ^INimbus inimbus (:inimbus nimbus)
-        ;; read all the topologies
-        topology-ids (.active-storms storm-cluster-state)
-        topologies (into {} (for [tid topology-ids]
-                              {tid (read-topology-details nimbus tid)}))
-        topologies (Topologies. topologies)
-        ;; read all the assignments
-        assigned-topology-ids (.assignments storm-cluster-state nil)
-        existing-assignments (into {} (for [tid assigned-topology-ids]
-                                        ;; for the topology which wants rebalance (specified by the scratch-topology-id)
-                                        ;; we exclude its assignment, meaning that all the slots occupied by its assignment
-                                        ;; will be treated as free slot in the scheduler code.
-                                        (when (or (nil? scratch-topology-id) (not= tid scratch-topology-id))
-                                          {tid (.assignment-info storm-cluster-state tid nil)})))
-        ;; make the new assignments for topologies
-        topology->executor->node+port (compute-new-topology->executor->node+port
-                                       nimbus
-                                       existing-assignments
-                                       topologies
-                                       scratch-topology-id)
-
-        topology->executor->node+port (merge (into {} (for [id assigned-topology-ids] {id nil})) topology->executor->node+port)
-
         now-secs (current-time-secs)
 
         basic-supervisor-details-map (basic-supervisor-details-map storm-cluster-state)
@@ -737,6 +790,60 @@
           (.assignSlots inimbus topologies))
     ))
 
+(defn- record-scheduling-round! [nimbus round-start]
+  (let [stats (swap! (:scheduling-stats nimbus)
+                     (fn [stats]
+                       (let [scheduled? (contains? (:phases stats) :schedule)
+                             stats (assoc-in stats [:phases :total] (time-delta-ms round-start))]
+                         (-> stats
+                             (assoc :last-phases (:phases stats))
+                             (update-in [(if scheduled? :full-rounds :skipped-rounds)] inc)))))
+        phases (:phases stats)]
+    (if (or (contains? phases :schedule) (contains? phases :write-assignments))
+      (log-message "Scheduling round took " (:total phases) " ms, by phase: " phases
+                   ", full rounds: " (:full-rounds stats) ", skipped rounds: " (:skipped-rounds stats))
+      (log-debug "Skipped scheduling round took " (:total phases) " ms, by phase: " phases))))
+
+;; get existing assignment (just the executor->node+port map) -> default to {}
+;; filter out ones which have a executor timeout
+;; figure out available slots on cluster. add to that the used valid slots to get total slots. figure out how many executors should be in each slot (e.g., 4, 4, 4, 5)
+;; only keep existing slots that satisfy one of those slots. for rest, reassign them across remaining slots
+;; edge case for slots with no executor timeout but with supervisor timeout... just treat these as valid slots that can be reassigned to. worst comes to worse the executor will timeout and won't assign here next time around
+(defnk mk-assignments [nimbus :scratch-topology-id nil]
+  (swap! (:scheduling-stats nimbus) assoc :phases {})
+  (let [round-start (current-time-millis)
+        storm-cluster-state (:storm-cluster-state nimbus)
+        ;; read all the topologies
+        topology-ids (.active-storms storm-cluster-state)
+        _ (swap! (:topology-details-cache nimbus) select-keys topology-ids)
+        topologies (timed-phase nimbus :read-topologies
+                     (into {} (for [tid topology-ids]
+                                {tid (:details (cached-topology-details nimbus tid))})))
+        topologies (Topologies. topologies)
+        ;; read all the assignments
+        assigned-topology-ids (.assignments storm-cluster-state nil)
+        _ (swap! (:assignments-cache nimbus) select-keys assigned-topology-ids)
+        existing-assignments (timed-phase nimbus :read-assignments
+                               (into {} (for [tid assigned-topology-ids]
+                                          ;; for the topology which wants rebalance (specified by the scratch-topology-id)
+                                          ;; we exclude its assignment, meaning that all the slots occupied by its assignment
+                                          ;; will be treated as free slot in the scheduler code.
+                                          (when (or (nil? scratch-topology-id) (not= tid scratch-topology-id))
+                                            {tid (cached-assignment-info nimbus tid)}))))
+        ;; make the new assignments for topologies
+        topology->executor->node+port (compute-new-topology->executor->node+port
+                                       nimbus
+                                       existing-assignments
+                                       topologies
+                                       scratch-topology-id)
+
+        topology->executor->node+port (merge (into {} (for [id assigned-topology-ids] {id nil})) topology->executor->node+port)]
+    ;; without assignment changes there is nothing to write or to tell the INimbus about
+    (when-not (= topology->executor->node+port (map-val :executor->node+port existing-assignments))
+      (timed-phase nimbus :write-assignments
+        (write-new-assignments! nimbus topologies existing-assignments topology->executor->node+port)))
+    (record-scheduling-round! nimbus round-start)))
+
 (defn- start-storm [nimbus storm-name storm-id topology-initial-status]
   {:pre [(#{:active :inactive} topology-initial-status)]}
   (let [storm-cluster-state (:storm-cluster-state nimbus)
@@ -881,6 +988,7 @@
           (log-message "Cleaning up " id)
           (.teardown-heartbeats! storm-cluster-state id)
           (.teardown-topology-errors! storm-cluster-state id)
+          (.teardown-backpressure! storm-cluster-state id)
           (rmr (master-stormdist-root conf id))
           (swap! (:heartbeats-cache nimbus) dissoc id))
         ))))
@@ -961,6 +1069,17 @@
         id (get-storm-id storm-cluster-state storm-name)]
    (try-read-storm-conf conf id)))
 
+(defn check-worker-heartbeat!
+  "Authorizes a worker heartbeat call for storm-id and returns the store it goes to."
+  [nimbus storm-id]
+  (let [store (:heartbeat-store nimbus)
+        topology-conf (try-read-storm-conf (:conf nimbus) storm-id)]
+    (check-authorization! nimbus (topology-conf TOPOLOGY-NAME) topology-conf "workerHeartbeat")
+    (when-not (instance? NimbusHeartbeatStore store)
+      (throw-runtime "Nimbus does not keep worker heartbeats, " STORM-HEARTBEAT-STORE
+                     " must be " (.getName NimbusHeartbeatStore) " on both Nimbus and the workers"))
+    store))
+
 (defn try-read-storm-topology [conf storm-id]
   (try-cause
     (read-storm-topology conf storm-id)
@@ -1105,6 +1224,7 @@
               (.set-credentials! storm-cluster-state storm-id credentials storm-conf)
               (setup-storm-code conf storm-id uploadedJarLocation storm-conf topology)
               (.setup-heartbeats! storm-cluster-state storm-id)
+              (.setup-backpressure! storm-cluster-state storm-id)
               (let [thrift-status->kw-status {TopologyInitialStatus/INACTIVE :inactive
                                               TopologyInitialStatus/ACTIVE :active}]
                 (start-storm nimbus storm-name storm-id (thrift-status->kw-status (.get_initial_status submitOptions))))
@@ -1246,6 +1366,14 @@
               (check-authorization! nimbus storm-name topology-conf "getUserTopology")
               (try-read-storm-topology topology-conf id)))
 
+      (^void workerHeartbeat [this ^String storm-id ^String node port ^ByteBuffer heartbeat]
+        (let [^IHeartbeatStore store (check-worker-heartbeat! nimbus storm-id)]
+          (.putWorkerHeartbeat store storm-id node port (Utils/toByteArray heartbeat))))
+
+      (^void removeWorkerHeartbeat [this ^String storm-id ^String node port]
+        (let [^IHeartbeatStore store (check-worker-heartbeat! nimbus storm-id)]
+          (.removeWorkerHeartbeat store storm-id node port)))
+
       (^ClusterSummary getClusterInfo [this]
         (check-authorization! nimbus nil nil "getClusterInfo")
         (let [storm-cluster-state (:storm-cluster-state nimbus)
@@ -1286,9 +1414,13 @@
                                                (when-let [sched-status (.get @(:id->sched-status nimbus) id)] (.set_sched_status topo-summ sched-status))
                                                topo-summ
                                           ))]
-          (ClusterSummary. supervisor-summaries
-                           nimbus-uptime
-                           topology-summaries)
+          (let [{:keys [last-phases full-rounds skipped-rounds]} @(:scheduling-stats nimbus)]
+            (doto (ClusterSummary. supervisor-summaries
+                                   nimbus-uptime
+                                   topology-summaries)
+              (.set_scheduling_phase_ms (into {} (for [[phase ms] last-phases] [(name phase) (long ms)])))
+              (.set_full_scheduling_rounds full-rounds)
+              (.set_skipped_scheduling_rounds skipped-rounds)))
           ))
       
       (^TopologyInfo getTopologyInfoWithOpts [this ^String storm-id ^GetInfoOptions options]
@@ -1363,13 +1495,22 @@
       (waiting? [this]
         (timer-waiting? (:timer nimbus))))))
 
+(defn- mk-code-server [conf]
+  (when (CodeServer/isEnabled conf)
+    (CodeServer. (Utils/getInt (conf NIMBUS-CODE-SERVER-PORT) (int CodeServer/DEFAULT_NIMBUS_PORT))
+                 (reify CodeServer$Resolver
+                   (resolve [this storm-id file-name]
+                     (File. (master-stormdist-root conf storm-id) file-name))))))
+
 (defn launch-server! [conf nimbus]
   (validate-distributed-mode! conf)
   (let [service-handler (service-handler conf nimbus)
         server (ThriftServer. conf (Nimbus$Processor. service-handler) 
-                              ThriftConnectionType/NIMBUS)]
+                              ThriftConnectionType/NIMBUS)
+        code-server (mk-code-server conf)]
     (add-shutdown-hook-with-force-kill-in-1-sec (fn []
                                                   (.shutdown service-handler)
+                                                  (when code-server (.close code-server))
                                                   (.stop server)))
     (log-message "Starting Nimbus server...")
     (.serve server)
@@ -25,6 +25,7 @@
            [java.io File])
   (:use [backtype.storm config util log timer local-state])
   (:import [backtype.storm.utils VersionInfo])
+  (:import [backtype.storm.codedist CodeServer CodeServer$Resolver CodeDownloader])
   (:use [backtype.storm.daemon common])
   (:require [backtype.storm.daemon [worker :as worker]]
             [backtype.storm [process-simulator :as psim] [cluster :as cluster] [event :as event]]
@@ -61,6 +62,25 @@
       {:assignments (into {} (for [[k v] new-assignments] [k (:data v)]))
        :versions new-assignments})))
 
+(defn- code-peers
+  "Hosts of the other supervisors working on a topology that got their part of
+  it before this one did, so they have most likely downloaded its code by now.
+  Supervisors assigned at the same time are downloading it themselves."
+  [assignment assignment-id my-hostname]
+  (let [start-times (:executor->start-time-secs assignment)
+        node->start (apply merge-with min
+                           (for [[executor [node _]] (:executor->node+port assignment)
+                                 :let [start (get start-times executor)]
+                                 :when start]
+                             {node start}))
+        my-start (get node->start assignment-id)]
+    (->> node->start
+         (filter (fn [[node start]] (and my-start (< start my-start))))
+         (map (fn [[node _]] (get (:node->host assignment) node)))
+         (remove #(or (nil? %) (= % my-hostname)))
+         distinct
+         vec)))
+
 (defn- read-my-executors [assignments-snapshot storm-id assignment-id]
   (let [assignment (get assignments-snapshot storm-id)
         my-executors (filter (fn [[_ [node _]]] (= node assignment-id))
@@ -236,6 +256,7 @@
           (rmr-as-user conf id user (worker-root conf id))
           (do
             (rmr (worker-heartbeats-root conf id))
+            (rmr (worker-tmp-root conf id))
             ;; this avoids a race condition with worker or subprocess writing pid around same time
             (rmpath (worker-pids-root conf id))
             (rmpath (worker-root conf id))))
@@ -375,7 +396,8 @@
             master-code-dir (if (contains? storm-code-map :data) (storm-code-map :data))
             stormroot (supervisor-stormdist-root conf storm-id)]
         (if-not (or (contains? downloaded-storm-ids storm-id) (.exists (File. stormroot)) (nil? master-code-dir))
-          (download-storm-code conf storm-id master-code-dir download-lock))
+          (download-storm-code conf storm-id master-code-dir download-lock
+                               (code-peers (:data assignment-info) (:assignment-id supervisor) (:my-hostname supervisor))))
         ))
 
     (wait-for-workers-launch
@@ -462,7 +484,8 @@
       (doseq [[storm-id master-code-dir] storm-code-map]
         (when (and (not (downloaded-storm-ids storm-id))
                    (assigned-storm-ids storm-id))
-          (download-storm-code conf storm-id master-code-dir download-lock)))
+          (download-storm-code conf storm-id master-code-dir download-lock
+                               (code-peers (get assignments-snapshot storm-id) (:assignment-id supervisor) (:my-hostname supervisor)))))
 
       (log-debug "Writing new assignment "
                  (pr-str new-assignment))
@@ -485,6 +508,8 @@
                        storm-id)
           (try
             (rmr (supervisor-stormdist-root conf storm-id))
+            (doseq [file-name CodeServer/FILES]
+              (rmr (supervisor-partial-download-path conf storm-id file-name)))
             (catch Exception e (log-message (.getMessage e))))
           ))
       (.add processes-event-manager sync-processes)
@@ -492,6 +517,15 @@
 
 ;; in local state, supervisor stores who its current assignments are
 ;; another thread launches events to restart any dead processes if necessary
+(defn- mk-code-server
+  "Serves the code this supervisor has downloaded to the other supervisors."
+  [conf]
+  (when (and (= (cluster-mode conf) :distributed) (CodeServer/isEnabled conf))
+    (CodeServer. (Utils/getInt (conf SUPERVISOR-CODE-SERVER-PORT) (int CodeServer/DEFAULT_SUPERVISOR_PORT))
+                 (reify CodeServer$Resolver
+                   (resolve [this storm-id file-name]
+                     (File. (supervisor-stormdist-root conf storm-id) file-name))))))
+
 (defserverfn mk-supervisor [conf shared-context ^ISupervisor isupervisor]
   (log-message "Starting Supervisor with conf " conf)
   (.prepare isupervisor conf (supervisor-isupervisor-dir conf))
@@ -500,6 +534,7 @@
         [event-manager processes-event-manager :as managers] [(event/event-manager false) (event/event-manager false)]
         sync-processes (partial sync-processes supervisor)
         synchronize-supervisor (mk-synchronize-supervisor supervisor sync-processes event-manager processes-event-manager)
+        code-server (mk-code-server conf)
         heartbeat-fn (fn [] (.supervisor-heartbeat!
                                (:storm-cluster-state supervisor)
                                (:supervisor-id supervisor)
@@ -537,6 +572,7 @@
                (cancel-timer (:event-timer supervisor))
                (.shutdown event-manager)
                (.shutdown processes-event-manager)
+               (when code-server (.close code-server))
                (.disconnect (:storm-cluster-state supervisor)))
      SupervisorDaemon
      (get-conf [this]
@@ -565,12 +601,25 @@
  (if (conf SUPERVISOR-RUN-WORKER-AS-USER)
   (worker-launcher-and-wait conf (storm-conf TOPOLOGY-SUBMITTER-USER) ["code-dir" dir] :log-prefix (str "setup conf for " dir))))
 
+(defn- download-code-file!
+  "Fetches a file from the code servers when they are enabled, falling back to
+  Thrift when Nimbus does not run one."
+  [conf ^CodeDownloader downloader storm-id peers master-path local-path]
+  (let [local-file (File. local-path)
+        file-name (.getName local-file)]
+    (when-not (and downloader
+                   (.download downloader storm-id file-name peers
+                              (File. (supervisor-partial-download-path conf storm-id file-name))
+                              local-file))
+      (Utils/downloadFromMaster conf master-path local-path))))
+
 ;; distributed implementation
 (defmethod download-storm-code
-    :distributed [conf storm-id master-code-dir download-lock]
+    :distributed [conf storm-id master-code-dir download-lock peers]
     ;; Downloading to permanent location is atomic
     (let [tmproot (str (supervisor-tmp-dir conf) file-path-separator (uuid))
-          stormroot (supervisor-stormdist-root conf storm-id)]
+          stormroot (supervisor-stormdist-root conf storm-id)
+          downloader (when (CodeServer/isEnabled conf) (CodeDownloader. conf))]
       (locking download-lock
             (log-message "Downloading code for storm id "
                          storm-id
@@ -578,9 +627,12 @@
                          master-code-dir)
             (FileUtils/forceMkdir (File. tmproot))
 
-            (Utils/downloadFromMaster conf (master-stormjar-path master-code-dir) (supervisor-stormjar-path tmproot))
-            (Utils/downloadFromMaster conf (master-stormcode-path master-code-dir) (supervisor-stormcode-path tmproot))
-            (Utils/downloadFromMaster conf (master-stormconf-path master-code-dir) (supervisor-stormconf-path tmproot))
+            (download-code-file! conf downloader storm-id peers
+                                 (master-stormjar-path master-code-dir) (supervisor-stormjar-path tmproot))
+            (download-code-file! conf downloader storm-id peers
+                                 (master-stormcode-path master-code-dir) (supervisor-stormcode-path tmproot))
+            (download-code-file! conf downloader storm-id peers
+                                 (master-stormconf-path master-code-dir) (supervisor-stormconf-path tmproot))
             (extract-dir-from-jar (supervisor-stormjar-path tmproot) RESOURCES-SUBDIR tmproot)
             (if-not (.exists (File. stormroot))
               (FileUtils/moveDirectory (File. tmproot) (File. stormroot))
@@ -740,7 +792,7 @@
        first ))
 
 (defmethod download-storm-code
-    :local [conf storm-id master-code-dir download-lock]
+    :local [conf storm-id master-code-dir download-lock peers]
     (let [stormroot (supervisor-stormdist-root conf storm-id)]
       (locking download-lock
             (FileUtils/copyDirectory (File. master-code-dir) (File. stormroot))
@@ -20,9 +20,9 @@
   (:require [backtype.storm [disruptor :as disruptor] [cluster :as cluster]])
   (:require [clojure.set :as set])
   (:require [backtype.storm.messaging.loader :as msg-loader])
-  (:import [java.util.concurrent Executors])
+  (:import [java.util.concurrent Executors Semaphore TimeUnit])
   (:import [java.util ArrayList HashMap])
-  (:import [backtype.storm.utils Utils TransferDrainer ThriftTopologyUtils])
+  (:import [backtype.storm.utils Utils TransferDrainer ThriftTopologyUtils DisruptorQueue DisruptorBackpressureCallback])
   (:import [backtype.storm.messaging TransportFactory])
   (:import [backtype.storm.messaging TaskMessage IContext IConnection ConnectionWithStatus ConnectionWithStatus$Status])
   (:import [backtype.storm.daemon Shutdownable])
@@ -62,13 +62,12 @@
                :uptime ((:uptime worker))
                :time-secs (current-time-secs)
                }]
-    ;; do the zookeeper heartbeat
+    ;; do the zookeeper heartbeat, or push it to the configured heartbeat store
     (.worker-heartbeat! (:storm-cluster-state worker) (:storm-id worker) (:assignment-id worker) (:port worker) zk-hb)    
     ))
 
 (defn do-heartbeat [worker]
-  (let [conf (:conf worker)
-        state (worker-state conf (:worker-id worker))]
+  (let [state (:local-state worker)]
     ;; do the local-file-system heartbeat.
     (ls-worker-heartbeat! state (current-time-secs) (:storm-id worker) (:executors worker) (:port worker))
     (.cleanup state 60) ; this is just in case supervisor is down so that disk doesn't fill up.
@@ -134,7 +133,7 @@
                       (.put remoteMap task (ArrayList.)))
                     (let [remote (.get remoteMap task)]
                       (if (not-nil? task)
-                        (.add remote (TaskMessage. task (.serialize serializer tuple)))
+                        (.add remote (.serializeToMessage serializer task tuple))
                         (log-warn "Can't transfer tuple - task value is nil. tuple type: " (pr-str (type tuple)) " and information: " (pr-str tuple)))
                      ))))
                 (local-transfer local)
@@ -154,7 +153,9 @@
        (map (fn [e] [e (disruptor/disruptor-queue (str "receive-queue" e)
                                                   (storm-conf TOPOLOGY-EXECUTOR-RECEIVE-BUFFER-SIZE)
                                                   (storm-conf TOPOLOGY-DISRUPTOR-WAIT-TIMEOUT-MILLIS)
-                                                  :wait-strategy (storm-conf TOPOLOGY-DISRUPTOR-WAIT-STRATEGY))]))
+                                                  :wait-strategy (storm-conf TOPOLOGY-DISRUPTOR-WAIT-STRATEGY)
+                                                  :batch-size (storm-conf TOPOLOGY-DISRUPTOR-BATCH-SIZE)
+                                                  :batch-timeout-ms (storm-conf TOPOLOGY-DISRUPTOR-BATCH-TIMEOUT-MILLIS))]))
        (into {})
        ))
 
@@ -196,7 +197,9 @@
         executors (set (read-worker-executors storm-conf storm-cluster-state storm-id assignment-id port assignment-versions))
         transfer-queue (disruptor/disruptor-queue "worker-transfer-queue" (storm-conf TOPOLOGY-TRANSFER-BUFFER-SIZE)
                                                   (storm-conf TOPOLOGY-DISRUPTOR-WAIT-TIMEOUT-MILLIS)
-                                                  :wait-strategy (storm-conf TOPOLOGY-DISRUPTOR-WAIT-STRATEGY))
+                                                  :wait-strategy (storm-conf TOPOLOGY-DISRUPTOR-WAIT-STRATEGY)
+                                                  :batch-size (storm-conf TOPOLOGY-DISRUPTOR-BATCH-SIZE)
+                                                  :batch-timeout-ms (storm-conf TOPOLOGY-DISRUPTOR-BATCH-TIMEOUT-MILLIS))
         executor-receive-queue-map (mk-receive-queue-map storm-conf executors)
         
         receive-queue-map (->> executor-receive-queue-map
@@ -216,6 +219,8 @@
       :assignment-id assignment-id
       :port port
       :worker-id worker-id
+      ;; kept open so heartbeats are appended to its log rather than rewriting it
+      :local-state (worker-state conf worker-id)
       :cluster-state cluster-state
       :storm-cluster-state storm-cluster-state
       ;; when worker bootup, worker will start to setup initial connections to
@@ -223,6 +228,11 @@
       ;; and spout and bolt will be activated.
       :worker-active-flag (atom false)
       :storm-active-atom (atom false)
+      ;; whether any queue of this worker is over its high watermark
+      :backpressure (atom false)
+      ;; whether any worker of the topology is, in which case spouts stop emitting
+      :throttle-on (atom false)
+      :backpressure-trigger (Semaphore. 0)
       :executors executors
       :task-ids (->> receive-queue-map keys (map int) sort)
       :storm-conf storm-conf
@@ -232,6 +242,7 @@
       :refresh-connections-timer (mk-halting-timer "refresh-connections-timer")
       :refresh-credentials-timer (mk-halting-timer "refresh-credentials-timer")
       :refresh-active-timer (mk-halting-timer "refresh-active-timer")
+      :refresh-backpressure-timer (mk-halting-timer "refresh-backpressure-timer")
       :executor-heartbeat-timer (mk-halting-timer "executor-heartbeat-timer")
       :user-timer (mk-halting-timer "user-timer")
       :task->component (HashMap. (storm-task-info topology storm-conf)) ; for optimized access when used in tasks later on
@@ -330,6 +341,49 @@
       ))
      ))
 
+(defn refresh-throttle
+  ([worker]
+    (refresh-throttle worker (fn [& ignored] (schedule (:refresh-backpressure-timer worker) 0 (partial refresh-throttle worker)))))
+  ([worker callback]
+    (let [throttle? (.topology-backpressure (:storm-cluster-state worker) (:storm-id worker) callback)]
+      (when-not (= throttle? @(:throttle-on worker))
+        (log-message (if throttle? "Throttling" "Unthrottling") " spouts of " (:storm-id worker) " due to backpressure"))
+      (reset! (:throttle-on worker) throttle?))))
+
+(defn- backpressure-queues [worker]
+  (cons (:transfer-queue worker) (vals (:executor-receive-queue-map worker))))
+
+(defn register-backpressure-callbacks!
+  "Makes the worker's queues wake up the backpressure thread whenever they cross a watermark"
+  [worker]
+  (let [storm-conf (:storm-conf worker)
+        ^Semaphore trigger (:backpressure-trigger worker)
+        high (double (or (storm-conf TOPOLOGY-BACKPRESSURE-HIGH-WATERMARK) 0.9))
+        low (double (or (storm-conf TOPOLOGY-BACKPRESSURE-LOW-WATERMARK) 0.4))
+        callback (reify DisruptorBackpressureCallback
+                   (highWaterMark [this] (.release trigger))
+                   (lowWaterMark [this] (.release trigger)))]
+    (doseq [^DisruptorQueue q (backpressure-queues worker)]
+      (.enableBackpressure q high low callback))))
+
+(defn launch-backpressure-thread
+  "Publishes this worker's backpressure state to zookeeper whenever it changes"
+  [worker]
+  (let [^Semaphore trigger (:backpressure-trigger worker)
+        storm-cluster-state (:storm-cluster-state worker)]
+    (async-loop
+      (fn []
+        ;; also rechecks periodically, in case a zookeeper write failed
+        (when (.tryAcquire trigger 1 TimeUnit/SECONDS)
+          (.drainPermits trigger))
+        (let [throttled? (boolean (some #(.getThrottleOn ^DisruptorQueue %) (backpressure-queues worker)))]
+          (when-not (= throttled? @(:backpressure worker))
+            (.worker-backpressure! storm-cluster-state (:storm-id worker) (:assignment-id worker) (:port worker) throttled?)
+            (reset! (:backpressure worker) throttled?)))
+        0)
+      :thread-name "backpressure-thread"
+      :kill-fn (fn [t] (exit-process! 12)))))
+
 ;; TODO: consider having a max batch size besides what disruptor does automagically to prevent latency issues
 (defn mk-transfer-tuples-handler [worker]
   (let [^DisruptorQueue transfer-queue (:transfer-queue worker)
@@ -389,6 +443,7 @@
     (:receiver-thread-count worker)
     (:port worker)
     (:transfer-local-fn worker)
+    :direct-dispatch (= true ((:storm-conf worker) WORKER-RECEIVER-DIRECT-DISPATCH))
     :kill-fn (fn [t] (exit-process! 11))))
 
 (defn- close-resources [worker]
@@ -419,7 +474,8 @@
         storm-conf (override-login-config-with-system-property storm-conf)
         acls (Utils/getWorkerACL storm-conf)
         cluster-state (cluster/mk-distributed-cluster-state conf :auth-conf storm-conf :acls acls)
-        storm-cluster-state (cluster/mk-storm-cluster-state cluster-state :acls acls)
+        storm-cluster-state (cluster/mk-storm-cluster-state cluster-state :acls acls
+                                                            :heartbeat-store (cluster/mk-heartbeat-store conf false))
         initial-credentials (.credentials storm-cluster-state storm-id nil)
         auto-creds (AuthUtils/GetAutoCredentials storm-conf)
         subject (AuthUtils/populateSubject nil auto-creds initial-credentials)]
@@ -448,6 +504,12 @@
 
         _ (refresh-storm-active worker nil)
 
+        backpressure? (= true (storm-conf TOPOLOGY-BACKPRESSURE-ENABLE))
+        backpressure-thread (when backpressure?
+                              (.setup-backpressure! (:storm-cluster-state worker) storm-id)
+                              (register-backpressure-callbacks! worker)
+                              (refresh-throttle worker)
+                              (launch-backpressure-thread worker))
 
         _ (reset! executors (dofor [e (:executors worker)] (executor/mk-executor worker e initial-credentials)))
 
@@ -477,10 +539,15 @@
                     (.interrupt transfer-thread)
                     (.join transfer-thread)
                     (log-message "Shut down transfer thread")
+                    (when backpressure-thread
+                      (.interrupt backpressure-thread)
+                      (.join backpressure-thread)
+                      (.worker-backpressure! (:storm-cluster-state worker) storm-id assignment-id port false))
                     (cancel-timer (:heartbeat-timer worker))
                     (cancel-timer (:refresh-connections-timer worker))
                     (cancel-timer (:refresh-credentials-timer worker))
                     (cancel-timer (:refresh-active-timer worker))
+                    (cancel-timer (:refresh-backpressure-timer worker))
                     (cancel-timer (:executor-heartbeat-timer worker))
                     (cancel-timer (:user-timer worker))
                     
@@ -505,6 +572,7 @@
                  (timer-waiting? (:refresh-connections-timer worker))
                  (timer-waiting? (:refresh-credentials-timer worker))
                  (timer-waiting? (:refresh-active-timer worker))
+                 (timer-waiting? (:refresh-backpressure-timer worker))
                  (timer-waiting? (:executor-heartbeat-timer worker))
                  (timer-waiting? (:user-timer worker))
                  ))
@@ -521,6 +589,8 @@
     (schedule-recurring (:refresh-credentials-timer worker) 0 (conf TASK-CREDENTIALS-POLL-SECS) check-credentials-changed)
     (schedule-recurring (:refresh-connections-timer worker) 0 (conf TASK-REFRESH-POLL-SECS) refresh-connections)
     (schedule-recurring (:refresh-active-timer worker) 0 (conf TASK-REFRESH-POLL-SECS) (partial refresh-storm-active worker))
+    (when backpressure-thread
+      (schedule-recurring (:refresh-backpressure-timer worker) 0 (conf TASK-REFRESH-POLL-SECS) (partial refresh-throttle worker)))
 
     (log-message "Worker has topology config " (redact-value (:storm-conf worker) STORM-ZOOKEEPER-TOPOLOGY-AUTH-PAYLOAD))
     (log-message "Worker " worker-id " for storm " storm-id " on " assignment-id ":" port " has finished loading")
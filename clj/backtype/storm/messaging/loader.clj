@@ -16,7 +16,7 @@
 (ns backtype.storm.messaging.loader
   (:use [backtype.storm util log])
   (:import [java.util ArrayList Iterator])
-  (:import [backtype.storm.messaging IContext IConnection TaskMessage])
+  (:import [backtype.storm.messaging IContext IConnection TaskMessage IConnectionCallback IPushReceiver])
   (:import [backtype.storm.utils DisruptorQueue MutableObject])
   (:require [backtype.storm.messaging [local :as local]])
   (:require [backtype.storm [disruptor :as disruptor]]))
@@ -59,11 +59,28 @@
              (mk-receive-thread storm-id port transfer-local-fn  daemon kill-fn priority socket thread-id))))
 
 
-(defnk launch-receive-thread!
-  [context socket storm-id receiver-thread-count port transfer-local-fn
-   :daemon true
-   :kill-fn (fn [t] (System/exit 1))
-   :priority Thread/NORM_PRIORITY]
+(defn- mk-receive-callback [transfer-local-fn]
+  (reify IConnectionCallback
+    (recv [this batch]
+      (let [batched (ArrayList. (.size batch))]
+        (fast-list-iter [^TaskMessage packet batch]
+          (.add batched [(.task packet) (.message packet)]))
+        (transfer-local-fn batched)))))
+
+(defn- register-receive-callback! [context socket storm-id port transfer-local-fn]
+  (log-message "Dispatching received messages directly for: [stormId: " storm-id ", port: " port "]")
+  (.registerRecv ^IPushReceiver socket (mk-receive-callback transfer-local-fn))
+  (let [local-hostname (memoized-local-hostname)]
+    (fn []
+      (let [kill-socket (.connect ^IContext context storm-id local-hostname port)]
+        (log-message "Shutting down receive dispatch: [" storm-id ", " port "]")
+        (.send ^IConnection kill-socket
+                  -1 (byte-array []))
+        (.close ^IConnection kill-socket)
+        (log-message "Shutdown receive dispatch: [" storm-id ", " port "]")
+        ))))
+
+(defn- launch-receive-threads! [context socket storm-id receiver-thread-count port transfer-local-fn daemon kill-fn priority]
   (let [local-hostname (memoized-local-hostname)
         thread-count (if receiver-thread-count receiver-thread-count 1)
         vthreads (mk-receive-threads storm-id port transfer-local-fn daemon kill-fn priority socket thread-count)]
@@ -82,3 +99,13 @@
         
         (log-message "Shutdown receiving-thread: [" storm-id ", " port "]")
         ))))
+
+(defnk launch-receive-thread!
+  [context socket storm-id receiver-thread-count port transfer-local-fn
+   :daemon true
+   :kill-fn (fn [t] (System/exit 1))
+   :priority Thread/NORM_PRIORITY
+   :direct-dispatch false]
+  (if (and direct-dispatch (instance? IPushReceiver socket))
+    (register-receive-callback! context socket storm-id port transfer-local-fn)
+    (launch-receive-threads! context socket storm-id receiver-thread-count port transfer-local-fn daemon kill-fn priority)))
@@ -0,0 +1,270 @@
+# -*- coding: utf-8 -*-
+
+# Licensed to the Apache Software Foundation (ASF) under one
+# or more contributor license agreements.  See the NOTICE file
+# distributed with this work for additional information
+# regarding copyright ownership.  The ASF licenses this file
+# to you under the Apache License, Version 2.0 (the
+# "License"); you may not use this file except in compliance
+# with the License.  You may obtain a copy of the License at
+#
+# http://www.apache.org/licenses/LICENSE-2.0
+#
+# Unless required by applicable law or agreed to in writing, software
+# distributed under the License is distributed on an "AS IS" BASIS,
+# WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+# See the License for the specific language governing permissions and
+# limitations under the License.
+
+# Multilang client for backtype.storm.multilang.MsgPackSerializer. It has the
+# same API as storm.py, only the wire format differs: every message is a 4 byte
+# big endian length followed by a MessagePack body. Writes are buffered and
+# only flushed when the component is about to wait for the next message, so
+# all the emits and acks of one tuple go out in a single write.
+#
+# Requires the msgpack package. Select the protocol in the topology config:
+#   topology.multilang.serializer: "backtype.storm.multilang.MsgPackSerializer"
+
+import sys
+import os
+import struct
+import traceback
+from collections import deque
+
+import msgpack
+
+_stdin = getattr(sys.stdin, 'buffer', sys.stdin)
+_stdout = getattr(sys.stdout, 'buffer', sys.stdout)
+
+_frame_header = struct.Struct('>I')
+
+# queue up commands we read while trying to read taskids
+pending_commands = deque()
+
+def readFrame():
+    flush()
+    header = _stdin.read(4)
+    if len(header) < 4:
+        raise Exception("Read EOF from stdin")
+    (length,) = _frame_header.unpack(header)
+    body = _stdin.read(length)
+    if len(body) < length:
+        raise Exception("Read EOF from stdin")
+    return msgpack.unpackb(body, raw=False)
+
+def sendMsgToParent(msg):
+    body = msgpack.packb(msg, use_bin_type=True)
+    _stdout.write(_frame_header.pack(len(body)))
+    _stdout.write(body)
+
+def flush():
+    _stdout.flush()
+
+# read the stdin until a task id list arrives, keeping any command we read on the way
+def readTaskIds():
+    while True:
+        msg = readFrame()
+        if isinstance(msg, list):
+            return msg
+        pending_commands.append(msg)
+
+# read a command, or return one that got queued up while waiting for task ids
+def readCommand():
+    if pending_commands:
+        return pending_commands.popleft()
+    while True:
+        msg = readFrame()
+        if not isinstance(msg, list):
+            return msg
+        # task ids nobody asked for, e.g. for an emit with need_task_ids off
+
+def readTuple():
+    cmd = readCommand()
+    return Tuple(cmd["id"], cmd["comp"], cmd["stream"], cmd["task"], cmd["tuple"])
+
+def sync():
+    sendMsgToParent({'command': 'sync'})
+
+def sendpid(heartbeatdir):
+    pid = os.getpid()
+    sendMsgToParent({'pid': pid})
+    flush()
+    open(heartbeatdir + "/" + str(pid), "w").close()
+
+def emit(*args, **kwargs):
+    __emit(*args, **kwargs)
+    return readTaskIds()
+
+def emitDirect(task, *args, **kwargs):
+    kwargs["directTask"] = task
+    __emit(*args, **kwargs)
+
+def __emit(*args, **kwargs):
+    global MODE
+    if MODE == Bolt:
+        emitBolt(*args, **kwargs)
+    elif MODE == Spout:
+        emitSpout(*args, **kwargs)
+
+def emitBolt(tup, stream=None, anchors=[], directTask=None):
+    global ANCHOR_TUPLE
+    if ANCHOR_TUPLE is not None:
+        anchors = [ANCHOR_TUPLE]
+    m = {"command": "emit"}
+    if stream is not None:
+        m["stream"] = stream
+    m["anchors"] = [a.id for a in anchors]
+    if directTask is not None:
+        m["task"] = directTask
+    m["tuple"] = tup
+    sendMsgToParent(m)
+
+def emitSpout(tup, stream=None, id=None, directTask=None):
+    m = {"command": "emit"}
+    if id is not None:
+        m["id"] = id
+    if stream is not None:
+        m["stream"] = stream
+    if directTask is not None:
+        m["task"] = directTask
+    m["tuple"] = tup
+    sendMsgToParent(m)
+
+def ack(tup):
+    sendMsgToParent({"command": "ack", "id": tup.id})
+
+def fail(tup):
+    sendMsgToParent({"command": "fail", "id": tup.id})
+
+def reportError(msg):
+    sendMsgToParent({"command": "error", "msg": msg})
+
+def log(msg, level=2):
+    sendMsgToParent({"command": "log", "msg": msg, "level": level})
+
+def logTrace(msg):
+    log(msg, 0)
+
+def logDebug(msg):
+    log(msg, 1)
+
+def logInfo(msg):
+    log(msg, 2)
+
+def logWarn(msg):
+    log(msg, 3)
+
+def logError(msg):
+    log(msg, 4)
+
+def rpcMetrics(name, params):
+    sendMsgToParent({"command": "metrics", "name": name, "params": params})
+
+def initComponent():
+    setupInfo = readFrame()
+    sendpid(setupInfo['pidDir'])
+    return [setupInfo['conf'], setupInfo['context']]
+
+class Tuple(object):
+    def __init__(self, id, component, stream, task, values):
+        self.id = id
+        self.component = component
+        self.stream = stream
+        self.task = task
+        self.values = values
+
+    def __repr__(self):
+        return '<%s%s>' % (
+            self.__class__.__name__,
+            ''.join(' %s=%r' % (k, self.__dict__[k]) for k in sorted(self.__dict__.keys())))
+
+    def is_heartbeat_tuple(self):
+        return self.task == -1 and self.stream == "__heartbeat"
+
+class Bolt(object):
+    def initialize(self, stormconf, context):
+        pass
+
+    def process(self, tuple):
+        pass
+
+    def run(self):
+        global MODE
+        MODE = Bolt
+        conf, context = initComponent()
+        try:
+            self.initialize(conf, context)
+            while True:
+                tup = readTuple()
+                if tup.is_heartbeat_tuple():
+                    sync()
+                else:
+                    self.process(tup)
+        except Exception:
+            reportError(traceback.format_exc())
+            flush()
+
+class BasicBolt(object):
+    def initialize(self, stormconf, context):
+        pass
+
+    def process(self, tuple):
+        pass
+
+    def run(self):
+        global MODE
+        MODE = Bolt
+        global ANCHOR_TUPLE
+        conf, context = initComponent()
+        try:
+            self.initialize(conf, context)
+            while True:
+                tup = readTuple()
+                if tup.is_heartbeat_tuple():
+                    sync()
+                else:
+                    ANCHOR_TUPLE = tup
+                    try:
+                        self.process(tup)
+                        ack(tup)
+                    except Exception:
+                        reportError(traceback.format_exc())
+                        fail(tup)
+        except Exception:
+            reportError(traceback.format_exc())
+            flush()
+
+class Spout(object):
+    def initialize(self, conf, context):
+        pass
+
+    def ack(self, id):
+        pass
+
+    def fail(self, id):
+        pass
+
+    def nextTuple(self):
+        pass
+
+    def run(self):
+        global MODE
+        MODE = Spout
+        conf, context = initComponent()
+        try:
+            self.initialize(conf, context)
+            while True:
+                msg = readCommand()
+                if msg["command"] == "next":
+                    self.nextTuple()
+                if msg["command"] == "ack":
+                    self.ack(msg["id"])
+                if msg["command"] == "fail":
+                    self.fail(msg["id"])
+                sync()
+        except Exception:
+            reportError(traceback.format_exc())
+            flush()
+
+MODE = None
+ANCHOR_TUPLE = None
@@ -108,6 +108,13 @@ public class Config extends HashMap<String, Object> {
     public static final String STORM_NETTY_MESSAGE_BATCH_SIZE = "storm.messaging.netty.transfer.batch.size";
     public static final Object STORM_NETTY_MESSAGE_BATCH_SIZE_SCHEMA = ConfigValidation.IntegerValidator;
 
+    /**
+     * If true, the Netty client encodes each message batch as a composite buffer of small header slices wrapped
+     * around the existing message payloads, instead of copying every payload into a freshly allocated buffer.
+     */
+    public static final String STORM_NETTY_MESSAGE_BATCH_ZERO_COPY = "storm.messaging.netty.transfer.batch.zero.copy";
+    public static final Object STORM_NETTY_MESSAGE_BATCH_ZERO_COPY_SCHEMA = Boolean.class;
+
     /**
      * We check with this interval that whether the Netty channel is writable and try to write pending messages
      */
@@ -330,6 +337,25 @@ public class Config extends HashMap<String, Object> {
     public static final String NIMBUS_THRIFT_PORT = "nimbus.thrift.port";
     public static final Object NIMBUS_THRIFT_PORT_SCHEMA = ConfigValidation.IntegerValidator;
 
+    /**
+     * The class of the backtype.storm.nimbus.IHeartbeatStore workers write their
+     * executor heartbeats to, and Nimbus reads them from. When unset, heartbeats
+     * are stored in ZooKeeper. Set to backtype.storm.nimbus.NimbusHeartbeatStore
+     * to keep them in the memory of Nimbus instead, workers then send them over
+     * nimbus.thrift.port. Local mode runs no Nimbus Thrift server, so heartbeats
+     * stay in ZooKeeper there.
+     */
+    public static final String STORM_HEARTBEAT_STORE = "storm.heartbeat.store";
+    public static final Object STORM_HEARTBEAT_STORE_SCHEMA = String.class;
+
+    /**
+     * Which port Nimbus serves topology code on to supervisors. Only used when
+     * Nimbus runs with the SimpleTransportPlugin, supervisors fall back to
+     * downloading over Thrift otherwise. Defaults to 6629.
+     */
+    public static final String NIMBUS_CODE_SERVER_PORT = "nimbus.code.server.port";
+    public static final Object NIMBUS_CODE_SERVER_PORT_SCHEMA = ConfigValidation.IntegerValidator;
+
     /**
      * The number of threads that should be used by the nimbus thrift server.
      */
@@ -396,6 +422,16 @@ public class Config extends HashMap<String, Object> {
     public static final String NIMBUS_MONITOR_FREQ_SECS = "nimbus.monitor.freq.secs";
     public static final Object NIMBUS_MONITOR_FREQ_SECS_SCHEMA = ConfigValidation.IntegerValidator;
 
+    /**
+     * Whether Nimbus may skip a scheduling round when nothing the scheduler looks at
+     * changed since the last one: no topology was submitted, killed or rebalanced, no
+     * supervisor came or went, and every topology is fully assigned with all its
+     * executors alive. Defaults to true. Turn it off for schedulers that need to be
+     * called on every round.
+     */
+    public static final String NIMBUS_SCHEDULING_INCREMENTAL = "nimbus.scheduling.incremental";
+    public static final Object NIMBUS_SCHEDULING_INCREMENTAL_SCHEMA = Boolean.class;
+
     /**
      * How often nimbus should wake the cleanup thread to clean the inbox.
      * @see backtype.storm.Config#NIMBUS_INBOX_JAR_EXPIRATION_SECS
@@ -849,6 +885,20 @@ public class Config extends HashMap<String, Object> {
     public static final String DRPC_REQUEST_TIMEOUT_SECS  = "drpc.request.timeout.secs";
     public static final Object DRPC_REQUEST_TIMEOUT_SECS_SCHEMA = ConfigValidation.IntegerValidator;
 
+    /**
+     * The most requests a DRPCSpout fetches from a DRPC server in one call. Defaults to 32.
+     */
+    public static final String DRPC_SPOUT_FETCH_MAX_REQUESTS = "drpc.spout.fetch.max.requests";
+    public static final Object DRPC_SPOUT_FETCH_MAX_REQUESTS_SCHEMA = ConfigValidation.PositiveIntegerValidator;
+
+    /**
+     * How long a DRPCSpout lets the DRPC server hold on to a fetch when there are no requests
+     * for its function, so that it does not spin on empty queues. The spout only waits while it
+     * has no tuples pending, and never for more than 100 milliseconds. Defaults to 0.
+     */
+    public static final String DRPC_SPOUT_FETCH_WAIT_MS = "drpc.spout.fetch.wait.ms";
+    public static final Object DRPC_SPOUT_FETCH_WAIT_MS_SCHEMA = ConfigValidation.NonNegativeIntegerValidator;
+
     /**
      * Childopts for Storm DRPC Java process.
      */
@@ -912,6 +962,21 @@ public class Config extends HashMap<String, Object> {
     public static final String SUPERVISOR_CHILDOPTS = "supervisor.childopts";
     public static final Object SUPERVISOR_CHILDOPTS_SCHEMA = String.class;
 
+    /**
+     * Which port a supervisor serves the topology code it has downloaded on, so
+     * other supervisors can fetch it from there rather than from Nimbus.
+     * Defaults to 6630.
+     */
+    public static final String SUPERVISOR_CODE_SERVER_PORT = "supervisor.code.server.port";
+    public static final Object SUPERVISOR_CODE_SERVER_PORT_SCHEMA = ConfigValidation.IntegerValidator;
+
+    /**
+     * How many chunks of a topology file a supervisor downloads at the same
+     * time. Defaults to 4.
+     */
+    public static final String SUPERVISOR_CODE_DOWNLOAD_PARALLELISM = "supervisor.code.download.parallelism";
+    public static final Object SUPERVISOR_CODE_DOWNLOAD_PARALLELISM_SCHEMA = ConfigValidation.IntegerValidator;
+
     /**
      * How long a worker can go without heartbeating before the supervisor tries to
      * restart the worker process.
@@ -994,6 +1059,15 @@ public class Config extends HashMap<String, Object> {
     public static final String WORKER_RECEIVER_THREAD_COUNT = "topology.worker.receiver.thread.count";
     public static final Object WORKER_RECEIVER_THREAD_COUNT_SCHEMA = ConfigValidation.IntegerValidator;
 
+    /**
+     * If true, and the messaging transport supports it, received messages are published into the executors'
+     * receive queues directly from the transport's I/O threads instead of going through the worker receiver threads.
+     * An I/O thread then blocks while a receive queue it publishes to is full, which stops it from reading any of
+     * its connections until the executor catches up.
+     */
+    public static final String WORKER_RECEIVER_DIRECT_DISPATCH = "topology.worker.receiver.direct.dispatch";
+    public static final Object WORKER_RECEIVER_DIRECT_DISPATCH_SCHEMA = Boolean.class;
+
     /**
      * How often this worker should heartbeat to the supervisor.
      */
@@ -1046,6 +1120,13 @@ public class Config extends HashMap<String, Object> {
     public static final String TOPOLOGY_ENABLE_MESSAGE_TIMEOUTS = "topology.enable.message.timeouts";
     public static final Object TOPOLOGY_ENABLE_MESSAGE_TIMEOUTS_SCHEMA = Boolean.class;
 
+    /**
+     * How precisely spouts time out their pending tuple trees, in milliseconds. A tree times
+     * out between topology.message.timeout.secs and this much past it. Defaults to 1000.
+     */
+    public static final String TOPOLOGY_SPOUT_TIMEOUT_RESOLUTION_MS = "topology.spout.timeout.resolution.ms";
+    public static final Object TOPOLOGY_SPOUT_TIMEOUT_RESOLUTION_MS_SCHEMA = ConfigValidation.PositiveIntegerValidator;
+
     /**
      * When set to true, Storm will log every message that's emitted.
      */
@@ -1054,7 +1135,9 @@ public class Config extends HashMap<String, Object> {
 
     /**
      * The serializer for communication between shell components and non-JVM
-     * processes
+     * processes. backtype.storm.multilang.JsonSerializer speaks the JSON protocol,
+     * backtype.storm.multilang.MsgPackSerializer a length prefixed MessagePack one
+     * that batches bolt messages per write.
      */
     public static final String TOPOLOGY_MULTILANG_SERIALIZER = "topology.multilang.serializer";
     public static final Object TOPOLOGY_MULTILANG_SERIALIZER_SCHEMA = String.class;
@@ -1273,6 +1356,16 @@ public class Config extends HashMap<String, Object> {
     public static final String TOPOLOGY_EXECUTOR_SEND_BUFFER_SIZE="topology.executor.send.buffer.size";
     public static final Object TOPOLOGY_EXECUTOR_SEND_BUFFER_SIZE_SCHEMA = ConfigValidation.PowerOf2Validator;
 
+    /**
+     * Whether executors publish tuples for other executors of the same worker straight into
+     * their receive queues. Only tuples for other workers then go through the executor send
+     * queue and its transfer thread. Tuples for the executor itself always take the send queue,
+     * so a full receive queue cannot block the thread that drains it. Ignored when
+     * topology.testing.always.try.serialize is set. Defaults to false.
+     */
+    public static final String TOPOLOGY_EXECUTOR_DIRECT_LOCAL_TRANSFER="topology.executor.direct.local.transfer";
+    public static final Object TOPOLOGY_EXECUTOR_DIRECT_LOCAL_TRANSFER_SCHEMA = Boolean.class;
+
     /**
      * The size of the Disruptor transfer queue for each worker.
      */
@@ -1289,7 +1382,8 @@ public class Config extends HashMap<String, Object> {
 
    /**
     * Configure the wait strategy used for internal queuing. Can be used to tradeoff latency
-    * vs. throughput
+    * vs. throughput. backtype.storm.utils.ProgressiveWaitStrategy spins, then yields, then parks
+    * with a growing back off, which keeps latency low on busy queues without burning idle cores.
     */
     public static final String TOPOLOGY_DISRUPTOR_WAIT_STRATEGY="topology.disruptor.wait.strategy";
     public static final Object TOPOLOGY_DISRUPTOR_WAIT_STRATEGY_SCHEMA = String.class;
@@ -1322,6 +1416,32 @@ public class Config extends HashMap<String, Object> {
     public static final String TOPOLOGY_TRIDENT_BATCH_EMIT_INTERVAL_MILLIS="topology.trident.batch.emit.interval.millis";
     public static final Object TOPOLOGY_TRIDENT_BATCH_EMIT_INTERVAL_MILLIS_SCHEMA = ConfigValidation.IntegerValidator;
 
+    /**
+     * The number of groups a Trident grouped aggregation, or the number of tuples a
+     * grouped multireduce such as a join, keeps in memory for a single batch. Tuples
+     * of groups seen after that are spilled to sorted runs in java.io.tmpdir and
+     * replayed one group at a time when the batch completes. Unset means never spill.
+     */
+    public static final String TOPOLOGY_TRIDENT_BATCH_SPILL_THRESHOLD="topology.trident.batch.spill.threshold";
+    public static final Object TOPOLOGY_TRIDENT_BATCH_SPILL_THRESHOLD_SCHEMA = ConfigValidation.IntegerValidator;
+
+    /**
+     * The number of groups a Trident combiner aggregation keeps per batch on the sending
+     * side of a groupBy, where partial results are combined before repartitioning. When
+     * a new group comes in beyond that, the least recently used group is emitted early
+     * and combined downstream like any other partial result. Defaults to 10000.
+     */
+    public static final String TOPOLOGY_TRIDENT_PARTIAL_AGGREGATION_MAX_GROUPS="topology.trident.partial.aggregation.max.groups";
+    public static final Object TOPOLOGY_TRIDENT_PARTIAL_AGGREGATION_MAX_GROUPS_SCHEMA = ConfigValidation.IntegerValidator;
+
+    /**
+     * When set, state queries and persistent aggregations on map states start reading
+     * their keys every time this many of them have come in, instead of waiting for the
+     * end of the batch. Only has an effect if the state is built over a PrefetchingBackingMap.
+     */
+    public static final String TOPOLOGY_TRIDENT_STATE_PREFETCH_KEYS="topology.trident.state.prefetch.keys";
+    public static final Object TOPOLOGY_TRIDENT_STATE_PREFETCH_KEYS_SCHEMA = ConfigValidation.IntegerValidator;
+
     /**
      * Name of the topology. This config is automatically set by Storm when the topology is submitted.
      */
@@ -1461,6 +1581,40 @@ public class Config extends HashMap<String, Object> {
     public static final String TOPOLOGY_DISRUPTOR_WAIT_TIMEOUT_MILLIS="topology.disruptor.wait.timeout.millis";
     public static final Object TOPOLOGY_DISRUPTOR_WAIT_TIMEOUT_MILLIS_SCHEMA = ConfigValidation.PositiveIntegerValidator;
 
+    /**
+     * The number of objects a producer thread collects before publishing them to a multi-producer
+     * disruptor queue as one claimed range. 1 (the default) publishes every object immediately.
+     */
+    public static final String TOPOLOGY_DISRUPTOR_BATCH_SIZE="topology.disruptor.batch.size";
+    public static final Object TOPOLOGY_DISRUPTOR_BATCH_SIZE_SCHEMA = ConfigValidation.PositiveIntegerValidator;
+
+    /**
+     * How often, in milliseconds, partially filled producer batches are published to disruptor queues
+     * when topology.disruptor.batch.size is above 1. Bounds the latency added by batching.
+     */
+    public static final String TOPOLOGY_DISRUPTOR_BATCH_TIMEOUT_MILLIS="topology.disruptor.batch.timeout.millis";
+    public static final Object TOPOLOGY_DISRUPTOR_BATCH_TIMEOUT_MILLIS_SCHEMA = ConfigValidation.PositiveIntegerValidator;
+
+    /**
+     * Whether to enable backpressure for this topology. When an executor receive queue or the worker transfer
+     * queue of any worker fills up past topology.backpressure.high.watermark, all the spouts of the topology stop
+     * calling nextTuple until every such queue has drained below topology.backpressure.low.watermark.
+     */
+    public static final String TOPOLOGY_BACKPRESSURE_ENABLE = "topology.backpressure.enable";
+    public static final Object TOPOLOGY_BACKPRESSURE_ENABLE_SCHEMA = Boolean.class;
+
+    /**
+     * The fraction of a queue's capacity at which backpressure is turned on. Defaults to 0.9.
+     */
+    public static final String TOPOLOGY_BACKPRESSURE_HIGH_WATERMARK = "topology.backpressure.high.watermark";
+    public static final Object TOPOLOGY_BACKPRESSURE_HIGH_WATERMARK_SCHEMA = ConfigValidation.PositiveNumberValidator;
+
+    /**
+     * The fraction of a queue's capacity below which a throttled queue releases backpressure. Defaults to 0.4.
+     */
+    public static final String TOPOLOGY_BACKPRESSURE_LOW_WATERMARK = "topology.backpressure.low.watermark";
+    public static final Object TOPOLOGY_BACKPRESSURE_LOW_WATERMARK_SCHEMA = ConfigValidation.PositiveNumberValidator;
+
     public static void setClasspath(Map conf, String cp) {
         conf.put(Config.TOPOLOGY_CLASSPATH, cp);
     }
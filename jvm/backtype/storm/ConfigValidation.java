@@ -299,6 +299,28 @@ public class ConfigValidation {
         }
     };
 
+    /**
+     * Validates a non-negative integer.
+     */
+    public static Object NonNegativeIntegerValidator = new FieldValidator() {
+        @Override
+        public void validateField(String name, Object o) throws IllegalArgumentException {
+            if (o == null) {
+                // A null value is acceptable.
+                return;
+            }
+            final long i;
+            if (o instanceof Number &&
+                    (i = ((Number)o).longValue()) == ((Number)o).doubleValue())
+            {
+                if (i >= 0 && i <= Integer.MAX_VALUE) {
+                    return;
+                }
+            }
+            throw new IllegalArgumentException("Field " + name + " must be a non-negative integer.");
+        }
+    };
+
     /**
      * Validates Kryo Registration
      */
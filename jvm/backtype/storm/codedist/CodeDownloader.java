@@ -0,0 +1,352 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package backtype.storm.codedist;
+
+import backtype.storm.Config;
+import backtype.storm.utils.Utils;
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Downloads a file of a topology from code servers, several chunks at a time.
+ * Chunks come from peer supervisors when they have them and from Nimbus
+ * otherwise, and each one is checked against the digests Nimbus hands out.
+ *
+ * The file is written to a partial file first. If a download fails, the next
+ * one keeps the chunks of the partial file that still match their digests and
+ * only fetches the rest.
+ */
+public class CodeDownloader {
+    private static final Logger LOG = LoggerFactory.getLogger(CodeDownloader.class);
+
+    public static final int DEFAULT_PARALLELISM = 4;
+    private static final int CONNECT_TIMEOUT_MS = 5000;
+    private static final int READ_TIMEOUT_MS = 60000;
+    // how often a chunk is tried against Nimbus before the download gives up
+    private static final int MAX_NIMBUS_ATTEMPTS = 3;
+    // how many peers a download tries at most, so peers that are down cost a few connect timeouts at most
+    private static final int MAX_PEERS = 3;
+
+    private final InetSocketAddress _nimbus;
+    private final int _peerPort;
+    private final int _parallelism;
+
+    public CodeDownloader(Map conf) {
+        _nimbus = new InetSocketAddress((String) conf.get(Config.NIMBUS_HOST),
+                Utils.getInt(conf.get(Config.NIMBUS_CODE_SERVER_PORT), CodeServer.DEFAULT_NIMBUS_PORT));
+        _peerPort = Utils.getInt(conf.get(Config.SUPERVISOR_CODE_SERVER_PORT), CodeServer.DEFAULT_SUPERVISOR_PORT);
+        _parallelism = Utils.getInt(conf.get(Config.SUPERVISOR_CODE_DOWNLOAD_PARALLELISM), DEFAULT_PARALLELISM);
+    }
+
+    /**
+     * Downloads fileName of stormId to localFile, going through partialFile.
+     * Returns false without downloading anything if the code server of Nimbus
+     * cannot be reached, so the caller can fall back to Thrift.
+     */
+    public boolean download(final String stormId, String fileName, List<String> peerHosts,
+                            File partialFile, File localFile) throws IOException {
+        final Info info;
+        Connection nimbus;
+        try {
+            nimbus = new Connection(_nimbus);
+        } catch (IOException e) {
+            LOG.warn("Could not reach the code server of Nimbus at {}, downloading over Thrift", _nimbus, e);
+            return false;
+        }
+        try {
+            info = nimbus.info(stormId, fileName);
+        } finally {
+            nimbus.close();
+        }
+        if (info == null) {
+            throw new IOException("Nimbus does not have " + fileName + " of " + stormId);
+        }
+
+        FileUtils.forceMkdir(partialFile.getParentFile());
+        final RandomAccessFile out = new RandomAccessFile(partialFile, "rw");
+        try {
+            final ConcurrentLinkedQueue<Integer> todo = new ConcurrentLinkedQueue<Integer>(missingChunks(out, info));
+            int reused = info.digests.length - todo.size();
+            if (reused > 0) {
+                LOG.info("Resuming download of {} of {}, {} of {} chunks already there",
+                        fileName, stormId, reused, info.digests.length);
+            }
+            out.setLength(info.length);
+
+            final List<InetSocketAddress> peers = new ArrayList<InetSocketAddress>();
+            for (String host : peerHosts) {
+                peers.add(new InetSocketAddress(host, _peerPort));
+            }
+            Collections.shuffle(peers);
+            if (peers.size() > MAX_PEERS) {
+                peers.subList(MAX_PEERS, peers.size()).clear();
+            }
+            final Set<InetSocketAddress> dropped = Collections.newSetFromMap(new ConcurrentHashMap<InetSocketAddress, Boolean>());
+            final AtomicInteger fromPeers = new AtomicInteger(0);
+            final AtomicReference<IOException> failure = new AtomicReference<IOException>();
+
+            int threads = Math.max(1, Math.min(_parallelism, todo.size()));
+            ExecutorService pool = Executors.newFixedThreadPool(threads);
+            for (int t = 0; t < threads; t++) {
+                final int first = t;
+                pool.submit(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            fetch(stormId, todo, peers, dropped, first, info, out, fromPeers);
+                        } catch (IOException e) {
+                            failure.compareAndSet(null, e);
+                            todo.clear();
+                        }
+                    }
+                });
+            }
+            pool.shutdown();
+            try {
+                pool.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                pool.shutdownNow();
+                throw new IOException("Interrupted downloading " + fileName + " of " + stormId, e);
+            }
+            if (failure.get() != null) {
+                throw failure.get();
+            }
+            LOG.info("Downloaded {} of {}: {} chunks, {} of them from peers",
+                    fileName, stormId, info.digests.length - reused, fromPeers.get());
+        } finally {
+            out.close();
+        }
+        FileUtils.deleteQuietly(localFile);
+        FileUtils.moveFile(partialFile, localFile);
+        return true;
+    }
+
+    /**
+     * The chunks of what is already in the partial file that do not match
+     * their digest.
+     */
+    private static List<Integer> missingChunks(RandomAccessFile out, Info info) throws IOException {
+        List<Integer> ret = new ArrayList<Integer>();
+        long have = out.length();
+        byte[] buf = new byte[CodeServer.CHUNK_SIZE];
+        for (int i = 0; i < info.digests.length; i++) {
+            long start = (long) i * CodeServer.CHUNK_SIZE;
+            int length = info.chunkLength(i);
+            if (start + length <= have) {
+                out.seek(start);
+                out.readFully(buf, 0, length);
+                if (Arrays.equals(CodeServer.digest(buf, 0, length), info.digests[i])) {
+                    continue;
+                }
+            }
+            ret.add(i);
+        }
+        return ret;
+    }
+
+    /**
+     * Takes chunks off todo until there are none left. Each thread starts at a
+     * peer of its own and drops a peer once it cannot be reached, does not have
+     * the code or hands out a bad chunk, ending up at Nimbus when no peers are
+     * left. A dropped peer is dropped for all threads.
+     */
+    private void fetch(String stormId, ConcurrentLinkedQueue<Integer> todo, List<InetSocketAddress> allPeers,
+                       Set<InetSocketAddress> dropped, int first, Info info, RandomAccessFile out,
+                       AtomicInteger fromPeers) throws IOException {
+        List<InetSocketAddress> peers = new ArrayList<InetSocketAddress>(allPeers);
+        if (!peers.isEmpty()) {
+            Collections.rotate(peers, -(first % peers.size()));
+        }
+        int nimbusFailures = 0;
+        Connection conn = null;
+        byte[] buf = new byte[CodeServer.CHUNK_SIZE];
+        try {
+            Integer chunk;
+            while ((chunk = todo.poll()) != null) {
+                if (conn == null) {
+                    peers.removeAll(dropped);
+                }
+                boolean fromNimbus = peers.isEmpty();
+                InetSocketAddress addr = fromNimbus ? _nimbus : peers.get(0);
+                try {
+                    if (conn == null) {
+                        conn = new Connection(addr);
+                    }
+                    int length = info.chunkLength(chunk);
+                    if (conn.chunk(stormId, info.fileName, chunk, buf, length)
+                            && Arrays.equals(CodeServer.digest(buf, 0, length), info.digests[chunk])) {
+                        synchronized (out) {
+                            out.seek((long) chunk * CodeServer.CHUNK_SIZE);
+                            out.write(buf, 0, length);
+                        }
+                        if (!fromNimbus) {
+                            fromPeers.incrementAndGet();
+                        }
+                        continue;
+                    }
+                    if (fromNimbus) {
+                        throw new IOException("Nimbus handed out chunk " + chunk + " of " + info.fileName
+                                + " of " + stormId + " that does not match its digest");
+                    }
+                    LOG.debug("Peer {} does not have chunk {} of {} of {}", addr, chunk, info.fileName, stormId);
+                } catch (IOException e) {
+                    if (fromNimbus && ++nimbusFailures >= MAX_NIMBUS_ATTEMPTS) {
+                        throw e;
+                    }
+                    LOG.debug("Failed to fetch chunk {} of {} of {} from {}", chunk, info.fileName, stormId, addr, e);
+                }
+                todo.add(chunk);
+                if (conn != null) {
+                    conn.close();
+                    conn = null;
+                }
+                if (!fromNimbus) {
+                    dropped.add(peers.remove(0));
+                }
+            }
+        } finally {
+            if (conn != null) {
+                conn.close();
+            }
+        }
+    }
+
+    private static class Info {
+        String fileName;
+        long length;
+        byte[][] digests;
+
+        int chunkLength(int chunk) {
+            return (int) Math.min(CodeServer.CHUNK_SIZE, length - (long) chunk * CodeServer.CHUNK_SIZE);
+        }
+    }
+
+    /**
+     * A blocking connection to a code server, one request at a time.
+     */
+    private static class Connection {
+        private final Socket _socket;
+        private final DataOutputStream _out;
+        private final DataInputStream _in;
+
+        Connection(InetSocketAddress addr) throws IOException {
+            _socket = new Socket();
+            try {
+                _socket.connect(addr, CONNECT_TIMEOUT_MS);
+                _socket.setSoTimeout(READ_TIMEOUT_MS);
+                _socket.setTcpNoDelay(true);
+                _out = new DataOutputStream(new BufferedOutputStream(_socket.getOutputStream()));
+                _in = new DataInputStream(new BufferedInputStream(_socket.getInputStream(), 64 * 1024));
+            } catch (IOException e) {
+                _socket.close();
+                throw e;
+            }
+        }
+
+        /**
+         * Returns null if the server does not have the file.
+         */
+        Info info(String stormId, String fileName) throws IOException {
+            request(CodeServer.INFO, stormId, fileName, -1);
+            int length = _in.readInt();
+            if (_in.readByte() != CodeServer.OK) {
+                skip(length - 1);
+                return null;
+            }
+            Info ret = new Info();
+            ret.fileName = fileName;
+            ret.length = _in.readLong();
+            int chunkSize = _in.readInt();
+            if (chunkSize != CodeServer.CHUNK_SIZE) {
+                throw new IOException("Code server uses chunks of " + chunkSize + " bytes, expected " + CodeServer.CHUNK_SIZE);
+            }
+            ret.digests = new byte[_in.readInt()][];
+            for (int i = 0; i < ret.digests.length; i++) {
+                ret.digests[i] = new byte[32];
+                _in.readFully(ret.digests[i]);
+            }
+            return ret;
+        }
+
+        /**
+         * Reads chunk into buf. Returns false if the server does not have it.
+         */
+        boolean chunk(String stormId, String fileName, int chunk, byte[] buf, int expected) throws IOException {
+            request(CodeServer.CHUNK, stormId, fileName, chunk);
+            int length = _in.readInt() - 1;
+            if (_in.readByte() != CodeServer.OK || length != expected) {
+                skip(length);
+                return false;
+            }
+            _in.readFully(buf, 0, length);
+            return true;
+        }
+
+        private void request(byte type, String stormId, String fileName, int chunk) throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream req = new DataOutputStream(bytes);
+            req.writeByte(type);
+            req.writeUTF(stormId);
+            req.writeUTF(fileName);
+            if (chunk >= 0) {
+                req.writeInt(chunk);
+            }
+            req.close();
+            _out.writeInt(bytes.size());
+            bytes.writeTo(_out);
+            _out.flush();
+        }
+
+        private void skip(int length) throws IOException {
+            _in.skipBytes(length);
+        }
+
+        void close() {
+            try {
+                _socket.close();
+            } catch (IOException e) {
+                // nothing left to do with it
+            }
+        }
+    }
+}
@@ -0,0 +1,314 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package backtype.storm.codedist;
+
+import backtype.storm.messaging.netty.NettyRenameThreadFactory;
+import backtype.storm.security.auth.SimpleTransportPlugin;
+import backtype.storm.security.auth.ThriftConnectionType;
+import org.jboss.netty.bootstrap.ServerBootstrap;
+import org.jboss.netty.buffer.ChannelBuffer;
+import org.jboss.netty.buffer.ChannelBufferInputStream;
+import org.jboss.netty.buffer.ChannelBufferOutputStream;
+import org.jboss.netty.buffer.ChannelBuffers;
+import org.jboss.netty.channel.Channel;
+import org.jboss.netty.channel.ChannelFactory;
+import org.jboss.netty.channel.ChannelFuture;
+import org.jboss.netty.channel.ChannelFutureListener;
+import org.jboss.netty.channel.ChannelHandlerContext;
+import org.jboss.netty.channel.ChannelPipeline;
+import org.jboss.netty.channel.ChannelPipelineFactory;
+import org.jboss.netty.channel.Channels;
+import org.jboss.netty.channel.DefaultFileRegion;
+import org.jboss.netty.channel.ExceptionEvent;
+import org.jboss.netty.channel.MessageEvent;
+import org.jboss.netty.channel.SimpleChannelUpstreamHandler;
+import org.jboss.netty.channel.socket.nio.NioServerSocketChannelFactory;
+import org.jboss.netty.handler.codec.frame.LengthFieldBasedFrameDecoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Serves the code of topologies, a chunk at a time, to supervisors. Nimbus
+ * runs one over its stormdist directory, and every supervisor runs one over
+ * its own so that supervisors which already have the code of a topology can
+ * hand it to their peers.
+ *
+ * Along with the length of a file the server hands out the SHA-256 of each of
+ * its chunks. Downloaders take those from Nimbus only and check every chunk
+ * against them, whichever server it came from.
+ *
+ * The protocol is unauthenticated, so code servers only run when Nimbus uses
+ * the simple transport. Clusters with authentication download over Thrift.
+ */
+public class CodeServer {
+    private static final Logger LOG = LoggerFactory.getLogger(CodeServer.class);
+
+    public static final int DEFAULT_NIMBUS_PORT = 6629;
+    public static final int DEFAULT_SUPERVISOR_PORT = 6630;
+    public static final int CHUNK_SIZE = 1024 * 1024;
+    public static final List<String> FILES = Arrays.asList("stormjar.jar", "stormcode.ser", "stormconf.ser");
+
+    static final byte INFO = 1;
+    static final byte CHUNK = 2;
+
+    static final byte OK = 0;
+    static final byte NOT_FOUND = 1;
+
+    private static final int MAX_REQUEST_LENGTH = 64 * 1024;
+    private static final int DIGEST_THREADS = 2;
+    private static final int MAX_CACHED_INFOS = 1024;
+
+    /**
+     * Where a server keeps the files of a topology.
+     */
+    public static interface Resolver {
+        public File resolve(String stormId, String fileName);
+    }
+
+    private final Resolver _resolver;
+    private final ChannelFactory _factory;
+    private final Channel _serverChannel;
+    // digesting a jar reads all of it, which must not hold up the I/O threads
+    private final ExecutorService _digester;
+    // path -> chunk digests of the file as it was last seen, files that are gone are
+    // dropped whenever another one is digested
+    private final ConcurrentHashMap<String, FileInfo> _infos = new ConcurrentHashMap<String, FileInfo>();
+
+    public CodeServer(int port, Resolver resolver) {
+        _resolver = resolver;
+        _digester = Executors.newFixedThreadPool(DIGEST_THREADS, new NettyRenameThreadFactory("code-server-digest"));
+        _factory = new NioServerSocketChannelFactory(
+                Executors.newCachedThreadPool(new NettyRenameThreadFactory("code-server-boss")),
+                Executors.newCachedThreadPool(new NettyRenameThreadFactory("code-server-worker")));
+        ServerBootstrap bootstrap = new ServerBootstrap(_factory);
+        bootstrap.setOption("child.tcpNoDelay", true);
+        bootstrap.setOption("child.keepAlive", true);
+        bootstrap.setPipelineFactory(new ChannelPipelineFactory() {
+            @Override
+            public ChannelPipeline getPipeline() {
+                return Channels.pipeline(
+                        new LengthFieldBasedFrameDecoder(MAX_REQUEST_LENGTH, 0, 4, 0, 4),
+                        new Handler());
+            }
+        });
+        _serverChannel = bootstrap.bind(new InetSocketAddress(port));
+        LOG.info("Serving topology code on port {}", port);
+    }
+
+    public void close() {
+        _serverChannel.close().awaitUninterruptibly();
+        _factory.releaseExternalResources();
+        _digester.shutdownNow();
+    }
+
+    /**
+     * Code servers are only safe to run when nothing else is authenticated either.
+     */
+    public static boolean isEnabled(Map conf) {
+        try {
+            Class<?> transport = Class.forName(ThriftConnectionType.NIMBUS.getTransportPlugin(conf));
+            return SimpleTransportPlugin.class.isAssignableFrom(transport);
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    static byte[] digest(byte[] buf, int offset, int length) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            md.update(buf, offset, length);
+            return md.digest();
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    static int numChunks(long length) {
+        return (int) ((length + CHUNK_SIZE - 1) / CHUNK_SIZE);
+    }
+
+    private File file(String stormId, String fileName) {
+        if (!FILES.contains(fileName) || stormId.contains("/") || stormId.contains("\\") || stormId.startsWith(".")) {
+            return null;
+        }
+        File file = _resolver.resolve(stormId, fileName);
+        return file != null && file.isFile() ? file : null;
+    }
+
+    private FileInfo info(File file) throws IOException {
+        String path = file.getCanonicalPath();
+        FileInfo info = _infos.get(path);
+        if (info != null && info.matches(file)) {
+            return info;
+        }
+        info = new FileInfo(file);
+        evictInfos();
+        _infos.put(path, info);
+        return info;
+    }
+
+    /**
+     * Drops the digests of files that were deleted along with their topology, and
+     * makes room if the cache is full anyway.
+     */
+    private void evictInfos() {
+        Iterator<String> it = _infos.keySet().iterator();
+        while (it.hasNext()) {
+            if (!new File(it.next()).exists()) {
+                it.remove();
+            }
+        }
+        it = _infos.keySet().iterator();
+        while (_infos.size() >= MAX_CACHED_INFOS && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private void handle(final Channel channel, ChannelBuffer request) throws IOException {
+        DataInputStream in = new DataInputStream(new ChannelBufferInputStream(request));
+        byte type = in.readByte();
+        String stormId = in.readUTF();
+        String fileName = in.readUTF();
+        final File file = file(stormId, fileName);
+        if (file == null) {
+            respond(channel, NOT_FOUND, null, 0);
+            return;
+        }
+        if (type == INFO) {
+            // clients wait for the answer before sending another request, so it can't overtake anything
+            _digester.submit(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        respondInfo(channel, info(file));
+                    } catch (IOException e) {
+                        LOG.warn("Closing code server connection from {}", channel.getRemoteAddress(), e);
+                        channel.close();
+                    }
+                }
+            });
+        } else if (type == CHUNK) {
+            int chunk = in.readInt();
+            long start = (long) chunk * CHUNK_SIZE;
+            final RandomAccessFile raf = new RandomAccessFile(file, "r");
+            long length = Math.min(CHUNK_SIZE, raf.length() - start);
+            if (chunk < 0 || length <= 0) {
+                raf.close();
+                respond(channel, NOT_FOUND, null, 0);
+                return;
+            }
+            respond(channel, OK, null, (int) length);
+            // straight from the page cache to the socket
+            channel.write(new DefaultFileRegion(raf.getChannel(), start, length)).addListener(new ChannelFutureListener() {
+                @Override
+                public void operationComplete(ChannelFuture future) throws Exception {
+                    raf.close();
+                }
+            });
+        } else {
+            throw new IOException("Unknown code server request type " + type);
+        }
+    }
+
+    private static void respondInfo(Channel channel, FileInfo info) throws IOException {
+        ChannelBuffer body = ChannelBuffers.dynamicBuffer(16 + info.digests.length * 32);
+        DataOutputStream out = new DataOutputStream(new ChannelBufferOutputStream(body));
+        out.writeLong(info.length);
+        out.writeInt(CHUNK_SIZE);
+        out.writeInt(info.digests.length);
+        for (byte[] d : info.digests) {
+            out.write(d);
+        }
+        out.close();
+        respond(channel, OK, body, 0);
+    }
+
+    /**
+     * Writes the header of a response: its length, then its status. bodyLength
+     * is for a body that follows separately.
+     */
+    private static void respond(Channel channel, byte status, ChannelBuffer body, int bodyLength) {
+        int length = 1 + (body == null ? bodyLength : body.readableBytes());
+        ChannelBuffer header = ChannelBuffers.buffer(5);
+        header.writeInt(length);
+        header.writeByte(status);
+        channel.write(body == null ? header : ChannelBuffers.wrappedBuffer(header, body));
+    }
+
+    private static class FileInfo {
+        final long length;
+        final long lastModified;
+        final byte[][] digests;
+
+        FileInfo(File file) throws IOException {
+            lastModified = file.lastModified();
+            FileInputStream in = new FileInputStream(file);
+            try {
+                FileChannel channel = in.getChannel();
+                length = channel.size();
+                digests = new byte[numChunks(length)][];
+                ByteBuffer buf = ByteBuffer.allocate(CHUNK_SIZE);
+                for (int i = 0; i < digests.length; i++) {
+                    buf.clear();
+                    while (buf.hasRemaining() && channel.read(buf) >= 0) {
+                    }
+                    digests[i] = digest(buf.array(), 0, buf.position());
+                }
+            } finally {
+                in.close();
+            }
+        }
+
+        boolean matches(File file) {
+            return file.length() == length && file.lastModified() == lastModified;
+        }
+    }
+
+    private class Handler extends SimpleChannelUpstreamHandler {
+        @Override
+        public void messageReceived(ChannelHandlerContext ctx, MessageEvent e) throws Exception {
+            handle(e.getChannel(), (ChannelBuffer) e.getMessage());
+        }
+
+        @Override
+        public void exceptionCaught(ChannelHandlerContext ctx, ExceptionEvent e) {
+            LOG.warn("Closing code server connection from {}", e.getChannel().getRemoteAddress(), e.getCause());
+            e.getChannel().close();
+        }
+    }
+}
@@ -17,6 +17,8 @@
  */
 package backtype.storm.drpc;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -26,6 +28,7 @@ import backtype.storm.generated.AuthorizationException;
 import backtype.storm.security.auth.ThriftClient;
 import backtype.storm.security.auth.ThriftConnectionType;
 import org.apache.thrift.transport.TTransportException;
+import org.apache.thrift.TApplicationException;
 import org.apache.thrift.TException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,6 +39,8 @@ public class DRPCInvocationsClient extends ThriftClient implements DistributedRP
        new AtomicReference<DistributedRPCInvocations.Client>();
     private String host;
     private int port;
+    // cleared once the server turns out not to know fetchRequests
+    private volatile boolean batchFetch = true;
 
     public DRPCInvocationsClient(Map conf, String host, int port) throws TTransportException {
         super(conf, ThriftConnectionType.DRPC_INVOCATIONS, host, port, null);
@@ -93,6 +98,41 @@ public class DRPCInvocationsClient extends ThriftClient implements DistributedRP
         }
     }    
 
+    /**
+     * Fetches up to maxCount requests, waiting up to waitMs on the server if
+     * there are none. Falls back to fetchRequest for servers that predate
+     * fetchRequests.
+     */
+    public List<DRPCRequest> fetchRequests(String func, int maxCount, int waitMs) throws TException, AuthorizationException {
+        if (!batchFetch) {
+            DRPCRequest req = fetchRequest(func);
+            if (req.get_request_id().length() > 0) {
+                return Collections.singletonList(req);
+            }
+            return Collections.emptyList();
+        }
+        DistributedRPCInvocations.Client c = client.get();
+        try {
+            if (c == null) {
+                throw new TException("Client is not connected...");
+            }
+            return c.fetchRequests(func, maxCount, waitMs);
+        } catch(AuthorizationException aze) {
+            throw aze;
+        } catch(TApplicationException e) {
+            if (e.getType() != TApplicationException.UNKNOWN_METHOD) {
+                client.compareAndSet(c, null);
+                throw e;
+            }
+            LOG.info("DRPC server {}:{} does not support fetchRequests, fetching one request at a time", host, port);
+            batchFetch = false;
+            return fetchRequests(func, maxCount, waitMs);
+        } catch(TException e) {
+            client.compareAndSet(c, null);
+            throw e;
+        }
+    }
+
     public void failRequest(String id) throws TException, AuthorizationException {
         DistributedRPCInvocations.Client c = client.get();
         try {
@@ -0,0 +1,271 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package backtype.storm.drpc;
+
+import backtype.storm.generated.DRPCExecutionException;
+import backtype.storm.generated.DRPCRequest;
+import backtype.storm.utils.Time;
+import backtype.storm.utils.TimerWheel;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.thrift.async.AsyncMethodCallback;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The outstanding requests of a DRPC server. A request is in a single table
+ * from the moment it is submitted until it gets a result, fails or times out.
+ * Whoever removes it from the table completes its callback, so a result racing
+ * a timeout is delivered exactly once.
+ *
+ * Requests queue up per function until a DRPCSpout fetches them. A fetch that
+ * finds the queue empty is parked until a request arrives or its wait runs
+ * out. Neither a pending request nor a parked fetch holds on to a thread.
+ *
+ * Request timeouts live on a timing wheel, so a result cancels its timeout in
+ * O(1) and expiring only looks at the requests that are due. A request that
+ * times out while queued stays in the queue and is skipped when fetched.
+ */
+public class DRPCRequestTable {
+    private static final Logger LOG = LoggerFactory.getLogger(DRPCRequestTable.class);
+    private static final int WHEEL_BUCKETS = 512;
+
+    private final ConcurrentHashMap<String, Request> _requests = new ConcurrentHashMap<String, Request>();
+    private final ConcurrentHashMap<String, FunctionQueue> _queues = new ConcurrentHashMap<String, FunctionQueue>();
+    private final AtomicLong _ctr = new AtomicLong(0);
+    private final ScheduledExecutorService _timer;
+    private final long _timeoutMs;
+    private final TimerWheel<Request> _timeouts;
+
+    /**
+     * Requests time out after timeoutMs, checked every tickMs when expire is called.
+     */
+    public DRPCRequestTable(long timeoutMs, long tickMs) {
+        _timeoutMs = timeoutMs;
+        _timeouts = new TimerWheel<Request>(tickMs, WHEEL_BUCKETS, new TimerWheel.ExpiredCallback<Request>() {
+            @Override
+            public void expire(Request req) {
+                timeout(req);
+            }
+        });
+        _timer = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread t = new Thread(r, "drpc-fetch-timer");
+                t.setDaemon(true);
+                return t;
+            }
+        });
+    }
+
+    /**
+     * Queues a request for function. The callback gets the result once a
+     * topology returns it, or a DRPCExecutionException if the request fails or
+     * times out. Returns the id of the request.
+     */
+    public String submit(String function, String args, AsyncMethodCallback<String> callback) {
+        String id = String.valueOf(_ctr.incrementAndGet() % 1000000000);
+        Request req = new Request(function, new DRPCRequest(args, id), callback);
+        // the request has to be outstanding before it can time out, or a short
+        // timeout could expire it before it is there to be removed
+        _requests.put(id, req);
+        req.timeout = _timeouts.schedule(req, _timeoutMs);
+
+        FunctionQueue queue = queue(function);
+        Fetch fetch;
+        synchronized(queue) {
+            fetch = queue.fetches.poll();
+            if(fetch==null) {
+                // timed out requests gather at the head, drop them so an idle
+                // function does not hold on to them
+                while(!queue.requests.isEmpty() && !isOutstanding(queue.requests.peek())) {
+                    queue.requests.poll();
+                }
+                queue.requests.add(req);
+                return id;
+            }
+            fetch.timeout.cancel(false);
+        }
+        fetch.callback.onComplete(Collections.singletonList(req.request));
+        return id;
+    }
+
+    /**
+     * Returns the function of an outstanding request, or null if the request
+     * has already been completed.
+     */
+    public String getFunction(String id) {
+        Request req = _requests.get(id);
+        return req==null ? null : req.function;
+    }
+
+    /**
+     * Hands result to whoever is waiting on request id. Returns false if the
+     * request is not outstanding anymore.
+     */
+    public boolean complete(String id, String result) {
+        Request req = _requests.remove(id);
+        if(req==null) {
+            return false;
+        }
+        req.timeout.cancel();
+        req.callback.onComplete(result);
+        return true;
+    }
+
+    public boolean fail(String id, Exception e) {
+        Request req = _requests.remove(id);
+        if(req==null) {
+            return false;
+        }
+        req.timeout.cancel();
+        req.callback.onError(e);
+        return true;
+    }
+
+    /**
+     * Hands up to maxCount queued requests of function to callback. If there
+     * are none, waits up to waitMs for one to be submitted before completing
+     * the callback with an empty list.
+     */
+    public void fetch(String function, int maxCount, long waitMs, AsyncMethodCallback<List<DRPCRequest>> callback) {
+        final FunctionQueue queue = queue(function);
+        List<DRPCRequest> ret = new ArrayList<DRPCRequest>();
+        synchronized(queue) {
+            while(ret.size() < maxCount && !queue.requests.isEmpty()) {
+                Request req = queue.requests.poll();
+                if(isOutstanding(req)) {
+                    ret.add(req.request);
+                }
+            }
+            if(ret.isEmpty() && waitMs > 0) {
+                final Fetch fetch = new Fetch(callback);
+                queue.fetches.add(fetch);
+                fetch.timeout = _timer.schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        synchronized(queue) {
+                            if(!queue.fetches.remove(fetch)) {
+                                return;
+                            }
+                        }
+                        fetch.callback.onComplete(Collections.<DRPCRequest>emptyList());
+                    }
+                }, waitMs, TimeUnit.MILLISECONDS);
+                return;
+            }
+        }
+        callback.onComplete(ret);
+    }
+
+    /**
+     * Times out every request that has been outstanding for longer than the
+     * timeout. Meant to be called every tick.
+     */
+    public void expire() {
+        _timeouts.advance(Time.currentTimeMillis());
+    }
+
+    public int size() {
+        return _requests.size();
+    }
+
+    /**
+     * Fails every outstanding request and completes every parked fetch.
+     */
+    public void close() {
+        _timer.shutdownNow();
+        for(String id: new ArrayList<String>(_requests.keySet())) {
+            fail(id, new DRPCExecutionException("DRPC server is shutting down"));
+        }
+        for(FunctionQueue queue: _queues.values()) {
+            List<Fetch> fetches;
+            synchronized(queue) {
+                fetches = new ArrayList<Fetch>(queue.fetches);
+                queue.fetches.clear();
+            }
+            for(Fetch fetch: fetches) {
+                fetch.callback.onComplete(Collections.<DRPCRequest>emptyList());
+            }
+        }
+    }
+
+    private void timeout(Request req) {
+        if(_requests.remove(req.request.get_request_id(), req)) {
+            LOG.warn("Timeout DRPC request id: {} start at {}", req.request.get_request_id(), req.startMs);
+            req.callback.onError(new DRPCExecutionException("Request timed out"));
+        }
+    }
+
+    private boolean isOutstanding(Request req) {
+        return _requests.get(req.request.get_request_id())==req;
+    }
+
+    private FunctionQueue queue(String function) {
+        FunctionQueue queue = _queues.get(function);
+        if(queue==null) {
+            FunctionQueue created = new FunctionQueue();
+            queue = _queues.putIfAbsent(function, created);
+            if(queue==null) {
+                queue = created;
+            }
+        }
+        return queue;
+    }
+
+    private static class Request {
+        final String function;
+        final DRPCRequest request;
+        final long startMs;
+        final AsyncMethodCallback<String> callback;
+        TimerWheel<Request>.Timeout timeout;
+
+        Request(String function, DRPCRequest request, AsyncMethodCallback<String> callback) {
+            this.function = function;
+            this.request = request;
+            this.startMs = Time.currentTimeMillis();
+            this.callback = callback;
+        }
+    }
+
+    private static class Fetch {
+        final AsyncMethodCallback<List<DRPCRequest>> callback;
+        ScheduledFuture<?> timeout;
+
+        Fetch(AsyncMethodCallback<List<DRPCRequest>> callback) {
+            this.callback = callback;
+        }
+    }
+
+    // guarded by its own monitor
+    private static class FunctionQueue {
+        final ArrayDeque<Request> requests = new ArrayDeque<Request>();
+        final ArrayDeque<Fetch> fetches = new ArrayDeque<Fetch>();
+    }
+}
@@ -55,6 +55,12 @@ public class DRPCSpout extends BaseRichSpout {
     static final long serialVersionUID = 2387848310969237877L;
 
     public static Logger LOG = LoggerFactory.getLogger(DRPCSpout.class);
+
+    private static final int DEFAULT_FETCH_MAX_REQUESTS = 32;
+    private static final int DEFAULT_FETCH_WAIT_MS = 0;
+    // nextTuple shares the executor thread with acks, fails and tuple timeouts,
+    // so a fetch is never held for long
+    private static final int MAX_FETCH_WAIT_MS = 100;
     
     SpoutOutputCollector _collector;
     List<DRPCInvocationsClient> _clients = new ArrayList<DRPCInvocationsClient>();
@@ -62,6 +68,9 @@ public class DRPCSpout extends BaseRichSpout {
     transient ExecutorService _backround = null;
     String _function;
     String _local_drpc_id = null;
+    transient int _fetchMaxRequests;
+    transient int _fetchWaitMs;
+    transient int _pending;
     
     private static class DRPCMessageId {
         String id;
@@ -132,6 +141,9 @@ public class DRPCSpout extends BaseRichSpout {
     @Override
     public void open(Map conf, TopologyContext context, SpoutOutputCollector collector) {
         _collector = collector;
+        _fetchMaxRequests = Utils.getInt(conf.get(Config.DRPC_SPOUT_FETCH_MAX_REQUESTS), DEFAULT_FETCH_MAX_REQUESTS);
+        _fetchWaitMs = Math.min(Utils.getInt(conf.get(Config.DRPC_SPOUT_FETCH_WAIT_MS), DEFAULT_FETCH_WAIT_MS), MAX_FETCH_WAIT_MS);
+        _pending = 0;
         if(_local_drpc_id==null) {
             _backround = new ExtendedThreadPoolExecutor(0, Integer.MAX_VALUE,
                 60L, TimeUnit.SECONDS,
@@ -168,12 +180,15 @@ public class DRPCSpout extends BaseRichSpout {
 
     @Override
     public void nextTuple() {
-        boolean gotRequest = false;
+        // only long-poll when there is nothing in flight that acks or fails could be waiting on
+        int fetchWaitMs = _pending == 0 ? _fetchWaitMs : 0;
         if(_local_drpc_id==null) {
             int size = 0;
             synchronized (_clients) {
                 size = _clients.size(); //This will only ever grow, so no need to worry about falling off the end
             }
+            boolean gotRequest = false;
+            boolean waited = false;
             for(int i=0; i<size; i++) {
                 DRPCInvocationsClient client;
                 synchronized (_clients) {
@@ -183,15 +198,14 @@ public class DRPCSpout extends BaseRichSpout {
                     continue;
                 }
                 try {
-                    DRPCRequest req = client.fetchRequest(_function);
-                    if(req.get_request_id().length() > 0) {
-                        Map returnInfo = new HashMap();
-                        returnInfo.put("id", req.get_request_id());
-                        returnInfo.put("host", client.getHost());
-                        returnInfo.put("port", client.getPort());
+                    // the fetch wait is shared between the servers, and once there is something
+                    // to emit the remaining servers are only asked for what they already have
+                    int waitMs = gotRequest ? 0 : fetchWaitMs / size;
+                    waited |= waitMs > 0;
+                    List<DRPCRequest> reqs = client.fetchRequests(_function, _fetchMaxRequests, waitMs);
+                    for(DRPCRequest req: reqs) {
+                        emit(req, client.getHost(), client.getPort(), i);
                         gotRequest = true;
-                        _collector.emit(new Values(req.get_func_args(), JSONValue.toJSONString(returnInfo)), new DRPCMessageId(req.get_request_id(), i));
-                        break;
                     }
                 } catch (AuthorizationException aze) {
                     reconnect(client);
@@ -204,37 +218,48 @@ public class DRPCSpout extends BaseRichSpout {
                 }
             }
             checkFutures();
+            if(!gotRequest && !waited) {
+                Utils.sleep(1);
+            }
         } else {
             DistributedRPCInvocations.Iface drpc = (DistributedRPCInvocations.Iface) ServiceRegistry.getService(_local_drpc_id);
             if(drpc!=null) { // can happen during shutdown of drpc while topology is still up
                 try {
-                    DRPCRequest req = drpc.fetchRequest(_function);
-                    if(req.get_request_id().length() > 0) {
-                        Map returnInfo = new HashMap();
-                        returnInfo.put("id", req.get_request_id());
-                        returnInfo.put("host", _local_drpc_id);
-                        returnInfo.put("port", 0);
-                        gotRequest = true;
-                        _collector.emit(new Values(req.get_func_args(), JSONValue.toJSONString(returnInfo)), new DRPCMessageId(req.get_request_id(), 0));
+                    List<DRPCRequest> reqs = drpc.fetchRequests(_function, _fetchMaxRequests, fetchWaitMs);
+                    for(DRPCRequest req: reqs) {
+                        emit(req, _local_drpc_id, 0, 0);
+                    }
+                    if(reqs.isEmpty() && fetchWaitMs <= 0) {
+                        Utils.sleep(1);
                     }
                 } catch (AuthorizationException aze) {
                     throw new RuntimeException(aze);
                 } catch (TException e) {
                     throw new RuntimeException(e);
                 }
+            } else {
+                Utils.sleep(1);
             }
         }
-        if(!gotRequest) {
-            Utils.sleep(1);
-        }
+    }
+
+    private void emit(DRPCRequest req, String host, int port, int index) {
+        Map returnInfo = new HashMap();
+        returnInfo.put("id", req.get_request_id());
+        returnInfo.put("host", host);
+        returnInfo.put("port", port);
+        _collector.emit(new Values(req.get_func_args(), JSONValue.toJSONString(returnInfo)), new DRPCMessageId(req.get_request_id(), index));
+        _pending++;
     }
 
     @Override
     public void ack(Object msgId) {
+        _pending--;
     }
 
     @Override
     public void fail(Object msgId) {
+        _pending--;
         DRPCMessageId did = (DRPCMessageId) msgId;
         DistributedRPCInvocations.Iface client;
         
@@ -51,7 +51,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked"})
-@Generated(value = "Autogenerated by Thrift Compiler (0.9.2)", date = "2015-3-5")
+@Generated(value = "Autogenerated by Thrift Compiler (0.9.2)", date = "2026-10-18")
 public class Assignment implements org.apache.thrift.TBase<Assignment, Assignment._Fields>, java.io.Serializable, Cloneable, Comparable<Assignment> {
   private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("Assignment");
 
@@ -678,15 +678,15 @@ public class Assignment implements org.apache.thrift.TBase<Assignment, Assignmen
           case 2: // NODE_HOST
             if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
               {
-                org.apache.thrift.protocol.TMap _map370 = iprot.readMapBegin();
-                struct.node_host = new HashMap<String,String>(2*_map370.size);
-                String _key371;
-                String _val372;
-                for (int _i373 = 0; _i373 < _map370.size; ++_i373)
+                org.apache.thrift.protocol.TMap _map380 = iprot.readMapBegin();
+                struct.node_host = new HashMap<String,String>(2*_map380.size);
+                String _key381;
+                String _val382;
+                for (int _i383 = 0; _i383 < _map380.size; ++_i383)
                 {
-                  _key371 = iprot.readString();
-                  _val372 = iprot.readString();
-                  struct.node_host.put(_key371, _val372);
+                  _key381 = iprot.readString();
+                  _val382 = iprot.readString();
+                  struct.node_host.put(_key381, _val382);
                 }
                 iprot.readMapEnd();
               }
@@ -698,26 +698,26 @@ public class Assignment implements org.apache.thrift.TBase<Assignment, Assignmen
           case 3: // EXECUTOR_NODE_PORT
             if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
               {
-                org.apache.thrift.protocol.TMap _map374 = iprot.readMapBegin();
-                struct.executor_node_port = new HashMap<List<Long>,NodeInfo>(2*_map374.size);
-                List<Long> _key375;
-                NodeInfo _val376;
-                for (int _i377 = 0; _i377 < _map374.size; ++_i377)
+                org.apache.thrift.protocol.TMap _map384 = iprot.readMapBegin();
+                struct.executor_node_port = new HashMap<List<Long>,NodeInfo>(2*_map384.size);
+                List<Long> _key385;
+                NodeInfo _val386;
+                for (int _i387 = 0; _i387 < _map384.size; ++_i387)
                 {
                   {
-                    org.apache.thrift.protocol.TList _list378 = iprot.readListBegin();
-                    _key375 = new ArrayList<Long>(_list378.size);
-                    long _elem379;
-                    for (int _i380 = 0; _i380 < _list378.size; ++_i380)
+                    org.apache.thrift.protocol.TList _list388 = iprot.readListBegin();
+                    _key385 = new ArrayList<Long>(_list388.size);
+                    long _elem389;
+                    for (int _i390 = 0; _i390 < _list388.size; ++_i390)
                     {
-                      _elem379 = iprot.readI64();
-                      _key375.add(_elem379);
+                      _elem389 = iprot.readI64();
+                      _key385.add(_elem389);
                     }
                     iprot.readListEnd();
                   }
-                  _val376 = new NodeInfo();
-                  _val376.read(iprot);
-                  struct.executor_node_port.put(_key375, _val376);
+                  _val386 = new NodeInfo();
+                  _val386.read(iprot);
+                  struct.executor_node_port.put(_key385, _val386);
                 }
                 iprot.readMapEnd();
               }
@@ -729,25 +729,25 @@ public class Assignment implements org.apache.thrift.TBase<Assignment, Assignmen
           case 4: // EXECUTOR_START_TIME_SECS
             if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
               {
-                org.apache.thrift.protocol.TMap _map381 = iprot.readMapBegin();
-                struct.executor_start_time_secs = new HashMap<List<Long>,Long>(2*_map381.size);
-                List<Long> _key382;
-                long _val383;
-                for (int _i384 = 0; _i384 < _map381.size; ++_i384)
+                org.apache.thrift.protocol.TMap _map391 = iprot.readMapBegin();
+                struct.executor_start_time_secs = new HashMap<List<Long>,Long>(2*_map391.size);
+                List<Long> _key392;
+                long _val393;
+                for (int _i394 = 0; _i394 < _map391.size; ++_i394)
                 {
                   {
-                    org.apache.thrift.protocol.TList _list385 = iprot.readListBegin();
-                    _key382 = new ArrayList<Long>(_list385.size);
-                    long _elem386;
-                    for (int _i387 = 0; _i387 < _list385.size; ++_i387)
+                    org.apache.thrift.protocol.TList _list395 = iprot.readListBegin();
+                    _key392 = new ArrayList<Long>(_list395.size);
+                    long _elem396;
+                    for (int _i397 = 0; _i397 < _list395.size; ++_i397)
                     {
-                      _elem386 = iprot.readI64();
-                      _key382.add(_elem386);
+                      _elem396 = iprot.readI64();
+                      _key392.add(_elem396);
                     }
                     iprot.readListEnd();
                   }
-                  _val383 = iprot.readI64();
-                  struct.executor_start_time_secs.put(_key382, _val383);
+                  _val393 = iprot.readI64();
+                  struct.executor_start_time_secs.put(_key392, _val393);
                 }
                 iprot.readMapEnd();
               }
@@ -779,10 +779,10 @@ public class Assignment implements org.apache.thrift.TBase<Assignment, Assignmen
           oprot.writeFieldBegin(NODE_HOST_FIELD_DESC);
           {
             oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRING, struct.node_host.size()));
-            for (Map.Entry<String, String> _iter388 : struct.node_host.entrySet())
+            for (Map.Entry<String, String> _iter398 : struct.node_host.entrySet())
             {
-              oprot.writeString(_iter388.getKey());
-              oprot.writeString(_iter388.getValue());
+              oprot.writeString(_iter398.getKey());
+              oprot.writeString(_iter398.getValue());
             }
             oprot.writeMapEnd();
           }
@@ -794,17 +794,17 @@ public class Assignment implements org.apache.thrift.TBase<Assignment, Assignmen
           oprot.writeFieldBegin(EXECUTOR_NODE_PORT_FIELD_DESC);
           {
             oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.LIST, org.apache.thrift.protocol.TType.STRUCT, struct.executor_node_port.size()));
-            for (Map.Entry<List<Long>, NodeInfo> _iter389 : struct.executor_node_port.entrySet())
+            for (Map.Entry<List<Long>, NodeInfo> _iter399 : struct.executor_node_port.entrySet())
             {
               {
-                oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, _iter389.getKey().size()));
-                for (long _iter390 : _iter389.getKey())
+                oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, _iter399.getKey().size()));
+                for (long _iter400 : _iter399.getKey())
                 {
-                  oprot.writeI64(_iter390);
+                  oprot.writeI64(_iter400);
                 }
                 oprot.writeListEnd();
               }
-              _iter389.getValue().write(oprot);
+              _iter399.getValue().write(oprot);
             }
             oprot.writeMapEnd();
           }
@@ -816,17 +816,17 @@ public class Assignment implements org.apache.thrift.TBase<Assignment, Assignmen
           oprot.writeFieldBegin(EXECUTOR_START_TIME_SECS_FIELD_DESC);
           {
             oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.LIST, org.apache.thrift.protocol.TType.I64, struct.executor_start_time_secs.size()));
-            for (Map.Entry<List<Long>, Long> _iter391 : struct.executor_start_time_secs.entrySet())
+            for (Map.Entry<List<Long>, Long> _iter401 : struct.executor_start_time_secs.entrySet())
             {
               {
-                oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, _iter391.getKey().size()));
-                for (long _iter392 : _iter391.getKey())
+                oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, _iter401.getKey().size()));
+                for (long _iter402 : _iter401.getKey())
                 {
-                  oprot.writeI64(_iter392);
+                  oprot.writeI64(_iter402);
                 }
                 oprot.writeListEnd();
               }
-              oprot.writeI64(_iter391.getValue());
+              oprot.writeI64(_iter401.getValue());
             }
             oprot.writeMapEnd();
           }
@@ -865,42 +865,42 @@ public class Assignment implements org.apache.thrift.TBase<Assignment, Assignmen
       if (struct.is_set_node_host()) {
         {
           oprot.writeI32(struct.node_host.size());
-          for (Map.Entry<String, String> _iter393 : struct.node_host.entrySet())
+          for (Map.Entry<String, String> _iter403 : struct.node_host.entrySet())
           {
-            oprot.writeString(_iter393.getKey());
-            oprot.writeString(_iter393.getValue());
+            oprot.writeString(_iter403.getKey());
+            oprot.writeString(_iter403.getValue());
           }
         }
       }
       if (struct.is_set_executor_node_port()) {
         {
           oprot.writeI32(struct.executor_node_port.size());
-          for (Map.Entry<List<Long>, NodeInfo> _iter394 : struct.executor_node_port.entrySet())
+          for (Map.Entry<List<Long>, NodeInfo> _iter404 : struct.executor_node_port.entrySet())
           {
             {
-              oprot.writeI32(_iter394.getKey().size());
-              for (long _iter395 : _iter394.getKey())
+              oprot.writeI32(_iter404.getKey().size());
+              for (long _iter405 : _iter404.getKey())
               {
-                oprot.writeI64(_iter395);
+                oprot.writeI64(_iter405);
               }
             }
-            _iter394.getValue().write(oprot);
+            _iter404.getValue().write(oprot);
           }
         }
       }
       if (struct.is_set_executor_start_time_secs()) {
         {
           oprot.writeI32(struct.executor_start_time_secs.size());
-          for (Map.Entry<List<Long>, Long> _iter396 : struct.executor_start_time_secs.entrySet())
+          for (Map.Entry<List<Long>, Long> _iter406 : struct.executor_start_time_secs.entrySet())
           {
             {
-              oprot.writeI32(_iter396.getKey().size());
-              for (long _iter397 : _iter396.getKey())
+              oprot.writeI32(_iter406.getKey().size());
+              for (long _iter407 : _iter406.getKey())
               {
-                oprot.writeI64(_iter397);
+                oprot.writeI64(_iter407);
               }
             }
-            oprot.writeI64(_iter396.getValue());
+            oprot.writeI64(_iter406.getValue());
           }
         }
       }
@@ -914,64 +914,64 @@ public class Assignment implements org.apache.thrift.TBase<Assignment, Assignmen
       BitSet incoming = iprot.readBitSet(3);
       if (incoming.get(0)) {
         {
-          org.apache.thrift.protocol.TMap _map398 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-          struct.node_host = new HashMap<String,String>(2*_map398.size);
-          String _key399;
-          String _val400;
-          for (int _i401 = 0; _i401 < _map398.size; ++_i401)
+          org.apache.thrift.protocol.TMap _map408 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+          struct.node_host = new HashMap<String,String>(2*_map408.size);
+          String _key409;
+          String _val410;
+          for (int _i411 = 0; _i411 < _map408.size; ++_i411)
           {
-            _key399 = iprot.readString();
-            _val400 = iprot.readString();
-            struct.node_host.put(_key399, _val400);
+            _key409 = iprot.readString();
+            _val410 = iprot.readString();
+            struct.node_host.put(_key409, _val410);
           }
         }
         struct.set_node_host_isSet(true);
       }
       if (incoming.get(1)) {
         {
-          org.apache.thrift.protocol.TMap _map402 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.LIST, org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-          struct.executor_node_port = new HashMap<List<Long>,NodeInfo>(2*_map402.size);
-          List<Long> _key403;
-          NodeInfo _val404;
-          for (int _i405 = 0; _i405 < _map402.size; ++_i405)
+          org.apache.thrift.protocol.TMap _map412 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.LIST, org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+          struct.executor_node_port = new HashMap<List<Long>,NodeInfo>(2*_map412.size);
+          List<Long> _key413;
+          NodeInfo _val414;
+          for (int _i415 = 0; _i415 < _map412.size; ++_i415)
           {
             {
-              org.apache.thrift.protocol.TList _list406 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
-              _key403 = new ArrayList<Long>(_list406.size);
-              long _elem407;
-              for (int _i408 = 0; _i408 < _list406.size; ++_i408)
+              org.apache.thrift.protocol.TList _list416 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
+              _key413 = new ArrayList<Long>(_list416.size);
+              long _elem417;
+              for (int _i418 = 0; _i418 < _list416.size; ++_i418)
               {
-                _elem407 = iprot.readI64();
-                _key403.add(_elem407);
+                _elem417 = iprot.readI64();
+                _key413.add(_elem417);
               }
             }
-            _val404 = new NodeInfo();
-            _val404.read(iprot);
-            struct.executor_node_port.put(_key403, _val404);
+            _val414 = new NodeInfo();
+            _val414.read(iprot);
+            struct.executor_node_port.put(_key413, _val414);
           }
         }
         struct.set_executor_node_port_isSet(true);
       }
       if (incoming.get(2)) {
         {
-          org.apache.thrift.protocol.TMap _map409 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.LIST, org.apache.thrift.protocol.TType.I64, iprot.readI32());
-          struct.executor_start_time_secs = new HashMap<List<Long>,Long>(2*_map409.size);
-          List<Long> _key410;
-          long _val411;
-          for (int _i412 = 0; _i412 < _map409.size; ++_i412)
+          org.apache.thrift.protocol.TMap _map419 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.LIST, org.apache.thrift.protocol.TType.I64, iprot.readI32());
+          struct.executor_start_time_secs = new HashMap<List<Long>,Long>(2*_map419.size);
+          List<Long> _key420;
+          long _val421;
+          for (int _i422 = 0; _i422 < _map419.size; ++_i422)
           {
             {
-              org.apache.thrift.protocol.TList _list413 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
-              _key410 = new ArrayList<Long>(_list413.size);
-              long _elem414;
-              for (int _i415 = 0; _i415 < _list413.size; ++_i415)
+              org.apache.thrift.protocol.TList _list423 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
+              _key420 = new ArrayList<Long>(_list423.size);
+              long _elem424;
+              for (int _i425 = 0; _i425 < _list423.size; ++_i425)
               {
-                _elem414 = iprot.readI64();
-                _key410.add(_elem414);
+                _elem424 = iprot.readI64();
+                _key420.add(_elem424);
               }
             }
-            _val411 = iprot.readI64();
-            struct.executor_start_time_secs.put(_key410, _val411);
+            _val421 = iprot.readI64();
+            struct.executor_start_time_secs.put(_key420, _val421);
           }
         }
         struct.set_executor_start_time_secs_isSet(true);
@@ -51,7 +51,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked"})
-@Generated(value = "Autogenerated by Thrift Compiler (0.9.2)", date = "2015-2-6")
+@Generated(value = "Autogenerated by Thrift Compiler (0.9.2)", date = "2026-10-18")
 public class BoltStats implements org.apache.thrift.TBase<BoltStats, BoltStats._Fields>, java.io.Serializable, Cloneable, Comparable<BoltStats> {
   private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("BoltStats");
 
@@ -881,28 +881,28 @@ public class BoltStats implements org.apache.thrift.TBase<BoltStats, BoltStats._
           case 1: // ACKED
             if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
               {
-                org.apache.thrift.protocol.TMap _map90 = iprot.readMapBegin();
-                struct.acked = new HashMap<String,Map<GlobalStreamId,Long>>(2*_map90.size);
-                String _key91;
-                Map<GlobalStreamId,Long> _val92;
-                for (int _i93 = 0; _i93 < _map90.size; ++_i93)
+                org.apache.thrift.protocol.TMap _map100 = iprot.readMapBegin();
+                struct.acked = new HashMap<String,Map<GlobalStreamId,Long>>(2*_map100.size);
+                String _key101;
+                Map<GlobalStreamId,Long> _val102;
+                for (int _i103 = 0; _i103 < _map100.size; ++_i103)
                 {
-                  _key91 = iprot.readString();
+                  _key101 = iprot.readString();
                   {
-                    org.apache.thrift.protocol.TMap _map94 = iprot.readMapBegin();
-                    _val92 = new HashMap<GlobalStreamId,Long>(2*_map94.size);
-                    GlobalStreamId _key95;
-                    long _val96;
-                    for (int _i97 = 0; _i97 < _map94.size; ++_i97)
+                    org.apache.thrift.protocol.TMap _map104 = iprot.readMapBegin();
+                    _val102 = new HashMap<GlobalStreamId,Long>(2*_map104.size);
+                    GlobalStreamId _key105;
+                    long _val106;
+                    for (int _i107 = 0; _i107 < _map104.size; ++_i107)
                     {
-                      _key95 = new GlobalStreamId();
-                      _key95.read(iprot);
-                      _val96 = iprot.readI64();
-                      _val92.put(_key95, _val96);
+                      _key105 = new GlobalStreamId();
+                      _key105.read(iprot);
+                      _val106 = iprot.readI64();
+                      _val102.put(_key105, _val106);
                     }
                     iprot.readMapEnd();
                   }
-                  struct.acked.put(_key91, _val92);
+                  struct.acked.put(_key101, _val102);
                 }
                 iprot.readMapEnd();
               }
@@ -914,28 +914,28 @@ public class BoltStats implements org.apache.thrift.TBase<BoltStats, BoltStats._
           case 2: // FAILED
             if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
               {
-                org.apache.thrift.protocol.TMap _map98 = iprot.readMapBegin();
-                struct.failed = new HashMap<String,Map<GlobalStreamId,Long>>(2*_map98.size);
-                String _key99;
-                Map<GlobalStreamId,Long> _val100;
-                for (int _i101 = 0; _i101 < _map98.size; ++_i101)
+                org.apache.thrift.protocol.TMap _map108 = iprot.readMapBegin();
+                struct.failed = new HashMap<String,Map<GlobalStreamId,Long>>(2*_map108.size);
+                String _key109;
+                Map<GlobalStreamId,Long> _val110;
+                for (int _i111 = 0; _i111 < _map108.size; ++_i111)
                 {
-                  _key99 = iprot.readString();
+                  _key109 = iprot.readString();
                   {
-                    org.apache.thrift.protocol.TMap _map102 = iprot.readMapBegin();
-                    _val100 = new HashMap<GlobalStreamId,Long>(2*_map102.size);
-                    GlobalStreamId _key103;
-                    long _val104;
-                    for (int _i105 = 0; _i105 < _map102.size; ++_i105)
+                    org.apache.thrift.protocol.TMap _map112 = iprot.readMapBegin();
+                    _val110 = new HashMap<GlobalStreamId,Long>(2*_map112.size);
+                    GlobalStreamId _key113;
+                    long _val114;
+                    for (int _i115 = 0; _i115 < _map112.size; ++_i115)
                     {
-                      _key103 = new GlobalStreamId();
-                      _key103.read(iprot);
-                      _val104 = iprot.readI64();
-                      _val100.put(_key103, _val104);
+                      _key113 = new GlobalStreamId();
+                      _key113.read(iprot);
+                      _val114 = iprot.readI64();
+                      _val110.put(_key113, _val114);
                     }
                     iprot.readMapEnd();
                   }
-                  struct.failed.put(_key99, _val100);
+                  struct.failed.put(_key109, _val110);
                 }
                 iprot.readMapEnd();
               }
@@ -947,28 +947,28 @@ public class BoltStats implements org.apache.thrift.TBase<BoltStats, BoltStats._
           case 3: // PROCESS_MS_AVG
             if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
               {
-                org.apache.thrift.protocol.TMap _map106 = iprot.readMapBegin();
-                struct.process_ms_avg = new HashMap<String,Map<GlobalStreamId,Double>>(2*_map106.size);
-                String _key107;
-                Map<GlobalStreamId,Double> _val108;
-                for (int _i109 = 0; _i109 < _map106.size; ++_i109)
+                org.apache.thrift.protocol.TMap _map116 = iprot.readMapBegin();
+                struct.process_ms_avg = new HashMap<String,Map<GlobalStreamId,Double>>(2*_map116.size);
+                String _key117;
+                Map<GlobalStreamId,Double> _val118;
+                for (int _i119 = 0; _i119 < _map116.size; ++_i119)
                 {
-                  _key107 = iprot.readString();
+                  _key117 = iprot.readString();
                   {
-                    org.apache.thrift.protocol.TMap _map110 = iprot.readMapBegin();
-                    _val108 = new HashMap<GlobalStreamId,Double>(2*_map110.size);
-                    GlobalStreamId _key111;
-                    double _val112;
-                    for (int _i113 = 0; _i113 < _map110.size; ++_i113)
+                    org.apache.thrift.protocol.TMap _map120 = iprot.readMapBegin();
+                    _val118 = new HashMap<GlobalStreamId,Double>(2*_map120.size);
+                    GlobalStreamId _key121;
+                    double _val122;
+                    for (int _i123 = 0; _i123 < _map120.size; ++_i123)
                     {
-                      _key111 = new GlobalStreamId();
-                      _key111.read(iprot);
-                      _val112 = iprot.readDouble();
-                      _val108.put(_key111, _val112);
+                      _key121 = new GlobalStreamId();
+                      _key121.read(iprot);
+                      _val122 = iprot.readDouble();
+                      _val118.put(_key121, _val122);
                     }
                     iprot.readMapEnd();
                   }
-                  struct.process_ms_avg.put(_key107, _val108);
+                  struct.process_ms_avg.put(_key117, _val118);
                 }
                 iprot.readMapEnd();
               }
@@ -980,28 +980,28 @@ public class BoltStats implements org.apache.thrift.TBase<BoltStats, BoltStats._
           case 4: // EXECUTED
             if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
               {
-                org.apache.thrift.protocol.TMap _map114 = iprot.readMapBegin();
-                struct.executed = new HashMap<String,Map<GlobalStreamId,Long>>(2*_map114.size);
-                String _key115;
-                Map<GlobalStreamId,Long> _val116;
-                for (int _i117 = 0; _i117 < _map114.size; ++_i117)
+                org.apache.thrift.protocol.TMap _map124 = iprot.readMapBegin();
+                struct.executed = new HashMap<String,Map<GlobalStreamId,Long>>(2*_map124.size);
+                String _key125;
+                Map<GlobalStreamId,Long> _val126;
+                for (int _i127 = 0; _i127 < _map124.size; ++_i127)
                 {
-                  _key115 = iprot.readString();
+                  _key125 = iprot.readString();
                   {
-                    org.apache.thrift.protocol.TMap _map118 = iprot.readMapBegin();
-                    _val116 = new HashMap<GlobalStreamId,Long>(2*_map118.size);
-                    GlobalStreamId _key119;
-                    long _val120;
-                    for (int _i121 = 0; _i121 < _map118.size; ++_i121)
+                    org.apache.thrift.protocol.TMap _map128 = iprot.readMapBegin();
+                    _val126 = new HashMap<GlobalStreamId,Long>(2*_map128.size);
+                    GlobalStreamId _key129;
+                    long _val130;
+                    for (int _i131 = 0; _i131 < _map128.size; ++_i131)
                     {
-                      _key119 = new GlobalStreamId();
-                      _key119.read(iprot);
-                      _val120 = iprot.readI64();
-                      _val116.put(_key119, _val120);
+                      _key129 = new GlobalStreamId();
+                      _key129.read(iprot);
+                      _val130 = iprot.readI64();
+                      _val126.put(_key129, _val130);
                     }
                     iprot.readMapEnd();
                   }
-                  struct.executed.put(_key115, _val116);
+                  struct.executed.put(_key125, _val126);
                 }
                 iprot.readMapEnd();
               }
@@ -1013,28 +1013,28 @@ public class BoltStats implements org.apache.thrift.TBase<BoltStats, BoltStats._
           case 5: // EXECUTE_MS_AVG
             if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
               {
-                org.apache.thrift.protocol.TMap _map122 = iprot.readMapBegin();
-                struct.execute_ms_avg = new HashMap<String,Map<GlobalStreamId,Double>>(2*_map122.size);
-                String _key123;
-                Map<GlobalStreamId,Double> _val124;
-                for (int _i125 = 0; _i125 < _map122.size; ++_i125)
+                org.apache.thrift.protocol.TMap _map132 = iprot.readMapBegin();
+                struct.execute_ms_avg = new HashMap<String,Map<GlobalStreamId,Double>>(2*_map132.size);
+                String _key133;
+                Map<GlobalStreamId,Double> _val134;
+                for (int _i135 = 0; _i135 < _map132.size; ++_i135)
                 {
-                  _key123 = iprot.readString();
+                  _key133 = iprot.readString();
                   {
-                    org.apache.thrift.protocol.TMap _map126 = iprot.readMapBegin();
-                    _val124 = new HashMap<GlobalStreamId,Double>(2*_map126.size);
-                    GlobalStreamId _key127;
-                    double _val128;
-                    for (int _i129 = 0; _i129 < _map126.size; ++_i129)
+                    org.apache.thrift.protocol.TMap _map136 = iprot.readMapBegin();
+                    _val134 = new HashMap<GlobalStreamId,Double>(2*_map136.size);
+                    GlobalStreamId _key137;
+                    double _val138;
+                    for (int _i139 = 0; _i139 < _map136.size; ++_i139)
                     {
-                      _key127 = new GlobalStreamId();
-                      _key127.read(iprot);
-                      _val128 = iprot.readDouble();
-                      _val124.put(_key127, _val128);
+                      _key137 = new GlobalStreamId();
+                      _key137.read(iprot);
+                      _val138 = iprot.readDouble();
+                      _val134.put(_key137, _val138);
                     }
                     iprot.readMapEnd();
                   }
-                  struct.execute_ms_avg.put(_key123, _val124);
+                  struct.execute_ms_avg.put(_key133, _val134);
                 }
                 iprot.readMapEnd();
               }
@@ -1060,15 +1060,15 @@ public class BoltStats implements org.apache.thrift.TBase<BoltStats, BoltStats._
         oprot.writeFieldBegin(ACKED_FIELD_DESC);
         {
           oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.MAP, struct.acked.size()));
-          for (Map.Entry<String, Map<GlobalStreamId,Long>> _iter130 : struct.acked.entrySet())
+          for (Map.Entry<String, Map<GlobalStreamId,Long>> _iter140 : struct.acked.entrySet())
           {
-            oprot.writeString(_iter130.getKey());
+            oprot.writeString(_iter140.getKey());
             {
-              oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRUCT, org.apache.thrift.protocol.TType.I64, _iter130.getValue().size()));
-              for (Map.Entry<GlobalStreamId, Long> _iter131 : _iter130.getValue().entrySet())
+              oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRUCT, org.apache.thrift.protocol.TType.I64, _iter140.getValue().size()));
+              for (Map.Entry<GlobalStreamId, Long> _iter141 : _iter140.getValue().entrySet())
               {
-                _iter131.getKey().write(oprot);
-                oprot.writeI64(_iter131.getValue());
+                _iter141.getKey().write(oprot);
+                oprot.writeI64(_iter141.getValue());
               }
               oprot.writeMapEnd();
             }
@@ -1081,15 +1081,15 @@ public class BoltStats implements org.apache.thrift.TBase<BoltStats, BoltStats._
         oprot.writeFieldBegin(FAILED_FIELD_DESC);
         {
           oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.MAP, struct.failed.size()));
-          for (Map.Entry<String, Map<GlobalStreamId,Long>> _iter132 : struct.failed.entrySet())
+          for (Map.Entry<String, Map<GlobalStreamId,Long>> _iter142 : struct.failed.entrySet())
           {
-            oprot.writeString(_iter132.getKey());
+            oprot.writeString(_iter142.getKey());
             {
-              oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRUCT, org.apache.thrift.protocol.TType.I64, _iter132.getValue().size()));
-              for (Map.Entry<GlobalStreamId, Long> _iter133 : _iter132.getValue().entrySet())
+              oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRUCT, org.apache.thrift.protocol.TType.I64, _iter142.getValue().size()));
+              for (Map.Entry<GlobalStreamId, Long> _iter143 : _iter142.getValue().entrySet())
               {
-                _iter133.getKey().write(oprot);
-                oprot.writeI64(_iter133.getValue());
+                _iter143.getKey().write(oprot);
+                oprot.writeI64(_iter143.getValue());
               }
               oprot.writeMapEnd();
             }
@@ -1102,15 +1102,15 @@ public class BoltStats implements org.apache.thrift.TBase<BoltStats, BoltStats._
         oprot.writeFieldBegin(PROCESS_MS_AVG_FIELD_DESC);
         {
           oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.MAP, struct.process_ms_avg.size()));
-          for (Map.Entry<String, Map<GlobalStreamId,Double>> _iter134 : struct.process_ms_avg.entrySet())
+          for (Map.Entry<String, Map<GlobalStreamId,Double>> _iter144 : struct.process_ms_avg.entrySet())
           {
-            oprot.writeString(_iter134.getKey());
+            oprot.writeString(_iter144.getKey());
             {
-              oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRUCT, org.apache.thrift.protocol.TType.DOUBLE, _iter134.getValue().size()));
-              for (Map.Entry<GlobalStreamId, Double> _iter135 : _iter134.getValue().entrySet())
+              oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRUCT, org.apache.thrift.protocol.TType.DOUBLE, _iter144.getValue().size()));
+              for (Map.Entry<GlobalStreamId, Double> _iter145 : _iter144.getValue().entrySet())
               {
-                _iter135.getKey().write(oprot);
-                oprot.writeDouble(_iter135.getValue());
+                _iter145.getKey().write(oprot);
+                oprot.writeDouble(_iter145.getValue());
               }
               oprot.writeMapEnd();
             }
@@ -1123,15 +1123,15 @@ public class BoltStats implements org.apache.thrift.TBase<BoltStats, BoltStats._
         oprot.writeFieldBegin(EXECUTED_FIELD_DESC);
         {
           oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.MAP, struct.executed.size()));
-          for (Map.Entry<String, Map<GlobalStreamId,Long>> _iter136 : struct.executed.entrySet())
+          for (Map.Entry<String, Map<GlobalStreamId,Long>> _iter146 : struct.executed.entrySet())
           {
-            oprot.writeString(_iter136.getKey());
+            oprot.writeString(_iter146.getKey());
             {
-              oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRUCT, org.apache.thrift.protocol.TType.I64, _iter136.getValue().size()));
-              for (Map.Entry<GlobalStreamId, Long> _iter137 : _iter136.getValue().entrySet())
+              oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRUCT, org.apache.thrift.protocol.TType.I64, _iter146.getValue().size()));
+              for (Map.Entry<GlobalStreamId, Long> _iter147 : _iter146.getValue().entrySet())
               {
-                _iter137.getKey().write(oprot);
-                oprot.writeI64(_iter137.getValue());
+                _iter147.getKey().write(oprot);
+                oprot.writeI64(_iter147.getValue());
               }
               oprot.writeMapEnd();
             }
@@ -1144,15 +1144,15 @@ public class BoltStats implements org.apache.thrift.TBase<BoltStats, BoltStats._
         oprot.writeFieldBegin(EXECUTE_MS_AVG_FIELD_DESC);
         {
           oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.MAP, struct.execute_ms_avg.size()));
-          for (Map.Entry<String, Map<GlobalStreamId,Double>> _iter138 : struct.execute_ms_avg.entrySet())
+          for (Map.Entry<String, Map<GlobalStreamId,Double>> _iter148 : struct.execute_ms_avg.entrySet())
           {
-            oprot.writeString(_iter138.getKey());
+            oprot.writeString(_iter148.getKey());
             {
-              oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRUCT, org.apache.thrift.protocol.TType.DOUBLE, _iter138.getValue().size()));
-              for (Map.Entry<GlobalStreamId, Double> _iter139 : _iter138.getValue().entrySet())
+              oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRUCT, org.apache.thrift.protocol.TType.DOUBLE, _iter148.getValue().size()));
+              for (Map.Entry<GlobalStreamId, Double> _iter149 : _iter148.getValue().entrySet())
               {
-                _iter139.getKey().write(oprot);
-                oprot.writeDouble(_iter139.getValue());
+                _iter149.getKey().write(oprot);
+                oprot.writeDouble(_iter149.getValue());
               }
               oprot.writeMapEnd();
             }
@@ -1180,75 +1180,75 @@ public class BoltStats implements org.apache.thrift.TBase<BoltStats, BoltStats._
       TTupleProtocol oprot = (TTupleProtocol) prot;
       {
         oprot.writeI32(struct.acked.size());
-        for (Map.Entry<String, Map<GlobalStreamId,Long>> _iter140 : struct.acked.entrySet())
+        for (Map.Entry<String, Map<GlobalStreamId,Long>> _iter150 : struct.acked.entrySet())
         {
-          oprot.writeString(_iter140.getKey());
+          oprot.writeString(_iter150.getKey());
           {
-            oprot.writeI32(_iter140.getValue().size());
-            for (Map.Entry<GlobalStreamId, Long> _iter141 : _iter140.getValue().entrySet())
+            oprot.writeI32(_iter150.getValue().size());
+            for (Map.Entry<GlobalStreamId, Long> _iter151 : _iter150.getValue().entrySet())
             {
-              _iter141.getKey().write(oprot);
-              oprot.writeI64(_iter141.getValue());
+              _iter151.getKey().write(oprot);
+              oprot.writeI64(_iter151.getValue());
             }
           }
         }
       }
       {
         oprot.writeI32(struct.failed.size());
-        for (Map.Entry<String, Map<GlobalStreamId,Long>> _iter142 : struct.failed.entrySet())
+        for (Map.Entry<String, Map<GlobalStreamId,Long>> _iter152 : struct.failed.entrySet())
         {
-          oprot.writeString(_iter142.getKey());
+          oprot.writeString(_iter152.getKey());
           {
-            oprot.writeI32(_iter142.getValue().size());
-            for (Map.Entry<GlobalStreamId, Long> _iter143 : _iter142.getValue().entrySet())
+            oprot.writeI32(_iter152.getValue().size());
+            for (Map.Entry<GlobalStreamId, Long> _iter153 : _iter152.getValue().entrySet())
             {
-              _iter143.getKey().write(oprot);
-              oprot.writeI64(_iter143.getValue());
+              _iter153.getKey().write(oprot);
+              oprot.writeI64(_iter153.getValue());
             }
           }
         }
       }
       {
         oprot.writeI32(struct.process_ms_avg.size());
-        for (Map.Entry<String, Map<GlobalStreamId,Double>> _iter144 : struct.process_ms_avg.entrySet())
+        for (Map.Entry<String, Map<GlobalStreamId,Double>> _iter154 : struct.process_ms_avg.entrySet())
         {
-          oprot.writeString(_iter144.getKey());
+          oprot.writeString(_iter154.getKey());
           {
-            oprot.writeI32(_iter144.getValue().size());
-            for (Map.Entry<GlobalStreamId, Double> _iter145 : _iter144.getValue().entrySet())
+            oprot.writeI32(_iter154.getValue().size());
+            for (Map.Entry<GlobalStreamId, Double> _iter155 : _iter154.getValue().entrySet())
             {
-              _iter145.getKey().write(oprot);
-              oprot.writeDouble(_iter145.getValue());
+              _iter155.getKey().write(oprot);
+              oprot.writeDouble(_iter155.getValue());
             }
           }
         }
       }
       {
         oprot.writeI32(struct.executed.size());
-        for (Map.Entry<String, Map<GlobalStreamId,Long>> _iter146 : struct.executed.entrySet())
+        for (Map.Entry<String, Map<GlobalStreamId,Long>> _iter156 : struct.executed.entrySet())
         {
-          oprot.writeString(_iter146.getKey());
+          oprot.writeString(_iter156.getKey());
           {
-            oprot.writeI32(_iter146.getValue().size());
-            for (Map.Entry<GlobalStreamId, Long> _iter147 : _iter146.getValue().entrySet())
+            oprot.writeI32(_iter156.getValue().size());
+            for (Map.Entry<GlobalStreamId, Long> _iter157 : _iter156.getValue().entrySet())
             {
-              _iter147.getKey().write(oprot);
-              oprot.writeI64(_iter147.getValue());
+              _iter157.getKey().write(oprot);
+              oprot.writeI64(_iter157.getValue());
             }
           }
         }
       }
       {
         oprot.writeI32(struct.execute_ms_avg.size());
-        for (Map.Entry<String, Map<GlobalStreamId,Double>> _iter148 : struct.execute_ms_avg.entrySet())
+        for (Map.Entry<String, Map<GlobalStreamId,Double>> _iter158 : struct.execute_ms_avg.entrySet())
         {
-          oprot.writeString(_iter148.getKey());
+          oprot.writeString(_iter158.getKey());
           {
-            oprot.writeI32(_iter148.getValue().size());
-            for (Map.Entry<GlobalStreamId, Double> _iter149 : _iter148.getValue().entrySet())
+            oprot.writeI32(_iter158.getValue().size());
+            for (Map.Entry<GlobalStreamId, Double> _iter159 : _iter158.getValue().entrySet())
             {
-              _iter149.getKey().write(oprot);
-              oprot.writeDouble(_iter149.getValue());
+              _iter159.getKey().write(oprot);
+              oprot.writeDouble(_iter159.getValue());
             }
           }
         }
@@ -1259,127 +1259,127 @@ public class BoltStats implements org.apache.thrift.TBase<BoltStats, BoltStats._
     public void read(org.apache.thrift.protocol.TProtocol prot, BoltStats struct) throws org.apache.thrift.TException {
       TTupleProtocol iprot = (TTupleProtocol) prot;
       {
-        org.apache.thrift.protocol.TMap _map150 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.MAP, iprot.readI32());
-        struct.acked = new HashMap<String,Map<GlobalStreamId,Long>>(2*_map150.size);
-        String _key151;
-        Map<GlobalStreamId,Long> _val152;
-        for (int _i153 = 0; _i153 < _map150.size; ++_i153)
+        org.apache.thrift.protocol.TMap _map160 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.MAP, iprot.readI32());
+        struct.acked = new HashMap<String,Map<GlobalStreamId,Long>>(2*_map160.size);
+        String _key161;
+        Map<GlobalStreamId,Long> _val162;
+        for (int _i163 = 0; _i163 < _map160.size; ++_i163)
         {
-          _key151 = iprot.readString();
+          _key161 = iprot.readString();
           {
-            org.apache.thrift.protocol.TMap _map154 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRUCT, org.apache.thrift.protocol.TType.I64, iprot.readI32());
-            _val152 = new HashMap<GlobalStreamId,Long>(2*_map154.size);
-            GlobalStreamId _key155;
-            long _val156;
-            for (int _i157 = 0; _i157 < _map154.size; ++_i157)
+            org.apache.thrift.protocol.TMap _map164 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRUCT, org.apache.thrift.protocol.TType.I64, iprot.readI32());
+            _val162 = new HashMap<GlobalStreamId,Long>(2*_map164.size);
+            GlobalStreamId _key165;
+            long _val166;
+            for (int _i167 = 0; _i167 < _map164.size; ++_i167)
             {
-              _key155 = new GlobalStreamId();
-              _key155.read(iprot);
-              _val156 = iprot.readI64();
-              _val152.put(_key155, _val156);
+              _key165 = new GlobalStreamId();
+              _key165.read(iprot);
+              _val166 = iprot.readI64();
+              _val162.put(_key165, _val166);
             }
           }
-          struct.acked.put(_key151, _val152);
+          struct.acked.put(_key161, _val162);
         }
       }
       struct.set_acked_isSet(true);
       {
-        org.apache.thrift.protocol.TMap _map158 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.MAP, iprot.readI32());
-        struct.failed = new HashMap<String,Map<GlobalStreamId,Long>>(2*_map158.size);
-        String _key159;
-        Map<GlobalStreamId,Long> _val160;
-        for (int _i161 = 0; _i161 < _map158.size; ++_i161)
+        org.apache.thrift.protocol.TMap _map168 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.MAP, iprot.readI32());
+        struct.failed = new HashMap<String,Map<GlobalStreamId,Long>>(2*_map168.size);
+        String _key169;
+        Map<GlobalStreamId,Long> _val170;
+        for (int _i171 = 0; _i171 < _map168.size; ++_i171)
         {
-          _key159 = iprot.readString();
+          _key169 = iprot.readString();
           {
-            org.apache.thrift.protocol.TMap _map162 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRUCT, org.apache.thrift.protocol.TType.I64, iprot.readI32());
-            _val160 = new HashMap<GlobalStreamId,Long>(2*_map162.size);
-            GlobalStreamId _key163;
-            long _val164;
-            for (int _i165 = 0; _i165 < _map162.size; ++_i165)
+            org.apache.thrift.protocol.TMap _map172 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRUCT, org.apache.thrift.protocol.TType.I64, iprot.readI32());
+            _val170 = new HashMap<GlobalStreamId,Long>(2*_map172.size);
+            GlobalStreamId _key173;
+            long _val174;
+            for (int _i175 = 0; _i175 < _map172.size; ++_i175)
             {
-              _key163 = new GlobalStreamId();
-              _key163.read(iprot);
-              _val164 = iprot.readI64();
-              _val160.put(_key163, _val164);
+              _key173 = new GlobalStreamId();
+              _key173.read(iprot);
+              _val174 = iprot.readI64();
+              _val170.put(_key173, _val174);
             }
           }
-          struct.failed.put(_key159, _val160);
+          struct.failed.put(_key169, _val170);
         }
       }
       struct.set_failed_isSet(true);
       {
-        org.apache.thrift.protocol.TMap _map166 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.MAP, iprot.readI32());
-        struct.process_ms_avg = new HashMap<String,Map<GlobalStreamId,Double>>(2*_map166.size);
-        String _key167;
-        Map<GlobalStreamId,Double> _val168;
-        for (int _i169 = 0; _i169 < _map166.size; ++_i169)
+        org.apache.thrift.protocol.TMap _map176 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.MAP, iprot.readI32());
+        struct.process_ms_avg = new HashMap<String,Map<GlobalStreamId,Double>>(2*_map176.size);
+        String _key177;
+        Map<GlobalStreamId,Double> _val178;
+        for (int _i179 = 0; _i179 < _map176.size; ++_i179)
         {
-          _key167 = iprot.readString();
+          _key177 = iprot.readString();
           {
-            org.apache.thrift.protocol.TMap _map170 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRUCT, org.apache.thrift.protocol.TType.DOUBLE, iprot.readI32());
-            _val168 = new HashMap<GlobalStreamId,Double>(2*_map170.size);
-            GlobalStreamId _key171;
-            double _val172;
-            for (int _i173 = 0; _i173 < _map170.size; ++_i173)
+            org.apache.thrift.protocol.TMap _map180 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRUCT, org.apache.thrift.protocol.TType.DOUBLE, iprot.readI32());
+            _val178 = new HashMap<GlobalStreamId,Double>(2*_map180.size);
+            GlobalStreamId _key181;
+            double _val182;
+            for (int _i183 = 0; _i183 < _map180.size; ++_i183)
             {
-              _key171 = new GlobalStreamId();
-              _key171.read(iprot);
-              _val172 = iprot.readDouble();
-              _val168.put(_key171, _val172);
+              _key181 = new GlobalStreamId();
+              _key181.read(iprot);
+              _val182 = iprot.readDouble();
+              _val178.put(_key181, _val182);
             }
           }
-          struct.process_ms_avg.put(_key167, _val168);
+          struct.process_ms_avg.put(_key177, _val178);
         }
       }
       struct.set_process_ms_avg_isSet(true);
       {
-        org.apache.thrift.protocol.TMap _map174 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.MAP, iprot.readI32());
-        struct.executed = new HashMap<String,Map<GlobalStreamId,Long>>(2*_map174.size);
-        String _key175;
-        Map<GlobalStreamId,Long> _val176;
-        for (int _i177 = 0; _i177 < _map174.size; ++_i177)
+        org.apache.thrift.protocol.TMap _map184 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.MAP, iprot.readI32());
+        struct.executed = new HashMap<String,Map<GlobalStreamId,Long>>(2*_map184.size);
+        String _key185;
+        Map<GlobalStreamId,Long> _val186;
+        for (int _i187 = 0; _i187 < _map184.size; ++_i187)
         {
-          _key175 = iprot.readString();
+          _key185 = iprot.readString();
           {
-            org.apache.thrift.protocol.TMap _map178 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRUCT, org.apache.thrift.protocol.TType.I64, iprot.readI32());
-            _val176 = new HashMap<GlobalStreamId,Long>(2*_map178.size);
-            GlobalStreamId _key179;
-            long _val180;
-            for (int _i181 = 0; _i181 < _map178.size; ++_i181)
+            org.apache.thrift.protocol.TMap _map188 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRUCT, org.apache.thrift.protocol.TType.I64, iprot.readI32());
+            _val186 = new HashMap<GlobalStreamId,Long>(2*_map188.size);
+            GlobalStreamId _key189;
+            long _val190;
+            for (int _i191 = 0; _i191 < _map188.size; ++_i191)
             {
-              _key179 = new GlobalStreamId();
-              _key179.read(iprot);
-              _val180 = iprot.readI64();
-              _val176.put(_key179, _val180);
+              _key189 = new GlobalStreamId();
+              _key189.read(iprot);
+              _val190 = iprot.readI64();
+              _val186.put(_key189, _val190);
             }
           }
-          struct.executed.put(_key175, _val176);
+          struct.executed.put(_key185, _val186);
         }
       }
       struct.set_executed_isSet(true);
       {
-        org.apache.thrift.protocol.TMap _map182 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.MAP, iprot.readI32());
-        struct.execute_ms_avg = new HashMap<String,Map<GlobalStreamId,Double>>(2*_map182.size);
-        String _key183;
-        Map<GlobalStreamId,Double> _val184;
-        for (int _i185 = 0; _i185 < _map182.size; ++_i185)
+        org.apache.thrift.protocol.TMap _map192 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.MAP, iprot.readI32());
+        struct.execute_ms_avg = new HashMap<String,Map<GlobalStreamId,Double>>(2*_map192.size);
+        String _key193;
+        Map<GlobalStreamId,Double> _val194;
+        for (int _i195 = 0; _i195 < _map192.size; ++_i195)
         {
-          _key183 = iprot.readString();
+          _key193 = iprot.readString();
           {
-            org.apache.thrift.protocol.TMap _map186 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRUCT, org.apache.thrift.protocol.TType.DOUBLE, iprot.readI32());
-            _val184 = new HashMap<GlobalStreamId,Double>(2*_map186.size);
-            GlobalStreamId _key187;
-            double _val188;
-            for (int _i189 = 0; _i189 < _map186.size; ++_i189)
+            org.apache.thrift.protocol.TMap _map196 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRUCT, org.apache.thrift.protocol.TType.DOUBLE, iprot.readI32());
+            _val194 = new HashMap<GlobalStreamId,Double>(2*_map196.size);
+            GlobalStreamId _key197;
+            double _val198;
+            for (int _i199 = 0; _i199 < _map196.size; ++_i199)
             {
-              _key187 = new GlobalStreamId();
-              _key187.read(iprot);
-              _val188 = iprot.readDouble();
-              _val184.put(_key187, _val188);
+              _key197 = new GlobalStreamId();
+              _key197.read(iprot);
+              _val198 = iprot.readDouble();
+              _val194.put(_key197, _val198);
             }
           }
-          struct.execute_ms_avg.put(_key183, _val184);
+          struct.execute_ms_avg.put(_key193, _val194);
         }
       }
       struct.set_execute_ms_avg_isSet(true);
@@ -51,13 +51,16 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked"})
-@Generated(value = "Autogenerated by Thrift Compiler (0.9.2)", date = "2015-2-6")
+@Generated(value = "Autogenerated by Thrift Compiler (0.9.2)", date = "2026-10-18")
 public class ClusterSummary implements org.apache.thrift.TBase<ClusterSummary, ClusterSummary._Fields>, java.io.Serializable, Cloneable, Comparable<ClusterSummary> {
   private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("ClusterSummary");
 
   private static final org.apache.thrift.protocol.TField SUPERVISORS_FIELD_DESC = new org.apache.thrift.protocol.TField("supervisors", org.apache.thrift.protocol.TType.LIST, (short)1);
   private static final org.apache.thrift.protocol.TField NIMBUS_UPTIME_SECS_FIELD_DESC = new org.apache.thrift.protocol.TField("nimbus_uptime_secs", org.apache.thrift.protocol.TType.I32, (short)2);
   private static final org.apache.thrift.protocol.TField TOPOLOGIES_FIELD_DESC = new org.apache.thrift.protocol.TField("topologies", org.apache.thrift.protocol.TType.LIST, (short)3);
+  private static final org.apache.thrift.protocol.TField SCHEDULING_PHASE_MS_FIELD_DESC = new org.apache.thrift.protocol.TField("scheduling_phase_ms", org.apache.thrift.protocol.TType.MAP, (short)4);
+  private static final org.apache.thrift.protocol.TField FULL_SCHEDULING_ROUNDS_FIELD_DESC = new org.apache.thrift.protocol.TField("full_scheduling_rounds", org.apache.thrift.protocol.TType.I64, (short)5);
+  private static final org.apache.thrift.protocol.TField SKIPPED_SCHEDULING_ROUNDS_FIELD_DESC = new org.apache.thrift.protocol.TField("skipped_scheduling_rounds", org.apache.thrift.protocol.TType.I64, (short)6);
 
   private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
   static {
@@ -68,12 +71,18 @@ public class ClusterSummary implements org.apache.thrift.TBase<ClusterSummary, C
   private List<SupervisorSummary> supervisors; // required
   private int nimbus_uptime_secs; // required
   private List<TopologySummary> topologies; // required
+  private Map<String,Long> scheduling_phase_ms; // optional
+  private long full_scheduling_rounds; // optional
+  private long skipped_scheduling_rounds; // optional
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
     SUPERVISORS((short)1, "supervisors"),
     NIMBUS_UPTIME_SECS((short)2, "nimbus_uptime_secs"),
-    TOPOLOGIES((short)3, "topologies");
+    TOPOLOGIES((short)3, "topologies"),
+    SCHEDULING_PHASE_MS((short)4, "scheduling_phase_ms"),
+    FULL_SCHEDULING_ROUNDS((short)5, "full_scheduling_rounds"),
+    SKIPPED_SCHEDULING_ROUNDS((short)6, "skipped_scheduling_rounds");
 
     private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -94,6 +103,12 @@ public class ClusterSummary implements org.apache.thrift.TBase<ClusterSummary, C
           return NIMBUS_UPTIME_SECS;
         case 3: // TOPOLOGIES
           return TOPOLOGIES;
+        case 4: // SCHEDULING_PHASE_MS
+          return SCHEDULING_PHASE_MS;
+        case 5: // FULL_SCHEDULING_ROUNDS
+          return FULL_SCHEDULING_ROUNDS;
+        case 6: // SKIPPED_SCHEDULING_ROUNDS
+          return SKIPPED_SCHEDULING_ROUNDS;
         default:
           return null;
       }
@@ -135,7 +150,10 @@ public class ClusterSummary implements org.apache.thrift.TBase<ClusterSummary, C
 
   // isset id assignments
   private static final int __NIMBUS_UPTIME_SECS_ISSET_ID = 0;
+  private static final int __FULL_SCHEDULING_ROUNDS_ISSET_ID = 1;
+  private static final int __SKIPPED_SCHEDULING_ROUNDS_ISSET_ID = 2;
   private byte __isset_bitfield = 0;
+  private static final _Fields optionals[] = {_Fields.SCHEDULING_PHASE_MS,_Fields.FULL_SCHEDULING_ROUNDS,_Fields.SKIPPED_SCHEDULING_ROUNDS};
   public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
   static {
     Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
@@ -147,6 +165,14 @@ public class ClusterSummary implements org.apache.thrift.TBase<ClusterSummary, C
     tmpMap.put(_Fields.TOPOLOGIES, new org.apache.thrift.meta_data.FieldMetaData("topologies", org.apache.thrift.TFieldRequirementType.REQUIRED, 
         new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
             new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TopologySummary.class))));
+    tmpMap.put(_Fields.SCHEDULING_PHASE_MS, new org.apache.thrift.meta_data.FieldMetaData("scheduling_phase_ms", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.MapMetaData(org.apache.thrift.protocol.TType.MAP, 
+            new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING), 
+            new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64))));
+    tmpMap.put(_Fields.FULL_SCHEDULING_ROUNDS, new org.apache.thrift.meta_data.FieldMetaData("full_scheduling_rounds", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+    tmpMap.put(_Fields.SKIPPED_SCHEDULING_ROUNDS, new org.apache.thrift.meta_data.FieldMetaData("skipped_scheduling_rounds", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
     metaDataMap = Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(ClusterSummary.class, metaDataMap);
   }
@@ -186,6 +212,12 @@ public class ClusterSummary implements org.apache.thrift.TBase<ClusterSummary, C
       }
       this.topologies = __this__topologies;
     }
+    if (other.is_set_scheduling_phase_ms()) {
+      Map<String,Long> __this__scheduling_phase_ms = new HashMap<String,Long>(other.scheduling_phase_ms);
+      this.scheduling_phase_ms = __this__scheduling_phase_ms;
+    }
+    this.full_scheduling_rounds = other.full_scheduling_rounds;
+    this.skipped_scheduling_rounds = other.skipped_scheduling_rounds;
   }
 
   public ClusterSummary deepCopy() {
@@ -198,6 +230,11 @@ public class ClusterSummary implements org.apache.thrift.TBase<ClusterSummary, C
     set_nimbus_uptime_secs_isSet(false);
     this.nimbus_uptime_secs = 0;
     this.topologies = null;
+    this.scheduling_phase_ms = null;
+    set_full_scheduling_rounds_isSet(false);
+    this.full_scheduling_rounds = 0;
+    set_skipped_scheduling_rounds_isSet(false);
+    this.skipped_scheduling_rounds = 0;
   }
 
   public int get_supervisors_size() {
@@ -298,6 +335,84 @@ public class ClusterSummary implements org.apache.thrift.TBase<ClusterSummary, C
     }
   }
 
+  public int get_scheduling_phase_ms_size() {
+    return (this.scheduling_phase_ms == null) ? 0 : this.scheduling_phase_ms.size();
+  }
+
+  public void put_to_scheduling_phase_ms(String key, long val) {
+    if (this.scheduling_phase_ms == null) {
+      this.scheduling_phase_ms = new HashMap<String,Long>();
+    }
+    this.scheduling_phase_ms.put(key, val);
+  }
+
+  public Map<String,Long> get_scheduling_phase_ms() {
+    return this.scheduling_phase_ms;
+  }
+
+  public void set_scheduling_phase_ms(Map<String,Long> scheduling_phase_ms) {
+    this.scheduling_phase_ms = scheduling_phase_ms;
+  }
+
+  public void unset_scheduling_phase_ms() {
+    this.scheduling_phase_ms = null;
+  }
+
+  /** Returns true if field scheduling_phase_ms is set (has been assigned a value) and false otherwise */
+  public boolean is_set_scheduling_phase_ms() {
+    return this.scheduling_phase_ms != null;
+  }
+
+  public void set_scheduling_phase_ms_isSet(boolean value) {
+    if (!value) {
+      this.scheduling_phase_ms = null;
+    }
+  }
+
+  public long get_full_scheduling_rounds() {
+    return this.full_scheduling_rounds;
+  }
+
+  public void set_full_scheduling_rounds(long full_scheduling_rounds) {
+    this.full_scheduling_rounds = full_scheduling_rounds;
+    set_full_scheduling_rounds_isSet(true);
+  }
+
+  public void unset_full_scheduling_rounds() {
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __FULL_SCHEDULING_ROUNDS_ISSET_ID);
+  }
+
+  /** Returns true if field full_scheduling_rounds is set (has been assigned a value) and false otherwise */
+  public boolean is_set_full_scheduling_rounds() {
+    return EncodingUtils.testBit(__isset_bitfield, __FULL_SCHEDULING_ROUNDS_ISSET_ID);
+  }
+
+  public void set_full_scheduling_rounds_isSet(boolean value) {
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FULL_SCHEDULING_ROUNDS_ISSET_ID, value);
+  }
+
+  public long get_skipped_scheduling_rounds() {
+    return this.skipped_scheduling_rounds;
+  }
+
+  public void set_skipped_scheduling_rounds(long skipped_scheduling_rounds) {
+    this.skipped_scheduling_rounds = skipped_scheduling_rounds;
+    set_skipped_scheduling_rounds_isSet(true);
+  }
+
+  public void unset_skipped_scheduling_rounds() {
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SKIPPED_SCHEDULING_ROUNDS_ISSET_ID);
+  }
+
+  /** Returns true if field skipped_scheduling_rounds is set (has been assigned a value) and false otherwise */
+  public boolean is_set_skipped_scheduling_rounds() {
+    return EncodingUtils.testBit(__isset_bitfield, __SKIPPED_SCHEDULING_ROUNDS_ISSET_ID);
+  }
+
+  public void set_skipped_scheduling_rounds_isSet(boolean value) {
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SKIPPED_SCHEDULING_ROUNDS_ISSET_ID, value);
+  }
+
   public void setFieldValue(_Fields field, Object value) {
     switch (field) {
     case SUPERVISORS:
@@ -324,6 +439,30 @@ public class ClusterSummary implements org.apache.thrift.TBase<ClusterSummary, C
       }
       break;
 
+    case SCHEDULING_PHASE_MS:
+      if (value == null) {
+        unset_scheduling_phase_ms();
+      } else {
+        set_scheduling_phase_ms((Map<String,Long>)value);
+      }
+      break;
+
+    case FULL_SCHEDULING_ROUNDS:
+      if (value == null) {
+        unset_full_scheduling_rounds();
+      } else {
+        set_full_scheduling_rounds((Long)value);
+      }
+      break;
+
+    case SKIPPED_SCHEDULING_ROUNDS:
+      if (value == null) {
+        unset_skipped_scheduling_rounds();
+      } else {
+        set_skipped_scheduling_rounds((Long)value);
+      }
+      break;
+
     }
   }
 
@@ -338,6 +477,15 @@ public class ClusterSummary implements org.apache.thrift.TBase<ClusterSummary, C
     case TOPOLOGIES:
       return get_topologies();
 
+    case SCHEDULING_PHASE_MS:
+      return get_scheduling_phase_ms();
+
+    case FULL_SCHEDULING_ROUNDS:
+      return Long.valueOf(get_full_scheduling_rounds());
+
+    case SKIPPED_SCHEDULING_ROUNDS:
+      return Long.valueOf(get_skipped_scheduling_rounds());
+
     }
     throw new IllegalStateException();
   }
@@ -355,6 +503,12 @@ public class ClusterSummary implements org.apache.thrift.TBase<ClusterSummary, C
       return is_set_nimbus_uptime_secs();
     case TOPOLOGIES:
       return is_set_topologies();
+    case SCHEDULING_PHASE_MS:
+      return is_set_scheduling_phase_ms();
+    case FULL_SCHEDULING_ROUNDS:
+      return is_set_full_scheduling_rounds();
+    case SKIPPED_SCHEDULING_ROUNDS:
+      return is_set_skipped_scheduling_rounds();
     }
     throw new IllegalStateException();
   }
@@ -399,6 +553,33 @@ public class ClusterSummary implements org.apache.thrift.TBase<ClusterSummary, C
         return false;
     }
 
+    boolean this_present_scheduling_phase_ms = true && this.is_set_scheduling_phase_ms();
+    boolean that_present_scheduling_phase_ms = true && that.is_set_scheduling_phase_ms();
+    if (this_present_scheduling_phase_ms || that_present_scheduling_phase_ms) {
+      if (!(this_present_scheduling_phase_ms && that_present_scheduling_phase_ms))
+        return false;
+      if (!this.scheduling_phase_ms.equals(that.scheduling_phase_ms))
+        return false;
+    }
+
+    boolean this_present_full_scheduling_rounds = true && this.is_set_full_scheduling_rounds();
+    boolean that_present_full_scheduling_rounds = true && that.is_set_full_scheduling_rounds();
+    if (this_present_full_scheduling_rounds || that_present_full_scheduling_rounds) {
+      if (!(this_present_full_scheduling_rounds && that_present_full_scheduling_rounds))
+        return false;
+      if (this.full_scheduling_rounds != that.full_scheduling_rounds)
+        return false;
+    }
+
+    boolean this_present_skipped_scheduling_rounds = true && this.is_set_skipped_scheduling_rounds();
+    boolean that_present_skipped_scheduling_rounds = true && that.is_set_skipped_scheduling_rounds();
+    if (this_present_skipped_scheduling_rounds || that_present_skipped_scheduling_rounds) {
+      if (!(this_present_skipped_scheduling_rounds && that_present_skipped_scheduling_rounds))
+        return false;
+      if (this.skipped_scheduling_rounds != that.skipped_scheduling_rounds)
+        return false;
+    }
+
     return true;
   }
 
@@ -421,6 +602,21 @@ public class ClusterSummary implements org.apache.thrift.TBase<ClusterSummary, C
     if (present_topologies)
       list.add(topologies);
 
+    boolean present_scheduling_phase_ms = true && (is_set_scheduling_phase_ms());
+    list.add(present_scheduling_phase_ms);
+    if (present_scheduling_phase_ms)
+      list.add(scheduling_phase_ms);
+
+    boolean present_full_scheduling_rounds = true && (is_set_full_scheduling_rounds());
+    list.add(present_full_scheduling_rounds);
+    if (present_full_scheduling_rounds)
+      list.add(full_scheduling_rounds);
+
+    boolean present_skipped_scheduling_rounds = true && (is_set_skipped_scheduling_rounds());
+    list.add(present_skipped_scheduling_rounds);
+    if (present_skipped_scheduling_rounds)
+      list.add(skipped_scheduling_rounds);
+
     return list.hashCode();
   }
 
@@ -462,6 +658,36 @@ public class ClusterSummary implements org.apache.thrift.TBase<ClusterSummary, C
         return lastComparison;
       }
     }
+    lastComparison = Boolean.valueOf(is_set_scheduling_phase_ms()).compareTo(other.is_set_scheduling_phase_ms());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (is_set_scheduling_phase_ms()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.scheduling_phase_ms, other.scheduling_phase_ms);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(is_set_full_scheduling_rounds()).compareTo(other.is_set_full_scheduling_rounds());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (is_set_full_scheduling_rounds()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.full_scheduling_rounds, other.full_scheduling_rounds);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(is_set_skipped_scheduling_rounds()).compareTo(other.is_set_skipped_scheduling_rounds());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (is_set_skipped_scheduling_rounds()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.skipped_scheduling_rounds, other.skipped_scheduling_rounds);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -501,6 +727,28 @@ public class ClusterSummary implements org.apache.thrift.TBase<ClusterSummary, C
       sb.append(this.topologies);
     }
     first = false;
+    if (is_set_scheduling_phase_ms()) {
+      if (!first) sb.append(", ");
+      sb.append("scheduling_phase_ms:");
+      if (this.scheduling_phase_ms == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.scheduling_phase_ms);
+      }
+      first = false;
+    }
+    if (is_set_full_scheduling_rounds()) {
+      if (!first) sb.append(", ");
+      sb.append("full_scheduling_rounds:");
+      sb.append(this.full_scheduling_rounds);
+      first = false;
+    }
+    if (is_set_skipped_scheduling_rounds()) {
+      if (!first) sb.append(", ");
+      sb.append("skipped_scheduling_rounds:");
+      sb.append(this.skipped_scheduling_rounds);
+      first = false;
+    }
     sb.append(")");
     return sb.toString();
   }
@@ -604,6 +852,42 @@ public class ClusterSummary implements org.apache.thrift.TBase<ClusterSummary, C
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
             }
             break;
+          case 4: // SCHEDULING_PHASE_MS
+            if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
+              {
+                org.apache.thrift.protocol.TMap _map80 = iprot.readMapBegin();
+                struct.scheduling_phase_ms = new HashMap<String,Long>(2*_map80.size);
+                String _key81;
+                long _val82;
+                for (int _i83 = 0; _i83 < _map80.size; ++_i83)
+                {
+                  _key81 = iprot.readString();
+                  _val82 = iprot.readI64();
+                  struct.scheduling_phase_ms.put(_key81, _val82);
+                }
+                iprot.readMapEnd();
+              }
+              struct.set_scheduling_phase_ms_isSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 5: // FULL_SCHEDULING_ROUNDS
+            if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+              struct.full_scheduling_rounds = iprot.readI64();
+              struct.set_full_scheduling_rounds_isSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 6: // SKIPPED_SCHEDULING_ROUNDS
+            if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+              struct.skipped_scheduling_rounds = iprot.readI64();
+              struct.set_skipped_scheduling_rounds_isSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -621,9 +905,9 @@ public class ClusterSummary implements org.apache.thrift.TBase<ClusterSummary, C
         oprot.writeFieldBegin(SUPERVISORS_FIELD_DESC);
         {
           oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.supervisors.size()));
-          for (SupervisorSummary _iter80 : struct.supervisors)
+          for (SupervisorSummary _iter84 : struct.supervisors)
           {
-            _iter80.write(oprot);
+            _iter84.write(oprot);
           }
           oprot.writeListEnd();
         }
@@ -636,14 +920,39 @@ public class ClusterSummary implements org.apache.thrift.TBase<ClusterSummary, C
         oprot.writeFieldBegin(TOPOLOGIES_FIELD_DESC);
         {
           oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.topologies.size()));
-          for (TopologySummary _iter81 : struct.topologies)
+          for (TopologySummary _iter85 : struct.topologies)
           {
-            _iter81.write(oprot);
+            _iter85.write(oprot);
           }
           oprot.writeListEnd();
         }
         oprot.writeFieldEnd();
       }
+      if (struct.scheduling_phase_ms != null) {
+        if (struct.is_set_scheduling_phase_ms()) {
+          oprot.writeFieldBegin(SCHEDULING_PHASE_MS_FIELD_DESC);
+          {
+            oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.I64, struct.scheduling_phase_ms.size()));
+            for (Map.Entry<String, Long> _iter86 : struct.scheduling_phase_ms.entrySet())
+            {
+              oprot.writeString(_iter86.getKey());
+              oprot.writeI64(_iter86.getValue());
+            }
+            oprot.writeMapEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+      }
+      if (struct.is_set_full_scheduling_rounds()) {
+        oprot.writeFieldBegin(FULL_SCHEDULING_ROUNDS_FIELD_DESC);
+        oprot.writeI64(struct.full_scheduling_rounds);
+        oprot.writeFieldEnd();
+      }
+      if (struct.is_set_skipped_scheduling_rounds()) {
+        oprot.writeFieldBegin(SKIPPED_SCHEDULING_ROUNDS_FIELD_DESC);
+        oprot.writeI64(struct.skipped_scheduling_rounds);
+        oprot.writeFieldEnd();
+      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
@@ -663,50 +972,101 @@ public class ClusterSummary implements org.apache.thrift.TBase<ClusterSummary, C
       TTupleProtocol oprot = (TTupleProtocol) prot;
       {
         oprot.writeI32(struct.supervisors.size());
-        for (SupervisorSummary _iter82 : struct.supervisors)
+        for (SupervisorSummary _iter87 : struct.supervisors)
         {
-          _iter82.write(oprot);
+          _iter87.write(oprot);
         }
       }
       oprot.writeI32(struct.nimbus_uptime_secs);
       {
         oprot.writeI32(struct.topologies.size());
-        for (TopologySummary _iter83 : struct.topologies)
+        for (TopologySummary _iter88 : struct.topologies)
         {
-          _iter83.write(oprot);
+          _iter88.write(oprot);
         }
       }
+      BitSet optionals = new BitSet();
+      if (struct.is_set_scheduling_phase_ms()) {
+        optionals.set(0);
+      }
+      if (struct.is_set_full_scheduling_rounds()) {
+        optionals.set(1);
+      }
+      if (struct.is_set_skipped_scheduling_rounds()) {
+        optionals.set(2);
+      }
+      oprot.writeBitSet(optionals, 3);
+      if (struct.is_set_scheduling_phase_ms()) {
+        {
+          oprot.writeI32(struct.scheduling_phase_ms.size());
+          for (Map.Entry<String, Long> _iter89 : struct.scheduling_phase_ms.entrySet())
+          {
+            oprot.writeString(_iter89.getKey());
+            oprot.writeI64(_iter89.getValue());
+          }
+        }
+      }
+      if (struct.is_set_full_scheduling_rounds()) {
+        oprot.writeI64(struct.full_scheduling_rounds);
+      }
+      if (struct.is_set_skipped_scheduling_rounds()) {
+        oprot.writeI64(struct.skipped_scheduling_rounds);
+      }
     }
 
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, ClusterSummary struct) throws org.apache.thrift.TException {
       TTupleProtocol iprot = (TTupleProtocol) prot;
       {
-        org.apache.thrift.protocol.TList _list84 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-        struct.supervisors = new ArrayList<SupervisorSummary>(_list84.size);
-        SupervisorSummary _elem85;
-        for (int _i86 = 0; _i86 < _list84.size; ++_i86)
+        org.apache.thrift.protocol.TList _list90 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+        struct.supervisors = new ArrayList<SupervisorSummary>(_list90.size);
+        SupervisorSummary _elem91;
+        for (int _i92 = 0; _i92 < _list90.size; ++_i92)
         {
-          _elem85 = new SupervisorSummary();
-          _elem85.read(iprot);
-          struct.supervisors.add(_elem85);
+          _elem91 = new SupervisorSummary();
+          _elem91.read(iprot);
+          struct.supervisors.add(_elem91);
         }
       }
       struct.set_supervisors_isSet(true);
       struct.nimbus_uptime_secs = iprot.readI32();
       struct.set_nimbus_uptime_secs_isSet(true);
       {
-        org.apache.thrift.protocol.TList _list87 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-        struct.topologies = new ArrayList<TopologySummary>(_list87.size);
-        TopologySummary _elem88;
-        for (int _i89 = 0; _i89 < _list87.size; ++_i89)
+        org.apache.thrift.protocol.TList _list93 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+        struct.topologies = new ArrayList<TopologySummary>(_list93.size);
+        TopologySummary _elem94;
+        for (int _i95 = 0; _i95 < _list93.size; ++_i95)
         {
-          _elem88 = new TopologySummary();
-          _elem88.read(iprot);
-          struct.topologies.add(_elem88);
+          _elem94 = new TopologySummary();
+          _elem94.read(iprot);
+          struct.topologies.add(_elem94);
         }
       }
       struct.set_topologies_isSet(true);
+      BitSet incoming = iprot.readBitSet(3);
+      if (incoming.get(0)) {
+        {
+          org.apache.thrift.protocol.TMap _map96 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.I64, iprot.readI32());
+          struct.scheduling_phase_ms = new HashMap<String,Long>(2*_map96.size);
+          String _key97;
+          long _val98;
+          for (int _i99 = 0; _i99 < _map96.size; ++_i99)
+          {
+            _key97 = iprot.readString();
+            _val98 = iprot.readI64();
+            struct.scheduling_phase_ms.put(_key97, _val98);
+          }
+        }
+        struct.set_scheduling_phase_ms_isSet(true);
+      }
+      if (incoming.get(1)) {
+        struct.full_scheduling_rounds = iprot.readI64();
+        struct.set_full_scheduling_rounds_isSet(true);
+      }
+      if (incoming.get(2)) {
+        struct.skipped_scheduling_rounds = iprot.readI64();
+        struct.set_skipped_scheduling_rounds_isSet(true);
+      }
     }
   }
 
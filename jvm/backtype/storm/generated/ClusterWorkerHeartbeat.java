@@ -51,8 +51,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked"})
-@Generated(value = "Autogenerated by Thrift Compiler (0.9.2)", date = "2015-4-8")
-
+@Generated(value = "Autogenerated by Thrift Compiler (0.9.2)", date = "2026-10-18")
 public class ClusterWorkerHeartbeat implements org.apache.thrift.TBase<ClusterWorkerHeartbeat, ClusterWorkerHeartbeat._Fields>, java.io.Serializable, Cloneable, Comparable<ClusterWorkerHeartbeat> {
   private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("ClusterWorkerHeartbeat");
 
@@ -636,17 +635,17 @@ public class ClusterWorkerHeartbeat implements org.apache.thrift.TBase<ClusterWo
           case 2: // EXECUTOR_STATS
             if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
               {
-                org.apache.thrift.protocol.TMap _map426 = iprot.readMapBegin();
-                struct.executor_stats = new HashMap<ExecutorInfo,ExecutorStats>(2*_map426.size);
-                ExecutorInfo _key427;
-                ExecutorStats _val428;
-                for (int _i429 = 0; _i429 < _map426.size; ++_i429)
+                org.apache.thrift.protocol.TMap _map436 = iprot.readMapBegin();
+                struct.executor_stats = new HashMap<ExecutorInfo,ExecutorStats>(2*_map436.size);
+                ExecutorInfo _key437;
+                ExecutorStats _val438;
+                for (int _i439 = 0; _i439 < _map436.size; ++_i439)
                 {
-                  _key427 = new ExecutorInfo();
-                  _key427.read(iprot);
-                  _val428 = new ExecutorStats();
-                  _val428.read(iprot);
-                  struct.executor_stats.put(_key427, _val428);
+                  _key437 = new ExecutorInfo();
+                  _key437.read(iprot);
+                  _val438 = new ExecutorStats();
+                  _val438.read(iprot);
+                  struct.executor_stats.put(_key437, _val438);
                 }
                 iprot.readMapEnd();
               }
@@ -693,10 +692,10 @@ public class ClusterWorkerHeartbeat implements org.apache.thrift.TBase<ClusterWo
         oprot.writeFieldBegin(EXECUTOR_STATS_FIELD_DESC);
         {
           oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRUCT, org.apache.thrift.protocol.TType.STRUCT, struct.executor_stats.size()));
-          for (Map.Entry<ExecutorInfo, ExecutorStats> _iter430 : struct.executor_stats.entrySet())
+          for (Map.Entry<ExecutorInfo, ExecutorStats> _iter440 : struct.executor_stats.entrySet())
           {
-            _iter430.getKey().write(oprot);
-            _iter430.getValue().write(oprot);
+            _iter440.getKey().write(oprot);
+            _iter440.getValue().write(oprot);
           }
           oprot.writeMapEnd();
         }
@@ -728,10 +727,10 @@ public class ClusterWorkerHeartbeat implements org.apache.thrift.TBase<ClusterWo
       oprot.writeString(struct.storm_id);
       {
         oprot.writeI32(struct.executor_stats.size());
-        for (Map.Entry<ExecutorInfo, ExecutorStats> _iter431 : struct.executor_stats.entrySet())
+        for (Map.Entry<ExecutorInfo, ExecutorStats> _iter441 : struct.executor_stats.entrySet())
         {
-          _iter431.getKey().write(oprot);
-          _iter431.getValue().write(oprot);
+          _iter441.getKey().write(oprot);
+          _iter441.getValue().write(oprot);
         }
       }
       oprot.writeI32(struct.time_secs);
@@ -744,17 +743,17 @@ public class ClusterWorkerHeartbeat implements org.apache.thrift.TBase<ClusterWo
       struct.storm_id = iprot.readString();
       struct.set_storm_id_isSet(true);
       {
-        org.apache.thrift.protocol.TMap _map432 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRUCT, org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-        struct.executor_stats = new HashMap<ExecutorInfo,ExecutorStats>(2*_map432.size);
-        ExecutorInfo _key433;
-        ExecutorStats _val434;
-        for (int _i435 = 0; _i435 < _map432.size; ++_i435)
+        org.apache.thrift.protocol.TMap _map442 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRUCT, org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+        struct.executor_stats = new HashMap<ExecutorInfo,ExecutorStats>(2*_map442.size);
+        ExecutorInfo _key443;
+        ExecutorStats _val444;
+        for (int _i445 = 0; _i445 < _map442.size; ++_i445)
         {
-          _key433 = new ExecutorInfo();
-          _key433.read(iprot);
-          _val434 = new ExecutorStats();
-          _val434.read(iprot);
-          struct.executor_stats.put(_key433, _val434);
+          _key443 = new ExecutorInfo();
+          _key443.read(iprot);
+          _val444 = new ExecutorStats();
+          _val444.read(iprot);
+          struct.executor_stats.put(_key443, _val444);
         }
       }
       struct.set_executor_stats_isSet(true);
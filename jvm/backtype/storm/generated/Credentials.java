@@ -51,7 +51,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked"})
-@Generated(value = "Autogenerated by Thrift Compiler (0.9.2)", date = "2015-2-6")
+@Generated(value = "Autogenerated by Thrift Compiler (0.9.2)", date = "2026-10-18")
 public class Credentials implements org.apache.thrift.TBase<Credentials, Credentials._Fields>, java.io.Serializable, Cloneable, Comparable<Credentials> {
   private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("Credentials");
 
@@ -365,15 +365,15 @@ public class Credentials implements org.apache.thrift.TBase<Credentials, Credent
           case 1: // CREDS
             if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
               {
-                org.apache.thrift.protocol.TMap _map326 = iprot.readMapBegin();
-                struct.creds = new HashMap<String,String>(2*_map326.size);
-                String _key327;
-                String _val328;
-                for (int _i329 = 0; _i329 < _map326.size; ++_i329)
+                org.apache.thrift.protocol.TMap _map336 = iprot.readMapBegin();
+                struct.creds = new HashMap<String,String>(2*_map336.size);
+                String _key337;
+                String _val338;
+                for (int _i339 = 0; _i339 < _map336.size; ++_i339)
                 {
-                  _key327 = iprot.readString();
-                  _val328 = iprot.readString();
-                  struct.creds.put(_key327, _val328);
+                  _key337 = iprot.readString();
+                  _val338 = iprot.readString();
+                  struct.creds.put(_key337, _val338);
                 }
                 iprot.readMapEnd();
               }
@@ -399,10 +399,10 @@ public class Credentials implements org.apache.thrift.TBase<Credentials, Credent
         oprot.writeFieldBegin(CREDS_FIELD_DESC);
         {
           oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRING, struct.creds.size()));
-          for (Map.Entry<String, String> _iter330 : struct.creds.entrySet())
+          for (Map.Entry<String, String> _iter340 : struct.creds.entrySet())
           {
-            oprot.writeString(_iter330.getKey());
-            oprot.writeString(_iter330.getValue());
+            oprot.writeString(_iter340.getKey());
+            oprot.writeString(_iter340.getValue());
           }
           oprot.writeMapEnd();
         }
@@ -427,10 +427,10 @@ public class Credentials implements org.apache.thrift.TBase<Credentials, Credent
       TTupleProtocol oprot = (TTupleProtocol) prot;
       {
         oprot.writeI32(struct.creds.size());
-        for (Map.Entry<String, String> _iter331 : struct.creds.entrySet())
+        for (Map.Entry<String, String> _iter341 : struct.creds.entrySet())
         {
-          oprot.writeString(_iter331.getKey());
-          oprot.writeString(_iter331.getValue());
+          oprot.writeString(_iter341.getKey());
+          oprot.writeString(_iter341.getValue());
         }
       }
     }
@@ -439,15 +439,15 @@ public class Credentials implements org.apache.thrift.TBase<Credentials, Credent
     public void read(org.apache.thrift.protocol.TProtocol prot, Credentials struct) throws org.apache.thrift.TException {
       TTupleProtocol iprot = (TTupleProtocol) prot;
       {
-        org.apache.thrift.protocol.TMap _map332 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-        struct.creds = new HashMap<String,String>(2*_map332.size);
-        String _key333;
-        String _val334;
-        for (int _i335 = 0; _i335 < _map332.size; ++_i335)
+        org.apache.thrift.protocol.TMap _map342 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+        struct.creds = new HashMap<String,String>(2*_map342.size);
+        String _key343;
+        String _val344;
+        for (int _i345 = 0; _i345 < _map342.size; ++_i345)
         {
-          _key333 = iprot.readString();
-          _val334 = iprot.readString();
-          struct.creds.put(_key333, _val334);
+          _key343 = iprot.readString();
+          _val344 = iprot.readString();
+          struct.creds.put(_key343, _val344);
         }
       }
       struct.set_creds_isSet(true);
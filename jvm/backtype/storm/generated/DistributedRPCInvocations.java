@@ -51,7 +51,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked"})
-@Generated(value = "Autogenerated by Thrift Compiler (0.9.2)", date = "2015-2-6")
+@Generated(value = "Autogenerated by Thrift Compiler (0.9.2)", date = "2026-10-18")
 public class DistributedRPCInvocations {
 
   public interface Iface {
@@ -60,6 +60,8 @@ public class DistributedRPCInvocations {
 
     public DRPCRequest fetchRequest(String functionName) throws AuthorizationException, org.apache.thrift.TException;
 
+    public List<DRPCRequest> fetchRequests(String functionName, int maxCount, int waitMs) throws AuthorizationException, org.apache.thrift.TException;
+
     public void failRequest(String id) throws AuthorizationException, org.apache.thrift.TException;
 
   }
@@ -70,6 +72,8 @@ public class DistributedRPCInvocations {
 
     public void fetchRequest(String functionName, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void fetchRequests(String functionName, int maxCount, int waitMs, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void failRequest(String id, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
   }
@@ -144,6 +148,34 @@ public class DistributedRPCInvocations {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "fetchRequest failed: unknown result");
     }
 
+    public List<DRPCRequest> fetchRequests(String functionName, int maxCount, int waitMs) throws AuthorizationException, org.apache.thrift.TException
+    {
+      send_fetchRequests(functionName, maxCount, waitMs);
+      return recv_fetchRequests();
+    }
+
+    public void send_fetchRequests(String functionName, int maxCount, int waitMs) throws org.apache.thrift.TException
+    {
+      fetchRequests_args args = new fetchRequests_args();
+      args.set_functionName(functionName);
+      args.set_maxCount(maxCount);
+      args.set_waitMs(waitMs);
+      sendBase("fetchRequests", args);
+    }
+
+    public List<DRPCRequest> recv_fetchRequests() throws AuthorizationException, org.apache.thrift.TException
+    {
+      fetchRequests_result result = new fetchRequests_result();
+      receiveBase(result, "fetchRequests");
+      if (result.is_set_success()) {
+        return result.success;
+      }
+      if (result.aze != null) {
+        throw result.aze;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "fetchRequests failed: unknown result");
+    }
+
     public void failRequest(String id) throws AuthorizationException, org.apache.thrift.TException
     {
       send_failRequest(id);
@@ -252,6 +284,44 @@ public class DistributedRPCInvocations {
       }
     }
 
+    public void fetchRequests(String functionName, int maxCount, int waitMs, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      fetchRequests_call method_call = new fetchRequests_call(functionName, maxCount, waitMs, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class fetchRequests_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String functionName;
+      private int maxCount;
+      private int waitMs;
+      public fetchRequests_call(String functionName, int maxCount, int waitMs, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.functionName = functionName;
+        this.maxCount = maxCount;
+        this.waitMs = waitMs;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("fetchRequests", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        fetchRequests_args args = new fetchRequests_args();
+        args.set_functionName(functionName);
+        args.set_maxCount(maxCount);
+        args.set_waitMs(waitMs);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public List<DRPCRequest> getResult() throws AuthorizationException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_fetchRequests();
+      }
+    }
+
     public void failRequest(String id, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       failRequest_call method_call = new failRequest_call(id, resultHandler, this, ___protocolFactory, ___transport);
@@ -299,6 +369,7 @@ public class DistributedRPCInvocations {
     private static <I extends Iface> Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> getProcessMap(Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
       processMap.put("result", new result());
       processMap.put("fetchRequest", new fetchRequest());
+      processMap.put("fetchRequests", new fetchRequests());
       processMap.put("failRequest", new failRequest());
       return processMap;
     }
@@ -351,6 +422,30 @@ public class DistributedRPCInvocations {
       }
     }
 
+    public static class fetchRequests<I extends Iface> extends org.apache.thrift.ProcessFunction<I, fetchRequests_args> {
+      public fetchRequests() {
+        super("fetchRequests");
+      }
+
+      public fetchRequests_args getEmptyArgsInstance() {
+        return new fetchRequests_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public fetchRequests_result getResult(I iface, fetchRequests_args args) throws org.apache.thrift.TException {
+        fetchRequests_result result = new fetchRequests_result();
+        try {
+          result.success = iface.fetchRequests(args.functionName, args.maxCount, args.waitMs);
+        } catch (AuthorizationException aze) {
+          result.aze = aze;
+        }
+        return result;
+      }
+    }
+
     public static class failRequest<I extends Iface> extends org.apache.thrift.ProcessFunction<I, failRequest_args> {
       public failRequest() {
         super("failRequest");
@@ -390,6 +485,7 @@ public class DistributedRPCInvocations {
     private static <I extends AsyncIface> Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase,?>> getProcessMap(Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?>> processMap) {
       processMap.put("result", new result());
       processMap.put("fetchRequest", new fetchRequest());
+      processMap.put("fetchRequests", new fetchRequests());
       processMap.put("failRequest", new failRequest());
       return processMap;
     }
@@ -507,6 +603,63 @@ public class DistributedRPCInvocations {
       }
     }
 
+    public static class fetchRequests<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, fetchRequests_args, List<DRPCRequest>> {
+      public fetchRequests() {
+        super("fetchRequests");
+      }
+
+      public fetchRequests_args getEmptyArgsInstance() {
+        return new fetchRequests_args();
+      }
+
+      public AsyncMethodCallback<List<DRPCRequest>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<List<DRPCRequest>>() { 
+          public void onComplete(List<DRPCRequest> o) {
+            fetchRequests_result result = new fetchRequests_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            fetchRequests_result result = new fetchRequests_result();
+            if (e instanceof AuthorizationException) {
+                        result.aze = (AuthorizationException) e;
+                        result.set_aze_isSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, fetchRequests_args args, org.apache.thrift.async.AsyncMethodCallback<List<DRPCRequest>> resultHandler) throws TException {
+        iface.fetchRequests(args.functionName, args.maxCount, args.waitMs,resultHandler);
+      }
+    }
+
     public static class failRequest<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, failRequest_args, Void> {
       public failRequest() {
         super("failRequest");
@@ -2214,6 +2367,1082 @@ public class DistributedRPCInvocations {
 
   }
 
+  public static class fetchRequests_args implements org.apache.thrift.TBase<fetchRequests_args, fetchRequests_args._Fields>, java.io.Serializable, Cloneable, Comparable<fetchRequests_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("fetchRequests_args");
+
+    private static final org.apache.thrift.protocol.TField FUNCTION_NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("functionName", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField MAX_COUNT_FIELD_DESC = new org.apache.thrift.protocol.TField("maxCount", org.apache.thrift.protocol.TType.I32, (short)2);
+    private static final org.apache.thrift.protocol.TField WAIT_MS_FIELD_DESC = new org.apache.thrift.protocol.TField("waitMs", org.apache.thrift.protocol.TType.I32, (short)3);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new fetchRequests_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new fetchRequests_argsTupleSchemeFactory());
+    }
+
+    private String functionName; // required
+    private int maxCount; // required
+    private int waitMs; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      FUNCTION_NAME((short)1, "functionName"),
+      MAX_COUNT((short)2, "maxCount"),
+      WAIT_MS((short)3, "waitMs");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // FUNCTION_NAME
+            return FUNCTION_NAME;
+          case 2: // MAX_COUNT
+            return MAX_COUNT;
+          case 3: // WAIT_MS
+            return WAIT_MS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __MAXCOUNT_ISSET_ID = 0;
+    private static final int __WAITMS_ISSET_ID = 1;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.FUNCTION_NAME, new org.apache.thrift.meta_data.FieldMetaData("functionName", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.MAX_COUNT, new org.apache.thrift.meta_data.FieldMetaData("maxCount", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.WAIT_MS, new org.apache.thrift.meta_data.FieldMetaData("waitMs", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(fetchRequests_args.class, metaDataMap);
+    }
+
+    public fetchRequests_args() {
+    }
+
+    public fetchRequests_args(
+      String functionName,
+      int maxCount,
+      int waitMs)
+    {
+      this();
+      this.functionName = functionName;
+      this.maxCount = maxCount;
+      set_maxCount_isSet(true);
+      this.waitMs = waitMs;
+      set_waitMs_isSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public fetchRequests_args(fetchRequests_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.is_set_functionName()) {
+        this.functionName = other.functionName;
+      }
+      this.maxCount = other.maxCount;
+      this.waitMs = other.waitMs;
+    }
+
+    public fetchRequests_args deepCopy() {
+      return new fetchRequests_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.functionName = null;
+      set_maxCount_isSet(false);
+      this.maxCount = 0;
+      set_waitMs_isSet(false);
+      this.waitMs = 0;
+    }
+
+    public String get_functionName() {
+      return this.functionName;
+    }
+
+    public void set_functionName(String functionName) {
+      this.functionName = functionName;
+    }
+
+    public void unset_functionName() {
+      this.functionName = null;
+    }
+
+    /** Returns true if field functionName is set (has been assigned a value) and false otherwise */
+    public boolean is_set_functionName() {
+      return this.functionName != null;
+    }
+
+    public void set_functionName_isSet(boolean value) {
+      if (!value) {
+        this.functionName = null;
+      }
+    }
+
+    public int get_maxCount() {
+      return this.maxCount;
+    }
+
+    public void set_maxCount(int maxCount) {
+      this.maxCount = maxCount;
+      set_maxCount_isSet(true);
+    }
+
+    public void unset_maxCount() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __MAXCOUNT_ISSET_ID);
+    }
+
+    /** Returns true if field maxCount is set (has been assigned a value) and false otherwise */
+    public boolean is_set_maxCount() {
+      return EncodingUtils.testBit(__isset_bitfield, __MAXCOUNT_ISSET_ID);
+    }
+
+    public void set_maxCount_isSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __MAXCOUNT_ISSET_ID, value);
+    }
+
+    public int get_waitMs() {
+      return this.waitMs;
+    }
+
+    public void set_waitMs(int waitMs) {
+      this.waitMs = waitMs;
+      set_waitMs_isSet(true);
+    }
+
+    public void unset_waitMs() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __WAITMS_ISSET_ID);
+    }
+
+    /** Returns true if field waitMs is set (has been assigned a value) and false otherwise */
+    public boolean is_set_waitMs() {
+      return EncodingUtils.testBit(__isset_bitfield, __WAITMS_ISSET_ID);
+    }
+
+    public void set_waitMs_isSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __WAITMS_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case FUNCTION_NAME:
+        if (value == null) {
+          unset_functionName();
+        } else {
+          set_functionName((String)value);
+        }
+        break;
+
+      case MAX_COUNT:
+        if (value == null) {
+          unset_maxCount();
+        } else {
+          set_maxCount((Integer)value);
+        }
+        break;
+
+      case WAIT_MS:
+        if (value == null) {
+          unset_waitMs();
+        } else {
+          set_waitMs((Integer)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case FUNCTION_NAME:
+        return get_functionName();
+
+      case MAX_COUNT:
+        return Integer.valueOf(get_maxCount());
+
+      case WAIT_MS:
+        return Integer.valueOf(get_waitMs());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case FUNCTION_NAME:
+        return is_set_functionName();
+      case MAX_COUNT:
+        return is_set_maxCount();
+      case WAIT_MS:
+        return is_set_waitMs();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof fetchRequests_args)
+        return this.equals((fetchRequests_args)that);
+      return false;
+    }
+
+    public boolean equals(fetchRequests_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_functionName = true && this.is_set_functionName();
+      boolean that_present_functionName = true && that.is_set_functionName();
+      if (this_present_functionName || that_present_functionName) {
+        if (!(this_present_functionName && that_present_functionName))
+          return false;
+        if (!this.functionName.equals(that.functionName))
+          return false;
+      }
+
+      boolean this_present_maxCount = true;
+      boolean that_present_maxCount = true;
+      if (this_present_maxCount || that_present_maxCount) {
+        if (!(this_present_maxCount && that_present_maxCount))
+          return false;
+        if (this.maxCount != that.maxCount)
+          return false;
+      }
+
+      boolean this_present_waitMs = true;
+      boolean that_present_waitMs = true;
+      if (this_present_waitMs || that_present_waitMs) {
+        if (!(this_present_waitMs && that_present_waitMs))
+          return false;
+        if (this.waitMs != that.waitMs)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_functionName = true && (is_set_functionName());
+      list.add(present_functionName);
+      if (present_functionName)
+        list.add(functionName);
+
+      boolean present_maxCount = true;
+      list.add(present_maxCount);
+      if (present_maxCount)
+        list.add(maxCount);
+
+      boolean present_waitMs = true;
+      list.add(present_waitMs);
+      if (present_waitMs)
+        list.add(waitMs);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(fetchRequests_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(is_set_functionName()).compareTo(other.is_set_functionName());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_functionName()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.functionName, other.functionName);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(is_set_maxCount()).compareTo(other.is_set_maxCount());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_maxCount()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.maxCount, other.maxCount);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(is_set_waitMs()).compareTo(other.is_set_waitMs());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_waitMs()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.waitMs, other.waitMs);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("fetchRequests_args(");
+      boolean first = true;
+
+      sb.append("functionName:");
+      if (this.functionName == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.functionName);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("maxCount:");
+      sb.append(this.maxCount);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("waitMs:");
+      sb.append(this.waitMs);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class fetchRequests_argsStandardSchemeFactory implements SchemeFactory {
+      public fetchRequests_argsStandardScheme getScheme() {
+        return new fetchRequests_argsStandardScheme();
+      }
+    }
+
+    private static class fetchRequests_argsStandardScheme extends StandardScheme<fetchRequests_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, fetchRequests_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // FUNCTION_NAME
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.functionName = iprot.readString();
+                struct.set_functionName_isSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // MAX_COUNT
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.maxCount = iprot.readI32();
+                struct.set_maxCount_isSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // WAIT_MS
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.waitMs = iprot.readI32();
+                struct.set_waitMs_isSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, fetchRequests_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.functionName != null) {
+          oprot.writeFieldBegin(FUNCTION_NAME_FIELD_DESC);
+          oprot.writeString(struct.functionName);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(MAX_COUNT_FIELD_DESC);
+        oprot.writeI32(struct.maxCount);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(WAIT_MS_FIELD_DESC);
+        oprot.writeI32(struct.waitMs);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class fetchRequests_argsTupleSchemeFactory implements SchemeFactory {
+      public fetchRequests_argsTupleScheme getScheme() {
+        return new fetchRequests_argsTupleScheme();
+      }
+    }
+
+    private static class fetchRequests_argsTupleScheme extends TupleScheme<fetchRequests_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, fetchRequests_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.is_set_functionName()) {
+          optionals.set(0);
+        }
+        if (struct.is_set_maxCount()) {
+          optionals.set(1);
+        }
+        if (struct.is_set_waitMs()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
+        if (struct.is_set_functionName()) {
+          oprot.writeString(struct.functionName);
+        }
+        if (struct.is_set_maxCount()) {
+          oprot.writeI32(struct.maxCount);
+        }
+        if (struct.is_set_waitMs()) {
+          oprot.writeI32(struct.waitMs);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, fetchRequests_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(3);
+        if (incoming.get(0)) {
+          struct.functionName = iprot.readString();
+          struct.set_functionName_isSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.maxCount = iprot.readI32();
+          struct.set_maxCount_isSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.waitMs = iprot.readI32();
+          struct.set_waitMs_isSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class fetchRequests_result implements org.apache.thrift.TBase<fetchRequests_result, fetchRequests_result._Fields>, java.io.Serializable, Cloneable, Comparable<fetchRequests_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("fetchRequests_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+    private static final org.apache.thrift.protocol.TField AZE_FIELD_DESC = new org.apache.thrift.protocol.TField("aze", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new fetchRequests_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new fetchRequests_resultTupleSchemeFactory());
+    }
+
+    private List<DRPCRequest> success; // required
+    private AuthorizationException aze; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      AZE((short)1, "aze");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // AZE
+            return AZE;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, DRPCRequest.class))));
+      tmpMap.put(_Fields.AZE, new org.apache.thrift.meta_data.FieldMetaData("aze", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(fetchRequests_result.class, metaDataMap);
+    }
+
+    public fetchRequests_result() {
+    }
+
+    public fetchRequests_result(
+      List<DRPCRequest> success,
+      AuthorizationException aze)
+    {
+      this();
+      this.success = success;
+      this.aze = aze;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public fetchRequests_result(fetchRequests_result other) {
+      if (other.is_set_success()) {
+        List<DRPCRequest> __this__success = new ArrayList<DRPCRequest>(other.success.size());
+        for (DRPCRequest other_element : other.success) {
+          __this__success.add(new DRPCRequest(other_element));
+        }
+        this.success = __this__success;
+      }
+      if (other.is_set_aze()) {
+        this.aze = new AuthorizationException(other.aze);
+      }
+    }
+
+    public fetchRequests_result deepCopy() {
+      return new fetchRequests_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.aze = null;
+    }
+
+    public int get_success_size() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<DRPCRequest> get_success_iterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void add_to_success(DRPCRequest elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<DRPCRequest>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<DRPCRequest> get_success() {
+      return this.success;
+    }
+
+    public void set_success(List<DRPCRequest> success) {
+      this.success = success;
+    }
+
+    public void unset_success() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean is_set_success() {
+      return this.success != null;
+    }
+
+    public void set_success_isSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public AuthorizationException get_aze() {
+      return this.aze;
+    }
+
+    public void set_aze(AuthorizationException aze) {
+      this.aze = aze;
+    }
+
+    public void unset_aze() {
+      this.aze = null;
+    }
+
+    /** Returns true if field aze is set (has been assigned a value) and false otherwise */
+    public boolean is_set_aze() {
+      return this.aze != null;
+    }
+
+    public void set_aze_isSet(boolean value) {
+      if (!value) {
+        this.aze = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unset_success();
+        } else {
+          set_success((List<DRPCRequest>)value);
+        }
+        break;
+
+      case AZE:
+        if (value == null) {
+          unset_aze();
+        } else {
+          set_aze((AuthorizationException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return get_success();
+
+      case AZE:
+        return get_aze();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return is_set_success();
+      case AZE:
+        return is_set_aze();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof fetchRequests_result)
+        return this.equals((fetchRequests_result)that);
+      return false;
+    }
+
+    public boolean equals(fetchRequests_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.is_set_success();
+      boolean that_present_success = true && that.is_set_success();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_aze = true && this.is_set_aze();
+      boolean that_present_aze = true && that.is_set_aze();
+      if (this_present_aze || that_present_aze) {
+        if (!(this_present_aze && that_present_aze))
+          return false;
+        if (!this.aze.equals(that.aze))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (is_set_success());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_aze = true && (is_set_aze());
+      list.add(present_aze);
+      if (present_aze)
+        list.add(aze);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(fetchRequests_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(is_set_success()).compareTo(other.is_set_success());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_success()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(is_set_aze()).compareTo(other.is_set_aze());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_aze()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.aze, other.aze);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("fetchRequests_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("aze:");
+      if (this.aze == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.aze);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class fetchRequests_resultStandardSchemeFactory implements SchemeFactory {
+      public fetchRequests_resultStandardScheme getScheme() {
+        return new fetchRequests_resultStandardScheme();
+      }
+    }
+
+    private static class fetchRequests_resultStandardScheme extends StandardScheme<fetchRequests_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, fetchRequests_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list492 = iprot.readListBegin();
+                  struct.success = new ArrayList<DRPCRequest>(_list492.size);
+                  DRPCRequest _elem493;
+                  for (int _i494 = 0; _i494 < _list492.size; ++_i494)
+                  {
+                    _elem493 = new DRPCRequest();
+                    _elem493.read(iprot);
+                    struct.success.add(_elem493);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.set_success_isSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // AZE
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.aze = new AuthorizationException();
+                struct.aze.read(iprot);
+                struct.set_aze_isSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, fetchRequests_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (DRPCRequest _iter495 : struct.success)
+            {
+              _iter495.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        if (struct.aze != null) {
+          oprot.writeFieldBegin(AZE_FIELD_DESC);
+          struct.aze.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class fetchRequests_resultTupleSchemeFactory implements SchemeFactory {
+      public fetchRequests_resultTupleScheme getScheme() {
+        return new fetchRequests_resultTupleScheme();
+      }
+    }
+
+    private static class fetchRequests_resultTupleScheme extends TupleScheme<fetchRequests_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, fetchRequests_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.is_set_success()) {
+          optionals.set(0);
+        }
+        if (struct.is_set_aze()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.is_set_success()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (DRPCRequest _iter496 : struct.success)
+            {
+              _iter496.write(oprot);
+            }
+          }
+        }
+        if (struct.is_set_aze()) {
+          struct.aze.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, fetchRequests_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list497 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<DRPCRequest>(_list497.size);
+            DRPCRequest _elem498;
+            for (int _i499 = 0; _i499 < _list497.size; ++_i499)
+            {
+              _elem498 = new DRPCRequest();
+              _elem498.read(iprot);
+              struct.success.add(_elem498);
+            }
+          }
+          struct.set_success_isSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.aze = new AuthorizationException();
+          struct.aze.read(iprot);
+          struct.set_aze_isSet(true);
+        }
+      }
+    }
+
+  }
+
   public static class failRequest_args implements org.apache.thrift.TBase<failRequest_args, failRequest_args._Fields>, java.io.Serializable, Cloneable, Comparable<failRequest_args>   {
     private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("failRequest_args");
 
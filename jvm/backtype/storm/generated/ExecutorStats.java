@@ -51,7 +51,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked"})
-@Generated(value = "Autogenerated by Thrift Compiler (0.9.2)", date = "2015-3-5")
+@Generated(value = "Autogenerated by Thrift Compiler (0.9.2)", date = "2026-10-18")
 public class ExecutorStats implements org.apache.thrift.TBase<ExecutorStats, ExecutorStats._Fields>, java.io.Serializable, Cloneable, Comparable<ExecutorStats> {
   private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("ExecutorStats");
 
@@ -660,27 +660,27 @@ public class ExecutorStats implements org.apache.thrift.TBase<ExecutorStats, Exe
           case 1: // EMITTED
             if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
               {
-                org.apache.thrift.protocol.TMap _map250 = iprot.readMapBegin();
-                struct.emitted = new HashMap<String,Map<String,Long>>(2*_map250.size);
-                String _key251;
-                Map<String,Long> _val252;
-                for (int _i253 = 0; _i253 < _map250.size; ++_i253)
+                org.apache.thrift.protocol.TMap _map260 = iprot.readMapBegin();
+                struct.emitted = new HashMap<String,Map<String,Long>>(2*_map260.size);
+                String _key261;
+                Map<String,Long> _val262;
+                for (int _i263 = 0; _i263 < _map260.size; ++_i263)
                 {
-                  _key251 = iprot.readString();
+                  _key261 = iprot.readString();
                   {
-                    org.apache.thrift.protocol.TMap _map254 = iprot.readMapBegin();
-                    _val252 = new HashMap<String,Long>(2*_map254.size);
-                    String _key255;
-                    long _val256;
-                    for (int _i257 = 0; _i257 < _map254.size; ++_i257)
+                    org.apache.thrift.protocol.TMap _map264 = iprot.readMapBegin();
+                    _val262 = new HashMap<String,Long>(2*_map264.size);
+                    String _key265;
+                    long _val266;
+                    for (int _i267 = 0; _i267 < _map264.size; ++_i267)
                     {
-                      _key255 = iprot.readString();
-                      _val256 = iprot.readI64();
-                      _val252.put(_key255, _val256);
+                      _key265 = iprot.readString();
+                      _val266 = iprot.readI64();
+                      _val262.put(_key265, _val266);
                     }
                     iprot.readMapEnd();
                   }
-                  struct.emitted.put(_key251, _val252);
+                  struct.emitted.put(_key261, _val262);
                 }
                 iprot.readMapEnd();
               }
@@ -692,27 +692,27 @@ public class ExecutorStats implements org.apache.thrift.TBase<ExecutorStats, Exe
           case 2: // TRANSFERRED
             if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
               {
-                org.apache.thrift.protocol.TMap _map258 = iprot.readMapBegin();
-                struct.transferred = new HashMap<String,Map<String,Long>>(2*_map258.size);
-                String _key259;
-                Map<String,Long> _val260;
-                for (int _i261 = 0; _i261 < _map258.size; ++_i261)
+                org.apache.thrift.protocol.TMap _map268 = iprot.readMapBegin();
+                struct.transferred = new HashMap<String,Map<String,Long>>(2*_map268.size);
+                String _key269;
+                Map<String,Long> _val270;
+                for (int _i271 = 0; _i271 < _map268.size; ++_i271)
                 {
-                  _key259 = iprot.readString();
+                  _key269 = iprot.readString();
                   {
-                    org.apache.thrift.protocol.TMap _map262 = iprot.readMapBegin();
-                    _val260 = new HashMap<String,Long>(2*_map262.size);
-                    String _key263;
-                    long _val264;
-                    for (int _i265 = 0; _i265 < _map262.size; ++_i265)
+                    org.apache.thrift.protocol.TMap _map272 = iprot.readMapBegin();
+                    _val270 = new HashMap<String,Long>(2*_map272.size);
+                    String _key273;
+                    long _val274;
+                    for (int _i275 = 0; _i275 < _map272.size; ++_i275)
                     {
-                      _key263 = iprot.readString();
-                      _val264 = iprot.readI64();
-                      _val260.put(_key263, _val264);
+                      _key273 = iprot.readString();
+                      _val274 = iprot.readI64();
+                      _val270.put(_key273, _val274);
                     }
                     iprot.readMapEnd();
                   }
-                  struct.transferred.put(_key259, _val260);
+                  struct.transferred.put(_key269, _val270);
                 }
                 iprot.readMapEnd();
               }
@@ -755,15 +755,15 @@ public class ExecutorStats implements org.apache.thrift.TBase<ExecutorStats, Exe
         oprot.writeFieldBegin(EMITTED_FIELD_DESC);
         {
           oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.MAP, struct.emitted.size()));
-          for (Map.Entry<String, Map<String,Long>> _iter266 : struct.emitted.entrySet())
+          for (Map.Entry<String, Map<String,Long>> _iter276 : struct.emitted.entrySet())
           {
-            oprot.writeString(_iter266.getKey());
+            oprot.writeString(_iter276.getKey());
             {
-              oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.I64, _iter266.getValue().size()));
-              for (Map.Entry<String, Long> _iter267 : _iter266.getValue().entrySet())
+              oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.I64, _iter276.getValue().size()));
+              for (Map.Entry<String, Long> _iter277 : _iter276.getValue().entrySet())
               {
-                oprot.writeString(_iter267.getKey());
-                oprot.writeI64(_iter267.getValue());
+                oprot.writeString(_iter277.getKey());
+                oprot.writeI64(_iter277.getValue());
               }
               oprot.writeMapEnd();
             }
@@ -776,15 +776,15 @@ public class ExecutorStats implements org.apache.thrift.TBase<ExecutorStats, Exe
         oprot.writeFieldBegin(TRANSFERRED_FIELD_DESC);
         {
           oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.MAP, struct.transferred.size()));
-          for (Map.Entry<String, Map<String,Long>> _iter268 : struct.transferred.entrySet())
+          for (Map.Entry<String, Map<String,Long>> _iter278 : struct.transferred.entrySet())
           {
-            oprot.writeString(_iter268.getKey());
+            oprot.writeString(_iter278.getKey());
             {
-              oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.I64, _iter268.getValue().size()));
-              for (Map.Entry<String, Long> _iter269 : _iter268.getValue().entrySet())
+              oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.I64, _iter278.getValue().size()));
+              for (Map.Entry<String, Long> _iter279 : _iter278.getValue().entrySet())
               {
-                oprot.writeString(_iter269.getKey());
-                oprot.writeI64(_iter269.getValue());
+                oprot.writeString(_iter279.getKey());
+                oprot.writeI64(_iter279.getValue());
               }
               oprot.writeMapEnd();
             }
@@ -820,30 +820,30 @@ public class ExecutorStats implements org.apache.thrift.TBase<ExecutorStats, Exe
       TTupleProtocol oprot = (TTupleProtocol) prot;
       {
         oprot.writeI32(struct.emitted.size());
-        for (Map.Entry<String, Map<String,Long>> _iter270 : struct.emitted.entrySet())
+        for (Map.Entry<String, Map<String,Long>> _iter280 : struct.emitted.entrySet())
         {
-          oprot.writeString(_iter270.getKey());
+          oprot.writeString(_iter280.getKey());
           {
-            oprot.writeI32(_iter270.getValue().size());
-            for (Map.Entry<String, Long> _iter271 : _iter270.getValue().entrySet())
+            oprot.writeI32(_iter280.getValue().size());
+            for (Map.Entry<String, Long> _iter281 : _iter280.getValue().entrySet())
             {
-              oprot.writeString(_iter271.getKey());
-              oprot.writeI64(_iter271.getValue());
+              oprot.writeString(_iter281.getKey());
+              oprot.writeI64(_iter281.getValue());
             }
           }
         }
       }
       {
         oprot.writeI32(struct.transferred.size());
-        for (Map.Entry<String, Map<String,Long>> _iter272 : struct.transferred.entrySet())
+        for (Map.Entry<String, Map<String,Long>> _iter282 : struct.transferred.entrySet())
         {
-          oprot.writeString(_iter272.getKey());
+          oprot.writeString(_iter282.getKey());
           {
-            oprot.writeI32(_iter272.getValue().size());
-            for (Map.Entry<String, Long> _iter273 : _iter272.getValue().entrySet())
+            oprot.writeI32(_iter282.getValue().size());
+            for (Map.Entry<String, Long> _iter283 : _iter282.getValue().entrySet())
             {
-              oprot.writeString(_iter273.getKey());
-              oprot.writeI64(_iter273.getValue());
+              oprot.writeString(_iter283.getKey());
+              oprot.writeI64(_iter283.getValue());
             }
           }
         }
@@ -856,50 +856,50 @@ public class ExecutorStats implements org.apache.thrift.TBase<ExecutorStats, Exe
     public void read(org.apache.thrift.protocol.TProtocol prot, ExecutorStats struct) throws org.apache.thrift.TException {
       TTupleProtocol iprot = (TTupleProtocol) prot;
       {
-        org.apache.thrift.protocol.TMap _map274 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.MAP, iprot.readI32());
-        struct.emitted = new HashMap<String,Map<String,Long>>(2*_map274.size);
-        String _key275;
-        Map<String,Long> _val276;
-        for (int _i277 = 0; _i277 < _map274.size; ++_i277)
+        org.apache.thrift.protocol.TMap _map284 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.MAP, iprot.readI32());
+        struct.emitted = new HashMap<String,Map<String,Long>>(2*_map284.size);
+        String _key285;
+        Map<String,Long> _val286;
+        for (int _i287 = 0; _i287 < _map284.size; ++_i287)
         {
-          _key275 = iprot.readString();
+          _key285 = iprot.readString();
           {
-            org.apache.thrift.protocol.TMap _map278 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.I64, iprot.readI32());
-            _val276 = new HashMap<String,Long>(2*_map278.size);
-            String _key279;
-            long _val280;
-            for (int _i281 = 0; _i281 < _map278.size; ++_i281)
+            org.apache.thrift.protocol.TMap _map288 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.I64, iprot.readI32());
+            _val286 = new HashMap<String,Long>(2*_map288.size);
+            String _key289;
+            long _val290;
+            for (int _i291 = 0; _i291 < _map288.size; ++_i291)
             {
-              _key279 = iprot.readString();
-              _val280 = iprot.readI64();
-              _val276.put(_key279, _val280);
+              _key289 = iprot.readString();
+              _val290 = iprot.readI64();
+              _val286.put(_key289, _val290);
             }
           }
-          struct.emitted.put(_key275, _val276);
+          struct.emitted.put(_key285, _val286);
         }
       }
       struct.set_emitted_isSet(true);
       {
-        org.apache.thrift.protocol.TMap _map282 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.MAP, iprot.readI32());
-        struct.transferred = new HashMap<String,Map<String,Long>>(2*_map282.size);
-        String _key283;
-        Map<String,Long> _val284;
-        for (int _i285 = 0; _i285 < _map282.size; ++_i285)
+        org.apache.thrift.protocol.TMap _map292 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.MAP, iprot.readI32());
+        struct.transferred = new HashMap<String,Map<String,Long>>(2*_map292.size);
+        String _key293;
+        Map<String,Long> _val294;
+        for (int _i295 = 0; _i295 < _map292.size; ++_i295)
         {
-          _key283 = iprot.readString();
+          _key293 = iprot.readString();
           {
-            org.apache.thrift.protocol.TMap _map286 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.I64, iprot.readI32());
-            _val284 = new HashMap<String,Long>(2*_map286.size);
-            String _key287;
-            long _val288;
-            for (int _i289 = 0; _i289 < _map286.size; ++_i289)
+            org.apache.thrift.protocol.TMap _map296 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.I64, iprot.readI32());
+            _val294 = new HashMap<String,Long>(2*_map296.size);
+            String _key297;
+            long _val298;
+            for (int _i299 = 0; _i299 < _map296.size; ++_i299)
             {
-              _key287 = iprot.readString();
-              _val288 = iprot.readI64();
-              _val284.put(_key287, _val288);
+              _key297 = iprot.readString();
+              _val298 = iprot.readI64();
+              _val294.put(_key297, _val298);
             }
           }
-          struct.transferred.put(_key283, _val284);
+          struct.transferred.put(_key293, _val294);
         }
       }
       struct.set_transferred_isSet(true);
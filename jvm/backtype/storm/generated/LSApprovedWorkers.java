@@ -51,7 +51,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked"})
-@Generated(value = "Autogenerated by Thrift Compiler (0.9.2)", date = "2015-4-10")
+@Generated(value = "Autogenerated by Thrift Compiler (0.9.2)", date = "2026-10-18")
 public class LSApprovedWorkers implements org.apache.thrift.TBase<LSApprovedWorkers, LSApprovedWorkers._Fields>, java.io.Serializable, Cloneable, Comparable<LSApprovedWorkers> {
   private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("LSApprovedWorkers");
 
@@ -365,15 +365,15 @@ public class LSApprovedWorkers implements org.apache.thrift.TBase<LSApprovedWork
           case 1: // APPROVED_WORKERS
             if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
               {
-                org.apache.thrift.protocol.TMap _map454 = iprot.readMapBegin();
-                struct.approved_workers = new HashMap<String,Integer>(2*_map454.size);
-                String _key455;
-                int _val456;
-                for (int _i457 = 0; _i457 < _map454.size; ++_i457)
+                org.apache.thrift.protocol.TMap _map464 = iprot.readMapBegin();
+                struct.approved_workers = new HashMap<String,Integer>(2*_map464.size);
+                String _key465;
+                int _val466;
+                for (int _i467 = 0; _i467 < _map464.size; ++_i467)
                 {
-                  _key455 = iprot.readString();
-                  _val456 = iprot.readI32();
-                  struct.approved_workers.put(_key455, _val456);
+                  _key465 = iprot.readString();
+                  _val466 = iprot.readI32();
+                  struct.approved_workers.put(_key465, _val466);
                 }
                 iprot.readMapEnd();
               }
@@ -399,10 +399,10 @@ public class LSApprovedWorkers implements org.apache.thrift.TBase<LSApprovedWork
         oprot.writeFieldBegin(APPROVED_WORKERS_FIELD_DESC);
         {
           oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.I32, struct.approved_workers.size()));
-          for (Map.Entry<String, Integer> _iter458 : struct.approved_workers.entrySet())
+          for (Map.Entry<String, Integer> _iter468 : struct.approved_workers.entrySet())
           {
-            oprot.writeString(_iter458.getKey());
-            oprot.writeI32(_iter458.getValue());
+            oprot.writeString(_iter468.getKey());
+            oprot.writeI32(_iter468.getValue());
           }
           oprot.writeMapEnd();
         }
@@ -427,10 +427,10 @@ public class LSApprovedWorkers implements org.apache.thrift.TBase<LSApprovedWork
       TTupleProtocol oprot = (TTupleProtocol) prot;
       {
         oprot.writeI32(struct.approved_workers.size());
-        for (Map.Entry<String, Integer> _iter459 : struct.approved_workers.entrySet())
+        for (Map.Entry<String, Integer> _iter469 : struct.approved_workers.entrySet())
         {
-          oprot.writeString(_iter459.getKey());
-          oprot.writeI32(_iter459.getValue());
+          oprot.writeString(_iter469.getKey());
+          oprot.writeI32(_iter469.getValue());
         }
       }
     }
@@ -439,15 +439,15 @@ public class LSApprovedWorkers implements org.apache.thrift.TBase<LSApprovedWork
     public void read(org.apache.thrift.protocol.TProtocol prot, LSApprovedWorkers struct) throws org.apache.thrift.TException {
       TTupleProtocol iprot = (TTupleProtocol) prot;
       {
-        org.apache.thrift.protocol.TMap _map460 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.I32, iprot.readI32());
-        struct.approved_workers = new HashMap<String,Integer>(2*_map460.size);
-        String _key461;
-        int _val462;
-        for (int _i463 = 0; _i463 < _map460.size; ++_i463)
+        org.apache.thrift.protocol.TMap _map470 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.I32, iprot.readI32());
+        struct.approved_workers = new HashMap<String,Integer>(2*_map470.size);
+        String _key471;
+        int _val472;
+        for (int _i473 = 0; _i473 < _map470.size; ++_i473)
         {
-          _key461 = iprot.readString();
-          _val462 = iprot.readI32();
-          struct.approved_workers.put(_key461, _val462);
+          _key471 = iprot.readString();
+          _val472 = iprot.readI32();
+          struct.approved_workers.put(_key471, _val472);
         }
       }
       struct.set_approved_workers_isSet(true);
@@ -51,7 +51,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked"})
-@Generated(value = "Autogenerated by Thrift Compiler (0.9.2)", date = "2015-4-10")
+@Generated(value = "Autogenerated by Thrift Compiler (0.9.2)", date = "2026-10-18")
 public class LSSupervisorAssignments implements org.apache.thrift.TBase<LSSupervisorAssignments, LSSupervisorAssignments._Fields>, java.io.Serializable, Cloneable, Comparable<LSSupervisorAssignments> {
   private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("LSSupervisorAssignments");
 
@@ -376,16 +376,16 @@ public class LSSupervisorAssignments implements org.apache.thrift.TBase<LSSuperv
           case 1: // ASSIGNMENTS
             if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
               {
-                org.apache.thrift.protocol.TMap _map464 = iprot.readMapBegin();
-                struct.assignments = new HashMap<Integer,LocalAssignment>(2*_map464.size);
-                int _key465;
-                LocalAssignment _val466;
-                for (int _i467 = 0; _i467 < _map464.size; ++_i467)
+                org.apache.thrift.protocol.TMap _map474 = iprot.readMapBegin();
+                struct.assignments = new HashMap<Integer,LocalAssignment>(2*_map474.size);
+                int _key475;
+                LocalAssignment _val476;
+                for (int _i477 = 0; _i477 < _map474.size; ++_i477)
                 {
-                  _key465 = iprot.readI32();
-                  _val466 = new LocalAssignment();
-                  _val466.read(iprot);
-                  struct.assignments.put(_key465, _val466);
+                  _key475 = iprot.readI32();
+                  _val476 = new LocalAssignment();
+                  _val476.read(iprot);
+                  struct.assignments.put(_key475, _val476);
                 }
                 iprot.readMapEnd();
               }
@@ -411,10 +411,10 @@ public class LSSupervisorAssignments implements org.apache.thrift.TBase<LSSuperv
         oprot.writeFieldBegin(ASSIGNMENTS_FIELD_DESC);
         {
           oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.I32, org.apache.thrift.protocol.TType.STRUCT, struct.assignments.size()));
-          for (Map.Entry<Integer, LocalAssignment> _iter468 : struct.assignments.entrySet())
+          for (Map.Entry<Integer, LocalAssignment> _iter478 : struct.assignments.entrySet())
           {
-            oprot.writeI32(_iter468.getKey());
-            _iter468.getValue().write(oprot);
+            oprot.writeI32(_iter478.getKey());
+            _iter478.getValue().write(oprot);
           }
           oprot.writeMapEnd();
         }
@@ -439,10 +439,10 @@ public class LSSupervisorAssignments implements org.apache.thrift.TBase<LSSuperv
       TTupleProtocol oprot = (TTupleProtocol) prot;
       {
         oprot.writeI32(struct.assignments.size());
-        for (Map.Entry<Integer, LocalAssignment> _iter469 : struct.assignments.entrySet())
+        for (Map.Entry<Integer, LocalAssignment> _iter479 : struct.assignments.entrySet())
         {
-          oprot.writeI32(_iter469.getKey());
-          _iter469.getValue().write(oprot);
+          oprot.writeI32(_iter479.getKey());
+          _iter479.getValue().write(oprot);
         }
       }
     }
@@ -451,16 +451,16 @@ public class LSSupervisorAssignments implements org.apache.thrift.TBase<LSSuperv
     public void read(org.apache.thrift.protocol.TProtocol prot, LSSupervisorAssignments struct) throws org.apache.thrift.TException {
       TTupleProtocol iprot = (TTupleProtocol) prot;
       {
-        org.apache.thrift.protocol.TMap _map470 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.I32, org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-        struct.assignments = new HashMap<Integer,LocalAssignment>(2*_map470.size);
-        int _key471;
-        LocalAssignment _val472;
-        for (int _i473 = 0; _i473 < _map470.size; ++_i473)
+        org.apache.thrift.protocol.TMap _map480 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.I32, org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+        struct.assignments = new HashMap<Integer,LocalAssignment>(2*_map480.size);
+        int _key481;
+        LocalAssignment _val482;
+        for (int _i483 = 0; _i483 < _map480.size; ++_i483)
         {
-          _key471 = iprot.readI32();
-          _val472 = new LocalAssignment();
-          _val472.read(iprot);
-          struct.assignments.put(_key471, _val472);
+          _key481 = iprot.readI32();
+          _val482 = new LocalAssignment();
+          _val482.read(iprot);
+          struct.assignments.put(_key481, _val482);
         }
       }
       struct.set_assignments_isSet(true);
@@ -51,7 +51,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked"})
-@Generated(value = "Autogenerated by Thrift Compiler (0.9.2)", date = "2015-4-10")
+@Generated(value = "Autogenerated by Thrift Compiler (0.9.2)", date = "2026-10-18")
 public class LocalAssignment implements org.apache.thrift.TBase<LocalAssignment, LocalAssignment._Fields>, java.io.Serializable, Cloneable, Comparable<LocalAssignment> {
   private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("LocalAssignment");
 
@@ -464,14 +464,14 @@ public class LocalAssignment implements org.apache.thrift.TBase<LocalAssignment,
           case 2: // EXECUTORS
             if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
               {
-                org.apache.thrift.protocol.TList _list446 = iprot.readListBegin();
-                struct.executors = new ArrayList<ExecutorInfo>(_list446.size);
-                ExecutorInfo _elem447;
-                for (int _i448 = 0; _i448 < _list446.size; ++_i448)
+                org.apache.thrift.protocol.TList _list456 = iprot.readListBegin();
+                struct.executors = new ArrayList<ExecutorInfo>(_list456.size);
+                ExecutorInfo _elem457;
+                for (int _i458 = 0; _i458 < _list456.size; ++_i458)
                 {
-                  _elem447 = new ExecutorInfo();
-                  _elem447.read(iprot);
-                  struct.executors.add(_elem447);
+                  _elem457 = new ExecutorInfo();
+                  _elem457.read(iprot);
+                  struct.executors.add(_elem457);
                 }
                 iprot.readListEnd();
               }
@@ -502,9 +502,9 @@ public class LocalAssignment implements org.apache.thrift.TBase<LocalAssignment,
         oprot.writeFieldBegin(EXECUTORS_FIELD_DESC);
         {
           oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.executors.size()));
-          for (ExecutorInfo _iter449 : struct.executors)
+          for (ExecutorInfo _iter459 : struct.executors)
           {
-            _iter449.write(oprot);
+            _iter459.write(oprot);
           }
           oprot.writeListEnd();
         }
@@ -530,9 +530,9 @@ public class LocalAssignment implements org.apache.thrift.TBase<LocalAssignment,
       oprot.writeString(struct.topology_id);
       {
         oprot.writeI32(struct.executors.size());
-        for (ExecutorInfo _iter450 : struct.executors)
+        for (ExecutorInfo _iter460 : struct.executors)
         {
-          _iter450.write(oprot);
+          _iter460.write(oprot);
         }
       }
     }
@@ -543,14 +543,14 @@ public class LocalAssignment implements org.apache.thrift.TBase<LocalAssignment,
       struct.topology_id = iprot.readString();
       struct.set_topology_id_isSet(true);
       {
-        org.apache.thrift.protocol.TList _list451 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-        struct.executors = new ArrayList<ExecutorInfo>(_list451.size);
-        ExecutorInfo _elem452;
-        for (int _i453 = 0; _i453 < _list451.size; ++_i453)
+        org.apache.thrift.protocol.TList _list461 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+        struct.executors = new ArrayList<ExecutorInfo>(_list461.size);
+        ExecutorInfo _elem462;
+        for (int _i463 = 0; _i463 < _list461.size; ++_i463)
         {
-          _elem452 = new ExecutorInfo();
-          _elem452.read(iprot);
-          struct.executors.add(_elem452);
+          _elem462 = new ExecutorInfo();
+          _elem462.read(iprot);
+          struct.executors.add(_elem462);
         }
       }
       struct.set_executors_isSet(true);
@@ -51,7 +51,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked"})
-@Generated(value = "Autogenerated by Thrift Compiler (0.9.2)", date = "2015-4-10")
+@Generated(value = "Autogenerated by Thrift Compiler (0.9.2)", date = "2026-10-18")
 public class LocalStateData implements org.apache.thrift.TBase<LocalStateData, LocalStateData._Fields>, java.io.Serializable, Cloneable, Comparable<LocalStateData> {
   private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("LocalStateData");
 
@@ -376,16 +376,16 @@ public class LocalStateData implements org.apache.thrift.TBase<LocalStateData, L
           case 1: // SERIALIZED_PARTS
             if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
               {
-                org.apache.thrift.protocol.TMap _map436 = iprot.readMapBegin();
-                struct.serialized_parts = new HashMap<String,ThriftSerializedObject>(2*_map436.size);
-                String _key437;
-                ThriftSerializedObject _val438;
-                for (int _i439 = 0; _i439 < _map436.size; ++_i439)
+                org.apache.thrift.protocol.TMap _map446 = iprot.readMapBegin();
+                struct.serialized_parts = new HashMap<String,ThriftSerializedObject>(2*_map446.size);
+                String _key447;
+                ThriftSerializedObject _val448;
+                for (int _i449 = 0; _i449 < _map446.size; ++_i449)
                 {
-                  _key437 = iprot.readString();
-                  _val438 = new ThriftSerializedObject();
-                  _val438.read(iprot);
-                  struct.serialized_parts.put(_key437, _val438);
+                  _key447 = iprot.readString();
+                  _val448 = new ThriftSerializedObject();
+                  _val448.read(iprot);
+                  struct.serialized_parts.put(_key447, _val448);
                 }
                 iprot.readMapEnd();
               }
@@ -411,10 +411,10 @@ public class LocalStateData implements org.apache.thrift.TBase<LocalStateData, L
         oprot.writeFieldBegin(SERIALIZED_PARTS_FIELD_DESC);
         {
           oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRUCT, struct.serialized_parts.size()));
-          for (Map.Entry<String, ThriftSerializedObject> _iter440 : struct.serialized_parts.entrySet())
+          for (Map.Entry<String, ThriftSerializedObject> _iter450 : struct.serialized_parts.entrySet())
           {
-            oprot.writeString(_iter440.getKey());
-            _iter440.getValue().write(oprot);
+            oprot.writeString(_iter450.getKey());
+            _iter450.getValue().write(oprot);
           }
           oprot.writeMapEnd();
         }
@@ -439,10 +439,10 @@ public class LocalStateData implements org.apache.thrift.TBase<LocalStateData, L
       TTupleProtocol oprot = (TTupleProtocol) prot;
       {
         oprot.writeI32(struct.serialized_parts.size());
-        for (Map.Entry<String, ThriftSerializedObject> _iter441 : struct.serialized_parts.entrySet())
+        for (Map.Entry<String, ThriftSerializedObject> _iter451 : struct.serialized_parts.entrySet())
         {
-          oprot.writeString(_iter441.getKey());
-          _iter441.getValue().write(oprot);
+          oprot.writeString(_iter451.getKey());
+          _iter451.getValue().write(oprot);
         }
       }
     }
@@ -451,16 +451,16 @@ public class LocalStateData implements org.apache.thrift.TBase<LocalStateData, L
     public void read(org.apache.thrift.protocol.TProtocol prot, LocalStateData struct) throws org.apache.thrift.TException {
       TTupleProtocol iprot = (TTupleProtocol) prot;
       {
-        org.apache.thrift.protocol.TMap _map442 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-        struct.serialized_parts = new HashMap<String,ThriftSerializedObject>(2*_map442.size);
-        String _key443;
-        ThriftSerializedObject _val444;
-        for (int _i445 = 0; _i445 < _map442.size; ++_i445)
+        org.apache.thrift.protocol.TMap _map452 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+        struct.serialized_parts = new HashMap<String,ThriftSerializedObject>(2*_map452.size);
+        String _key453;
+        ThriftSerializedObject _val454;
+        for (int _i455 = 0; _i455 < _map452.size; ++_i455)
         {
-          _key443 = iprot.readString();
-          _val444 = new ThriftSerializedObject();
-          _val444.read(iprot);
-          struct.serialized_parts.put(_key443, _val444);
+          _key453 = iprot.readString();
+          _val454 = new ThriftSerializedObject();
+          _val454.read(iprot);
+          struct.serialized_parts.put(_key453, _val454);
         }
       }
       struct.set_serialized_parts_isSet(true);
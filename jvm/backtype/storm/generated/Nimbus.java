@@ -51,7 +51,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked"})
-@Generated(value = "Autogenerated by Thrift Compiler (0.9.2)", date = "2015-4-20")
+@Generated(value = "Autogenerated by Thrift Compiler (0.9.2)", date = "2026-10-18")
 public class Nimbus {
 
   public interface Iface {
@@ -106,6 +106,10 @@ public class Nimbus {
      */
     public StormTopology getUserTopology(String id) throws NotAliveException, AuthorizationException, org.apache.thrift.TException;
 
+    public void workerHeartbeat(String stormId, String node, int port, ByteBuffer heartbeat) throws AuthorizationException, org.apache.thrift.TException;
+
+    public void removeWorkerHeartbeat(String stormId, String node, int port) throws AuthorizationException, org.apache.thrift.TException;
+
   }
 
   public interface AsyncIface {
@@ -150,6 +154,10 @@ public class Nimbus {
 
     public void getUserTopology(String id, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void workerHeartbeat(String stormId, String node, int port, ByteBuffer heartbeat, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void removeWorkerHeartbeat(String stormId, String node, int port, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
   }
 
   public static class Client extends org.apache.thrift.TServiceClient implements Iface {
@@ -722,6 +730,57 @@ public class Nimbus {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getUserTopology failed: unknown result");
     }
 
+    public void workerHeartbeat(String stormId, String node, int port, ByteBuffer heartbeat) throws AuthorizationException, org.apache.thrift.TException
+    {
+      send_workerHeartbeat(stormId, node, port, heartbeat);
+      recv_workerHeartbeat();
+    }
+
+    public void send_workerHeartbeat(String stormId, String node, int port, ByteBuffer heartbeat) throws org.apache.thrift.TException
+    {
+      workerHeartbeat_args args = new workerHeartbeat_args();
+      args.set_stormId(stormId);
+      args.set_node(node);
+      args.set_port(port);
+      args.set_heartbeat(heartbeat);
+      sendBase("workerHeartbeat", args);
+    }
+
+    public void recv_workerHeartbeat() throws AuthorizationException, org.apache.thrift.TException
+    {
+      workerHeartbeat_result result = new workerHeartbeat_result();
+      receiveBase(result, "workerHeartbeat");
+      if (result.aze != null) {
+        throw result.aze;
+      }
+      return;
+    }
+
+    public void removeWorkerHeartbeat(String stormId, String node, int port) throws AuthorizationException, org.apache.thrift.TException
+    {
+      send_removeWorkerHeartbeat(stormId, node, port);
+      recv_removeWorkerHeartbeat();
+    }
+
+    public void send_removeWorkerHeartbeat(String stormId, String node, int port) throws org.apache.thrift.TException
+    {
+      removeWorkerHeartbeat_args args = new removeWorkerHeartbeat_args();
+      args.set_stormId(stormId);
+      args.set_node(node);
+      args.set_port(port);
+      sendBase("removeWorkerHeartbeat", args);
+    }
+
+    public void recv_removeWorkerHeartbeat() throws AuthorizationException, org.apache.thrift.TException
+    {
+      removeWorkerHeartbeat_result result = new removeWorkerHeartbeat_result();
+      receiveBase(result, "removeWorkerHeartbeat");
+      if (result.aze != null) {
+        throw result.aze;
+      }
+      return;
+    }
+
   }
   public static class AsyncClient extends org.apache.thrift.async.TAsyncClient implements AsyncIface {
     public static class Factory implements org.apache.thrift.async.TAsyncClientFactory<AsyncClient> {
@@ -1407,6 +1466,85 @@ public class Nimbus {
       }
     }
 
+    public void workerHeartbeat(String stormId, String node, int port, ByteBuffer heartbeat, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      workerHeartbeat_call method_call = new workerHeartbeat_call(stormId, node, port, heartbeat, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class workerHeartbeat_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String stormId;
+      private String node;
+      private int port;
+      private ByteBuffer heartbeat;
+      public workerHeartbeat_call(String stormId, String node, int port, ByteBuffer heartbeat, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.stormId = stormId;
+        this.node = node;
+        this.port = port;
+        this.heartbeat = heartbeat;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("workerHeartbeat", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        workerHeartbeat_args args = new workerHeartbeat_args();
+        args.set_stormId(stormId);
+        args.set_node(node);
+        args.set_port(port);
+        args.set_heartbeat(heartbeat);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public void getResult() throws AuthorizationException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        (new Client(prot)).recv_workerHeartbeat();
+      }
+    }
+
+    public void removeWorkerHeartbeat(String stormId, String node, int port, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      removeWorkerHeartbeat_call method_call = new removeWorkerHeartbeat_call(stormId, node, port, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class removeWorkerHeartbeat_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String stormId;
+      private String node;
+      private int port;
+      public removeWorkerHeartbeat_call(String stormId, String node, int port, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.stormId = stormId;
+        this.node = node;
+        this.port = port;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("removeWorkerHeartbeat", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        removeWorkerHeartbeat_args args = new removeWorkerHeartbeat_args();
+        args.set_stormId(stormId);
+        args.set_node(node);
+        args.set_port(port);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public void getResult() throws AuthorizationException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        (new Client(prot)).recv_removeWorkerHeartbeat();
+      }
+    }
+
   }
 
   public static class Processor<I extends Iface> extends org.apache.thrift.TBaseProcessor<I> implements org.apache.thrift.TProcessor {
@@ -1440,6 +1578,8 @@ public class Nimbus {
       processMap.put("getTopologyConf", new getTopologyConf());
       processMap.put("getTopology", new getTopology());
       processMap.put("getUserTopology", new getUserTopology());
+      processMap.put("workerHeartbeat", new workerHeartbeat());
+      processMap.put("removeWorkerHeartbeat", new removeWorkerHeartbeat());
       return processMap;
     }
 
@@ -1957,6 +2097,54 @@ public class Nimbus {
       }
     }
 
+    public static class workerHeartbeat<I extends Iface> extends org.apache.thrift.ProcessFunction<I, workerHeartbeat_args> {
+      public workerHeartbeat() {
+        super("workerHeartbeat");
+      }
+
+      public workerHeartbeat_args getEmptyArgsInstance() {
+        return new workerHeartbeat_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public workerHeartbeat_result getResult(I iface, workerHeartbeat_args args) throws org.apache.thrift.TException {
+        workerHeartbeat_result result = new workerHeartbeat_result();
+        try {
+          iface.workerHeartbeat(args.stormId, args.node, args.port, args.heartbeat);
+        } catch (AuthorizationException aze) {
+          result.aze = aze;
+        }
+        return result;
+      }
+    }
+
+    public static class removeWorkerHeartbeat<I extends Iface> extends org.apache.thrift.ProcessFunction<I, removeWorkerHeartbeat_args> {
+      public removeWorkerHeartbeat() {
+        super("removeWorkerHeartbeat");
+      }
+
+      public removeWorkerHeartbeat_args getEmptyArgsInstance() {
+        return new removeWorkerHeartbeat_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public removeWorkerHeartbeat_result getResult(I iface, removeWorkerHeartbeat_args args) throws org.apache.thrift.TException {
+        removeWorkerHeartbeat_result result = new removeWorkerHeartbeat_result();
+        try {
+          iface.removeWorkerHeartbeat(args.stormId, args.node, args.port);
+        } catch (AuthorizationException aze) {
+          result.aze = aze;
+        }
+        return result;
+      }
+    }
+
   }
 
   public static class AsyncProcessor<I extends AsyncIface> extends org.apache.thrift.TBaseAsyncProcessor<I> {
@@ -1990,6 +2178,8 @@ public class Nimbus {
       processMap.put("getTopologyConf", new getTopologyConf());
       processMap.put("getTopology", new getTopology());
       processMap.put("getUserTopology", new getUserTopology());
+      processMap.put("workerHeartbeat", new workerHeartbeat());
+      processMap.put("removeWorkerHeartbeat", new removeWorkerHeartbeat());
       return processMap;
     }
 
@@ -3208,6 +3398,118 @@ public class Nimbus {
       }
     }
 
+    public static class workerHeartbeat<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, workerHeartbeat_args, Void> {
+      public workerHeartbeat() {
+        super("workerHeartbeat");
+      }
+
+      public workerHeartbeat_args getEmptyArgsInstance() {
+        return new workerHeartbeat_args();
+      }
+
+      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            workerHeartbeat_result result = new workerHeartbeat_result();
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            workerHeartbeat_result result = new workerHeartbeat_result();
+            if (e instanceof AuthorizationException) {
+                        result.aze = (AuthorizationException) e;
+                        result.set_aze_isSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, workerHeartbeat_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.workerHeartbeat(args.stormId, args.node, args.port, args.heartbeat,resultHandler);
+      }
+    }
+
+    public static class removeWorkerHeartbeat<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, removeWorkerHeartbeat_args, Void> {
+      public removeWorkerHeartbeat() {
+        super("removeWorkerHeartbeat");
+      }
+
+      public removeWorkerHeartbeat_args getEmptyArgsInstance() {
+        return new removeWorkerHeartbeat_args();
+      }
+
+      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            removeWorkerHeartbeat_result result = new removeWorkerHeartbeat_result();
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            removeWorkerHeartbeat_result result = new removeWorkerHeartbeat_result();
+            if (e instanceof AuthorizationException) {
+                        result.aze = (AuthorizationException) e;
+                        result.set_aze_isSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, removeWorkerHeartbeat_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.removeWorkerHeartbeat(args.stormId, args.node, args.port,resultHandler);
+      }
+    }
+
   }
 
   public static class submitTopology_args implements org.apache.thrift.TBase<submitTopology_args, submitTopology_args._Fields>, java.io.Serializable, Cloneable, Comparable<submitTopology_args>   {
@@ -21402,4 +21704,1965 @@ public class Nimbus {
 
   }
 
+  public static class workerHeartbeat_args implements org.apache.thrift.TBase<workerHeartbeat_args, workerHeartbeat_args._Fields>, java.io.Serializable, Cloneable, Comparable<workerHeartbeat_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("workerHeartbeat_args");
+
+    private static final org.apache.thrift.protocol.TField STORM_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("stormId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField NODE_FIELD_DESC = new org.apache.thrift.protocol.TField("node", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField PORT_FIELD_DESC = new org.apache.thrift.protocol.TField("port", org.apache.thrift.protocol.TType.I32, (short)3);
+    private static final org.apache.thrift.protocol.TField HEARTBEAT_FIELD_DESC = new org.apache.thrift.protocol.TField("heartbeat", org.apache.thrift.protocol.TType.STRING, (short)4);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new workerHeartbeat_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new workerHeartbeat_argsTupleSchemeFactory());
+    }
+
+    private String stormId; // required
+    private String node; // required
+    private int port; // required
+    private ByteBuffer heartbeat; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      STORM_ID((short)1, "stormId"),
+      NODE((short)2, "node"),
+      PORT((short)3, "port"),
+      HEARTBEAT((short)4, "heartbeat");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // STORM_ID
+            return STORM_ID;
+          case 2: // NODE
+            return NODE;
+          case 3: // PORT
+            return PORT;
+          case 4: // HEARTBEAT
+            return HEARTBEAT;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __PORT_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.STORM_ID, new org.apache.thrift.meta_data.FieldMetaData("stormId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.NODE, new org.apache.thrift.meta_data.FieldMetaData("node", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.PORT, new org.apache.thrift.meta_data.FieldMetaData("port", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.HEARTBEAT, new org.apache.thrift.meta_data.FieldMetaData("heartbeat", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(workerHeartbeat_args.class, metaDataMap);
+    }
+
+    public workerHeartbeat_args() {
+    }
+
+    public workerHeartbeat_args(
+      String stormId,
+      String node,
+      int port,
+      ByteBuffer heartbeat)
+    {
+      this();
+      this.stormId = stormId;
+      this.node = node;
+      this.port = port;
+      set_port_isSet(true);
+      this.heartbeat = org.apache.thrift.TBaseHelper.copyBinary(heartbeat);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public workerHeartbeat_args(workerHeartbeat_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.is_set_stormId()) {
+        this.stormId = other.stormId;
+      }
+      if (other.is_set_node()) {
+        this.node = other.node;
+      }
+      this.port = other.port;
+      if (other.is_set_heartbeat()) {
+        this.heartbeat = org.apache.thrift.TBaseHelper.copyBinary(other.heartbeat);
+      }
+    }
+
+    public workerHeartbeat_args deepCopy() {
+      return new workerHeartbeat_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.stormId = null;
+      this.node = null;
+      set_port_isSet(false);
+      this.port = 0;
+      this.heartbeat = null;
+    }
+
+    public String get_stormId() {
+      return this.stormId;
+    }
+
+    public void set_stormId(String stormId) {
+      this.stormId = stormId;
+    }
+
+    public void unset_stormId() {
+      this.stormId = null;
+    }
+
+    /** Returns true if field stormId is set (has been assigned a value) and false otherwise */
+    public boolean is_set_stormId() {
+      return this.stormId != null;
+    }
+
+    public void set_stormId_isSet(boolean value) {
+      if (!value) {
+        this.stormId = null;
+      }
+    }
+
+    public String get_node() {
+      return this.node;
+    }
+
+    public void set_node(String node) {
+      this.node = node;
+    }
+
+    public void unset_node() {
+      this.node = null;
+    }
+
+    /** Returns true if field node is set (has been assigned a value) and false otherwise */
+    public boolean is_set_node() {
+      return this.node != null;
+    }
+
+    public void set_node_isSet(boolean value) {
+      if (!value) {
+        this.node = null;
+      }
+    }
+
+    public int get_port() {
+      return this.port;
+    }
+
+    public void set_port(int port) {
+      this.port = port;
+      set_port_isSet(true);
+    }
+
+    public void unset_port() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __PORT_ISSET_ID);
+    }
+
+    /** Returns true if field port is set (has been assigned a value) and false otherwise */
+    public boolean is_set_port() {
+      return EncodingUtils.testBit(__isset_bitfield, __PORT_ISSET_ID);
+    }
+
+    public void set_port_isSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __PORT_ISSET_ID, value);
+    }
+
+    public byte[] get_heartbeat() {
+      set_heartbeat(org.apache.thrift.TBaseHelper.rightSize(heartbeat));
+      return heartbeat == null ? null : heartbeat.array();
+    }
+
+    public ByteBuffer buffer_for_heartbeat() {
+      return org.apache.thrift.TBaseHelper.copyBinary(heartbeat);
+    }
+
+    public void set_heartbeat(byte[] heartbeat) {
+      this.heartbeat = heartbeat == null ? (ByteBuffer)null : ByteBuffer.wrap(Arrays.copyOf(heartbeat, heartbeat.length));
+    }
+
+    public void set_heartbeat(ByteBuffer heartbeat) {
+      this.heartbeat = org.apache.thrift.TBaseHelper.copyBinary(heartbeat);
+    }
+
+    public void unset_heartbeat() {
+      this.heartbeat = null;
+    }
+
+    /** Returns true if field heartbeat is set (has been assigned a value) and false otherwise */
+    public boolean is_set_heartbeat() {
+      return this.heartbeat != null;
+    }
+
+    public void set_heartbeat_isSet(boolean value) {
+      if (!value) {
+        this.heartbeat = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case STORM_ID:
+        if (value == null) {
+          unset_stormId();
+        } else {
+          set_stormId((String)value);
+        }
+        break;
+
+      case NODE:
+        if (value == null) {
+          unset_node();
+        } else {
+          set_node((String)value);
+        }
+        break;
+
+      case PORT:
+        if (value == null) {
+          unset_port();
+        } else {
+          set_port((Integer)value);
+        }
+        break;
+
+      case HEARTBEAT:
+        if (value == null) {
+          unset_heartbeat();
+        } else {
+          set_heartbeat((ByteBuffer)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case STORM_ID:
+        return get_stormId();
+
+      case NODE:
+        return get_node();
+
+      case PORT:
+        return Integer.valueOf(get_port());
+
+      case HEARTBEAT:
+        return get_heartbeat();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case STORM_ID:
+        return is_set_stormId();
+      case NODE:
+        return is_set_node();
+      case PORT:
+        return is_set_port();
+      case HEARTBEAT:
+        return is_set_heartbeat();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof workerHeartbeat_args)
+        return this.equals((workerHeartbeat_args)that);
+      return false;
+    }
+
+    public boolean equals(workerHeartbeat_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_stormId = true && this.is_set_stormId();
+      boolean that_present_stormId = true && that.is_set_stormId();
+      if (this_present_stormId || that_present_stormId) {
+        if (!(this_present_stormId && that_present_stormId))
+          return false;
+        if (!this.stormId.equals(that.stormId))
+          return false;
+      }
+
+      boolean this_present_node = true && this.is_set_node();
+      boolean that_present_node = true && that.is_set_node();
+      if (this_present_node || that_present_node) {
+        if (!(this_present_node && that_present_node))
+          return false;
+        if (!this.node.equals(that.node))
+          return false;
+      }
+
+      boolean this_present_port = true;
+      boolean that_present_port = true;
+      if (this_present_port || that_present_port) {
+        if (!(this_present_port && that_present_port))
+          return false;
+        if (this.port != that.port)
+          return false;
+      }
+
+      boolean this_present_heartbeat = true && this.is_set_heartbeat();
+      boolean that_present_heartbeat = true && that.is_set_heartbeat();
+      if (this_present_heartbeat || that_present_heartbeat) {
+        if (!(this_present_heartbeat && that_present_heartbeat))
+          return false;
+        if (!this.heartbeat.equals(that.heartbeat))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_stormId = true && (is_set_stormId());
+      list.add(present_stormId);
+      if (present_stormId)
+        list.add(stormId);
+
+      boolean present_node = true && (is_set_node());
+      list.add(present_node);
+      if (present_node)
+        list.add(node);
+
+      boolean present_port = true;
+      list.add(present_port);
+      if (present_port)
+        list.add(port);
+
+      boolean present_heartbeat = true && (is_set_heartbeat());
+      list.add(present_heartbeat);
+      if (present_heartbeat)
+        list.add(heartbeat);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(workerHeartbeat_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(is_set_stormId()).compareTo(other.is_set_stormId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_stormId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.stormId, other.stormId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(is_set_node()).compareTo(other.is_set_node());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_node()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.node, other.node);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(is_set_port()).compareTo(other.is_set_port());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_port()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.port, other.port);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(is_set_heartbeat()).compareTo(other.is_set_heartbeat());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_heartbeat()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.heartbeat, other.heartbeat);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("workerHeartbeat_args(");
+      boolean first = true;
+
+      sb.append("stormId:");
+      if (this.stormId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.stormId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("node:");
+      if (this.node == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.node);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("port:");
+      sb.append(this.port);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("heartbeat:");
+      if (this.heartbeat == null) {
+        sb.append("null");
+      } else {
+        org.apache.thrift.TBaseHelper.toString(this.heartbeat, sb);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class workerHeartbeat_argsStandardSchemeFactory implements SchemeFactory {
+      public workerHeartbeat_argsStandardScheme getScheme() {
+        return new workerHeartbeat_argsStandardScheme();
+      }
+    }
+
+    private static class workerHeartbeat_argsStandardScheme extends StandardScheme<workerHeartbeat_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, workerHeartbeat_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // STORM_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.stormId = iprot.readString();
+                struct.set_stormId_isSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // NODE
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.node = iprot.readString();
+                struct.set_node_isSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // PORT
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.port = iprot.readI32();
+                struct.set_port_isSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // HEARTBEAT
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.heartbeat = iprot.readBinary();
+                struct.set_heartbeat_isSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, workerHeartbeat_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.stormId != null) {
+          oprot.writeFieldBegin(STORM_ID_FIELD_DESC);
+          oprot.writeString(struct.stormId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.node != null) {
+          oprot.writeFieldBegin(NODE_FIELD_DESC);
+          oprot.writeString(struct.node);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(PORT_FIELD_DESC);
+        oprot.writeI32(struct.port);
+        oprot.writeFieldEnd();
+        if (struct.heartbeat != null) {
+          oprot.writeFieldBegin(HEARTBEAT_FIELD_DESC);
+          oprot.writeBinary(struct.heartbeat);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class workerHeartbeat_argsTupleSchemeFactory implements SchemeFactory {
+      public workerHeartbeat_argsTupleScheme getScheme() {
+        return new workerHeartbeat_argsTupleScheme();
+      }
+    }
+
+    private static class workerHeartbeat_argsTupleScheme extends TupleScheme<workerHeartbeat_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, workerHeartbeat_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.is_set_stormId()) {
+          optionals.set(0);
+        }
+        if (struct.is_set_node()) {
+          optionals.set(1);
+        }
+        if (struct.is_set_port()) {
+          optionals.set(2);
+        }
+        if (struct.is_set_heartbeat()) {
+          optionals.set(3);
+        }
+        oprot.writeBitSet(optionals, 4);
+        if (struct.is_set_stormId()) {
+          oprot.writeString(struct.stormId);
+        }
+        if (struct.is_set_node()) {
+          oprot.writeString(struct.node);
+        }
+        if (struct.is_set_port()) {
+          oprot.writeI32(struct.port);
+        }
+        if (struct.is_set_heartbeat()) {
+          oprot.writeBinary(struct.heartbeat);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, workerHeartbeat_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(4);
+        if (incoming.get(0)) {
+          struct.stormId = iprot.readString();
+          struct.set_stormId_isSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.node = iprot.readString();
+          struct.set_node_isSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.port = iprot.readI32();
+          struct.set_port_isSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.heartbeat = iprot.readBinary();
+          struct.set_heartbeat_isSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class workerHeartbeat_result implements org.apache.thrift.TBase<workerHeartbeat_result, workerHeartbeat_result._Fields>, java.io.Serializable, Cloneable, Comparable<workerHeartbeat_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("workerHeartbeat_result");
+
+    private static final org.apache.thrift.protocol.TField AZE_FIELD_DESC = new org.apache.thrift.protocol.TField("aze", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new workerHeartbeat_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new workerHeartbeat_resultTupleSchemeFactory());
+    }
+
+    private AuthorizationException aze; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      AZE((short)1, "aze");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // AZE
+            return AZE;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.AZE, new org.apache.thrift.meta_data.FieldMetaData("aze", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(workerHeartbeat_result.class, metaDataMap);
+    }
+
+    public workerHeartbeat_result() {
+    }
+
+    public workerHeartbeat_result(
+      AuthorizationException aze)
+    {
+      this();
+      this.aze = aze;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public workerHeartbeat_result(workerHeartbeat_result other) {
+      if (other.is_set_aze()) {
+        this.aze = new AuthorizationException(other.aze);
+      }
+    }
+
+    public workerHeartbeat_result deepCopy() {
+      return new workerHeartbeat_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.aze = null;
+    }
+
+    public AuthorizationException get_aze() {
+      return this.aze;
+    }
+
+    public void set_aze(AuthorizationException aze) {
+      this.aze = aze;
+    }
+
+    public void unset_aze() {
+      this.aze = null;
+    }
+
+    /** Returns true if field aze is set (has been assigned a value) and false otherwise */
+    public boolean is_set_aze() {
+      return this.aze != null;
+    }
+
+    public void set_aze_isSet(boolean value) {
+      if (!value) {
+        this.aze = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case AZE:
+        if (value == null) {
+          unset_aze();
+        } else {
+          set_aze((AuthorizationException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case AZE:
+        return get_aze();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case AZE:
+        return is_set_aze();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof workerHeartbeat_result)
+        return this.equals((workerHeartbeat_result)that);
+      return false;
+    }
+
+    public boolean equals(workerHeartbeat_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_aze = true && this.is_set_aze();
+      boolean that_present_aze = true && that.is_set_aze();
+      if (this_present_aze || that_present_aze) {
+        if (!(this_present_aze && that_present_aze))
+          return false;
+        if (!this.aze.equals(that.aze))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_aze = true && (is_set_aze());
+      list.add(present_aze);
+      if (present_aze)
+        list.add(aze);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(workerHeartbeat_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(is_set_aze()).compareTo(other.is_set_aze());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_aze()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.aze, other.aze);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("workerHeartbeat_result(");
+      boolean first = true;
+
+      sb.append("aze:");
+      if (this.aze == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.aze);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class workerHeartbeat_resultStandardSchemeFactory implements SchemeFactory {
+      public workerHeartbeat_resultStandardScheme getScheme() {
+        return new workerHeartbeat_resultStandardScheme();
+      }
+    }
+
+    private static class workerHeartbeat_resultStandardScheme extends StandardScheme<workerHeartbeat_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, workerHeartbeat_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // AZE
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.aze = new AuthorizationException();
+                struct.aze.read(iprot);
+                struct.set_aze_isSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, workerHeartbeat_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.aze != null) {
+          oprot.writeFieldBegin(AZE_FIELD_DESC);
+          struct.aze.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class workerHeartbeat_resultTupleSchemeFactory implements SchemeFactory {
+      public workerHeartbeat_resultTupleScheme getScheme() {
+        return new workerHeartbeat_resultTupleScheme();
+      }
+    }
+
+    private static class workerHeartbeat_resultTupleScheme extends TupleScheme<workerHeartbeat_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, workerHeartbeat_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.is_set_aze()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.is_set_aze()) {
+          struct.aze.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, workerHeartbeat_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.aze = new AuthorizationException();
+          struct.aze.read(iprot);
+          struct.set_aze_isSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class removeWorkerHeartbeat_args implements org.apache.thrift.TBase<removeWorkerHeartbeat_args, removeWorkerHeartbeat_args._Fields>, java.io.Serializable, Cloneable, Comparable<removeWorkerHeartbeat_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("removeWorkerHeartbeat_args");
+
+    private static final org.apache.thrift.protocol.TField STORM_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("stormId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField NODE_FIELD_DESC = new org.apache.thrift.protocol.TField("node", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField PORT_FIELD_DESC = new org.apache.thrift.protocol.TField("port", org.apache.thrift.protocol.TType.I32, (short)3);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new removeWorkerHeartbeat_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new removeWorkerHeartbeat_argsTupleSchemeFactory());
+    }
+
+    private String stormId; // required
+    private String node; // required
+    private int port; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      STORM_ID((short)1, "stormId"),
+      NODE((short)2, "node"),
+      PORT((short)3, "port");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // STORM_ID
+            return STORM_ID;
+          case 2: // NODE
+            return NODE;
+          case 3: // PORT
+            return PORT;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __PORT_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.STORM_ID, new org.apache.thrift.meta_data.FieldMetaData("stormId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.NODE, new org.apache.thrift.meta_data.FieldMetaData("node", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.PORT, new org.apache.thrift.meta_data.FieldMetaData("port", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(removeWorkerHeartbeat_args.class, metaDataMap);
+    }
+
+    public removeWorkerHeartbeat_args() {
+    }
+
+    public removeWorkerHeartbeat_args(
+      String stormId,
+      String node,
+      int port)
+    {
+      this();
+      this.stormId = stormId;
+      this.node = node;
+      this.port = port;
+      set_port_isSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public removeWorkerHeartbeat_args(removeWorkerHeartbeat_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.is_set_stormId()) {
+        this.stormId = other.stormId;
+      }
+      if (other.is_set_node()) {
+        this.node = other.node;
+      }
+      this.port = other.port;
+    }
+
+    public removeWorkerHeartbeat_args deepCopy() {
+      return new removeWorkerHeartbeat_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.stormId = null;
+      this.node = null;
+      set_port_isSet(false);
+      this.port = 0;
+    }
+
+    public String get_stormId() {
+      return this.stormId;
+    }
+
+    public void set_stormId(String stormId) {
+      this.stormId = stormId;
+    }
+
+    public void unset_stormId() {
+      this.stormId = null;
+    }
+
+    /** Returns true if field stormId is set (has been assigned a value) and false otherwise */
+    public boolean is_set_stormId() {
+      return this.stormId != null;
+    }
+
+    public void set_stormId_isSet(boolean value) {
+      if (!value) {
+        this.stormId = null;
+      }
+    }
+
+    public String get_node() {
+      return this.node;
+    }
+
+    public void set_node(String node) {
+      this.node = node;
+    }
+
+    public void unset_node() {
+      this.node = null;
+    }
+
+    /** Returns true if field node is set (has been assigned a value) and false otherwise */
+    public boolean is_set_node() {
+      return this.node != null;
+    }
+
+    public void set_node_isSet(boolean value) {
+      if (!value) {
+        this.node = null;
+      }
+    }
+
+    public int get_port() {
+      return this.port;
+    }
+
+    public void set_port(int port) {
+      this.port = port;
+      set_port_isSet(true);
+    }
+
+    public void unset_port() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __PORT_ISSET_ID);
+    }
+
+    /** Returns true if field port is set (has been assigned a value) and false otherwise */
+    public boolean is_set_port() {
+      return EncodingUtils.testBit(__isset_bitfield, __PORT_ISSET_ID);
+    }
+
+    public void set_port_isSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __PORT_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case STORM_ID:
+        if (value == null) {
+          unset_stormId();
+        } else {
+          set_stormId((String)value);
+        }
+        break;
+
+      case NODE:
+        if (value == null) {
+          unset_node();
+        } else {
+          set_node((String)value);
+        }
+        break;
+
+      case PORT:
+        if (value == null) {
+          unset_port();
+        } else {
+          set_port((Integer)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case STORM_ID:
+        return get_stormId();
+
+      case NODE:
+        return get_node();
+
+      case PORT:
+        return Integer.valueOf(get_port());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case STORM_ID:
+        return is_set_stormId();
+      case NODE:
+        return is_set_node();
+      case PORT:
+        return is_set_port();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof removeWorkerHeartbeat_args)
+        return this.equals((removeWorkerHeartbeat_args)that);
+      return false;
+    }
+
+    public boolean equals(removeWorkerHeartbeat_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_stormId = true && this.is_set_stormId();
+      boolean that_present_stormId = true && that.is_set_stormId();
+      if (this_present_stormId || that_present_stormId) {
+        if (!(this_present_stormId && that_present_stormId))
+          return false;
+        if (!this.stormId.equals(that.stormId))
+          return false;
+      }
+
+      boolean this_present_node = true && this.is_set_node();
+      boolean that_present_node = true && that.is_set_node();
+      if (this_present_node || that_present_node) {
+        if (!(this_present_node && that_present_node))
+          return false;
+        if (!this.node.equals(that.node))
+          return false;
+      }
+
+      boolean this_present_port = true;
+      boolean that_present_port = true;
+      if (this_present_port || that_present_port) {
+        if (!(this_present_port && that_present_port))
+          return false;
+        if (this.port != that.port)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_stormId = true && (is_set_stormId());
+      list.add(present_stormId);
+      if (present_stormId)
+        list.add(stormId);
+
+      boolean present_node = true && (is_set_node());
+      list.add(present_node);
+      if (present_node)
+        list.add(node);
+
+      boolean present_port = true;
+      list.add(present_port);
+      if (present_port)
+        list.add(port);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(removeWorkerHeartbeat_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(is_set_stormId()).compareTo(other.is_set_stormId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_stormId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.stormId, other.stormId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(is_set_node()).compareTo(other.is_set_node());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_node()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.node, other.node);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(is_set_port()).compareTo(other.is_set_port());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_port()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.port, other.port);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("removeWorkerHeartbeat_args(");
+      boolean first = true;
+
+      sb.append("stormId:");
+      if (this.stormId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.stormId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("node:");
+      if (this.node == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.node);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("port:");
+      sb.append(this.port);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class removeWorkerHeartbeat_argsStandardSchemeFactory implements SchemeFactory {
+      public removeWorkerHeartbeat_argsStandardScheme getScheme() {
+        return new removeWorkerHeartbeat_argsStandardScheme();
+      }
+    }
+
+    private static class removeWorkerHeartbeat_argsStandardScheme extends StandardScheme<removeWorkerHeartbeat_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, removeWorkerHeartbeat_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // STORM_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.stormId = iprot.readString();
+                struct.set_stormId_isSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // NODE
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.node = iprot.readString();
+                struct.set_node_isSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // PORT
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.port = iprot.readI32();
+                struct.set_port_isSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, removeWorkerHeartbeat_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.stormId != null) {
+          oprot.writeFieldBegin(STORM_ID_FIELD_DESC);
+          oprot.writeString(struct.stormId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.node != null) {
+          oprot.writeFieldBegin(NODE_FIELD_DESC);
+          oprot.writeString(struct.node);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(PORT_FIELD_DESC);
+        oprot.writeI32(struct.port);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class removeWorkerHeartbeat_argsTupleSchemeFactory implements SchemeFactory {
+      public removeWorkerHeartbeat_argsTupleScheme getScheme() {
+        return new removeWorkerHeartbeat_argsTupleScheme();
+      }
+    }
+
+    private static class removeWorkerHeartbeat_argsTupleScheme extends TupleScheme<removeWorkerHeartbeat_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, removeWorkerHeartbeat_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.is_set_stormId()) {
+          optionals.set(0);
+        }
+        if (struct.is_set_node()) {
+          optionals.set(1);
+        }
+        if (struct.is_set_port()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
+        if (struct.is_set_stormId()) {
+          oprot.writeString(struct.stormId);
+        }
+        if (struct.is_set_node()) {
+          oprot.writeString(struct.node);
+        }
+        if (struct.is_set_port()) {
+          oprot.writeI32(struct.port);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, removeWorkerHeartbeat_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(3);
+        if (incoming.get(0)) {
+          struct.stormId = iprot.readString();
+          struct.set_stormId_isSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.node = iprot.readString();
+          struct.set_node_isSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.port = iprot.readI32();
+          struct.set_port_isSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class removeWorkerHeartbeat_result implements org.apache.thrift.TBase<removeWorkerHeartbeat_result, removeWorkerHeartbeat_result._Fields>, java.io.Serializable, Cloneable, Comparable<removeWorkerHeartbeat_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("removeWorkerHeartbeat_result");
+
+    private static final org.apache.thrift.protocol.TField AZE_FIELD_DESC = new org.apache.thrift.protocol.TField("aze", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new removeWorkerHeartbeat_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new removeWorkerHeartbeat_resultTupleSchemeFactory());
+    }
+
+    private AuthorizationException aze; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      AZE((short)1, "aze");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // AZE
+            return AZE;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.AZE, new org.apache.thrift.meta_data.FieldMetaData("aze", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(removeWorkerHeartbeat_result.class, metaDataMap);
+    }
+
+    public removeWorkerHeartbeat_result() {
+    }
+
+    public removeWorkerHeartbeat_result(
+      AuthorizationException aze)
+    {
+      this();
+      this.aze = aze;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public removeWorkerHeartbeat_result(removeWorkerHeartbeat_result other) {
+      if (other.is_set_aze()) {
+        this.aze = new AuthorizationException(other.aze);
+      }
+    }
+
+    public removeWorkerHeartbeat_result deepCopy() {
+      return new removeWorkerHeartbeat_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.aze = null;
+    }
+
+    public AuthorizationException get_aze() {
+      return this.aze;
+    }
+
+    public void set_aze(AuthorizationException aze) {
+      this.aze = aze;
+    }
+
+    public void unset_aze() {
+      this.aze = null;
+    }
+
+    /** Returns true if field aze is set (has been assigned a value) and false otherwise */
+    public boolean is_set_aze() {
+      return this.aze != null;
+    }
+
+    public void set_aze_isSet(boolean value) {
+      if (!value) {
+        this.aze = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case AZE:
+        if (value == null) {
+          unset_aze();
+        } else {
+          set_aze((AuthorizationException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case AZE:
+        return get_aze();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case AZE:
+        return is_set_aze();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof removeWorkerHeartbeat_result)
+        return this.equals((removeWorkerHeartbeat_result)that);
+      return false;
+    }
+
+    public boolean equals(removeWorkerHeartbeat_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_aze = true && this.is_set_aze();
+      boolean that_present_aze = true && that.is_set_aze();
+      if (this_present_aze || that_present_aze) {
+        if (!(this_present_aze && that_present_aze))
+          return false;
+        if (!this.aze.equals(that.aze))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_aze = true && (is_set_aze());
+      list.add(present_aze);
+      if (present_aze)
+        list.add(aze);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(removeWorkerHeartbeat_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(is_set_aze()).compareTo(other.is_set_aze());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_aze()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.aze, other.aze);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("removeWorkerHeartbeat_result(");
+      boolean first = true;
+
+      sb.append("aze:");
+      if (this.aze == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.aze);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class removeWorkerHeartbeat_resultStandardSchemeFactory implements SchemeFactory {
+      public removeWorkerHeartbeat_resultStandardScheme getScheme() {
+        return new removeWorkerHeartbeat_resultStandardScheme();
+      }
+    }
+
+    private static class removeWorkerHeartbeat_resultStandardScheme extends StandardScheme<removeWorkerHeartbeat_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, removeWorkerHeartbeat_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // AZE
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.aze = new AuthorizationException();
+                struct.aze.read(iprot);
+                struct.set_aze_isSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, removeWorkerHeartbeat_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.aze != null) {
+          oprot.writeFieldBegin(AZE_FIELD_DESC);
+          struct.aze.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class removeWorkerHeartbeat_resultTupleSchemeFactory implements SchemeFactory {
+      public removeWorkerHeartbeat_resultTupleScheme getScheme() {
+        return new removeWorkerHeartbeat_resultTupleScheme();
+      }
+    }
+
+    private static class removeWorkerHeartbeat_resultTupleScheme extends TupleScheme<removeWorkerHeartbeat_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, removeWorkerHeartbeat_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.is_set_aze()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.is_set_aze()) {
+          struct.aze.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, removeWorkerHeartbeat_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.aze = new AuthorizationException();
+          struct.aze.read(iprot);
+          struct.set_aze_isSet(true);
+        }
+      }
+    }
+
+  }
+
 }
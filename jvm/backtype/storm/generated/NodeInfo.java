@@ -51,7 +51,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked"})
-@Generated(value = "Autogenerated by Thrift Compiler (0.9.2)", date = "2015-3-5")
+@Generated(value = "Autogenerated by Thrift Compiler (0.9.2)", date = "2026-10-18")
 public class NodeInfo implements org.apache.thrift.TBase<NodeInfo, NodeInfo._Fields>, java.io.Serializable, Cloneable, Comparable<NodeInfo> {
   private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("NodeInfo");
 
@@ -461,13 +461,13 @@ public class NodeInfo implements org.apache.thrift.TBase<NodeInfo, NodeInfo._Fie
           case 2: // PORT
             if (schemeField.type == org.apache.thrift.protocol.TType.SET) {
               {
-                org.apache.thrift.protocol.TSet _set362 = iprot.readSetBegin();
-                struct.port = new HashSet<Long>(2*_set362.size);
-                long _elem363;
-                for (int _i364 = 0; _i364 < _set362.size; ++_i364)
+                org.apache.thrift.protocol.TSet _set372 = iprot.readSetBegin();
+                struct.port = new HashSet<Long>(2*_set372.size);
+                long _elem373;
+                for (int _i374 = 0; _i374 < _set372.size; ++_i374)
                 {
-                  _elem363 = iprot.readI64();
-                  struct.port.add(_elem363);
+                  _elem373 = iprot.readI64();
+                  struct.port.add(_elem373);
                 }
                 iprot.readSetEnd();
               }
@@ -498,9 +498,9 @@ public class NodeInfo implements org.apache.thrift.TBase<NodeInfo, NodeInfo._Fie
         oprot.writeFieldBegin(PORT_FIELD_DESC);
         {
           oprot.writeSetBegin(new org.apache.thrift.protocol.TSet(org.apache.thrift.protocol.TType.I64, struct.port.size()));
-          for (long _iter365 : struct.port)
+          for (long _iter375 : struct.port)
           {
-            oprot.writeI64(_iter365);
+            oprot.writeI64(_iter375);
           }
           oprot.writeSetEnd();
         }
@@ -526,9 +526,9 @@ public class NodeInfo implements org.apache.thrift.TBase<NodeInfo, NodeInfo._Fie
       oprot.writeString(struct.node);
       {
         oprot.writeI32(struct.port.size());
-        for (long _iter366 : struct.port)
+        for (long _iter376 : struct.port)
         {
-          oprot.writeI64(_iter366);
+          oprot.writeI64(_iter376);
         }
       }
     }
@@ -539,13 +539,13 @@ public class NodeInfo implements org.apache.thrift.TBase<NodeInfo, NodeInfo._Fie
       struct.node = iprot.readString();
       struct.set_node_isSet(true);
       {
-        org.apache.thrift.protocol.TSet _set367 = new org.apache.thrift.protocol.TSet(org.apache.thrift.protocol.TType.I64, iprot.readI32());
-        struct.port = new HashSet<Long>(2*_set367.size);
-        long _elem368;
-        for (int _i369 = 0; _i369 < _set367.size; ++_i369)
+        org.apache.thrift.protocol.TSet _set377 = new org.apache.thrift.protocol.TSet(org.apache.thrift.protocol.TType.I64, iprot.readI32());
+        struct.port = new HashSet<Long>(2*_set377.size);
+        long _elem378;
+        for (int _i379 = 0; _i379 < _set377.size; ++_i379)
         {
-          _elem368 = iprot.readI64();
-          struct.port.add(_elem368);
+          _elem378 = iprot.readI64();
+          struct.port.add(_elem378);
         }
       }
       struct.set_port_isSet(true);
@@ -51,7 +51,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked"})
-@Generated(value = "Autogenerated by Thrift Compiler (0.9.2)", date = "2015-2-6")
+@Generated(value = "Autogenerated by Thrift Compiler (0.9.2)", date = "2026-10-18")
 public class RebalanceOptions implements org.apache.thrift.TBase<RebalanceOptions, RebalanceOptions._Fields>, java.io.Serializable, Cloneable, Comparable<RebalanceOptions> {
   private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("RebalanceOptions");
 
@@ -529,15 +529,15 @@ public class RebalanceOptions implements org.apache.thrift.TBase<RebalanceOption
           case 3: // NUM_EXECUTORS
             if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
               {
-                org.apache.thrift.protocol.TMap _map316 = iprot.readMapBegin();
-                struct.num_executors = new HashMap<String,Integer>(2*_map316.size);
-                String _key317;
-                int _val318;
-                for (int _i319 = 0; _i319 < _map316.size; ++_i319)
+                org.apache.thrift.protocol.TMap _map326 = iprot.readMapBegin();
+                struct.num_executors = new HashMap<String,Integer>(2*_map326.size);
+                String _key327;
+                int _val328;
+                for (int _i329 = 0; _i329 < _map326.size; ++_i329)
                 {
-                  _key317 = iprot.readString();
-                  _val318 = iprot.readI32();
-                  struct.num_executors.put(_key317, _val318);
+                  _key327 = iprot.readString();
+                  _val328 = iprot.readI32();
+                  struct.num_executors.put(_key327, _val328);
                 }
                 iprot.readMapEnd();
               }
@@ -574,10 +574,10 @@ public class RebalanceOptions implements org.apache.thrift.TBase<RebalanceOption
           oprot.writeFieldBegin(NUM_EXECUTORS_FIELD_DESC);
           {
             oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.I32, struct.num_executors.size()));
-            for (Map.Entry<String, Integer> _iter320 : struct.num_executors.entrySet())
+            for (Map.Entry<String, Integer> _iter330 : struct.num_executors.entrySet())
             {
-              oprot.writeString(_iter320.getKey());
-              oprot.writeI32(_iter320.getValue());
+              oprot.writeString(_iter330.getKey());
+              oprot.writeI32(_iter330.getValue());
             }
             oprot.writeMapEnd();
           }
@@ -621,10 +621,10 @@ public class RebalanceOptions implements org.apache.thrift.TBase<RebalanceOption
       if (struct.is_set_num_executors()) {
         {
           oprot.writeI32(struct.num_executors.size());
-          for (Map.Entry<String, Integer> _iter321 : struct.num_executors.entrySet())
+          for (Map.Entry<String, Integer> _iter331 : struct.num_executors.entrySet())
           {
-            oprot.writeString(_iter321.getKey());
-            oprot.writeI32(_iter321.getValue());
+            oprot.writeString(_iter331.getKey());
+            oprot.writeI32(_iter331.getValue());
           }
         }
       }
@@ -644,15 +644,15 @@ public class RebalanceOptions implements org.apache.thrift.TBase<RebalanceOption
       }
       if (incoming.get(2)) {
         {
-          org.apache.thrift.protocol.TMap _map322 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.I32, iprot.readI32());
-          struct.num_executors = new HashMap<String,Integer>(2*_map322.size);
-          String _key323;
-          int _val324;
-          for (int _i325 = 0; _i325 < _map322.size; ++_i325)
+          org.apache.thrift.protocol.TMap _map332 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.I32, iprot.readI32());
+          struct.num_executors = new HashMap<String,Integer>(2*_map332.size);
+          String _key333;
+          int _val334;
+          for (int _i335 = 0; _i335 < _map332.size; ++_i335)
           {
-            _key323 = iprot.readString();
-            _val324 = iprot.readI32();
-            struct.num_executors.put(_key323, _val324);
+            _key333 = iprot.readString();
+            _val334 = iprot.readI32();
+            struct.num_executors.put(_key333, _val334);
           }
         }
         struct.set_num_executors_isSet(true);
@@ -51,7 +51,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked"})
-@Generated(value = "Autogenerated by Thrift Compiler (0.9.2)", date = "2015-2-6")
+@Generated(value = "Autogenerated by Thrift Compiler (0.9.2)", date = "2026-10-18")
 public class SpoutStats implements org.apache.thrift.TBase<SpoutStats, SpoutStats._Fields>, java.io.Serializable, Cloneable, Comparable<SpoutStats> {
   private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("SpoutStats");
 
@@ -602,27 +602,27 @@ public class SpoutStats implements org.apache.thrift.TBase<SpoutStats, SpoutStat
           case 1: // ACKED
             if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
               {
-                org.apache.thrift.protocol.TMap _map190 = iprot.readMapBegin();
-                struct.acked = new HashMap<String,Map<String,Long>>(2*_map190.size);
-                String _key191;
-                Map<String,Long> _val192;
-                for (int _i193 = 0; _i193 < _map190.size; ++_i193)
+                org.apache.thrift.protocol.TMap _map200 = iprot.readMapBegin();
+                struct.acked = new HashMap<String,Map<String,Long>>(2*_map200.size);
+                String _key201;
+                Map<String,Long> _val202;
+                for (int _i203 = 0; _i203 < _map200.size; ++_i203)
                 {
-                  _key191 = iprot.readString();
+                  _key201 = iprot.readString();
                   {
-                    org.apache.thrift.protocol.TMap _map194 = iprot.readMapBegin();
-                    _val192 = new HashMap<String,Long>(2*_map194.size);
-                    String _key195;
-                    long _val196;
-                    for (int _i197 = 0; _i197 < _map194.size; ++_i197)
+                    org.apache.thrift.protocol.TMap _map204 = iprot.readMapBegin();
+                    _val202 = new HashMap<String,Long>(2*_map204.size);
+                    String _key205;
+                    long _val206;
+                    for (int _i207 = 0; _i207 < _map204.size; ++_i207)
                     {
-                      _key195 = iprot.readString();
-                      _val196 = iprot.readI64();
-                      _val192.put(_key195, _val196);
+                      _key205 = iprot.readString();
+                      _val206 = iprot.readI64();
+                      _val202.put(_key205, _val206);
                     }
                     iprot.readMapEnd();
                   }
-                  struct.acked.put(_key191, _val192);
+                  struct.acked.put(_key201, _val202);
                 }
                 iprot.readMapEnd();
               }
@@ -634,27 +634,27 @@ public class SpoutStats implements org.apache.thrift.TBase<SpoutStats, SpoutStat
           case 2: // FAILED
             if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
               {
-                org.apache.thrift.protocol.TMap _map198 = iprot.readMapBegin();
-                struct.failed = new HashMap<String,Map<String,Long>>(2*_map198.size);
-                String _key199;
-                Map<String,Long> _val200;
-                for (int _i201 = 0; _i201 < _map198.size; ++_i201)
+                org.apache.thrift.protocol.TMap _map208 = iprot.readMapBegin();
+                struct.failed = new HashMap<String,Map<String,Long>>(2*_map208.size);
+                String _key209;
+                Map<String,Long> _val210;
+                for (int _i211 = 0; _i211 < _map208.size; ++_i211)
                 {
-                  _key199 = iprot.readString();
+                  _key209 = iprot.readString();
                   {
-                    org.apache.thrift.protocol.TMap _map202 = iprot.readMapBegin();
-                    _val200 = new HashMap<String,Long>(2*_map202.size);
-                    String _key203;
-                    long _val204;
-                    for (int _i205 = 0; _i205 < _map202.size; ++_i205)
+                    org.apache.thrift.protocol.TMap _map212 = iprot.readMapBegin();
+                    _val210 = new HashMap<String,Long>(2*_map212.size);
+                    String _key213;
+                    long _val214;
+                    for (int _i215 = 0; _i215 < _map212.size; ++_i215)
                     {
-                      _key203 = iprot.readString();
-                      _val204 = iprot.readI64();
-                      _val200.put(_key203, _val204);
+                      _key213 = iprot.readString();
+                      _val214 = iprot.readI64();
+                      _val210.put(_key213, _val214);
                     }
                     iprot.readMapEnd();
                   }
-                  struct.failed.put(_key199, _val200);
+                  struct.failed.put(_key209, _val210);
                 }
                 iprot.readMapEnd();
               }
@@ -666,27 +666,27 @@ public class SpoutStats implements org.apache.thrift.TBase<SpoutStats, SpoutStat
           case 3: // COMPLETE_MS_AVG
             if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
               {
-                org.apache.thrift.protocol.TMap _map206 = iprot.readMapBegin();
-                struct.complete_ms_avg = new HashMap<String,Map<String,Double>>(2*_map206.size);
-                String _key207;
-                Map<String,Double> _val208;
-                for (int _i209 = 0; _i209 < _map206.size; ++_i209)
+                org.apache.thrift.protocol.TMap _map216 = iprot.readMapBegin();
+                struct.complete_ms_avg = new HashMap<String,Map<String,Double>>(2*_map216.size);
+                String _key217;
+                Map<String,Double> _val218;
+                for (int _i219 = 0; _i219 < _map216.size; ++_i219)
                 {
-                  _key207 = iprot.readString();
+                  _key217 = iprot.readString();
                   {
-                    org.apache.thrift.protocol.TMap _map210 = iprot.readMapBegin();
-                    _val208 = new HashMap<String,Double>(2*_map210.size);
-                    String _key211;
-                    double _val212;
-                    for (int _i213 = 0; _i213 < _map210.size; ++_i213)
+                    org.apache.thrift.protocol.TMap _map220 = iprot.readMapBegin();
+                    _val218 = new HashMap<String,Double>(2*_map220.size);
+                    String _key221;
+                    double _val222;
+                    for (int _i223 = 0; _i223 < _map220.size; ++_i223)
                     {
-                      _key211 = iprot.readString();
-                      _val212 = iprot.readDouble();
-                      _val208.put(_key211, _val212);
+                      _key221 = iprot.readString();
+                      _val222 = iprot.readDouble();
+                      _val218.put(_key221, _val222);
                     }
                     iprot.readMapEnd();
                   }
-                  struct.complete_ms_avg.put(_key207, _val208);
+                  struct.complete_ms_avg.put(_key217, _val218);
                 }
                 iprot.readMapEnd();
               }
@@ -712,15 +712,15 @@ public class SpoutStats implements org.apache.thrift.TBase<SpoutStats, SpoutStat
         oprot.writeFieldBegin(ACKED_FIELD_DESC);
         {
           oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.MAP, struct.acked.size()));
-          for (Map.Entry<String, Map<String,Long>> _iter214 : struct.acked.entrySet())
+          for (Map.Entry<String, Map<String,Long>> _iter224 : struct.acked.entrySet())
           {
-            oprot.writeString(_iter214.getKey());
+            oprot.writeString(_iter224.getKey());
             {
-              oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.I64, _iter214.getValue().size()));
-              for (Map.Entry<String, Long> _iter215 : _iter214.getValue().entrySet())
+              oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.I64, _iter224.getValue().size()));
+              for (Map.Entry<String, Long> _iter225 : _iter224.getValue().entrySet())
               {
-                oprot.writeString(_iter215.getKey());
-                oprot.writeI64(_iter215.getValue());
+                oprot.writeString(_iter225.getKey());
+                oprot.writeI64(_iter225.getValue());
               }
               oprot.writeMapEnd();
             }
@@ -733,15 +733,15 @@ public class SpoutStats implements org.apache.thrift.TBase<SpoutStats, SpoutStat
         oprot.writeFieldBegin(FAILED_FIELD_DESC);
         {
           oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.MAP, struct.failed.size()));
-          for (Map.Entry<String, Map<String,Long>> _iter216 : struct.failed.entrySet())
+          for (Map.Entry<String, Map<String,Long>> _iter226 : struct.failed.entrySet())
           {
-            oprot.writeString(_iter216.getKey());
+            oprot.writeString(_iter226.getKey());
             {
-              oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.I64, _iter216.getValue().size()));
-              for (Map.Entry<String, Long> _iter217 : _iter216.getValue().entrySet())
+              oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.I64, _iter226.getValue().size()));
+              for (Map.Entry<String, Long> _iter227 : _iter226.getValue().entrySet())
               {
-                oprot.writeString(_iter217.getKey());
-                oprot.writeI64(_iter217.getValue());
+                oprot.writeString(_iter227.getKey());
+                oprot.writeI64(_iter227.getValue());
               }
               oprot.writeMapEnd();
             }
@@ -754,15 +754,15 @@ public class SpoutStats implements org.apache.thrift.TBase<SpoutStats, SpoutStat
         oprot.writeFieldBegin(COMPLETE_MS_AVG_FIELD_DESC);
         {
           oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.MAP, struct.complete_ms_avg.size()));
-          for (Map.Entry<String, Map<String,Double>> _iter218 : struct.complete_ms_avg.entrySet())
+          for (Map.Entry<String, Map<String,Double>> _iter228 : struct.complete_ms_avg.entrySet())
           {
-            oprot.writeString(_iter218.getKey());
+            oprot.writeString(_iter228.getKey());
             {
-              oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.DOUBLE, _iter218.getValue().size()));
-              for (Map.Entry<String, Double> _iter219 : _iter218.getValue().entrySet())
+              oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.DOUBLE, _iter228.getValue().size()));
+              for (Map.Entry<String, Double> _iter229 : _iter228.getValue().entrySet())
               {
-                oprot.writeString(_iter219.getKey());
-                oprot.writeDouble(_iter219.getValue());
+                oprot.writeString(_iter229.getKey());
+                oprot.writeDouble(_iter229.getValue());
               }
               oprot.writeMapEnd();
             }
@@ -790,45 +790,45 @@ public class SpoutStats implements org.apache.thrift.TBase<SpoutStats, SpoutStat
       TTupleProtocol oprot = (TTupleProtocol) prot;
       {
         oprot.writeI32(struct.acked.size());
-        for (Map.Entry<String, Map<String,Long>> _iter220 : struct.acked.entrySet())
+        for (Map.Entry<String, Map<String,Long>> _iter230 : struct.acked.entrySet())
         {
-          oprot.writeString(_iter220.getKey());
+          oprot.writeString(_iter230.getKey());
           {
-            oprot.writeI32(_iter220.getValue().size());
-            for (Map.Entry<String, Long> _iter221 : _iter220.getValue().entrySet())
+            oprot.writeI32(_iter230.getValue().size());
+            for (Map.Entry<String, Long> _iter231 : _iter230.getValue().entrySet())
             {
-              oprot.writeString(_iter221.getKey());
-              oprot.writeI64(_iter221.getValue());
+              oprot.writeString(_iter231.getKey());
+              oprot.writeI64(_iter231.getValue());
             }
           }
         }
       }
       {
         oprot.writeI32(struct.failed.size());
-        for (Map.Entry<String, Map<String,Long>> _iter222 : struct.failed.entrySet())
+        for (Map.Entry<String, Map<String,Long>> _iter232 : struct.failed.entrySet())
         {
-          oprot.writeString(_iter222.getKey());
+          oprot.writeString(_iter232.getKey());
           {
-            oprot.writeI32(_iter222.getValue().size());
-            for (Map.Entry<String, Long> _iter223 : _iter222.getValue().entrySet())
+            oprot.writeI32(_iter232.getValue().size());
+            for (Map.Entry<String, Long> _iter233 : _iter232.getValue().entrySet())
             {
-              oprot.writeString(_iter223.getKey());
-              oprot.writeI64(_iter223.getValue());
+              oprot.writeString(_iter233.getKey());
+              oprot.writeI64(_iter233.getValue());
             }
           }
         }
       }
       {
         oprot.writeI32(struct.complete_ms_avg.size());
-        for (Map.Entry<String, Map<String,Double>> _iter224 : struct.complete_ms_avg.entrySet())
+        for (Map.Entry<String, Map<String,Double>> _iter234 : struct.complete_ms_avg.entrySet())
         {
-          oprot.writeString(_iter224.getKey());
+          oprot.writeString(_iter234.getKey());
           {
-            oprot.writeI32(_iter224.getValue().size());
-            for (Map.Entry<String, Double> _iter225 : _iter224.getValue().entrySet())
+            oprot.writeI32(_iter234.getValue().size());
+            for (Map.Entry<String, Double> _iter235 : _iter234.getValue().entrySet())
             {
-              oprot.writeString(_iter225.getKey());
-              oprot.writeDouble(_iter225.getValue());
+              oprot.writeString(_iter235.getKey());
+              oprot.writeDouble(_iter235.getValue());
             }
           }
         }
@@ -839,74 +839,74 @@ public class SpoutStats implements org.apache.thrift.TBase<SpoutStats, SpoutStat
     public void read(org.apache.thrift.protocol.TProtocol prot, SpoutStats struct) throws org.apache.thrift.TException {
       TTupleProtocol iprot = (TTupleProtocol) prot;
       {
-        org.apache.thrift.protocol.TMap _map226 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.MAP, iprot.readI32());
-        struct.acked = new HashMap<String,Map<String,Long>>(2*_map226.size);
-        String _key227;
-        Map<String,Long> _val228;
-        for (int _i229 = 0; _i229 < _map226.size; ++_i229)
+        org.apache.thrift.protocol.TMap _map236 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.MAP, iprot.readI32());
+        struct.acked = new HashMap<String,Map<String,Long>>(2*_map236.size);
+        String _key237;
+        Map<String,Long> _val238;
+        for (int _i239 = 0; _i239 < _map236.size; ++_i239)
         {
-          _key227 = iprot.readString();
+          _key237 = iprot.readString();
           {
-            org.apache.thrift.protocol.TMap _map230 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.I64, iprot.readI32());
-            _val228 = new HashMap<String,Long>(2*_map230.size);
-            String _key231;
-            long _val232;
-            for (int _i233 = 0; _i233 < _map230.size; ++_i233)
+            org.apache.thrift.protocol.TMap _map240 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.I64, iprot.readI32());
+            _val238 = new HashMap<String,Long>(2*_map240.size);
+            String _key241;
+            long _val242;
+            for (int _i243 = 0; _i243 < _map240.size; ++_i243)
             {
-              _key231 = iprot.readString();
-              _val232 = iprot.readI64();
-              _val228.put(_key231, _val232);
+              _key241 = iprot.readString();
+              _val242 = iprot.readI64();
+              _val238.put(_key241, _val242);
             }
           }
-          struct.acked.put(_key227, _val228);
+          struct.acked.put(_key237, _val238);
         }
       }
       struct.set_acked_isSet(true);
       {
-        org.apache.thrift.protocol.TMap _map234 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.MAP, iprot.readI32());
-        struct.failed = new HashMap<String,Map<String,Long>>(2*_map234.size);
-        String _key235;
-        Map<String,Long> _val236;
-        for (int _i237 = 0; _i237 < _map234.size; ++_i237)
+        org.apache.thrift.protocol.TMap _map244 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.MAP, iprot.readI32());
+        struct.failed = new HashMap<String,Map<String,Long>>(2*_map244.size);
+        String _key245;
+        Map<String,Long> _val246;
+        for (int _i247 = 0; _i247 < _map244.size; ++_i247)
         {
-          _key235 = iprot.readString();
+          _key245 = iprot.readString();
           {
-            org.apache.thrift.protocol.TMap _map238 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.I64, iprot.readI32());
-            _val236 = new HashMap<String,Long>(2*_map238.size);
-            String _key239;
-            long _val240;
-            for (int _i241 = 0; _i241 < _map238.size; ++_i241)
+            org.apache.thrift.protocol.TMap _map248 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.I64, iprot.readI32());
+            _val246 = new HashMap<String,Long>(2*_map248.size);
+            String _key249;
+            long _val250;
+            for (int _i251 = 0; _i251 < _map248.size; ++_i251)
             {
-              _key239 = iprot.readString();
-              _val240 = iprot.readI64();
-              _val236.put(_key239, _val240);
+              _key249 = iprot.readString();
+              _val250 = iprot.readI64();
+              _val246.put(_key249, _val250);
             }
           }
-          struct.failed.put(_key235, _val236);
+          struct.failed.put(_key245, _val246);
         }
       }
       struct.set_failed_isSet(true);
       {
-        org.apache.thrift.protocol.TMap _map242 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.MAP, iprot.readI32());
-        struct.complete_ms_avg = new HashMap<String,Map<String,Double>>(2*_map242.size);
-        String _key243;
-        Map<String,Double> _val244;
-        for (int _i245 = 0; _i245 < _map242.size; ++_i245)
+        org.apache.thrift.protocol.TMap _map252 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.MAP, iprot.readI32());
+        struct.complete_ms_avg = new HashMap<String,Map<String,Double>>(2*_map252.size);
+        String _key253;
+        Map<String,Double> _val254;
+        for (int _i255 = 0; _i255 < _map252.size; ++_i255)
         {
-          _key243 = iprot.readString();
+          _key253 = iprot.readString();
           {
-            org.apache.thrift.protocol.TMap _map246 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.DOUBLE, iprot.readI32());
-            _val244 = new HashMap<String,Double>(2*_map246.size);
-            String _key247;
-            double _val248;
-            for (int _i249 = 0; _i249 < _map246.size; ++_i249)
+            org.apache.thrift.protocol.TMap _map256 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.DOUBLE, iprot.readI32());
+            _val254 = new HashMap<String,Double>(2*_map256.size);
+            String _key257;
+            double _val258;
+            for (int _i259 = 0; _i259 < _map256.size; ++_i259)
             {
-              _key247 = iprot.readString();
-              _val248 = iprot.readDouble();
-              _val244.put(_key247, _val248);
+              _key257 = iprot.readString();
+              _val258 = iprot.readDouble();
+              _val254.put(_key257, _val258);
             }
           }
-          struct.complete_ms_avg.put(_key243, _val244);
+          struct.complete_ms_avg.put(_key253, _val254);
         }
       }
       struct.set_complete_ms_avg_isSet(true);
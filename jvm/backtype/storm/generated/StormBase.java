@@ -51,7 +51,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked"})
-@Generated(value = "Autogenerated by Thrift Compiler (0.9.2)", date = "2015-3-5")
+@Generated(value = "Autogenerated by Thrift Compiler (0.9.2)", date = "2026-10-18")
 public class StormBase implements org.apache.thrift.TBase<StormBase, StormBase._Fields>, java.io.Serializable, Cloneable, Comparable<StormBase> {
   private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("StormBase");
 
@@ -984,15 +984,15 @@ public class StormBase implements org.apache.thrift.TBase<StormBase, StormBase._
           case 4: // COMPONENT_EXECUTORS
             if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
               {
-                org.apache.thrift.protocol.TMap _map416 = iprot.readMapBegin();
-                struct.component_executors = new HashMap<String,Integer>(2*_map416.size);
-                String _key417;
-                int _val418;
-                for (int _i419 = 0; _i419 < _map416.size; ++_i419)
+                org.apache.thrift.protocol.TMap _map426 = iprot.readMapBegin();
+                struct.component_executors = new HashMap<String,Integer>(2*_map426.size);
+                String _key427;
+                int _val428;
+                for (int _i429 = 0; _i429 < _map426.size; ++_i429)
                 {
-                  _key417 = iprot.readString();
-                  _val418 = iprot.readI32();
-                  struct.component_executors.put(_key417, _val418);
+                  _key427 = iprot.readString();
+                  _val428 = iprot.readI32();
+                  struct.component_executors.put(_key427, _val428);
                 }
                 iprot.readMapEnd();
               }
@@ -1065,10 +1065,10 @@ public class StormBase implements org.apache.thrift.TBase<StormBase, StormBase._
           oprot.writeFieldBegin(COMPONENT_EXECUTORS_FIELD_DESC);
           {
             oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.I32, struct.component_executors.size()));
-            for (Map.Entry<String, Integer> _iter420 : struct.component_executors.entrySet())
+            for (Map.Entry<String, Integer> _iter430 : struct.component_executors.entrySet())
             {
-              oprot.writeString(_iter420.getKey());
-              oprot.writeI32(_iter420.getValue());
+              oprot.writeString(_iter430.getKey());
+              oprot.writeI32(_iter430.getValue());
             }
             oprot.writeMapEnd();
           }
@@ -1141,10 +1141,10 @@ public class StormBase implements org.apache.thrift.TBase<StormBase, StormBase._
       if (struct.is_set_component_executors()) {
         {
           oprot.writeI32(struct.component_executors.size());
-          for (Map.Entry<String, Integer> _iter421 : struct.component_executors.entrySet())
+          for (Map.Entry<String, Integer> _iter431 : struct.component_executors.entrySet())
           {
-            oprot.writeString(_iter421.getKey());
-            oprot.writeI32(_iter421.getValue());
+            oprot.writeString(_iter431.getKey());
+            oprot.writeI32(_iter431.getValue());
           }
         }
       }
@@ -1174,15 +1174,15 @@ public class StormBase implements org.apache.thrift.TBase<StormBase, StormBase._
       BitSet incoming = iprot.readBitSet(5);
       if (incoming.get(0)) {
         {
-          org.apache.thrift.protocol.TMap _map422 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.I32, iprot.readI32());
-          struct.component_executors = new HashMap<String,Integer>(2*_map422.size);
-          String _key423;
-          int _val424;
-          for (int _i425 = 0; _i425 < _map422.size; ++_i425)
+          org.apache.thrift.protocol.TMap _map432 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.I32, iprot.readI32());
+          struct.component_executors = new HashMap<String,Integer>(2*_map432.size);
+          String _key433;
+          int _val434;
+          for (int _i435 = 0; _i435 < _map432.size; ++_i435)
           {
-            _key423 = iprot.readString();
-            _val424 = iprot.readI32();
-            struct.component_executors.put(_key423, _val424);
+            _key433 = iprot.readString();
+            _val434 = iprot.readI32();
+            struct.component_executors.put(_key433, _val434);
           }
         }
         struct.set_component_executors_isSet(true);
@@ -51,7 +51,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked"})
-@Generated(value = "Autogenerated by Thrift Compiler (0.9.2)", date = "2015-4-20")
+@Generated(value = "Autogenerated by Thrift Compiler (0.9.2)", date = "2026-10-18")
 public class SupervisorInfo implements org.apache.thrift.TBase<SupervisorInfo, SupervisorInfo._Fields>, java.io.Serializable, Cloneable, Comparable<SupervisorInfo> {
   private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("SupervisorInfo");
 
@@ -990,13 +990,13 @@ public class SupervisorInfo implements org.apache.thrift.TBase<SupervisorInfo, S
           case 4: // USED_PORTS
             if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
               {
-                org.apache.thrift.protocol.TList _list336 = iprot.readListBegin();
-                struct.used_ports = new ArrayList<Long>(_list336.size);
-                long _elem337;
-                for (int _i338 = 0; _i338 < _list336.size; ++_i338)
+                org.apache.thrift.protocol.TList _list346 = iprot.readListBegin();
+                struct.used_ports = new ArrayList<Long>(_list346.size);
+                long _elem347;
+                for (int _i348 = 0; _i348 < _list346.size; ++_i348)
                 {
-                  _elem337 = iprot.readI64();
-                  struct.used_ports.add(_elem337);
+                  _elem347 = iprot.readI64();
+                  struct.used_ports.add(_elem347);
                 }
                 iprot.readListEnd();
               }
@@ -1008,13 +1008,13 @@ public class SupervisorInfo implements org.apache.thrift.TBase<SupervisorInfo, S
           case 5: // META
             if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
               {
-                org.apache.thrift.protocol.TList _list339 = iprot.readListBegin();
-                struct.meta = new ArrayList<Long>(_list339.size);
-                long _elem340;
-                for (int _i341 = 0; _i341 < _list339.size; ++_i341)
+                org.apache.thrift.protocol.TList _list349 = iprot.readListBegin();
+                struct.meta = new ArrayList<Long>(_list349.size);
+                long _elem350;
+                for (int _i351 = 0; _i351 < _list349.size; ++_i351)
                 {
-                  _elem340 = iprot.readI64();
-                  struct.meta.add(_elem340);
+                  _elem350 = iprot.readI64();
+                  struct.meta.add(_elem350);
                 }
                 iprot.readListEnd();
               }
@@ -1026,15 +1026,15 @@ public class SupervisorInfo implements org.apache.thrift.TBase<SupervisorInfo, S
           case 6: // SCHEDULER_META
             if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
               {
-                org.apache.thrift.protocol.TMap _map342 = iprot.readMapBegin();
-                struct.scheduler_meta = new HashMap<String,String>(2*_map342.size);
-                String _key343;
-                String _val344;
-                for (int _i345 = 0; _i345 < _map342.size; ++_i345)
+                org.apache.thrift.protocol.TMap _map352 = iprot.readMapBegin();
+                struct.scheduler_meta = new HashMap<String,String>(2*_map352.size);
+                String _key353;
+                String _val354;
+                for (int _i355 = 0; _i355 < _map352.size; ++_i355)
                 {
-                  _key343 = iprot.readString();
-                  _val344 = iprot.readString();
-                  struct.scheduler_meta.put(_key343, _val344);
+                  _key353 = iprot.readString();
+                  _val354 = iprot.readString();
+                  struct.scheduler_meta.put(_key353, _val354);
                 }
                 iprot.readMapEnd();
               }
@@ -1092,9 +1092,9 @@ public class SupervisorInfo implements org.apache.thrift.TBase<SupervisorInfo, S
           oprot.writeFieldBegin(USED_PORTS_FIELD_DESC);
           {
             oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, struct.used_ports.size()));
-            for (long _iter346 : struct.used_ports)
+            for (long _iter356 : struct.used_ports)
             {
-              oprot.writeI64(_iter346);
+              oprot.writeI64(_iter356);
             }
             oprot.writeListEnd();
           }
@@ -1106,9 +1106,9 @@ public class SupervisorInfo implements org.apache.thrift.TBase<SupervisorInfo, S
           oprot.writeFieldBegin(META_FIELD_DESC);
           {
             oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, struct.meta.size()));
-            for (long _iter347 : struct.meta)
+            for (long _iter357 : struct.meta)
             {
-              oprot.writeI64(_iter347);
+              oprot.writeI64(_iter357);
             }
             oprot.writeListEnd();
           }
@@ -1120,10 +1120,10 @@ public class SupervisorInfo implements org.apache.thrift.TBase<SupervisorInfo, S
           oprot.writeFieldBegin(SCHEDULER_META_FIELD_DESC);
           {
             oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRING, struct.scheduler_meta.size()));
-            for (Map.Entry<String, String> _iter348 : struct.scheduler_meta.entrySet())
+            for (Map.Entry<String, String> _iter358 : struct.scheduler_meta.entrySet())
             {
-              oprot.writeString(_iter348.getKey());
-              oprot.writeString(_iter348.getValue());
+              oprot.writeString(_iter358.getKey());
+              oprot.writeString(_iter358.getValue());
             }
             oprot.writeMapEnd();
           }
@@ -1187,28 +1187,28 @@ public class SupervisorInfo implements org.apache.thrift.TBase<SupervisorInfo, S
       if (struct.is_set_used_ports()) {
         {
           oprot.writeI32(struct.used_ports.size());
-          for (long _iter349 : struct.used_ports)
+          for (long _iter359 : struct.used_ports)
           {
-            oprot.writeI64(_iter349);
+            oprot.writeI64(_iter359);
           }
         }
       }
       if (struct.is_set_meta()) {
         {
           oprot.writeI32(struct.meta.size());
-          for (long _iter350 : struct.meta)
+          for (long _iter360 : struct.meta)
           {
-            oprot.writeI64(_iter350);
+            oprot.writeI64(_iter360);
           }
         }
       }
       if (struct.is_set_scheduler_meta()) {
         {
           oprot.writeI32(struct.scheduler_meta.size());
-          for (Map.Entry<String, String> _iter351 : struct.scheduler_meta.entrySet())
+          for (Map.Entry<String, String> _iter361 : struct.scheduler_meta.entrySet())
           {
-            oprot.writeString(_iter351.getKey());
-            oprot.writeString(_iter351.getValue());
+            oprot.writeString(_iter361.getKey());
+            oprot.writeString(_iter361.getValue());
           }
         }
       }
@@ -1234,41 +1234,41 @@ public class SupervisorInfo implements org.apache.thrift.TBase<SupervisorInfo, S
       }
       if (incoming.get(1)) {
         {
-          org.apache.thrift.protocol.TList _list352 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
-          struct.used_ports = new ArrayList<Long>(_list352.size);
-          long _elem353;
-          for (int _i354 = 0; _i354 < _list352.size; ++_i354)
+          org.apache.thrift.protocol.TList _list362 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
+          struct.used_ports = new ArrayList<Long>(_list362.size);
+          long _elem363;
+          for (int _i364 = 0; _i364 < _list362.size; ++_i364)
           {
-            _elem353 = iprot.readI64();
-            struct.used_ports.add(_elem353);
+            _elem363 = iprot.readI64();
+            struct.used_ports.add(_elem363);
           }
         }
         struct.set_used_ports_isSet(true);
       }
       if (incoming.get(2)) {
         {
-          org.apache.thrift.protocol.TList _list355 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
-          struct.meta = new ArrayList<Long>(_list355.size);
-          long _elem356;
-          for (int _i357 = 0; _i357 < _list355.size; ++_i357)
+          org.apache.thrift.protocol.TList _list365 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
+          struct.meta = new ArrayList<Long>(_list365.size);
+          long _elem366;
+          for (int _i367 = 0; _i367 < _list365.size; ++_i367)
           {
-            _elem356 = iprot.readI64();
-            struct.meta.add(_elem356);
+            _elem366 = iprot.readI64();
+            struct.meta.add(_elem366);
           }
         }
         struct.set_meta_isSet(true);
       }
       if (incoming.get(3)) {
         {
-          org.apache.thrift.protocol.TMap _map358 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-          struct.scheduler_meta = new HashMap<String,String>(2*_map358.size);
-          String _key359;
-          String _val360;
-          for (int _i361 = 0; _i361 < _map358.size; ++_i361)
+          org.apache.thrift.protocol.TMap _map368 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+          struct.scheduler_meta = new HashMap<String,String>(2*_map368.size);
+          String _key369;
+          String _val370;
+          for (int _i371 = 0; _i371 < _map368.size; ++_i371)
           {
-            _key359 = iprot.readString();
-            _val360 = iprot.readString();
-            struct.scheduler_meta.put(_key359, _val360);
+            _key369 = iprot.readString();
+            _val370 = iprot.readString();
+            struct.scheduler_meta.put(_key369, _val370);
           }
         }
         struct.set_scheduler_meta_isSet(true);
@@ -51,7 +51,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked"})
-@Generated(value = "Autogenerated by Thrift Compiler (0.9.2)", date = "2015-2-6")
+@Generated(value = "Autogenerated by Thrift Compiler (0.9.2)", date = "2026-10-18")
 public class TopologyInfo implements org.apache.thrift.TBase<TopologyInfo, TopologyInfo._Fields>, java.io.Serializable, Cloneable, Comparable<TopologyInfo> {
   private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("TopologyInfo");
 
@@ -1012,14 +1012,14 @@ public class TopologyInfo implements org.apache.thrift.TBase<TopologyInfo, Topol
           case 4: // EXECUTORS
             if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
               {
-                org.apache.thrift.protocol.TList _list290 = iprot.readListBegin();
-                struct.executors = new ArrayList<ExecutorSummary>(_list290.size);
-                ExecutorSummary _elem291;
-                for (int _i292 = 0; _i292 < _list290.size; ++_i292)
+                org.apache.thrift.protocol.TList _list300 = iprot.readListBegin();
+                struct.executors = new ArrayList<ExecutorSummary>(_list300.size);
+                ExecutorSummary _elem301;
+                for (int _i302 = 0; _i302 < _list300.size; ++_i302)
                 {
-                  _elem291 = new ExecutorSummary();
-                  _elem291.read(iprot);
-                  struct.executors.add(_elem291);
+                  _elem301 = new ExecutorSummary();
+                  _elem301.read(iprot);
+                  struct.executors.add(_elem301);
                 }
                 iprot.readListEnd();
               }
@@ -1039,26 +1039,26 @@ public class TopologyInfo implements org.apache.thrift.TBase<TopologyInfo, Topol
           case 6: // ERRORS
             if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
               {
-                org.apache.thrift.protocol.TMap _map293 = iprot.readMapBegin();
-                struct.errors = new HashMap<String,List<ErrorInfo>>(2*_map293.size);
-                String _key294;
-                List<ErrorInfo> _val295;
-                for (int _i296 = 0; _i296 < _map293.size; ++_i296)
+                org.apache.thrift.protocol.TMap _map303 = iprot.readMapBegin();
+                struct.errors = new HashMap<String,List<ErrorInfo>>(2*_map303.size);
+                String _key304;
+                List<ErrorInfo> _val305;
+                for (int _i306 = 0; _i306 < _map303.size; ++_i306)
                 {
-                  _key294 = iprot.readString();
+                  _key304 = iprot.readString();
                   {
-                    org.apache.thrift.protocol.TList _list297 = iprot.readListBegin();
-                    _val295 = new ArrayList<ErrorInfo>(_list297.size);
-                    ErrorInfo _elem298;
-                    for (int _i299 = 0; _i299 < _list297.size; ++_i299)
+                    org.apache.thrift.protocol.TList _list307 = iprot.readListBegin();
+                    _val305 = new ArrayList<ErrorInfo>(_list307.size);
+                    ErrorInfo _elem308;
+                    for (int _i309 = 0; _i309 < _list307.size; ++_i309)
                     {
-                      _elem298 = new ErrorInfo();
-                      _elem298.read(iprot);
-                      _val295.add(_elem298);
+                      _elem308 = new ErrorInfo();
+                      _elem308.read(iprot);
+                      _val305.add(_elem308);
                     }
                     iprot.readListEnd();
                   }
-                  struct.errors.put(_key294, _val295);
+                  struct.errors.put(_key304, _val305);
                 }
                 iprot.readMapEnd();
               }
@@ -1113,9 +1113,9 @@ public class TopologyInfo implements org.apache.thrift.TBase<TopologyInfo, Topol
         oprot.writeFieldBegin(EXECUTORS_FIELD_DESC);
         {
           oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.executors.size()));
-          for (ExecutorSummary _iter300 : struct.executors)
+          for (ExecutorSummary _iter310 : struct.executors)
           {
-            _iter300.write(oprot);
+            _iter310.write(oprot);
           }
           oprot.writeListEnd();
         }
@@ -1130,14 +1130,14 @@ public class TopologyInfo implements org.apache.thrift.TBase<TopologyInfo, Topol
         oprot.writeFieldBegin(ERRORS_FIELD_DESC);
         {
           oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.LIST, struct.errors.size()));
-          for (Map.Entry<String, List<ErrorInfo>> _iter301 : struct.errors.entrySet())
+          for (Map.Entry<String, List<ErrorInfo>> _iter311 : struct.errors.entrySet())
           {
-            oprot.writeString(_iter301.getKey());
+            oprot.writeString(_iter311.getKey());
             {
-              oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, _iter301.getValue().size()));
-              for (ErrorInfo _iter302 : _iter301.getValue())
+              oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, _iter311.getValue().size()));
+              for (ErrorInfo _iter312 : _iter311.getValue())
               {
-                _iter302.write(oprot);
+                _iter312.write(oprot);
               }
               oprot.writeListEnd();
             }
@@ -1182,22 +1182,22 @@ public class TopologyInfo implements org.apache.thrift.TBase<TopologyInfo, Topol
       oprot.writeI32(struct.uptime_secs);
       {
         oprot.writeI32(struct.executors.size());
-        for (ExecutorSummary _iter303 : struct.executors)
+        for (ExecutorSummary _iter313 : struct.executors)
         {
-          _iter303.write(oprot);
+          _iter313.write(oprot);
         }
       }
       oprot.writeString(struct.status);
       {
         oprot.writeI32(struct.errors.size());
-        for (Map.Entry<String, List<ErrorInfo>> _iter304 : struct.errors.entrySet())
+        for (Map.Entry<String, List<ErrorInfo>> _iter314 : struct.errors.entrySet())
         {
-          oprot.writeString(_iter304.getKey());
+          oprot.writeString(_iter314.getKey());
           {
-            oprot.writeI32(_iter304.getValue().size());
-            for (ErrorInfo _iter305 : _iter304.getValue())
+            oprot.writeI32(_iter314.getValue().size());
+            for (ErrorInfo _iter315 : _iter314.getValue())
             {
-              _iter305.write(oprot);
+              _iter315.write(oprot);
             }
           }
         }
@@ -1228,39 +1228,39 @@ public class TopologyInfo implements org.apache.thrift.TBase<TopologyInfo, Topol
       struct.uptime_secs = iprot.readI32();
       struct.set_uptime_secs_isSet(true);
       {
-        org.apache.thrift.protocol.TList _list306 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-        struct.executors = new ArrayList<ExecutorSummary>(_list306.size);
-        ExecutorSummary _elem307;
-        for (int _i308 = 0; _i308 < _list306.size; ++_i308)
+        org.apache.thrift.protocol.TList _list316 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+        struct.executors = new ArrayList<ExecutorSummary>(_list316.size);
+        ExecutorSummary _elem317;
+        for (int _i318 = 0; _i318 < _list316.size; ++_i318)
         {
-          _elem307 = new ExecutorSummary();
-          _elem307.read(iprot);
-          struct.executors.add(_elem307);
+          _elem317 = new ExecutorSummary();
+          _elem317.read(iprot);
+          struct.executors.add(_elem317);
         }
       }
       struct.set_executors_isSet(true);
       struct.status = iprot.readString();
       struct.set_status_isSet(true);
       {
-        org.apache.thrift.protocol.TMap _map309 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.LIST, iprot.readI32());
-        struct.errors = new HashMap<String,List<ErrorInfo>>(2*_map309.size);
-        String _key310;
-        List<ErrorInfo> _val311;
-        for (int _i312 = 0; _i312 < _map309.size; ++_i312)
+        org.apache.thrift.protocol.TMap _map319 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.LIST, iprot.readI32());
+        struct.errors = new HashMap<String,List<ErrorInfo>>(2*_map319.size);
+        String _key320;
+        List<ErrorInfo> _val321;
+        for (int _i322 = 0; _i322 < _map319.size; ++_i322)
         {
-          _key310 = iprot.readString();
+          _key320 = iprot.readString();
           {
-            org.apache.thrift.protocol.TList _list313 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-            _val311 = new ArrayList<ErrorInfo>(_list313.size);
-            ErrorInfo _elem314;
-            for (int _i315 = 0; _i315 < _list313.size; ++_i315)
+            org.apache.thrift.protocol.TList _list323 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            _val321 = new ArrayList<ErrorInfo>(_list323.size);
+            ErrorInfo _elem324;
+            for (int _i325 = 0; _i325 < _list323.size; ++_i325)
             {
-              _elem314 = new ErrorInfo();
-              _elem314.read(iprot);
-              _val311.add(_elem314);
+              _elem324 = new ErrorInfo();
+              _elem324.read(iprot);
+              _val321.add(_elem324);
             }
           }
-          struct.errors.put(_key310, _val311);
+          struct.errors.put(_key320, _val321);
         }
       }
       struct.set_errors_isSet(true);
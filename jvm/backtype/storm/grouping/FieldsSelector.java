@@ -0,0 +1,101 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package backtype.storm.grouping;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+
+import backtype.storm.tuple.Fields;
+
+/**
+ * Picks the grouping fields out of the values of a tuple by position, with the
+ * positions looked up once rather than for every tuple.
+ *
+ * hashCode gives the same value as hashing the list Fields.select returns
+ * with Arrays.deepHashCode, which is what fields grouping has always sent
+ * tuples by, but without building that list.
+ */
+public class FieldsSelector implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final int[] _indices;
+
+    public FieldsSelector(Fields outFields, Fields selector) {
+        _indices = new int[selector.size()];
+        for (int i = 0; i < _indices.length; i++) {
+            _indices[i] = outFields.fieldIndex(selector.get(i));
+        }
+    }
+
+    public int size() {
+        return _indices.length;
+    }
+
+    /**
+     * The i-th selected value of a tuple.
+     */
+    public Object get(List<Object> values, int i) {
+        return values.get(_indices[i]);
+    }
+
+    public int hashCode(List<Object> values) {
+        int ret = 1;
+        for (int i = 0; i < _indices.length; i++) {
+            ret = 31 * ret + hashOf(values.get(_indices[i]));
+        }
+        return ret;
+    }
+
+    /**
+     * The index of the task out of numTasks a tuple goes to.
+     */
+    public int chooseIndex(List<Object> values, int numTasks) {
+        int ret = hashCode(values) % numTasks;
+        return ret < 0 ? ret + numTasks : ret;
+    }
+
+    /**
+     * Hashes a value the way Arrays.deepHashCode hashes an element, going
+     * into arrays by their contents.
+     */
+    public static int hashOf(Object o) {
+        if (o == null) {
+            return 0;
+        } else if (o instanceof Object[]) {
+            return Arrays.deepHashCode((Object[]) o);
+        } else if (o instanceof byte[]) {
+            return Arrays.hashCode((byte[]) o);
+        } else if (o instanceof short[]) {
+            return Arrays.hashCode((short[]) o);
+        } else if (o instanceof int[]) {
+            return Arrays.hashCode((int[]) o);
+        } else if (o instanceof long[]) {
+            return Arrays.hashCode((long[]) o);
+        } else if (o instanceof char[]) {
+            return Arrays.hashCode((char[]) o);
+        } else if (o instanceof float[]) {
+            return Arrays.hashCode((float[]) o);
+        } else if (o instanceof double[]) {
+            return Arrays.hashCode((double[]) o);
+        } else if (o instanceof boolean[]) {
+            return Arrays.hashCode((boolean[]) o);
+        }
+        return o.hashCode();
+    }
+}
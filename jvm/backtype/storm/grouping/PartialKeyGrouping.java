@@ -18,9 +18,9 @@
 package backtype.storm.grouping;
 
 import java.io.Serializable;
-import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import backtype.storm.generated.GlobalStreamId;
@@ -28,17 +28,22 @@ import backtype.storm.grouping.CustomStreamGrouping;
 import backtype.storm.task.WorkerTopologyContext;
 import backtype.storm.tuple.Fields;
 
-import com.google.common.hash.HashFunction;
-import com.google.common.hash.Hashing;
-
+/**
+ * Sends each key to the less loaded of two tasks picked by two murmur3 hashes
+ * of the key. The hashes are computed in place over a buffer that is reused
+ * from tuple to tuple, and the chosen task comes back as a list made up front.
+ */
 public class PartialKeyGrouping implements CustomStreamGrouping, Serializable {
     private static final long serialVersionUID = -447379837314000353L;
+    private static final int SEED1 = 13;
+    private static final int SEED2 = 17;
+
     private List<Integer> targetTasks;
+    private List<List<Integer>> targetTaskLists;
     private long[] targetTaskStats;
-    private HashFunction h1 = Hashing.murmur3_128(13);
-    private HashFunction h2 = Hashing.murmur3_128(17);
     private Fields fields = null;
-    private Fields outFields = null;
+    private transient FieldsSelector selector;
+    private transient byte[] raw;
 
     public PartialKeyGrouping() {
         //Empty
@@ -52,56 +57,129 @@ public class PartialKeyGrouping implements CustomStreamGrouping, Serializable {
     public void prepare(WorkerTopologyContext context, GlobalStreamId stream, List<Integer> targetTasks) {
         this.targetTasks = targetTasks;
         targetTaskStats = new long[this.targetTasks.size()];
+        targetTaskLists = new ArrayList<List<Integer>>(targetTasks.size());
+        for (Integer task : targetTasks) {
+            targetTaskLists.add(Collections.singletonList(task));
+        }
         if (this.fields != null) {
-            this.outFields = context.getComponentOutputFields(stream);
+            selector = new FieldsSelector(context.getComponentOutputFields(stream), fields);
+            raw = new byte[selector.size() * 4];
         }
     }
 
     @Override
     public List<Integer> chooseTasks(int taskId, List<Object> values) {
-        List<Integer> boltIds = new ArrayList<Integer>(1);
-        if (values.size() > 0) {
-            byte[] raw = null;
-            if (fields != null) {
-                List<Object> selectedFields = outFields.select(fields, values);
-                ByteBuffer out = ByteBuffer.allocate(selectedFields.size() * 4);
-                for (Object o: selectedFields) {
-                    if (o instanceof List) {
-                        out.putInt(Arrays.deepHashCode(((List)o).toArray()));
-                    } else if (o instanceof Object[]) {
-                        out.putInt(Arrays.deepHashCode((Object[])o));
-                    } else if (o instanceof byte[]) {
-                        out.putInt(Arrays.hashCode((byte[]) o));
-                    } else if (o instanceof short[]) {
-                        out.putInt(Arrays.hashCode((short[]) o));
-                    } else if (o instanceof int[]) {
-                        out.putInt(Arrays.hashCode((int[]) o));
-                    } else if (o instanceof long[]) {
-                        out.putInt(Arrays.hashCode((long[]) o));
-                    } else if (o instanceof char[]) {
-                        out.putInt(Arrays.hashCode((char[]) o));
-                    } else if (o instanceof float[]) {
-                        out.putInt(Arrays.hashCode((float[]) o));
-                    } else if (o instanceof double[]) {
-                        out.putInt(Arrays.hashCode((double[]) o));
-                    } else if (o instanceof boolean[]) {
-                        out.putInt(Arrays.hashCode((boolean[]) o));
-                    } else if (o != null) {
-                        out.putInt(o.hashCode());
-                    } else {
-                      out.putInt(0);
-                    }
-                }
-                raw = out.array();
-            } else {
-                raw = values.get(0).toString().getBytes(); // assume key is the first field
+        if (values.size() == 0) {
+            return Collections.emptyList();
+        }
+        byte[] key;
+        int length;
+        if (fields != null) {
+            for (int i = 0; i < selector.size(); i++) {
+                Object o = selector.get(values, i);
+                int h = o instanceof List ? Arrays.deepHashCode(((List) o).toArray()) : FieldsSelector.hashOf(o);
+                raw[4 * i] = (byte) (h >>> 24);
+                raw[4 * i + 1] = (byte) (h >>> 16);
+                raw[4 * i + 2] = (byte) (h >>> 8);
+                raw[4 * i + 3] = (byte) h;
             }
-            int firstChoice = (int) (Math.abs(h1.hashBytes(raw).asLong()) % this.targetTasks.size());
-            int secondChoice = (int) (Math.abs(h2.hashBytes(raw).asLong()) % this.targetTasks.size());
-            int selected = targetTaskStats[firstChoice] > targetTaskStats[secondChoice] ? secondChoice : firstChoice;
-            boltIds.add(targetTasks.get(selected));
-            targetTaskStats[selected]++;
+            key = raw;
+            length = raw.length;
+        } else {
+            key = values.get(0).toString().getBytes(); // assume key is the first field
+            length = key.length;
+        }
+        int firstChoice = (int) (Math.abs(murmur3(key, length, SEED1)) % this.targetTasks.size());
+        int secondChoice = (int) (Math.abs(murmur3(key, length, SEED2)) % this.targetTasks.size());
+        int selected = targetTaskStats[firstChoice] > targetTaskStats[secondChoice] ? secondChoice : firstChoice;
+        targetTaskStats[selected]++;
+        return targetTaskLists.get(selected);
+    }
+
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+
+    /**
+     * The first 64 bits of the x64 128 bit murmur3 of data, the same as
+     * Guava's Hashing.murmur3_128(seed).hashBytes(data).asLong().
+     */
+    static long murmur3(byte[] data, int length, int seed) {
+        long h1 = seed;
+        long h2 = seed;
+        int blocks = length / 16;
+        for (int i = 0; i < blocks; i++) {
+            long k1 = littleEndianLong(data, 16 * i);
+            long k2 = littleEndianLong(data, 16 * i + 8);
+            h1 ^= mixK1(k1);
+            h1 = Long.rotateLeft(h1, 27);
+            h1 += h2;
+            h1 = h1 * 5 + 0x52dce729;
+            h2 ^= mixK2(k2);
+            h2 = Long.rotateLeft(h2, 31);
+            h2 += h1;
+            h2 = h2 * 5 + 0x38495ab5;
         }
-        return boltIds;
+        int tail = 16 * blocks;
+        long k1 = 0;
+        long k2 = 0;
+        switch (length - tail) {
+            case 15: k2 ^= (long) (data[tail + 14] & 0xff) << 48;
+            case 14: k2 ^= (long) (data[tail + 13] & 0xff) << 40;
+            case 13: k2 ^= (long) (data[tail + 12] & 0xff) << 32;
+            case 12: k2 ^= (long) (data[tail + 11] & 0xff) << 24;
+            case 11: k2 ^= (long) (data[tail + 10] & 0xff) << 16;
+            case 10: k2 ^= (long) (data[tail + 9] & 0xff) << 8;
+            case 9: k2 ^= (long) (data[tail + 8] & 0xff);
+            case 8: k1 ^= littleEndianLong(data, tail);
+                break;
+            case 7: k1 ^= (long) (data[tail + 6] & 0xff) << 48;
+            case 6: k1 ^= (long) (data[tail + 5] & 0xff) << 40;
+            case 5: k1 ^= (long) (data[tail + 4] & 0xff) << 32;
+            case 4: k1 ^= (long) (data[tail + 3] & 0xff) << 24;
+            case 3: k1 ^= (long) (data[tail + 2] & 0xff) << 16;
+            case 2: k1 ^= (long) (data[tail + 1] & 0xff) << 8;
+            case 1: k1 ^= (long) (data[tail] & 0xff);
+                break;
+            default:
+                break;
+        }
+        h1 ^= mixK1(k1);
+        h2 ^= mixK2(k2);
+        h1 ^= length;
+        h2 ^= length;
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix64(h1);
+        h2 = fmix64(h2);
+        return h1 + h2;
+    }
+
+    private static long littleEndianLong(byte[] data, int offset) {
+        long ret = 0;
+        for (int i = 7; i >= 0; i--) {
+            ret = (ret << 8) | (data[offset + i] & 0xff);
+        }
+        return ret;
+    }
+
+    private static long mixK1(long k1) {
+        k1 *= C1;
+        k1 = Long.rotateLeft(k1, 31);
+        return k1 * C2;
+    }
+
+    private static long mixK2(long k2) {
+        k2 *= C2;
+        k2 = Long.rotateLeft(k2, 33);
+        return k2 * C1;
+    }
+
+    private static long fmix64(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
     }
 }
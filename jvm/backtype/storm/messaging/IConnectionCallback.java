@@ -0,0 +1,35 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package backtype.storm.messaging;
+
+import java.util.List;
+
+/**
+ * Receives batches of messages pushed by a connection, see IPushReceiver.
+ */
+public interface IConnectionCallback {
+    /**
+     * Called on the connection's I/O thread with a batch of received messages.
+     * Messages for the same task arrive in the order they were sent. The I/O thread
+     * does not read anything else until this returns, so an implementation that
+     * blocks, e.g. on a full queue, holds up every connection served by that thread
+     * and pushes back on the senders through TCP flow control.
+     * @param batch the messages received
+     */
+    public void recv(List<TaskMessage> batch);
+}
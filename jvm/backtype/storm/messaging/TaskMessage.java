@@ -18,28 +18,66 @@
 package backtype.storm.messaging;
 
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 
 public class TaskMessage {
     private int _task;
     private byte[] _message;
+    private int _offset;
+    private int _length;
     
     public TaskMessage(int task, byte[] message) {
         _task = task;
         _message = message;
+        _offset = 0;
+        _length = message == null ? 0 : message.length;
+    }
+
+    /**
+     * Creates a message whose payload is the region [offset, offset+length) of a
+     * larger buffer. The buffer region is owned by the message from then on and
+     * must not be overwritten by the caller.
+     */
+    public TaskMessage(int task, byte[] buffer, int offset, int length) {
+        _task = task;
+        _message = buffer;
+        _offset = offset;
+        _length = length;
     }
     
     public int task() {
         return _task;
     }
 
+    /**
+     * The payload as an array of its own. For messages that reference a region of a
+     * larger buffer this copies the region, so transports should prefer
+     * messageBuffer(), messageOffset() and messageLength().
+     */
     public byte[] message() {
+        if (_message != null && (_offset != 0 || _length != _message.length)) {
+            _message = Arrays.copyOfRange(_message, _offset, _offset + _length);
+            _offset = 0;
+        }
+        return _message;
+    }
+
+    public byte[] messageBuffer() {
         return _message;
     }
+
+    public int messageOffset() {
+        return _offset;
+    }
+
+    public int messageLength() {
+        return _length;
+    }
     
     public ByteBuffer serialize() {
-        ByteBuffer bb = ByteBuffer.allocate(_message.length+2);
+        ByteBuffer bb = ByteBuffer.allocate(_length+2);
         bb.putShort((short)_task);
-        bb.put(_message);
+        bb.put(_message, _offset, _length);
         return bb;
     }
     
@@ -47,6 +85,8 @@ public class TaskMessage {
         if (packet==null) return;
         _task = packet.getShort();
         _message = new byte[packet.limit()-2];
+        _offset = 0;
+        _length = _message.length;
         packet.get(_message);
     }
 
@@ -127,6 +127,7 @@ public class Client extends ConnectionWithStatus implements IStatefulObject {
         int bufferSize = Utils.getInt(stormConf.get(Config.STORM_MESSAGING_NETTY_BUFFER_SIZE));
         LOG.info("creating Netty Client, connecting to {}:{}, bufferSize: {}", host, port, bufferSize);
         int messageBatchSize = Utils.getInt(stormConf.get(Config.STORM_NETTY_MESSAGE_BATCH_SIZE), 262144);
+        boolean zeroCopyBatches = Utils.getBoolean(stormConf.get(Config.STORM_NETTY_MESSAGE_BATCH_ZERO_COPY), false);
 
         int maxReconnectionAttempts = Utils.getInt(stormConf.get(Config.STORM_MESSAGING_NETTY_MAX_RETRIES));
         int minWaitMs = Utils.getInt(stormConf.get(Config.STORM_MESSAGING_NETTY_MIN_SLEEP_MS));
@@ -138,7 +139,7 @@ public class Client extends ConnectionWithStatus implements IStatefulObject {
         dstAddress = new InetSocketAddress(host, port);
         dstAddressPrefixedName = prefixedName(dstAddress);
         scheduleConnect(NO_DELAY_MS);
-        batcher = new MessageBuffer(messageBatchSize);
+        batcher = new MessageBuffer(messageBatchSize, zeroCopyBatches);
     }
 
     private ClientBootstrap createClientBootstrap(ChannelFactory factory, int bufferSize) {
@@ -25,12 +25,23 @@ import org.jboss.netty.buffer.ChannelBuffers;
 import java.util.ArrayList;
 
 class MessageBatch {
+    private static final int HEADER_LENGTH = 6; //INT + SHORT
+
     private int buffer_size;
+    private boolean zero_copy;
     private ArrayList<TaskMessage> msgs;
     private int encoded_length;
 
     MessageBatch(int buffer_size) {
+        this(buffer_size, false);
+    }
+
+    /**
+     * @param zero_copy if true, buffer() wraps the message payloads instead of copying them
+     */
+    MessageBatch(int buffer_size, boolean zero_copy) {
         this.buffer_size = buffer_size;
+        this.zero_copy = zero_copy;
         msgs = new ArrayList<TaskMessage>();
         encoded_length = ControlMessage.EOB_MESSAGE.encodeLength();
     }
@@ -47,9 +58,9 @@ class MessageBatch {
     private int msgEncodeLength(TaskMessage taskMsg) {
         if (taskMsg == null) return 0;
 
-        int size = 6; //INT + SHORT
-        if (taskMsg.message() != null) 
-            size += taskMsg.message().length;
+        int size = HEADER_LENGTH;
+        if (taskMsg.messageBuffer() != null) 
+            size += taskMsg.messageLength();
         return size;
     }
 
@@ -81,6 +92,9 @@ class MessageBatch {
      * create a buffer containing the encoding of this batch
      */
     ChannelBuffer buffer() throws Exception {
+        if (zero_copy)
+            return compositeBuffer();
+
         ChannelBufferOutputStream bout = new ChannelBufferOutputStream(ChannelBuffers.directBuffer(encoded_length));
         
         for (TaskMessage msg : msgs)
@@ -94,6 +108,58 @@ class MessageBatch {
         return bout.buffer();
     }
 
+    /**
+     * create a composite buffer for this batch that references the payload arrays
+     * instead of copying them.
+     *
+     * All the message headers, plus the END_OF_BATCH indicator, are written into a
+     * single small heap buffer; each message then contributes a slice of it followed
+     * by its wrapped payload. The result is a gathering buffer, so the socket write
+     * hands the components to the channel as is.
+     */
+    private ChannelBuffer compositeBuffer() throws Exception {
+        ChannelBuffer headers = ChannelBuffers.buffer(HEADER_LENGTH * msgs.size() + ControlMessage.EOB_MESSAGE.encodeLength());
+        ChannelBuffer[] components = new ChannelBuffer[msgs.size() * 2 + 1];
+        int count = 0;
+
+        for (TaskMessage msg : msgs) {
+            int header_start = headers.writerIndex();
+            writeTaskMessageHeader(headers, msg);
+            components[count++] = headers.slice(header_start, HEADER_LENGTH);
+            if (msg.messageBuffer() != null && msg.messageLength() > 0)
+                components[count++] = ChannelBuffers.wrappedBuffer(msg.messageBuffer(), msg.messageOffset(), msg.messageLength());
+        }
+
+        int eob_start = headers.writerIndex();
+        ChannelBufferOutputStream bout = new ChannelBufferOutputStream(headers);
+        ControlMessage.EOB_MESSAGE.write(bout);
+        bout.close();
+        components[count++] = headers.slice(eob_start, headers.writerIndex() - eob_start);
+
+        if (count < components.length) {
+            ChannelBuffer[] trimmed = new ChannelBuffer[count];
+            System.arraycopy(components, 0, trimmed, 0, count);
+            components = trimmed;
+        }
+        return ChannelBuffers.wrappedBuffer(true, components);
+    }
+
+    /**
+     * write the short task id and int payload length of a TaskMessage into a buffer
+     */
+    private void writeTaskMessageHeader(ChannelBuffer buf, TaskMessage message) {
+        int payload_len = 0;
+        if (message.messageBuffer() != null)
+            payload_len =  message.messageLength();
+
+        int task_id = message.task();
+        if (task_id > Short.MAX_VALUE)
+            throw new RuntimeException("Task ID should not exceed "+Short.MAX_VALUE);
+
+        buf.writeShort((short)task_id);
+        buf.writeInt(payload_len);
+    }
+
     /**
      * write a TaskMessage into a stream
      *
@@ -104,8 +170,8 @@ class MessageBatch {
      */
     private void writeTaskMessage(ChannelBufferOutputStream bout, TaskMessage message) throws Exception {
         int payload_len = 0;
-        if (message.message() != null)
-            payload_len =  message.message().length;
+        if (message.messageBuffer() != null)
+            payload_len =  message.messageLength();
 
         int task_id = message.task();
         if (task_id > Short.MAX_VALUE)
@@ -114,7 +180,7 @@ class MessageBatch {
         bout.writeShort((short)task_id);
         bout.writeInt(payload_len);
         if (payload_len >0)
-            bout.write(message.message());
+            bout.write(message.messageBuffer(), message.messageOffset(), payload_len);
     }
 
 }
\ No newline at end of file
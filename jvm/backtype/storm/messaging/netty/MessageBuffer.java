@@ -24,18 +24,24 @@ import backtype.storm.messaging.TaskMessage;
  */
 public class MessageBuffer {
     private final int mesageBatchSize;
+    private final boolean zeroCopy;
     private MessageBatch currentBatch;
 
     public MessageBuffer(int mesageBatchSize){
+        this(mesageBatchSize, false);
+    }
+
+    public MessageBuffer(int mesageBatchSize, boolean zeroCopy){
         this.mesageBatchSize = mesageBatchSize;
-        this.currentBatch = new MessageBatch(mesageBatchSize);
+        this.zeroCopy = zeroCopy;
+        this.currentBatch = new MessageBatch(mesageBatchSize, zeroCopy);
     }
 
     public synchronized MessageBatch add(TaskMessage msg){
         currentBatch.add(msg);
         if(currentBatch.isFull()){
             MessageBatch ret = currentBatch;
-            currentBatch = new MessageBatch(mesageBatchSize);
+            currentBatch = new MessageBatch(mesageBatchSize, zeroCopy);
             return ret;
         } else {
             return null;
@@ -49,7 +55,7 @@ public class MessageBuffer {
     public synchronized MessageBatch drain() {
         if(!currentBatch.isEmpty()) {
             MessageBatch ret = currentBatch;
-            currentBatch = new MessageBatch(mesageBatchSize);
+            currentBatch = new MessageBatch(mesageBatchSize, zeroCopy);
             return ret;
         } else {
             return null;
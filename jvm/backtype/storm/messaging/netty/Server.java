@@ -42,11 +42,13 @@ import org.slf4j.LoggerFactory;
 import backtype.storm.Config;
 import backtype.storm.messaging.ConnectionWithStatus;
 import backtype.storm.messaging.IConnection;
+import backtype.storm.messaging.IConnectionCallback;
+import backtype.storm.messaging.IPushReceiver;
 import backtype.storm.messaging.TaskMessage;
 import backtype.storm.metric.api.IStatefulObject;
 import backtype.storm.utils.Utils;
 
-class Server extends ConnectionWithStatus implements IStatefulObject {
+class Server extends ConnectionWithStatus implements IStatefulObject, IPushReceiver {
 
     private static final Logger LOG = LoggerFactory.getLogger(Server.class);
     @SuppressWarnings("rawtypes")
@@ -70,6 +72,8 @@ class Server extends ConnectionWithStatus implements IStatefulObject {
     int roundRobinQueueId;
 	
     private volatile boolean closing = false;
+    // when set, received messages are handed to it directly instead of being queued
+    private volatile IConnectionCallback callback = null;
     List<TaskMessage> closeMessage = Arrays.asList(new TaskMessage(-1, null));
     
     
@@ -191,6 +195,13 @@ class Server extends ConnectionWithStatus implements IStatefulObject {
             return;
         }
         addReceiveCount(from, msgs.size());
+
+        IConnectionCallback cb = callback;
+        if (null != cb) {
+            dispatch(cb, msgs);
+            return;
+        }
+
         ArrayList<TaskMessage> messageGroups[] = groupMessages(msgs);
 
         if (null == messageGroups || closing) {
@@ -206,6 +217,35 @@ class Server extends ConnectionWithStatus implements IStatefulObject {
         }
     }
 
+    /**
+     * hand a received batch to the registered callback on the calling I/O thread.
+     * Each channel is served by a single I/O thread, so per-task ordering is kept.
+     * The callback may block when an executor's receive queue is full, which stops
+     * this I/O thread from reading its channels; that is the backpressure of direct
+     * dispatch, there is no queue in between to absorb bursts.
+     */
+    private void dispatch(IConnectionCallback cb, List<TaskMessage> msgs) {
+        for (int i = 0; i < msgs.size(); i++) {
+            if (msgs.get(i).task() == -1) {
+                // whatever came ahead of the close marker is still delivered
+                if (i > 0) {
+                    cb.recv(msgs.subList(0, i));
+                    messagesDequeued.addAndGet(i);
+                }
+                closing = true;
+                return;
+            }
+        }
+        cb.recv(msgs);
+        messagesDequeued.addAndGet(msgs.size());
+    }
+
+    @Override
+    public void registerRecv(IConnectionCallback cb) {
+        LOG.info("Registered receive callback for {}, messages will no longer be queued", name());
+        callback = cb;
+    }
+
     public Iterator<TaskMessage> recv(int flags, int receiverId) {
         if (closing) {
             return closeMessage.iterator();
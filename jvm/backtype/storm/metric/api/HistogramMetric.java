@@ -0,0 +1,125 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package backtype.storm.metric.api;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Records a distribution of values, such as latencies, in a fixed amount of
+ * memory and reports its percentiles. Values are counted in log-linear buckets:
+ * exact below 64, and split into 32 linear buckets per power of two above, so a
+ * reported percentile is within about 3% of the real one. Values above
+ * highestTrackableValue count towards the last bucket, the max stays exact.
+ *
+ * update neither locks nor allocates and can be called from any thread.
+ */
+public class HistogramMetric implements IMetric {
+    // one hour in ms
+    public static final long DEFAULT_HIGHEST_TRACKABLE_VALUE = 60 * 60 * 1000;
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF = SUB_BUCKET_COUNT / 2;
+
+    private final long _highestTrackableValue;
+    private final AtomicLongArray _counts;
+    private final AtomicLong _max = new AtomicLong(0);
+    // only touched by getValueAndReset
+    private final long[] _snapshot;
+
+    public HistogramMetric(long highestTrackableValue) {
+        if(highestTrackableValue < 1) {
+            throw new IllegalArgumentException("highestTrackableValue must be >= 1");
+        }
+        _highestTrackableValue = highestTrackableValue;
+        _counts = new AtomicLongArray(index(highestTrackableValue) + 1);
+        _snapshot = new long[_counts.length()];
+    }
+
+    public HistogramMetric() {
+        this(DEFAULT_HIGHEST_TRACKABLE_VALUE);
+    }
+
+    public void update(long value) {
+        if(value < 0) {
+            value = 0;
+        }
+        _counts.incrementAndGet(index(Math.min(value, _highestTrackableValue)));
+        long max = _max.get();
+        while(value > max && !_max.compareAndSet(max, value)) {
+            max = _max.get();
+        }
+    }
+
+    /**
+     * Returns a map of p50, p99, p999 and max, or null if nothing was recorded
+     * since the last call.
+     */
+    public Object getValueAndReset() {
+        long count = 0;
+        for(int i=0; i<_snapshot.length; i++) {
+            _snapshot[i] = _counts.getAndSet(i, 0);
+            count += _snapshot[i];
+        }
+        long max = _max.getAndSet(0);
+        if(count == 0) {
+            return null;
+        }
+        Map<String, Long> ret = new HashMap<String, Long>();
+        ret.put("p50", percentile(0.5, count, max));
+        ret.put("p99", percentile(0.99, count, max));
+        ret.put("p999", percentile(0.999, count, max));
+        ret.put("max", max);
+        ret.put("count", count);
+        return ret;
+    }
+
+    private long percentile(double q, long count, long max) {
+        long rank = Math.max((long) Math.ceil(q * count), 1);
+        long seen = 0;
+        for(int i=0; i<_snapshot.length; i++) {
+            seen += _snapshot[i];
+            if(seen >= rank) {
+                return Math.min(highestEquivalentValue(i), max);
+            }
+        }
+        return max;
+    }
+
+    static int index(long value) {
+        if(value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = 64 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int sub = (int) (value >>> shift);
+        return SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_HALF + sub - SUB_BUCKET_HALF;
+    }
+
+    static long highestEquivalentValue(int index) {
+        if(index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int k = index - SUB_BUCKET_COUNT;
+        int shift = k / SUB_BUCKET_HALF + 1;
+        long sub = k % SUB_BUCKET_HALF + SUB_BUCKET_HALF;
+        return ((sub + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,54 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package backtype.storm.metric.api;
+
+import backtype.storm.metric.api.IMetric;
+import java.util.HashMap;
+import java.util.Map;
+
+public class MultiHistogramMetric implements IMetric {
+    Map<String, HistogramMetric> _value = new HashMap<String, HistogramMetric>();
+    long _highestTrackableValue;
+
+    public MultiHistogramMetric(long highestTrackableValue) {
+        _highestTrackableValue = highestTrackableValue;
+    }
+
+    public MultiHistogramMetric() {
+        this(HistogramMetric.DEFAULT_HIGHEST_TRACKABLE_VALUE);
+    }
+
+    public HistogramMetric scope(String key) {
+        HistogramMetric val = _value.get(key);
+        if(val == null) {
+            _value.put(key, val = new HistogramMetric(_highestTrackableValue));
+        }
+        return val;
+    }
+
+    public Object getValueAndReset() {
+        Map<String, Object> ret = new HashMap<String, Object>();
+        for(Map.Entry<String, HistogramMetric> e : _value.entrySet()) {
+            Object val = e.getValue().getValueAndReset();
+            if(val != null) {
+                ret.put(e.getKey(), val);
+            }
+        }
+        return ret;
+    }
+}
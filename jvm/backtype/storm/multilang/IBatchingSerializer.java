@@ -0,0 +1,35 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package backtype.storm.multilang;
+
+import java.io.IOException;
+
+/**
+ * An ISerializer that may keep written bolt messages in a buffer instead of
+ * flushing every one of them to the non-JVM process. ShellBolt calls flush
+ * once it has nothing more to write for the moment. Messages the process waits
+ * on, like spout messages and task ids, must be written out by the serializer
+ * itself.
+ */
+public interface IBatchingSerializer extends ISerializer {
+
+    /**
+     * Writes out all buffered messages
+     */
+    void flush() throws IOException;
+}
@@ -97,7 +97,14 @@ public class JsonSerializer implements ISerializer {
     }
 
     public ShellMsg readShellMsg() throws IOException, NoOutputException {
-        JSONObject msg = (JSONObject) readMessage();
+        return toShellMsg((Map) readMessage());
+    }
+
+    /**
+     * Builds a ShellMsg from a decoded message, shared with the other
+     * serializers that decode into plain maps and lists.
+     */
+    static ShellMsg toShellMsg(Map msg) {
         ShellMsg shellMsg = new ShellMsg();
 
         String command = (String) msg.get("command");
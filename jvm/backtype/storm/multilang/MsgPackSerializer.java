@@ -0,0 +1,336 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package backtype.storm.multilang;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.json.simple.JSONValue;
+
+import backtype.storm.task.TopologyContext;
+
+/**
+ * MsgPackSerializer implements a binary multilang protocol. Every message is
+ * a frame made of a 4 byte big endian length followed by that many bytes of
+ * MessagePack, holding the same maps and lists the JSON protocol sends.
+ *
+ * Bolt messages are buffered and only written out on flush, so a busy bolt
+ * hands the subprocess many tuples per write. Spout messages and task ids are
+ * flushed right away because the subprocess is waiting on them.
+ */
+public class MsgPackSerializer implements IBatchingSerializer {
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private DataOutputStream processIn;
+    private DataInputStream processOut;
+    // a frame is encoded here first so its length can be written ahead of it
+    private ByteArrayOutputStream frame = new ByteArrayOutputStream(1024);
+    private DataOutputStream frameOut = new DataOutputStream(frame);
+
+    public void initialize(OutputStream processIn, InputStream processOut) {
+        this.processIn = new DataOutputStream(new BufferedOutputStream(processIn, BUFFER_SIZE));
+        this.processOut = new DataInputStream(new BufferedInputStream(processOut, BUFFER_SIZE));
+    }
+
+    public Number connect(Map conf, TopologyContext context)
+            throws IOException, NoOutputException {
+        Map<String, Object> setupInfo = new HashMap<String, Object>();
+        setupInfo.put("pidDir", context.getPIDDir());
+        setupInfo.put("conf", conf);
+        // the context only knows how to render itself as JSON
+        setupInfo.put("context", JSONValue.parse(context.toJSONString()));
+        writeMessage(setupInfo);
+        flush();
+
+        Number pid = (Number) ((Map) readMessage()).get("pid");
+        return pid;
+    }
+
+    public void writeBoltMsg(BoltMsg boltMsg) throws IOException {
+        Map<String, Object> obj = new HashMap<String, Object>();
+        obj.put("id", boltMsg.getId());
+        obj.put("comp", boltMsg.getComp());
+        obj.put("stream", boltMsg.getStream());
+        obj.put("task", boltMsg.getTask());
+        obj.put("tuple", boltMsg.getTuple());
+        writeMessage(obj);
+    }
+
+    public void writeSpoutMsg(SpoutMsg msg) throws IOException {
+        Map<String, Object> obj = new HashMap<String, Object>();
+        obj.put("command", msg.getCommand());
+        obj.put("id", msg.getId());
+        writeMessage(obj);
+        flush();
+    }
+
+    public void writeTaskIds(List<Integer> taskIds) throws IOException {
+        writeMessage(taskIds);
+        flush();
+    }
+
+    public void flush() throws IOException {
+        processIn.flush();
+    }
+
+    public ShellMsg readShellMsg() throws IOException, NoOutputException {
+        return JsonSerializer.toShellMsg((Map) readMessage());
+    }
+
+    private void writeMessage(Object msg) throws IOException {
+        frame.reset();
+        pack(frameOut, msg);
+        processIn.writeInt(frame.size());
+        frame.writeTo(processIn);
+    }
+
+    private Object readMessage() throws IOException, NoOutputException {
+        byte[] body;
+        try {
+            int length = processOut.readInt();
+            if (length < 0) {
+                throw new IOException("Invalid frame length from subprocess: " + length);
+            }
+            body = new byte[length];
+            processOut.readFully(body);
+        } catch (EOFException e) {
+            throw new NoOutputException("Pipe to subprocess seems to be broken! No output read.\n"
+                    + "Serializer Exception:\n");
+        }
+        Unpacker unpacker = new Unpacker(body);
+        Object msg = unpacker.unpack();
+        if (unpacker.pos != body.length) {
+            throw new IOException("Trailing bytes after message from subprocess");
+        }
+        return msg;
+    }
+
+    static void pack(DataOutputStream out, Object o) throws IOException {
+        if (o == null) {
+            out.writeByte(0xc0);
+        } else if (o instanceof Boolean) {
+            out.writeByte(((Boolean) o) ? 0xc3 : 0xc2);
+        } else if (o instanceof Long || o instanceof Integer || o instanceof Short || o instanceof Byte) {
+            packLong(out, ((Number) o).longValue());
+        } else if (o instanceof Double || o instanceof Float) {
+            out.writeByte(0xcb);
+            out.writeDouble(((Number) o).doubleValue());
+        } else if (o instanceof String) {
+            byte[] bytes = ((String) o).getBytes(UTF8);
+            packHeader(out, bytes.length, 0xa0, 32, 0xd9, 0xda, 0xdb);
+            out.write(bytes);
+        } else if (o instanceof byte[]) {
+            byte[] bytes = (byte[]) o;
+            packHeader(out, bytes.length, 0, 0, 0xc4, 0xc5, 0xc6);
+            out.write(bytes);
+        } else if (o instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) o;
+            packHeader(out, map.size(), 0x80, 16, -1, 0xde, 0xdf);
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                pack(out, entry.getKey());
+                pack(out, entry.getValue());
+            }
+        } else if (o instanceof Collection) {
+            Collection<?> coll = (Collection<?>) o;
+            packHeader(out, coll.size(), 0x90, 16, -1, 0xdc, 0xdd);
+            for (Object elem : coll) {
+                pack(out, elem);
+            }
+        } else if (o instanceof Object[]) {
+            Object[] arr = (Object[]) o;
+            packHeader(out, arr.length, 0x90, 16, -1, 0xdc, 0xdd);
+            for (Object elem : arr) {
+                pack(out, elem);
+            }
+        } else {
+            // same fallback as the JSON protocol for values it has no type for
+            pack(out, o.toString());
+        }
+    }
+
+    private static void packLong(DataOutputStream out, long v) throws IOException {
+        if (v >= -32 && v < 128) {
+            out.writeByte((int) v);
+        } else if (v >= Byte.MIN_VALUE && v <= Byte.MAX_VALUE) {
+            out.writeByte(0xd0);
+            out.writeByte((int) v);
+        } else if (v >= Short.MIN_VALUE && v <= Short.MAX_VALUE) {
+            out.writeByte(0xd1);
+            out.writeShort((int) v);
+        } else if (v >= Integer.MIN_VALUE && v <= Integer.MAX_VALUE) {
+            out.writeByte(0xd2);
+            out.writeInt((int) v);
+        } else {
+            out.writeByte(0xd3);
+            out.writeLong(v);
+        }
+    }
+
+    /**
+     * Writes the type and length of a str, bin, array or map. A fixType of 0
+     * or an 8 bit type of -1 means the type has no such variant.
+     */
+    private static void packHeader(DataOutputStream out, int length, int fixType, int fixLimit,
+                                   int type8, int type16, int type32) throws IOException {
+        if (fixType != 0 && length < fixLimit) {
+            out.writeByte(fixType | length);
+        } else if (type8 != -1 && length < 0x100) {
+            out.writeByte(type8);
+            out.writeByte(length);
+        } else if (length < 0x10000) {
+            out.writeByte(type16);
+            out.writeShort(length);
+        } else {
+            out.writeByte(type32);
+            out.writeInt(length);
+        }
+    }
+
+    /**
+     * Decodes one MessagePack value into Longs, Doubles, Strings, byte arrays,
+     * Lists and Maps, the same shapes the JSON protocol produces.
+     */
+    static class Unpacker {
+        private final byte[] buf;
+        int pos = 0;
+
+        Unpacker(byte[] buf) {
+            this.buf = buf;
+        }
+
+        Object unpack() throws IOException {
+            int b = readByte();
+            if (b <= 0x7f) {
+                return (long) b;
+            } else if (b >= 0xe0) {
+                return (long) (byte) b;
+            } else if (b >= 0xa0 && b <= 0xbf) {
+                return readString(b & 0x1f);
+            } else if (b >= 0x90 && b <= 0x9f) {
+                return readList(b & 0x0f);
+            } else if (b >= 0x80 && b <= 0x8f) {
+                return readMap(b & 0x0f);
+            }
+            switch (b) {
+                case 0xc0: return null;
+                case 0xc2: return false;
+                case 0xc3: return true;
+                case 0xc4: return readBytes(readByte());
+                case 0xc5: return readBytes(readUnsignedShort());
+                case 0xc6: return readBytes(readLength());
+                case 0xca: return (double) Float.intBitsToFloat((int) readLong(4));
+                case 0xcb: return Double.longBitsToDouble(readLong(8));
+                case 0xcc: return (long) readByte();
+                case 0xcd: return (long) readUnsignedShort();
+                case 0xce: return readLong(4) & 0xffffffffL;
+                case 0xcf: return readLong(8);
+                case 0xd0: return (long) (byte) readByte();
+                case 0xd1: return (long) (short) readUnsignedShort();
+                case 0xd2: return (long) (int) readLong(4);
+                case 0xd3: return readLong(8);
+                case 0xd9: return readString(readByte());
+                case 0xda: return readString(readUnsignedShort());
+                case 0xdb: return readString(readLength());
+                case 0xdc: return readList(readUnsignedShort());
+                case 0xdd: return readList(readLength());
+                case 0xde: return readMap(readUnsignedShort());
+                case 0xdf: return readMap(readLength());
+                default:
+                    throw new IOException("Unsupported MessagePack type 0x" + Integer.toHexString(b));
+            }
+        }
+
+        private List<Object> readList(int size) throws IOException {
+            List<Object> ret = new ArrayList<Object>(size);
+            for (int i = 0; i < size; i++) {
+                ret.add(unpack());
+            }
+            return ret;
+        }
+
+        private Map<Object, Object> readMap(int size) throws IOException {
+            Map<Object, Object> ret = new HashMap<Object, Object>();
+            for (int i = 0; i < size; i++) {
+                Object key = unpack();
+                ret.put(key, unpack());
+            }
+            return ret;
+        }
+
+        private String readString(int length) throws IOException {
+            ensure(length);
+            String ret = new String(buf, pos, length, UTF8);
+            pos += length;
+            return ret;
+        }
+
+        private byte[] readBytes(int length) throws IOException {
+            ensure(length);
+            byte[] ret = new byte[length];
+            System.arraycopy(buf, pos, ret, 0, length);
+            pos += length;
+            return ret;
+        }
+
+        private int readByte() throws IOException {
+            ensure(1);
+            return buf[pos++] & 0xff;
+        }
+
+        private int readUnsignedShort() throws IOException {
+            return (int) readLong(2);
+        }
+
+        private int readLength() throws IOException {
+            long length = readLong(4) & 0xffffffffL;
+            if (length > Integer.MAX_VALUE) {
+                throw new IOException("MessagePack value too large: " + length);
+            }
+            return (int) length;
+        }
+
+        private long readLong(int bytes) throws IOException {
+            ensure(bytes);
+            long ret = 0;
+            for (int i = 0; i < bytes; i++) {
+                ret = (ret << 8) | (buf[pos++] & 0xff);
+            }
+            return ret;
+        }
+
+        private void ensure(int bytes) throws IOException {
+            if (bytes < 0 || pos + bytes > buf.length) {
+                throw new IOException("Truncated message from subprocess");
+            }
+        }
+    }
+}
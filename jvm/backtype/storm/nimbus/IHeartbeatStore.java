@@ -0,0 +1,53 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package backtype.storm.nimbus;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Storage for worker heartbeats, used instead of ZooKeeper when
+ * storm.heartbeat.store is set. Heartbeats are serialized
+ * ClusterWorkerHeartbeat structs. Workers only write them, Nimbus is the only
+ * daemon that reads them.
+ */
+public interface IHeartbeatStore {
+    /**
+     * @param isNimbus true in Nimbus, which reads heartbeats, false in workers
+     */
+    void prepare(Map conf, boolean isNimbus);
+
+    /**
+     * Stores the latest heartbeat of a worker. May return before the heartbeat
+     * is stored; a heartbeat that never makes it is replaced by the next one.
+     */
+    void putWorkerHeartbeat(String stormId, String node, int port, byte[] heartbeat);
+
+    byte[] getWorkerHeartbeat(String stormId, String node, int port);
+
+    void removeWorkerHeartbeat(String stormId, String node, int port);
+
+    /**
+     * Ids of the topologies there are heartbeats stored for
+     */
+    List<String> heartbeatStorms();
+
+    void removeHeartbeats(String stormId);
+
+    void close();
+}
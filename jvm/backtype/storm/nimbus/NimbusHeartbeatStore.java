@@ -0,0 +1,142 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package backtype.storm.nimbus;
+
+import backtype.storm.utils.NimbusClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps worker heartbeats in the memory of Nimbus. Workers send their
+ * heartbeats with the workerHeartbeat call of the Nimbus Thrift service, so
+ * they go over the same transport, and are subject to the same authentication
+ * and authorization, as every other Nimbus call.
+ *
+ * Heartbeats held by Nimbus are lost when it restarts. That is no worse than a
+ * missed heartbeat round, as Nimbus does not time out executors it has not yet
+ * seen a heartbeat from since it started.
+ */
+public class NimbusHeartbeatStore implements IHeartbeatStore {
+    private static final Logger LOG = LoggerFactory.getLogger(NimbusHeartbeatStore.class);
+
+    private Map _conf;
+    private boolean _isNimbus;
+
+    // Nimbus side: storm id -> "node:port" -> serialized heartbeat
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, byte[]>> _heartbeats =
+            new ConcurrentHashMap<String, ConcurrentHashMap<String, byte[]>>();
+
+    // worker side, connected on the first heartbeat and again after a failed one
+    private NimbusClient _client;
+
+    @Override
+    public void prepare(Map conf, boolean isNimbus) {
+        _conf = conf;
+        _isNimbus = isNimbus;
+    }
+
+    @Override
+    public void putWorkerHeartbeat(String stormId, String node, int port, byte[] heartbeat) {
+        if (_isNimbus) {
+            ConcurrentHashMap<String, byte[]> beats = _heartbeats.get(stormId);
+            if (beats == null) {
+                ConcurrentHashMap<String, byte[]> created = new ConcurrentHashMap<String, byte[]>();
+                beats = _heartbeats.putIfAbsent(stormId, created);
+                if (beats == null) {
+                    beats = created;
+                }
+            }
+            beats.put(workerKey(node, port), heartbeat);
+        } else {
+            send(stormId, node, port, heartbeat);
+        }
+    }
+
+    @Override
+    public byte[] getWorkerHeartbeat(String stormId, String node, int port) {
+        checkNimbus();
+        Map<String, byte[]> beats = _heartbeats.get(stormId);
+        return beats == null ? null : beats.get(workerKey(node, port));
+    }
+
+    @Override
+    public void removeWorkerHeartbeat(String stormId, String node, int port) {
+        if (_isNimbus) {
+            Map<String, byte[]> beats = _heartbeats.get(stormId);
+            if (beats != null) {
+                beats.remove(workerKey(node, port));
+            }
+        } else {
+            send(stormId, node, port, null);
+        }
+    }
+
+    @Override
+    public List<String> heartbeatStorms() {
+        checkNimbus();
+        return new ArrayList<String>(_heartbeats.keySet());
+    }
+
+    @Override
+    public void removeHeartbeats(String stormId) {
+        checkNimbus();
+        _heartbeats.remove(stormId);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (_client != null) {
+            _client.close();
+            _client = null;
+        }
+    }
+
+    private void checkNimbus() {
+        if (!_isNimbus) {
+            throw new IllegalStateException("Worker heartbeats can only be read in Nimbus");
+        }
+    }
+
+    // a null heartbeat removes the worker's heartbeat from Nimbus
+    private synchronized void send(String stormId, String node, int port, byte[] heartbeat) {
+        try {
+            if (_client == null) {
+                _client = NimbusClient.getConfiguredClient(_conf);
+            }
+            if (heartbeat == null) {
+                _client.getClient().removeWorkerHeartbeat(stormId, node, port);
+            } else {
+                _client.getClient().workerHeartbeat(stormId, node, port, ByteBuffer.wrap(heartbeat));
+            }
+        } catch (Exception e) {
+            // the next heartbeat reconnects and tries again
+            LOG.warn("Could not send the heartbeat of {}:{} to Nimbus", node, port, e);
+            close();
+        }
+    }
+
+    private static String workerKey(String node, int port) {
+        return node + ":" + port;
+    }
+}
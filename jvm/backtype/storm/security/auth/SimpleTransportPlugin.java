@@ -30,10 +30,12 @@ import java.util.concurrent.TimeUnit;
 
 import javax.security.auth.login.Configuration;
 import javax.security.auth.Subject;
+import org.apache.thrift.TBaseAsyncProcessor;
 import org.apache.thrift.TException;
 import org.apache.thrift.TProcessor;
 import org.apache.thrift.protocol.TBinaryProtocol;
 import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer;
 import org.apache.thrift.server.THsHaServer;
 import org.apache.thrift.server.TServer;
 import org.apache.thrift.transport.TFramedTransport;
@@ -74,7 +76,8 @@ public class SimpleTransportPlugin implements ITransportPlugin {
         Integer queueSize = type.getQueueSize(storm_conf);
 
         THsHaServer.Args server_args = new THsHaServer.Args(serverTransport).
-                processor(new SimpleWrapProcessor(processor)).
+                processor(processor instanceof TBaseAsyncProcessor ?
+                          new SimpleWrapAsyncProcessor((TBaseAsyncProcessor)processor) : new SimpleWrapProcessor(processor)).
                 workerThreads(numWorkerThreads).
                 protocolFactory(new TBinaryProtocol.Factory(false, true, maxBufferSize, -1));
 
@@ -124,40 +127,74 @@ public class SimpleTransportPlugin implements ITransportPlugin {
         }
 
         public boolean process(final TProtocol inProt, final TProtocol outProt) throws TException {
-            //populating request context 
-            ReqContext req_context = ReqContext.context();
-
-            TTransport trans = inProt.getTransport();
-            if (trans instanceof TMemoryInputTransport) {
-                try {
-                    req_context.setRemoteAddress(InetAddress.getLocalHost());
-                } catch (UnknownHostException e) {
-                    throw new RuntimeException(e);
-                }                                
-            } else if (trans instanceof TSocket) {
-                TSocket tsocket = (TSocket)trans;
-                //remote address
-                Socket socket = tsocket.getSocket();
-                req_context.setRemoteAddress(socket.getInetAddress());                
-            } 
-
-            //anonymous user
-            Subject s = getDefaultSubject();
-            if (s == null) {
-              final String user = (String)storm_conf.get("debug.simple.transport.user");
-              if (user != null) {
-                HashSet<Principal> principals = new HashSet<Principal>();
-                principals.add(new Principal() {
-                  public String getName() { return user; }
-                  public String toString() { return user; }
-                });
-                s = new Subject(true, principals, new HashSet<Object>(), new HashSet<Object>());
-              }
-            }
-            req_context.setSubject(s);
-
+            populateContext(inProt);
             //invoke service handler
             return wrapped.process(inProt, outProt);
         }
     } 
+
+    /**
+     * Same as SimpleWrapProcessor for async processors. The handler is started
+     * on the calling thread, so it sees the populated ReqContext, but may
+     * send its response from any thread later on.
+     */
+    private class SimpleWrapAsyncProcessor extends TBaseAsyncProcessor {
+        final TBaseAsyncProcessor wrapped;
+
+        SimpleWrapAsyncProcessor(TBaseAsyncProcessor wrapped) {
+            super(null, wrapped.getProcessMapView());
+            this.wrapped = wrapped;
+        }
+
+        @Override
+        public boolean process(AsyncFrameBuffer fb) throws TException {
+            populateContext(fb.getInputProtocol());
+            //invoke service handler
+            return wrapped.process(fb);
+        }
+
+        @Override
+        public boolean process(final TProtocol inProt, final TProtocol outProt) throws TException {
+            populateContext(inProt);
+            //invoke service handler
+            return wrapped.process(inProt, outProt);
+        }
+    }
+
+    /**
+     * Populates simple transport info into the ReqContext of the calling thread
+     */
+    private void populateContext(TProtocol inProt) {
+        //populating request context 
+        ReqContext req_context = ReqContext.context();
+
+        TTransport trans = inProt.getTransport();
+        if (trans instanceof TMemoryInputTransport) {
+            try {
+                req_context.setRemoteAddress(InetAddress.getLocalHost());
+            } catch (UnknownHostException e) {
+                throw new RuntimeException(e);
+            }                                
+        } else if (trans instanceof TSocket) {
+            TSocket tsocket = (TSocket)trans;
+            //remote address
+            Socket socket = tsocket.getSocket();
+            req_context.setRemoteAddress(socket.getInetAddress());                
+        } 
+
+        //anonymous user
+        Subject s = getDefaultSubject();
+        if (s == null) {
+          final String user = (String)storm_conf.get("debug.simple.transport.user");
+          if (user != null) {
+            HashSet<Principal> principals = new HashSet<Principal>();
+            principals.add(new Principal() {
+              public String getName() { return user; }
+              public String toString() { return user; }
+            });
+            s = new Subject(true, principals, new HashSet<Object>(), new HashSet<Object>());
+          }
+        }
+        req_context.setSubject(s);
+    }
 }
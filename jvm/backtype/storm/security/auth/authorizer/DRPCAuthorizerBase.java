@@ -52,6 +52,7 @@ public abstract class DRPCAuthorizerBase implements IAuthorizer {
             return permitClientRequest(context, operation, params);
         } else if ("failRequest".equals(operation) || 
                 "fetchRequest".equals(operation) || 
+                "fetchRequests".equals(operation) || 
                 "result".equals(operation)) {
             return permitInvocationRequest(context, operation, params);
         }
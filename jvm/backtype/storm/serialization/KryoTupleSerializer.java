@@ -17,6 +17,7 @@
  */
 package backtype.storm.serialization;
 
+import backtype.storm.messaging.TaskMessage;
 import backtype.storm.task.GeneralTopologyContext;
 import backtype.storm.tuple.Tuple;
 import com.esotericsoftware.kryo.io.Output;
@@ -24,13 +25,22 @@ import java.io.IOException;
 import java.util.Map;
 
 public class KryoTupleSerializer implements ITupleSerializer {
+    private static final int SLAB_SIZE = 64 * 1024;
+    // start a new slab rather than let a tuple overflow an almost full one
+    private static final int MIN_SLAB_REMAINING = 1024;
+    private static final int MAX_BUFFER_SIZE = 2000000000;
+
     KryoValuesSerializer _kryo;
     SerializationFactory.IdDictionary _ids;   
     Output _kryoOut;
+    Output _slabOut;
+    byte[] _slab;
+    int _slabPos;
     
     public KryoTupleSerializer(final Map conf, final GeneralTopologyContext context) {
         _kryo = new KryoValuesSerializer(conf);
-        _kryoOut = new Output(2000, 2000000000);
+        _kryoOut = new Output(2000, MAX_BUFFER_SIZE);
+        _slabOut = new Output(0, MAX_BUFFER_SIZE);
         _ids = new SerializationFactory.IdDictionary(context.getRawTopology());
     }
 
@@ -38,16 +48,55 @@ public class KryoTupleSerializer implements ITupleSerializer {
         try {
             
             _kryoOut.clear();
-            _kryoOut.writeInt(tuple.getSourceTask(), true);
-            _kryoOut.writeInt(_ids.getStreamId(tuple.getSourceComponent(), tuple.getSourceStreamId()), true);
-            tuple.getMessageId().serialize(_kryoOut);
-            _kryo.serializeInto(tuple.getValues(), _kryoOut);
+            writeTuple(tuple, _kryoOut);
             return _kryoOut.toBytes();
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
 
+    /**
+     * Serializes a tuple straight into a region of a shared slab and hands that
+     * region to the returned message, skipping the per-tuple array allocation and
+     * copy of serialize().
+     *
+     * Regions are never reused: once the slab is exhausted a new one is started and
+     * the old one is released when the last message referencing it is gone. A tuple
+     * that does not fit makes kryo move the slab into a bigger array, which then
+     * becomes the current slab.
+     */
+    public TaskMessage serializeToMessage(int task, Tuple tuple) {
+        try {
+            if (_slab == null || _slab.length - _slabPos < MIN_SLAB_REMAINING) {
+                _slab = new byte[SLAB_SIZE];
+                _slabPos = 0;
+            }
+            _slabOut.setBuffer(_slab, MAX_BUFFER_SIZE);
+            _slabOut.setPosition(_slabPos);
+            writeTuple(tuple, _slabOut);
+            byte[] buffer = _slabOut.getBuffer();
+            int start = _slabPos;
+            int end = _slabOut.position();
+            if (buffer.length > SLAB_SIZE) {
+                // oversized slabs are not written to again
+                _slab = null;
+            } else {
+                _slab = buffer;
+                _slabPos = end;
+            }
+            return new TaskMessage(task, buffer, start, end - start);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void writeTuple(Tuple tuple, Output out) throws IOException {
+        out.writeInt(tuple.getSourceTask(), true);
+        out.writeInt(_ids.getStreamId(tuple.getSourceComponent(), tuple.getSourceStreamId()), true);
+        tuple.getMessageId().serialize(out);
+        _kryo.serializeInto(tuple.getValues(), out);
+    }
+
 //    public long crc32(Tuple tuple) {
 //        try {
 //            CRC32OutputStream hasher = new CRC32OutputStream();
@@ -0,0 +1,85 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package backtype.storm.stats;
+
+import backtype.storm.generated.BoltStats;
+import backtype.storm.generated.ExecutorSpecificStats;
+import backtype.storm.generated.GlobalStreamId;
+import backtype.storm.utils.Time;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bolt stats are keyed by the component and stream a tuple came from. Acked
+ * and failed count individual tuples.
+ */
+public class BoltExecutorStats extends CommonExecutorStats {
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, RollingWindowSet>> _acked =
+            new ConcurrentHashMap<String, ConcurrentHashMap<String, RollingWindowSet>>();
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, RollingWindowSet>> _failed =
+            new ConcurrentHashMap<String, ConcurrentHashMap<String, RollingWindowSet>>();
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, RollingWindowSet>> _processLatencies =
+            new ConcurrentHashMap<String, ConcurrentHashMap<String, RollingWindowSet>>();
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, RollingWindowSet>> _executed =
+            new ConcurrentHashMap<String, ConcurrentHashMap<String, RollingWindowSet>>();
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, RollingWindowSet>> _executeLatencies =
+            new ConcurrentHashMap<String, ConcurrentHashMap<String, RollingWindowSet>>();
+
+    public BoltExecutorStats(int rate) {
+        super(rate);
+    }
+
+    public void boltExecuteTuple(String component, String stream, long latencyMs) {
+        int now = Time.currentTimeSecs();
+        get(_executed, component, stream).add(now, getRate());
+        get(_executeLatencies, component, stream).add(now, latencyMs);
+    }
+
+    public void boltAckedTuple(String component, String stream, long latencyMs) {
+        int now = Time.currentTimeSecs();
+        get(_acked, component, stream).add(now, getRate());
+        get(_processLatencies, component, stream).add(now, latencyMs);
+    }
+
+    public void boltFailedTuple(String component, String stream) {
+        get(_failed, component, stream).add(Time.currentTimeSecs(), getRate());
+    }
+
+    @Override
+    protected ExecutorSpecificStats renderSpecific(Renderer r) {
+        return ExecutorSpecificStats.bolt(new BoltStats(
+                r.counts(byStreamId(_acked)),
+                r.counts(byStreamId(_failed)),
+                r.averages(byStreamId(_processLatencies)),
+                r.counts(byStreamId(_executed)),
+                r.averages(byStreamId(_executeLatencies))));
+    }
+
+    private static Map<GlobalStreamId, RollingWindowSet> byStreamId(
+            ConcurrentHashMap<String, ConcurrentHashMap<String, RollingWindowSet>> stats) {
+        Map<GlobalStreamId, RollingWindowSet> ret = new HashMap<GlobalStreamId, RollingWindowSet>();
+        for(Map.Entry<String, ConcurrentHashMap<String, RollingWindowSet>> c: stats.entrySet()) {
+            for(Map.Entry<String, RollingWindowSet> s: c.getValue().entrySet()) {
+                ret.put(new GlobalStreamId(c.getKey(), s.getKey()), s.getValue());
+            }
+        }
+        return ret;
+    }
+}
@@ -0,0 +1,134 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package backtype.storm.stats;
+
+import backtype.storm.generated.ExecutorSpecificStats;
+import backtype.storm.generated.ExecutorStats;
+import backtype.storm.utils.Time;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Stats an executor keeps about the tuples it handles, sent to Nimbus with
+ * every heartbeat. Every recorded tuple counts rate times, rate being the
+ * sampling rate of the executor.
+ */
+public abstract class CommonExecutorStats {
+    private static final String[] WINDOWS = {"600", "10800", "86400", ":all-time"};
+
+    private final int _rate;
+    private final ConcurrentHashMap<String, RollingWindowSet> _emitted = new ConcurrentHashMap<String, RollingWindowSet>();
+    private final ConcurrentHashMap<String, RollingWindowSet> _transferred = new ConcurrentHashMap<String, RollingWindowSet>();
+
+    protected CommonExecutorStats(int rate) {
+        _rate = rate;
+    }
+
+    public int getRate() {
+        return _rate;
+    }
+
+    public void emittedTuple(String stream) {
+        get(_emitted, stream).add(Time.currentTimeSecs(), _rate);
+    }
+
+    public void transferredTuples(String stream, int amount) {
+        get(_transferred, stream).add(Time.currentTimeSecs(), (long) _rate * amount);
+    }
+
+    /**
+     * Renders the stats as they stand into the structure sent in heartbeats.
+     */
+    public ExecutorStats render() {
+        Renderer r = new Renderer();
+        return new ExecutorStats(r.counts(_emitted), r.counts(_transferred), renderSpecific(r), _rate);
+    }
+
+    protected abstract ExecutorSpecificStats renderSpecific(Renderer r);
+
+    protected static RollingWindowSet get(ConcurrentHashMap<String, RollingWindowSet> stats, String stream) {
+        RollingWindowSet ret = stats.get(stream);
+        if(ret==null) {
+            RollingWindowSet created = new RollingWindowSet();
+            ret = stats.putIfAbsent(stream, created);
+            if(ret==null) {
+                ret = created;
+            }
+        }
+        return ret;
+    }
+
+    protected static RollingWindowSet get(ConcurrentHashMap<String, ConcurrentHashMap<String, RollingWindowSet>> stats,
+                                          String component, String stream) {
+        ConcurrentHashMap<String, RollingWindowSet> streams = stats.get(component);
+        if(streams==null) {
+            ConcurrentHashMap<String, RollingWindowSet> created = new ConcurrentHashMap<String, RollingWindowSet>();
+            streams = stats.putIfAbsent(component, created);
+            if(streams==null) {
+                streams = created;
+            }
+        }
+        return get(streams, stream);
+    }
+
+    /**
+     * Turns rolling window sets into window -> key -> value maps, reading all
+     * of them at the same point in time.
+     */
+    protected static class Renderer {
+        private final int _now = Time.currentTimeSecs();
+        private final long[] _sums = new long[RollingWindowSet.NUM_WINDOWS + 1];
+        private final long[] _counts = new long[RollingWindowSet.NUM_WINDOWS + 1];
+
+        public <K> Map<String, Map<K, Long>> counts(Map<K, RollingWindowSet> stats) {
+            Map<String, Map<K, Long>> ret = windows();
+            for(Map.Entry<K, RollingWindowSet> e: stats.entrySet()) {
+                e.getValue().value(_now, _sums, _counts);
+                for(int w=0; w<WINDOWS.length; w++) {
+                    if(_counts[w] > 0) {
+                        ret.get(WINDOWS[w]).put(e.getKey(), _sums[w]);
+                    }
+                }
+            }
+            return ret;
+        }
+
+        public <K> Map<String, Map<K, Double>> averages(Map<K, RollingWindowSet> stats) {
+            Map<String, Map<K, Double>> ret = windows();
+            for(Map.Entry<K, RollingWindowSet> e: stats.entrySet()) {
+                e.getValue().value(_now, _sums, _counts);
+                for(int w=0; w<WINDOWS.length; w++) {
+                    if(_counts[w] > 0) {
+                        ret.get(WINDOWS[w]).put(e.getKey(), (double) _sums[w] / _counts[w]);
+                    }
+                }
+            }
+            return ret;
+        }
+
+        private static <K, V> Map<String, Map<K, V>> windows() {
+            Map<String, Map<K, V>> ret = new HashMap<String, Map<K, V>>();
+            for(String w: WINDOWS) {
+                ret.put(w, new HashMap<K, V>());
+            }
+            return ret;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package backtype.storm.stats;
+
+/**
+ * The sum and count of one stat of one stream, over the 10 minute, 3 hour and
+ * 1 day windows and over all time. Each window is a ring of time buckets laid
+ * out in one long[], a bucket being reset when the ring comes around to it, so
+ * an update writes a handful of longs and allocates nothing.
+ *
+ * Updates and reads lock the set itself. Every stream has its own set, so the
+ * executor thread and the heartbeat thread rarely contend.
+ */
+public final class RollingWindowSet {
+    public static final int NUM_BUCKETS = 20;
+    // 10 minutes, 3 hours, 1 day
+    public static final int[] BUCKET_SIZES = {30, 540, 4320};
+    public static final int NUM_WINDOWS = BUCKET_SIZES.length;
+
+    // start secs, sum and count of each bucket of each window
+    private static final int START = 0;
+    private static final int SUM = 1;
+    private static final int COUNT = 2;
+    private static final int STRIDE = 3;
+
+    private final long[] _buckets = new long[NUM_WINDOWS * NUM_BUCKETS * STRIDE];
+    private long _allTimeSum = 0;
+    private long _allTimeCount = 0;
+
+    public synchronized void add(int nowSecs, long value) {
+        for(int w=0; w<NUM_WINDOWS; w++) {
+            int size = BUCKET_SIZES[w];
+            int start = nowSecs - nowSecs % size;
+            int i = (w * NUM_BUCKETS + (start / size) % NUM_BUCKETS) * STRIDE;
+            if(_buckets[i + START] != start) {
+                _buckets[i + START] = start;
+                _buckets[i + SUM] = 0;
+                _buckets[i + COUNT] = 0;
+            }
+            _buckets[i + SUM] += value;
+            _buckets[i + COUNT]++;
+        }
+        _allTimeSum += value;
+        _allTimeCount++;
+    }
+
+    /**
+     * Fills sums and counts with the totals of each window, all time coming
+     * last. Buckets that fell out of their window are left out.
+     */
+    public synchronized void value(int nowSecs, long[] sums, long[] counts) {
+        for(int w=0; w<NUM_WINDOWS; w++) {
+            int cutoff = nowSecs - NUM_BUCKETS * BUCKET_SIZES[w];
+            long sum = 0;
+            long count = 0;
+            for(int b=0; b<NUM_BUCKETS; b++) {
+                int i = (w * NUM_BUCKETS + b) * STRIDE;
+                if(_buckets[i + COUNT] > 0 && _buckets[i + START] >= cutoff) {
+                    sum += _buckets[i + SUM];
+                    count += _buckets[i + COUNT];
+                }
+            }
+            sums[w] = sum;
+            counts[w] = count;
+        }
+        sums[NUM_WINDOWS] = _allTimeSum;
+        counts[NUM_WINDOWS] = _allTimeCount;
+    }
+}
@@ -0,0 +1,55 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package backtype.storm.stats;
+
+import backtype.storm.generated.ExecutorSpecificStats;
+import backtype.storm.generated.SpoutStats;
+import backtype.storm.utils.Time;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Spout stats are keyed by stream. Acked and failed count tuple trees.
+ */
+public class SpoutExecutorStats extends CommonExecutorStats {
+    private final ConcurrentHashMap<String, RollingWindowSet> _acked = new ConcurrentHashMap<String, RollingWindowSet>();
+    private final ConcurrentHashMap<String, RollingWindowSet> _failed = new ConcurrentHashMap<String, RollingWindowSet>();
+    private final ConcurrentHashMap<String, RollingWindowSet> _completeLatencies = new ConcurrentHashMap<String, RollingWindowSet>();
+
+    public SpoutExecutorStats(int rate) {
+        super(rate);
+    }
+
+    public void spoutAckedTuple(String stream, long latencyMs) {
+        int now = Time.currentTimeSecs();
+        get(_acked, stream).add(now, getRate());
+        get(_completeLatencies, stream).add(now, latencyMs);
+    }
+
+    public void spoutFailedTuple(String stream) {
+        get(_failed, stream).add(Time.currentTimeSecs(), getRate());
+    }
+
+    @Override
+    protected ExecutorSpecificStats renderSpecific(Renderer r) {
+        return ExecutorSpecificStats.spout(new SpoutStats(
+                r.counts(_acked),
+                r.counts(_failed),
+                r.averages(_completeLatencies)));
+    }
+}
@@ -361,6 +361,12 @@ public class ShellBolt implements IBolt {
                         sendHeartbeatFlag.compareAndSet(true, false);
                     }
 
+                    // let the serializer batch writes for as long as tuples keep
+                    // coming, but never hold on to them while waiting for more
+                    if (_pendingWrites.isEmpty()) {
+                        _process.flush();
+                    }
+
                     Object write = _pendingWrites.poll(1, SECONDS);
                     if (write instanceof BoltMsg) {
                         _process.writeBoltMsg((BoltMsg) write);
@@ -95,6 +95,19 @@ public class WorkerTopologyContext extends GeneralTopologyContext {
     public String getPIDDir() {
         return _pidDir;
     }
+
+    /**
+     * Gets a directory on the local filesystem that only this worker uses for
+     * scratch files. The supervisor deletes it along with the worker, so files in it
+     * do not outlive the worker. Returns null if the worker has no directory.
+     */
+    public String getWorkerTmpDir() {
+        if(_pidDir==null) {
+            return null;
+        }
+        // the pid dir is storm.local.dir/workers/<worker id>/pids
+        return new File(new File(_pidDir).getParentFile(), "tmp").getPath();
+    }
     
     public Object getResource(String name) {
         return _userResources.get(name);
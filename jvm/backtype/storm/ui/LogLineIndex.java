@@ -0,0 +1,137 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package backtype.storm.ui;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Where the lines of a log file start. The index keeps, for every 64KB block
+ * of the file, the start of the line the block begins in, so finding the line
+ * around any offset reads at most one block. Indexes are cached per file and
+ * extended as far as lookups need as the log grows.
+ */
+public class LogLineIndex {
+    public static final int BLOCK_SIZE = 64 * 1024;
+    private static final int MAX_CACHED_FILES = 64;
+
+    private static final Map<String, LogLineIndex> CACHE = new LinkedHashMap<String, LogLineIndex>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, LogLineIndex> eldest) {
+            return size() > MAX_CACHED_FILES;
+        }
+    };
+
+    private long[] _blockLineStarts = new long[16];
+    private long _indexedLength = 0;
+    private long _lastLineStart = 0;
+
+    /**
+     * Returns the offset of the start of the line holding offset in a plain
+     * log file.
+     */
+    public static long lineStart(File file, long offset) throws IOException {
+        String path = file.getCanonicalPath();
+        LogLineIndex index;
+        synchronized(CACHE) {
+            index = CACHE.get(path);
+            if(index == null) {
+                index = new LogLineIndex();
+                CACHE.put(path, index);
+            }
+        }
+        return index.find(file, offset);
+    }
+
+    private synchronized long find(File file, long offset) throws IOException {
+        long length = file.length();
+        if(length < _indexedLength) {
+            // truncated or replaced, start over
+            _indexedLength = 0;
+            _lastLineStart = 0;
+        }
+        offset = Math.min(offset, length - 1);
+        if(offset <= 0) {
+            return 0;
+        }
+        FileInputStream in = new FileInputStream(file);
+        try {
+            FileChannel channel = in.getChannel();
+            int block = (int) (offset / BLOCK_SIZE);
+            long blockStart = (long) block * BLOCK_SIZE;
+            if(blockStart >= _indexedLength) {
+                // only as far as the block of offset, a search of a huge log should not scan all of it
+                extend(channel, Math.min(length, blockStart + BLOCK_SIZE));
+            }
+            ByteBuffer buf = ByteBuffer.allocate((int) (offset - blockStart));
+            read(channel, buf, blockStart);
+            for(int i=buf.position() - 1; i>=0; i--) {
+                if(buf.get(i) == '\n') {
+                    return blockStart + i + 1;
+                }
+            }
+            return _blockLineStarts[block];
+        } finally {
+            in.close();
+        }
+    }
+
+    private void extend(FileChannel channel, long length) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(BLOCK_SIZE);
+        long pos = _indexedLength;
+        while(pos < length) {
+            buf.clear();
+            if(length - pos < BLOCK_SIZE) {
+                buf.limit((int) (length - pos));
+            }
+            read(channel, buf, pos);
+            int n = buf.position();
+            if(n == 0) {
+                break;
+            }
+            for(int i=0; i<n; i++, pos++) {
+                if(pos % BLOCK_SIZE == 0) {
+                    int block = (int) (pos / BLOCK_SIZE);
+                    if(block >= _blockLineStarts.length) {
+                        _blockLineStarts = Arrays.copyOf(_blockLineStarts, Math.max(block + 1, _blockLineStarts.length * 2));
+                    }
+                    _blockLineStarts[block] = _lastLineStart;
+                }
+                if(buf.get(i) == '\n') {
+                    _lastLineStart = pos + 1;
+                }
+            }
+        }
+        _indexedLength = pos;
+    }
+
+    private static void read(FileChannel channel, ByteBuffer buf, long position) throws IOException {
+        while(buf.hasRemaining()) {
+            int n = channel.read(buf, position + buf.position());
+            if(n < 0) {
+                break;
+            }
+        }
+    }
+}
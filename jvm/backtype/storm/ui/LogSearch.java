@@ -0,0 +1,227 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package backtype.storm.ui;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Searches a whole log file for a string, a chunk at a time, without ever
+ * turning the file into Strings. Plain logs are read through a FileChannel,
+ * rotated .gz logs are decompressed as they are read, and byte offsets always
+ * refer to the uncompressed log.
+ *
+ * Results come in pages: a search returns at most numMatches matches and the
+ * offset to continue from, if there may be more.
+ */
+public class LogSearch {
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+    /** Bytes of the surrounding line returned on either side of a match. */
+    public static final int CONTEXT_BYTES = 128;
+    public static final int MAX_SEARCH_BYTES = 1024;
+    private static final int CHUNK_SIZE = 1024 * 1024;
+
+    public static boolean isGzip(File file) {
+        return file.getName().endsWith(".gz");
+    }
+
+    /**
+     * The length of the log, uncompressed. For a .gz file this comes from its
+     * trailer, which holds the uncompressed length modulo 2^32.
+     */
+    public static long logLength(File file) throws IOException {
+        if(!isGzip(file)) {
+            return file.length();
+        }
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            if(raf.length() < 4) {
+                return 0;
+            }
+            raf.seek(raf.length() - 4);
+            byte[] b = new byte[4];
+            raf.readFully(b);
+            return (b[0] & 0xffL) | (b[1] & 0xffL) << 8 | (b[2] & 0xffL) << 16 | (b[3] & 0xffL) << 24;
+        } finally {
+            raf.close();
+        }
+    }
+
+    /**
+     * Returns a map of searchString, startByteOffset, matches and, if
+     * numMatches were found, nextByteOffset. Every match has its byteOffset,
+     * matchString and the beforeString and afterString of its line, and the
+     * beforeByteOffset its beforeString starts at.
+     */
+    public static Map<String, Object> search(File file, String searchString, long startByteOffset, int numMatches)
+            throws IOException, InvalidRequestException {
+        byte[] needle = searchString == null ? new byte[0] : searchString.getBytes(UTF8);
+        if(needle.length == 0) {
+            throw new InvalidRequestException("Search string must not be empty");
+        }
+        if(needle.length > MAX_SEARCH_BYTES) {
+            throw new InvalidRequestException("Search string must be at most " + MAX_SEARCH_BYTES + " bytes");
+        }
+        if(startByteOffset < 0) {
+            throw new InvalidRequestException("Cannot search from a negative offset");
+        }
+        if(numMatches < 1) {
+            throw new InvalidRequestException("Number of matches must be positive");
+        }
+
+        Map<String, Object> ret = new HashMap<String, Object>();
+        ret.put("searchString", searchString);
+        ret.put("startByteOffset", startByteOffset);
+        List<Map<String, Object>> matches = new ArrayList<Map<String, Object>>();
+        ret.put("matches", matches);
+
+        int m = needle.length;
+        int[] shift = new int[256];
+        for(int i=0; i<256; i++) {
+            shift[i] = m;
+        }
+        for(int i=0; i<m-1; i++) {
+            shift[needle[i] & 0xff] = m - 1 - i;
+        }
+
+        Source source = open(file, startByteOffset);
+        try {
+            byte[] buf = new byte[CHUNK_SIZE + 2 * CONTEXT_BYTES + m];
+            long bufOffset = startByteOffset;
+            int valid = 0;
+            int i = 0;
+            boolean eof = false;
+            while(true) {
+                while(!eof && valid < buf.length) {
+                    int n = source.read(buf, valid, buf.length - valid);
+                    if(n < 0) {
+                        eof = true;
+                    } else {
+                        valid += n;
+                    }
+                }
+                // a match is only taken once the context after it has been read
+                int limit = eof ? valid - m : valid - m - CONTEXT_BYTES;
+                while(i <= limit) {
+                    int j = m - 1;
+                    while(j >= 0 && buf[i + j] == needle[j]) {
+                        j--;
+                    }
+                    if(j >= 0) {
+                        i += shift[buf[i + m - 1] & 0xff];
+                        continue;
+                    }
+                    matches.add(match(buf, i, m, valid, bufOffset));
+                    if(matches.size() == numMatches) {
+                        ret.put("nextByteOffset", bufOffset + i + 1);
+                        return ret;
+                    }
+                    i++;
+                }
+                if(eof) {
+                    return ret;
+                }
+                // keep what the next pass needs: the context before its next
+                // match and a match the end of this chunk cut through
+                int keepFrom = Math.max(0, i - CONTEXT_BYTES);
+                System.arraycopy(buf, keepFrom, buf, 0, valid - keepFrom);
+                valid -= keepFrom;
+                bufOffset += keepFrom;
+                i -= keepFrom;
+            }
+        } finally {
+            source.close();
+        }
+    }
+
+    private static Map<String, Object> match(byte[] buf, int pos, int length, int valid, long bufOffset) {
+        int before = pos;
+        while(before > 0 && pos - before < CONTEXT_BYTES && buf[before - 1] != '\n') {
+            before--;
+        }
+        int end = pos + length;
+        int after = end;
+        while(after < valid && after - end < CONTEXT_BYTES && buf[after] != '\n') {
+            after++;
+        }
+        Map<String, Object> ret = new HashMap<String, Object>();
+        ret.put("byteOffset", bufOffset + pos);
+        ret.put("beforeByteOffset", bufOffset + before);
+        ret.put("beforeString", new String(buf, before, pos - before, UTF8));
+        ret.put("matchString", new String(buf, pos, length, UTF8));
+        ret.put("afterString", new String(buf, end, after - end, UTF8));
+        return ret;
+    }
+
+    private interface Source {
+        int read(byte[] buf, int off, int len) throws IOException;
+        void close() throws IOException;
+    }
+
+    private static Source open(File file, long start) throws IOException, InvalidRequestException {
+        if(isGzip(file)) {
+            final InputStream in = new GZIPInputStream(new BufferedInputStream(new FileInputStream(file), CHUNK_SIZE));
+            long skipped = 0;
+            while(skipped < start) {
+                long n = in.skip(start - skipped);
+                if(n <= 0) {
+                    in.close();
+                    throw new InvalidRequestException("Cannot search past the end of the file");
+                }
+                skipped += n;
+            }
+            return new Source() {
+                public int read(byte[] buf, int off, int len) throws IOException {
+                    return in.read(buf, off, len);
+                }
+
+                public void close() throws IOException {
+                    in.close();
+                }
+            };
+        }
+        if(start > file.length()) {
+            throw new InvalidRequestException("Cannot search past the end of the file");
+        }
+        final FileInputStream in = new FileInputStream(file);
+        final FileChannel channel = in.getChannel();
+        channel.position(start);
+        return new Source() {
+            public int read(byte[] buf, int off, int len) throws IOException {
+                return channel.read(ByteBuffer.wrap(buf, off, len));
+            }
+
+            public void close() throws IOException {
+                in.close();
+            }
+        };
+    }
+}
@@ -18,6 +18,7 @@
 package backtype.storm.utils;
 
 import com.lmax.disruptor.AlertException;
+import com.lmax.disruptor.BatchDescriptor;
 import com.lmax.disruptor.ClaimStrategy;
 import com.lmax.disruptor.EventFactory;
 import com.lmax.disruptor.EventHandler;
@@ -30,10 +31,16 @@ import com.lmax.disruptor.WaitStrategy;
 
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Timer;
+import java.util.TimerTask;
 import backtype.storm.metric.api.IStatefulObject;
 
 
@@ -41,10 +48,18 @@ import backtype.storm.metric.api.IStatefulObject;
  *
  * A single consumer queue that uses the LMAX Disruptor. They key to the performance is
  * the ability to catch up to the producer by processing tuples in batches.
+ *
+ * Producers can also batch: with an input batch size above 1, blocking publishes from
+ * a thread are collected and published as one claimed sequence range once the batch
+ * is full, or at the latest after the flush interval.
  */
 public class DisruptorQueue implements IStatefulObject {
     static final Object FLUSH_CACHE = new Object();
     static final Object INTERRUPT = new Object();
+
+    // flushes the partial producer batches of every batching queue
+    private static Timer FLUSH_TIMER = null;
+    private static final int BATCH_HISTOGRAM_BUCKETS = 16;
     
     RingBuffer<MutableObject> _buffer;
     Sequence _consumer;
@@ -62,10 +77,39 @@ public class DisruptorQueue implements IStatefulObject {
     private String _queueName = "";
 
     private long _waitTimeout;
-    
+
+    private final WaitStrategy _waitStrategy;
+    private final int _inputBatchSize;
+    private final ThreadLocal<ProducerBatch> _producerBatch = new ThreadLocal<ProducerBatch>();
+    // the batch of every producer thread, for the flush timer; dropped once the thread is gone
+    private final ConcurrentLinkedQueue<ProducerBatch> _producerBatches = new ConcurrentLinkedQueue<ProducerBatch>();
+    private TimerTask _flusher = null;
+
+    private DisruptorBackpressureCallback _backpressureCallback = null;
+    private volatile boolean _enableBackpressure = false;
+    private final AtomicBoolean _throttleOn = new AtomicBoolean(false);
+    private long _highWaterMark = 0;
+    private long _lowWaterMark = 0;
+
+    // written by the consumer only; index i counts drained batches of size (2^(i-1), 2^i]
+    private final long[] _consumeBatchHistogram = new long[BATCH_HISTOGRAM_BUCKETS];
+
     public DisruptorQueue(String queueName, ClaimStrategy claim, WaitStrategy wait, long timeout) {
+        this(queueName, claim, wait, timeout, 1, 0);
+    }
+
+    /**
+     * @param inputBatchSize number of objects a producer thread publishes per claimed range, 1 disables batching
+     * @param flushIntervalMs how often partial producer batches are published when batching
+     */
+    public DisruptorQueue(String queueName, ClaimStrategy claim, WaitStrategy wait, long timeout,
+                          int inputBatchSize, long flushIntervalMs) {
          this._queueName = PREFIX + queueName;
+        _waitStrategy = wait;
         _buffer = new RingBuffer<MutableObject>(new ObjectEventFactory(), claim, wait);
+        // the flush timer would be a second producer, so single producer queues never batch
+        _inputBatchSize = claim instanceof SingleThreadedClaimStrategy ?
+                1 : Math.max(1, Math.min(inputBatchSize, _buffer.getBufferSize()));
         _consumer = new Sequence();
         _barrier = _buffer.newBarrier();
         _buffer.setGatingSequences(_consumer);
@@ -81,6 +125,33 @@ public class DisruptorQueue implements IStatefulObject {
         }
 
         _waitTimeout = timeout;
+
+        if(_inputBatchSize > 1) {
+            if(flushIntervalMs <= 0) {
+                throw new IllegalArgumentException("A flush interval is required when batching publishes");
+            }
+            _flusher = new TimerTask() {
+                @Override
+                public void run() {
+                    Iterator<ProducerBatch> it = _producerBatches.iterator();
+                    while(it.hasNext()) {
+                        ProducerBatch batch = it.next();
+                        // batches of threads that are gone are dropped once they are published
+                        if(batch.flush(false) && !batch.isOwnerAlive()) {
+                            it.remove();
+                        }
+                    }
+                }
+            };
+            flushTimer().schedule(_flusher, flushIntervalMs, flushIntervalMs);
+        }
+    }
+
+    private static synchronized Timer flushTimer() {
+        if(FLUSH_TIMER == null) {
+            FLUSH_TIMER = new Timer("disruptor-flush-timer", true);
+        }
+        return FLUSH_TIMER;
     }
     
     public String getName() {
@@ -92,7 +163,17 @@ public class DisruptorQueue implements IStatefulObject {
     }
     
     public void haltWithInterrupt() {
-        publish(INTERRUPT);
+        if(_flusher != null) {
+            _flusher.cancel();
+            for(ProducerBatch batch: _producerBatches) {
+                batch.flush(true);
+            }
+        }
+        try {
+            publishUnbatched(INTERRUPT, true);
+        } catch (InsufficientCapacityException ex) {
+            throw new RuntimeException("This code should be unreachable!");
+        }
     }
     
     public void consumeBatchWhenAvailable(EventHandler<Object> handler) {
@@ -114,6 +195,11 @@ public class DisruptorQueue implements IStatefulObject {
     
     
     private void consumeBatchToCursor(long cursor, EventHandler<Object> handler) {
+        long drained = cursor - _consumer.get();
+        if(drained > 0) {
+            int bucket = Math.min(64 - Long.numberOfLeadingZeros(drained - 1), BATCH_HISTOGRAM_BUCKETS - 1);
+            _consumeBatchHistogram[bucket]++;
+        }
         for(long curr = _consumer.get() + 1; curr <= cursor; curr++) {
             try {
                 MutableObject mo = _buffer.get(curr);
@@ -137,6 +223,8 @@ public class DisruptorQueue implements IStatefulObject {
         }
         //TODO: only set this if the consumer cursor has changed?
         _consumer.set(cursor);
+
+        updateThrottle();
     }
     
     /*
@@ -155,7 +243,27 @@ public class DisruptorQueue implements IStatefulObject {
     }
     
     public void publish(Object obj, boolean block) throws InsufficientCapacityException {
+        if(_inputBatchSize > 1) {
+            ProducerBatch batch = _producerBatch.get();
+            if(batch == null) {
+                batch = new ProducerBatch();
+                _producerBatch.set(batch);
+                _producerBatches.add(batch);
+            }
+            if(block) {
+                batch.add(obj);
+                return;
+            }
+            // keep this thread's order; non-blocking publishes are never batched, and
+            // whatever of the batch does not fit stays in it, ahead of obj
+            if(!batch.publishAvailable()) {
+                throw InsufficientCapacityException.INSTANCE;
+            }
+        }
+        publishUnbatched(obj, block);
+    }
 
+    private void publishUnbatched(Object obj, boolean block) throws InsufficientCapacityException {
         boolean publishNow = consumerStartedFlag;
 
         if (!publishNow) {
@@ -185,8 +293,193 @@ public class DisruptorQueue implements IStatefulObject {
         final MutableObject m = _buffer.get(id);
         m.setObject(obj);
         _buffer.publish(id);
+        updateThrottle();
+    }
+
+    /**
+     * Turns the throttle on at the high water mark and off at the low one. Producers and
+     * the consumer race to do so, so the flag only changes through a CAS and the population
+     * is looked at again after every change, in case it crossed back in the meantime.
+     * Otherwise a producer could turn the throttle on just after the consumer drained the
+     * queue, and leave it on for good.
+     */
+    private void updateThrottle() {
+        if(!_enableBackpressure) {
+            return;
+        }
+        while(true) {
+            long population = population();
+            boolean on = _throttleOn.get();
+            if(on && population <= _lowWaterMark) {
+                if(_throttleOn.compareAndSet(true, false)) {
+                    notifyBackpressure(false);
+                }
+            } else if(!on && population >= _highWaterMark) {
+                if(_throttleOn.compareAndSet(false, true)) {
+                    notifyBackpressure(true);
+                }
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void notifyBackpressure(boolean high) {
+        DisruptorBackpressureCallback cb = _backpressureCallback;
+        if(cb == null) {
+            return;
+        }
+        try {
+            if(high) {
+                cb.highWaterMark();
+            } else {
+                cb.lowWaterMark();
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("Exception during calling backpressure callback of " + _queueName, e);
+        }
+    }
+
+    /**
+     * Turns on watermark tracking. The callback is told when the population reaches
+     * highWaterMark * capacity, and again once it has drained to lowWaterMark * capacity.
+     */
+    public void enableBackpressure(double highWaterMark, double lowWaterMark, DisruptorBackpressureCallback cb) {
+        if(lowWaterMark < 0 || highWaterMark > 1 || lowWaterMark >= highWaterMark) {
+            throw new IllegalArgumentException("Watermarks must satisfy 0 <= low < high <= 1");
+        }
+        _lowWaterMark = (long) (lowWaterMark * capacity());
+        // the marks must not meet once rounded, or the throttle would flip back and forth
+        _highWaterMark = Math.max((long) (highWaterMark * capacity()), _lowWaterMark + 1);
+        _backpressureCallback = cb;
+        _enableBackpressure = true;
+    }
+
+    public boolean getThrottleOn() {
+        updateThrottle();
+        return _throttleOn.get();
     }
     
+    /**
+     * Publishes objs in order. A blocking publish claims one sequence range for the whole
+     * list. A non-blocking one publishes as many as fit, removing them from objs, and
+     * throws InsufficientCapacityException if some are left.
+     */
+    private void publishBatch(ArrayList<Object> objs, boolean block) throws InsufficientCapacityException {
+        boolean publishNow = consumerStartedFlag;
+
+        if (!publishNow) {
+            readLock.lock();
+            try {
+                publishNow = consumerStartedFlag;
+                if (!publishNow) {
+                    _cache.addAll(objs);
+                    objs.clear();
+                }
+            } finally {
+                readLock.unlock();
+            }
+        }
+
+        if (publishNow) {
+            if (block) {
+                final int size = objs.size();
+                BatchDescriptor descriptor = _buffer.newBatchDescriptor(size);
+                _buffer.next(descriptor);
+                long seq = descriptor.getStart();
+                for(int i = 0; i < size; i++, seq++) {
+                    _buffer.get(seq).setObject(objs.get(i));
+                }
+                _buffer.publish(descriptor);
+                objs.clear();
+                updateThrottle();
+            } else {
+                int published = 0;
+                try {
+                    for(; published < objs.size(); published++) {
+                        publishDirect(objs.get(published), false);
+                    }
+                } finally {
+                    objs.subList(0, published).clear();
+                }
+            }
+        }
+    }
+
+    /**
+     * Objects published by one producer thread that have not been claimed yet. The owning
+     * thread adds and flushes when full; the flush timer publishes partial batches without
+     * ever blocking on the owner or on a full queue.
+     */
+    private class ProducerBatch {
+        private final ArrayList<Object> _objs = new ArrayList<Object>(_inputBatchSize);
+        private final ReentrantLock _lock = new ReentrantLock();
+        private final Thread _owner = Thread.currentThread();
+
+        void add(Object obj) {
+            _lock.lock();
+            try {
+                _objs.add(obj);
+                if(_objs.size() >= _inputBatchSize) {
+                    publishBatch(_objs, true);
+                }
+            } catch (InsufficientCapacityException e) {
+                throw new RuntimeException("This code should be unreachable!", e);
+            } finally {
+                _lock.unlock();
+            }
+        }
+
+        /**
+         * Returns true if the batch is empty afterwards. A non-blocking flush gives up
+         * right away if the owner holds the batch.
+         */
+        boolean flush(boolean block) {
+            if(block) {
+                _lock.lock();
+            } else if(!_lock.tryLock()) {
+                return false;
+            }
+            try {
+                return publish(block);
+            } finally {
+                _lock.unlock();
+            }
+        }
+
+        /**
+         * Publishes as much of the batch as fits without blocking on a full queue, waiting
+         * for the flush timer if it holds the batch. Returns true if the batch is empty afterwards.
+         */
+        boolean publishAvailable() {
+            _lock.lock();
+            try {
+                return publish(false);
+            } finally {
+                _lock.unlock();
+            }
+        }
+
+        private boolean publish(boolean block) {
+            try {
+                if(!_objs.isEmpty()) {
+                    publishBatch(_objs, block);
+                }
+            } catch (InsufficientCapacityException e) {
+                // the queue is full, the rest is left for the owner or the next flush
+            }
+            return _objs.isEmpty();
+        }
+
+        boolean isOwnerAlive() {
+            return _owner.isAlive();
+        }
+
+        int size() {
+            return _objs.size();
+        }
+    }
+
     public void consumerStarted() {
 
         consumerStartedFlag = true;
@@ -212,6 +505,27 @@ public class DisruptorQueue implements IStatefulObject {
         state.put("population", wp - rp);
         state.put("write_pos",  wp);
         state.put("read_pos",   rp);
+        if(_enableBackpressure) {
+            state.put("throttle_on", _throttleOn.get());
+        }
+        if(_inputBatchSize > 1) {
+            int pending = 0;
+            for(ProducerBatch batch: _producerBatches) {
+                pending += batch.size();
+            }
+            state.put("input_batch_size", _inputBatchSize);
+            state.put("input_batch_pending", pending);
+        }
+        Map<String, Long> histogram = new HashMap<String, Long>();
+        for(int i = 0; i < _consumeBatchHistogram.length; i++) {
+            if(_consumeBatchHistogram[i] > 0) {
+                histogram.put(String.valueOf(1L << i), _consumeBatchHistogram[i]);
+            }
+        }
+        state.put("consume_batch_size_histogram", histogram);
+        if(_waitStrategy instanceof ProgressiveWaitStrategy) {
+            state.putAll(((ProgressiveWaitStrategy) _waitStrategy).getState());
+        }
         return state;
     }
 
@@ -21,13 +21,25 @@ import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
-import java.util.Map;
+import java.util.Collections;
 import java.util.HashMap;
-import java.io.IOException;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
 
 import org.apache.thrift.TBase;
 import org.apache.thrift.TDeserializer;
@@ -38,80 +50,145 @@ import backtype.storm.generated.LocalStateData;
 import backtype.storm.generated.ThriftSerializedObject;
 
 /**
- * A simple, durable, atomic K/V database. *Very inefficient*, should only be used for occasional reads/writes.
- * Every read/write hits disk.
+ * A simple, durable, atomic K/V database.
+ *
+ * The whole state is kept in memory as an immutable map that is swapped on
+ * every write, so reads take no lock and do not touch the disk beyond
+ * checking that no other process changed the state.
+ *
+ * Writes are appended to a checksummed log next to the latest version of the
+ * VersionedStore. The log is fsynced at most once per sync interval however
+ * many writes it gets, and it is compacted into a new version once it grows
+ * past a few times the size of the state. A record torn by a crash ends the
+ * log and is dropped.
  */
 public class LocalState {
     public static Logger LOG = LoggerFactory.getLogger(LocalState.class);
+
+    public static final long DEFAULT_SYNC_INTERVAL_MS = 1000;
+    private static final String LOG_SUFFIX = ".log";
+    private static final long MIN_COMPACT_BYTES = 64 * 1024;
+    private static final int COMPACT_RATIO = 4;
+
+    private static final byte PUT = 1;
+    private static final byte REMOVE = 2;
+
+    private static final ScheduledExecutorService SYNCER = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, "local-state-sync");
+            t.setDaemon(true);
+            return t;
+        }
+    });
+
     private VersionedStore _vs;
-    
+    private final long _syncIntervalMs;
+    private volatile State _state;
+
+    // writer side, guarded by this
+    private RandomAccessFile _log;
+    private long _logVersion;
+    private boolean _syncScheduled = false;
+
+    /**
+     * An immutable view of the state: the version it is based on, how much
+     * of that version's log has been applied, and the values.
+     */
+    private static class State {
+        final Long version;
+        final long baseLength;
+        final long logLength;
+        final Map<String, ThriftSerializedObject> values;
+
+        State(Long version, long baseLength, long logLength, Map<String, ThriftSerializedObject> values) {
+            this.version = version;
+            this.baseLength = baseLength;
+            this.logLength = logLength;
+            this.values = values;
+        }
+    }
+
     public LocalState(String backingDir) throws IOException {
-        LOG.debug("New Local State for {}", backingDir);
-        _vs = new VersionedStore(backingDir);
+        this(backingDir, DEFAULT_SYNC_INTERVAL_MS);
     }
 
-    public synchronized Map<String, TBase> snapshot() {
-        int attempts = 0;
-        while(true) {
-            try {
-                return deserializeLatestVersion();
-            } catch (Exception e) {
-                attempts++;
-                if (attempts >= 10) {
-                    throw new RuntimeException(e);
-                }
-            }
-        }
+    public LocalState(String backingDir, long syncIntervalMs) throws IOException {
+        LOG.debug("New Local State for {}", backingDir);
+        _vs = new VersionedStore(backingDir);
+        _syncIntervalMs = syncIntervalMs;
+        _state = load();
     }
 
-    private Map<String, TBase> deserializeLatestVersion() throws IOException {
+    public Map<String, TBase> snapshot() {
         Map<String, TBase> result = new HashMap<String, TBase>();
         TDeserializer td = new TDeserializer();
-        for (Map.Entry<String, ThriftSerializedObject> ent: partialDeserializeLatestVersion(td).entrySet()) {
+        for (Map.Entry<String, ThriftSerializedObject> ent: current().values.entrySet()) {
             result.put(ent.getKey(), deserialize(ent.getValue(), td));
         }
         return result;
     }
 
-    private TBase deserialize(ThriftSerializedObject obj, TDeserializer td) {
-        try {
-            Class<?> clazz = Class.forName(obj.get_name());
-            TBase instance = (TBase) clazz.newInstance();
-            td.deserialize(instance, obj.get_bits());
-            return instance;
-        } catch(Exception e) {
-            throw new RuntimeException(e);
+    public TBase get(String key) {
+        ThriftSerializedObject tso = current().values.get(key);
+        return tso == null ? null : deserialize(tso, new TDeserializer());
+    }
+
+    public void put(String key, TBase val) {
+        put(key, val, true);
+    }
+
+    public synchronized void put(String key, TBase val, boolean cleanup) {
+        write(key, serialize(val, new TSerializer()), cleanup);
+    }
+
+    public void remove(String key) {
+        remove(key, true);
+    }
+
+    public synchronized void remove(String key, boolean cleanup) {
+        write(key, null, cleanup);
+    }
+
+    public synchronized void cleanup(int keepVersions) throws IOException {
+        _vs.cleanup(keepVersions);
+        removeStaleLogs();
+    }
+
+    /**
+     * Forces the writes made so far to disk.
+     */
+    public synchronized void sync() throws IOException {
+        if (_log != null) {
+            _log.getChannel().force(false);
         }
     }
 
-    private Map<String, ThriftSerializedObject> partialDeserializeLatestVersion(TDeserializer td) {
-        try {
-            String latestPath = _vs.mostRecentVersionPath();
-            Map<String, ThriftSerializedObject> result = new HashMap<String, ThriftSerializedObject>();
-            if (latestPath != null) {
-                byte[] serialized = FileUtils.readFileToByteArray(new File(latestPath));
-                if (serialized.length == 0) {
-                    LOG.warn("LocalState file '{}' contained no data, resetting state", latestPath);
-                } else {
-                    if (td == null) {
-                        td = new TDeserializer();
-                    }
-                    LocalStateData data = new LocalStateData();
-                    td.deserialize(data, serialized);
-                    result = data.get_serialized_parts();
-                }
+    /**
+     * The state, reloaded first if another process wrote to it since it was
+     * last read.
+     */
+    private State current() {
+        State state = _state;
+        if (state.version != null) {
+            File log = logFile(state.version);
+            if (log.exists() && log.length() == state.logLength) {
+                return state;
             }
-            return result;
-        } catch(Exception e) {
-            throw new RuntimeException(e);
+        }
+        synchronized (this) {
+            if (_state == state) {
+                _state = load();
+            }
+            return _state;
         }
     }
 
-    private synchronized Map<String, ThriftSerializedObject> partialSnapshot(TDeserializer td) {
+    private State load() {
         int attempts = 0;
         while(true) {
             try {
-                return partialDeserializeLatestVersion(td);
+                return loadLatestVersion();
             } catch (Exception e) {
                 attempts++;
                 if (attempts >= 10) {
@@ -121,81 +198,273 @@ public class LocalState {
         }
     }
 
-    public TBase get(String key) {
-        TDeserializer td = new TDeserializer();
-        Map<String, ThriftSerializedObject> partial = partialSnapshot(td);
-        ThriftSerializedObject tso = partial.get(key);
-        TBase ret = null;
-        if (tso != null) {
-            ret = deserialize(tso, td);
+    private State loadLatestVersion() throws IOException {
+        while (true) {
+            Long version = _vs.mostRecentVersion();
+            State state = loadVersion(version);
+            // another process may have compacted into a newer version meanwhile, and deleted
+            // the log of this one before or while it was replayed, so what was read is stale
+            Long latest = _vs.mostRecentVersion();
+            if (latest == null ? version == null : latest.equals(version)) {
+                return state;
+            }
+            LOG.debug("LocalState {} moved from version {} to {} while loading, reloading", _vs.getRoot(), version, latest);
         }
-        return ret;
-    }
-    
-    public void put(String key, TBase val) {
-        put(key, val, true);
     }
 
-    public synchronized void put(String key, TBase val, boolean cleanup) {
-        Map<String, ThriftSerializedObject> curr = partialSnapshot(null);
-        TSerializer ser = new TSerializer();
-        curr.put(key, serialize(val, ser));
-        persistInternal(curr, ser, cleanup);
+    private State loadVersion(Long version) throws IOException {
+        Map<String, ThriftSerializedObject> values = new HashMap<String, ThriftSerializedObject>();
+        if (version == null) {
+            return new State(null, 0, 0, Collections.unmodifiableMap(values));
+        }
+        String path = _vs.versionPath(version);
+        byte[] serialized = FileUtils.readFileToByteArray(new File(path));
+        if (serialized.length == 0) {
+            LOG.warn("LocalState file '{}' contained no data, resetting state", path);
+        } else {
+            LocalStateData data = new LocalStateData();
+            try {
+                new TDeserializer().deserialize(data, serialized);
+            } catch (Exception e) {
+                throw new IOException("Could not read LocalState file " + path, e);
+            }
+            values.putAll(data.get_serialized_parts());
+        }
+        long logLength = replay(logFile(version), values);
+        return new State(version, serialized.length, logLength, Collections.unmodifiableMap(values));
     }
 
-    public void remove(String key) {
-        remove(key, true);
+    /**
+     * Applies the records of a log to values, stopping at the end of the log
+     * or at the first record that is torn or fails its checksum. Returns the
+     * length of the log up to there.
+     */
+    private static long replay(File log, Map<String, ThriftSerializedObject> values) throws IOException {
+        if (!log.exists()) {
+            return 0;
+        }
+        long valid = 0;
+        long fileLength = log.length();
+        DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(log)));
+        try {
+            CRC32 crc = new CRC32();
+            while (true) {
+                byte[] body;
+                long checksum;
+                try {
+                    int length = in.readInt();
+                    checksum = in.readInt() & 0xffffffffL;
+                    if (length <= 0 || valid + 8 + length > fileLength) {
+                        break;
+                    }
+                    body = new byte[length];
+                    in.readFully(body);
+                } catch (EOFException e) {
+                    break;
+                }
+                crc.reset();
+                crc.update(body, 0, body.length);
+                if (crc.getValue() != checksum) {
+                    LOG.warn("Dropping the LocalState log {} after byte {}, it fails its checksum", log, valid);
+                    break;
+                }
+                apply(body, values);
+                valid += 8 + body.length;
+            }
+        } finally {
+            in.close();
+        }
+        return valid;
     }
 
-    public synchronized void remove(String key, boolean cleanup) {
-        Map<String, ThriftSerializedObject> curr = partialSnapshot(null);
-        curr.remove(key);
-        persistInternal(curr, null, cleanup);
+    private static void apply(byte[] body, Map<String, ThriftSerializedObject> values) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(body));
+        byte op = in.readByte();
+        String key = in.readUTF();
+        if (op == PUT) {
+            String name = in.readUTF();
+            byte[] bits = new byte[in.readInt()];
+            in.readFully(bits);
+            values.put(key, new ThriftSerializedObject(name, ByteBuffer.wrap(bits)));
+        } else if (op == REMOVE) {
+            values.remove(key);
+        } else {
+            throw new IOException("Unknown LocalState log record " + op);
+        }
     }
 
-    public synchronized void cleanup(int keepVersions) throws IOException {
-        _vs.cleanup(keepVersions);
+    private static byte[] record(String key, ThriftSerializedObject val) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(0);
+        out.writeInt(0);
+        out.writeByte(val == null ? REMOVE : PUT);
+        out.writeUTF(key);
+        if (val != null) {
+            out.writeUTF(val.get_name());
+            byte[] bits = Utils.toByteArray(val.buffer_for_bits());
+            out.writeInt(bits.length);
+            out.write(bits);
+        }
+        out.close();
+        byte[] ret = bytes.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(ret, 8, ret.length - 8);
+        ByteBuffer header = ByteBuffer.wrap(ret, 0, 8);
+        header.putInt(ret.length - 8);
+        header.putInt((int) crc.getValue());
+        return ret;
     }
 
-    private void persistInternal(Map<String, ThriftSerializedObject> serialized, TSerializer ser, boolean cleanup) {
+    /**
+     * Puts val under key, or removes key when val is null.
+     */
+    private void write(String key, ThriftSerializedObject val, boolean cleanup) {
         try {
-            if (ser == null) {
-                ser = new TSerializer();
+            State state = current();
+            Map<String, ThriftSerializedObject> values = new HashMap<String, ThriftSerializedObject>(state.values);
+            if (val == null) {
+                values.remove(key);
+            } else {
+                values.put(key, val);
             }
-            byte[] toWrite = ser.serialize(new LocalStateData(serialized));
-
-            String newPath = _vs.createVersion();
-            File file = new File(newPath);
-            FileUtils.writeByteArrayToFile(file, toWrite);
-            if (toWrite.length != file.length()) {
-                throw new IOException("Tried to serialize " + toWrite.length + 
-                        " bytes to " + file.getCanonicalPath() + ", but " +
-                        file.length() + " bytes were written.");
+            values = Collections.unmodifiableMap(values);
+
+            if (state.version == null
+                    || state.logLength > Math.max(MIN_COMPACT_BYTES, COMPACT_RATIO * state.baseLength)) {
+                _state = compact(values, cleanup);
+                return;
             }
-            _vs.succeedVersion(newPath);
-            if(cleanup) _vs.cleanup(4);
+            byte[] record = record(key, val);
+            RandomAccessFile log = openLog(state);
+            log.seek(state.logLength);
+            log.write(record);
+            _state = new State(state.version, state.baseLength, state.logLength + record.length, values);
+            scheduleSync();
         } catch(Exception e) {
             throw new RuntimeException(e);
         }
     }
 
-    private ThriftSerializedObject serialize(TBase o, TSerializer ser) {
+    /**
+     * The log of the version state is based on, cut back to the records that
+     * were read from it.
+     */
+    private RandomAccessFile openLog(State state) throws IOException {
+        if (_log != null && _logVersion != state.version) {
+            _log.close();
+            _log = null;
+        }
+        if (_log == null) {
+            _log = new RandomAccessFile(logFile(state.version), "rw");
+            _logVersion = state.version;
+        }
+        if (_log.length() != state.logLength) {
+            _log.setLength(state.logLength);
+        }
+        return _log;
+    }
+
+    private void scheduleSync() {
+        if (_syncIntervalMs <= 0) {
+            try {
+                sync();
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        } else if (!_syncScheduled) {
+            _syncScheduled = true;
+            SYNCER.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    synchronized (LocalState.this) {
+                        _syncScheduled = false;
+                        try {
+                            sync();
+                        } catch (IOException e) {
+                            LOG.warn("Failed to sync the LocalState log in {}", _vs.getRoot(), e);
+                        }
+                    }
+                }
+            }, _syncIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Writes values out as a new version with an empty log, and drops the log
+     * of the version before.
+     */
+    private State compact(Map<String, ThriftSerializedObject> values, boolean cleanup) throws IOException, TException {
+        byte[] toWrite = new TSerializer().serialize(new LocalStateData(values));
+        String newPath = _vs.createVersion();
+        File file = new File(newPath);
+        FileUtils.writeByteArrayToFile(file, toWrite);
+        if (toWrite.length != file.length()) {
+            throw new IOException("Tried to serialize " + toWrite.length +
+                    " bytes to " + file.getCanonicalPath() + ", but " +
+                    file.length() + " bytes were written.");
+        }
+        long version = Long.parseLong(file.getName());
+        // the log has to be there before the version, readers take a missing
+        // log to mean the state moved on
+        sync();
+        if (_log != null) {
+            _log.close();
+            _log = null;
+        }
+        logFile(version).createNewFile();
+        _vs.succeedVersion(newPath);
+        removeStaleLogs();
+        if(cleanup) {
+            _vs.cleanup(4);
+        }
+        return new State(version, toWrite.length, 0, values);
+    }
+
+    /**
+     * Deletes the logs of all but the latest version.
+     */
+    private void removeStaleLogs() throws IOException {
+        Long latest = _vs.mostRecentVersion();
+        File[] files = new File(_vs.getRoot()).listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File f : files) {
+            String name = f.getName();
+            if (!name.endsWith(LOG_SUFFIX)) {
+                continue;
+            }
+            try {
+                Long v = Long.parseLong(name.substring(0, name.length() - LOG_SUFFIX.length()));
+                if (!v.equals(latest)) {
+                    FileUtils.deleteQuietly(f);
+                }
+            } catch (NumberFormatException e) {
+                // not ours
+            }
+        }
+    }
+
+    private File logFile(long version) {
+        return new File(_vs.getRoot(), version + LOG_SUFFIX);
+    }
+
+    private TBase deserialize(ThriftSerializedObject obj, TDeserializer td) {
         try {
-            return new ThriftSerializedObject(o.getClass().getName(), ByteBuffer.wrap(ser.serialize((TBase)o)));
+            Class<?> clazz = Class.forName(obj.get_name());
+            TBase instance = (TBase) clazz.newInstance();
+            // get_bits resizes the buffer in place, which readers of the shared map must not do
+            td.deserialize(instance, Utils.toByteArray(obj.buffer_for_bits()));
+            return instance;
         } catch(Exception e) {
             throw new RuntimeException(e);
         }
     }
 
-    private void persist(Map<String, TBase> val, boolean cleanup) {
+    private ThriftSerializedObject serialize(TBase o, TSerializer ser) {
         try {
-            TSerializer ser = new TSerializer();
-            Map<String, ThriftSerializedObject> serialized = new HashMap<String, ThriftSerializedObject>();
-            for (Map.Entry<String, TBase> ent: val.entrySet()) {
-                Object o = ent.getValue();
-                serialized.put(ent.getKey(), serialize(ent.getValue(), ser));
-            }
-            persistInternal(serialized, ser, cleanup);
+            return new ThriftSerializedObject(o.getClass().getName(), ByteBuffer.wrap(ser.serialize((TBase)o)));
         } catch(Exception e) {
             throw new RuntimeException(e);
         }
@@ -0,0 +1,444 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package backtype.storm.utils;
+
+import java.util.Arrays;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A RotatingMap specialized for primitive long keys, used to track in-flight
+ * tuple trees in the acker and the spout executor.
+ *
+ * Each bucket is an open-addressing hash table whose entries are laid out in
+ * parallel primitive arrays: the key, the ack xor value, the spout task and a
+ * flags byte (has spout task / failed). An optional object value can be kept
+ * alongside for callers that need more than that (e.g. the spout's message id).
+ * Neither lookups nor updates box the key or allocate per entry.
+ *
+ * Expiration semantics are the same as RotatingMap: every update moves the entry
+ * into the newest bucket, and rotate() expires everything in the oldest bucket.
+ * Bucket arrays are recycled across rotations, so a steady-state map does not
+ * allocate at all.
+ *
+ * This class is not thread-safe.
+ */
+public class LongRotatingMap<V> {
+    private static final Logger LOG = LoggerFactory.getLogger(LongRotatingMap.class);
+
+    //this default ensures things expire at most 50% past the expiration time
+    private static final int DEFAULT_NUM_BUCKETS = 3;
+    private static final int DEFAULT_BUCKET_CAPACITY = 64;
+
+    private static final byte OCCUPIED = 1;
+    private static final byte HAS_TASK = 2;
+    private static final byte FAILED = 4;
+
+    public static interface ExpiredCallback<V> {
+        public void expire(long key, V val);
+    }
+
+    private final Bucket[] _buckets;
+    // index of the newest bucket, buckets get older going "right" from here
+    private int _head = 0;
+    // kept empty so rotation can swap it in without allocating
+    private Bucket _spare;
+
+    private ExpiredCallback<V> _callback;
+
+    public LongRotatingMap(int numBuckets, ExpiredCallback<V> callback) {
+        if(numBuckets<2) {
+            throw new IllegalArgumentException("numBuckets must be >= 2");
+        }
+        _buckets = new Bucket[numBuckets];
+        for(int i=0; i<numBuckets; i++) {
+            _buckets[i] = new Bucket(DEFAULT_BUCKET_CAPACITY);
+        }
+        _spare = new Bucket(DEFAULT_BUCKET_CAPACITY);
+        _callback = callback;
+    }
+
+    public LongRotatingMap(ExpiredCallback<V> callback) {
+        this(DEFAULT_NUM_BUCKETS, callback);
+    }
+
+    public LongRotatingMap(int numBuckets) {
+        this(numBuckets, null);
+    }
+
+    /**
+     * Expires every entry of the oldest bucket, invoking the callback for each one.
+     * A callback that throws is logged and does not keep the remaining entries
+     * from being expired. Returns the number of entries that were expired.
+     */
+    @SuppressWarnings("unchecked")
+    public int rotate() {
+        int oldest = bucketIndex(_buckets.length - 1);
+        Bucket dead = _buckets[oldest];
+        _buckets[oldest] = _spare;
+        _head = oldest;
+        int expired = dead.size;
+        try {
+            if(_callback!=null && expired > 0) {
+                for(int i=0; i<dead.keys.length; i++) {
+                    if(dead.flags[i]!=0) {
+                        try {
+                            _callback.expire(dead.keys[i], (V) dead.valAt(i));
+                        } catch (RuntimeException e) {
+                            LOG.error("Failed to expire key " + dead.keys[i], e);
+                        }
+                    }
+                }
+            }
+        } finally {
+            // the new head is the old spare, so it must be replaced even if a callback threw
+            dead.clear();
+            _spare = dead;
+        }
+        return expired;
+    }
+
+    public boolean containsKey(long key) {
+        for(int i=0; i<_buckets.length; i++) {
+            if(bucket(i).find(key) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        for(int i=0; i<_buckets.length; i++) {
+            Bucket b = bucket(i);
+            int slot = b.find(key);
+            if(slot >= 0) {
+                return (V) b.valAt(slot);
+            }
+        }
+        return null;
+    }
+
+    public void put(long key, V value) {
+        Bucket head = bucket(0);
+        head.setVal(touch(key), value);
+    }
+
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        for(int i=0; i<_buckets.length; i++) {
+            Bucket b = bucket(i);
+            int slot = b.find(key);
+            if(slot >= 0) {
+                V ret = (V) b.valAt(slot);
+                b.removeAt(slot);
+                return ret;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Xors val into the ack value of key, creating the entry if necessary.
+     * Returns the new ack value.
+     */
+    public long updateAck(long key, long val) {
+        Bucket head = bucket(0);
+        int slot = touch(key);
+        long ret = head.ackVals[slot] ^ val;
+        head.ackVals[slot] = ret;
+        return ret;
+    }
+
+    public void setSpoutTask(long key, int task) {
+        Bucket head = bucket(0);
+        int slot = touch(key);
+        head.tasks[slot] = task;
+        head.flags[slot] |= HAS_TASK;
+    }
+
+    public void setFailed(long key) {
+        Bucket head = bucket(0);
+        head.flags[touch(key)] |= FAILED;
+    }
+
+    /**
+     * Returns the ack value of key, or 0 if the key is not present.
+     */
+    public long getAckVal(long key) {
+        for(int i=0; i<_buckets.length; i++) {
+            Bucket b = bucket(i);
+            int slot = b.find(key);
+            if(slot >= 0) {
+                return b.ackVals[slot];
+            }
+        }
+        return 0;
+    }
+
+    public boolean hasSpoutTask(long key) {
+        return hasFlag(key, HAS_TASK);
+    }
+
+    /**
+     * Returns the spout task of key. Only meaningful if hasSpoutTask(key) is true.
+     */
+    public int getSpoutTask(long key) {
+        for(int i=0; i<_buckets.length; i++) {
+            Bucket b = bucket(i);
+            int slot = b.find(key);
+            if(slot >= 0) {
+                return b.tasks[slot];
+            }
+        }
+        return 0;
+    }
+
+    public boolean isFailed(long key) {
+        return hasFlag(key, FAILED);
+    }
+
+    /**
+     * Removes key if its tuple tree is done, that is if its spout task is known and
+     * either its ack value is back to 0 or it failed, looking the key up only once.
+     * Returns -1 if key is absent or still pending. Otherwise returns the spout task
+     * shifted left by one, with the lowest bit set if the tree failed.
+     */
+    public long removeIfDone(long key) {
+        for(int i=0; i<_buckets.length; i++) {
+            Bucket b = bucket(i);
+            int slot = b.find(key);
+            if(slot >= 0) {
+                byte flags = b.flags[slot];
+                if((flags & HAS_TASK) == 0) {
+                    return -1;
+                }
+                // a tree that acked completes as acked even if it was also failed
+                boolean failed = b.ackVals[slot] != 0;
+                if(failed && (flags & FAILED) == 0) {
+                    return -1;
+                }
+                long ret = ((long) b.tasks[slot] << 1) | (failed ? 1 : 0);
+                b.removeAt(slot);
+                return ret;
+            }
+        }
+        return -1;
+    }
+
+    public int size() {
+        int size = 0;
+        for(Bucket b: _buckets) {
+            size+=b.size;
+        }
+        return size;
+    }
+
+    private boolean hasFlag(long key, byte flag) {
+        for(int i=0; i<_buckets.length; i++) {
+            Bucket b = bucket(i);
+            int slot = b.find(key);
+            if(slot >= 0) {
+                return (b.flags[slot] & flag) != 0;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Makes sure key lives in the newest bucket, moving it there from an older
+     * bucket or creating it if needed. Returns its slot in the newest bucket.
+     */
+    private int touch(long key) {
+        Bucket head = bucket(0);
+        int slot = head.find(key);
+        if(slot >= 0) {
+            return slot;
+        }
+        slot = head.insert(key);
+        for(int i=1; i<_buckets.length; i++) {
+            Bucket b = bucket(i);
+            int old = b.find(key);
+            if(old >= 0) {
+                head.ackVals[slot] = b.ackVals[old];
+                head.tasks[slot] = b.tasks[old];
+                head.flags[slot] = b.flags[old];
+                head.setVal(slot, b.valAt(old));
+                b.removeAt(old);
+                break;
+            }
+        }
+        return slot;
+    }
+
+    private int bucketIndex(int age) {
+        return (_head + age) % _buckets.length;
+    }
+
+    private Bucket bucket(int age) {
+        return _buckets[bucketIndex(age)];
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * Linear probing hash table. Removal uses backward shift deletion, so there
+     * are no tombstones and a slot is free iff its flags are 0.
+     */
+    private static final class Bucket {
+        long[] keys;
+        long[] ackVals;
+        int[] tasks;
+        byte[] flags;
+        // only allocated once a caller stores an object value
+        Object[] vals;
+        int size;
+        int mask;
+
+        Bucket(int capacity) {
+            allocate(capacity);
+        }
+
+        private void allocate(int capacity) {
+            keys = new long[capacity];
+            ackVals = new long[capacity];
+            tasks = new int[capacity];
+            flags = new byte[capacity];
+            vals = null;
+            mask = capacity - 1;
+            size = 0;
+        }
+
+        int find(long key) {
+            if(size==0) {
+                return -1;
+            }
+            int i = hash(key) & mask;
+            while(flags[i]!=0) {
+                if(keys[i]==key) {
+                    return i;
+                }
+                i = (i + 1) & mask;
+            }
+            return -1;
+        }
+
+        /**
+         * Inserts key, which must not already be present, with zeroed fields.
+         */
+        int insert(long key) {
+            if((size + 1) * 2 > keys.length) {
+                grow();
+            }
+            int i = hash(key) & mask;
+            while(flags[i]!=0) {
+                i = (i + 1) & mask;
+            }
+            keys[i] = key;
+            ackVals[i] = 0;
+            tasks[i] = 0;
+            flags[i] = OCCUPIED;
+            if(vals!=null) {
+                vals[i] = null;
+            }
+            size++;
+            return i;
+        }
+
+        Object valAt(int slot) {
+            return vals==null ? null : vals[slot];
+        }
+
+        void setVal(int slot, Object val) {
+            if(vals==null) {
+                if(val==null) {
+                    return;
+                }
+                vals = new Object[keys.length];
+            }
+            vals[slot] = val;
+        }
+
+        void removeAt(int slot) {
+            int hole = slot;
+            int i = (slot + 1) & mask;
+            while(flags[i]!=0) {
+                int home = hash(keys[i]) & mask;
+                // move i into the hole if its home slot is not in (hole, i]
+                if(((i - home) & mask) >= ((i - hole) & mask)) {
+                    keys[hole] = keys[i];
+                    ackVals[hole] = ackVals[i];
+                    tasks[hole] = tasks[i];
+                    flags[hole] = flags[i];
+                    if(vals!=null) {
+                        vals[hole] = vals[i];
+                    }
+                    hole = i;
+                }
+                i = (i + 1) & mask;
+            }
+            flags[hole] = 0;
+            if(vals!=null) {
+                vals[hole] = null;
+            }
+            size--;
+        }
+
+        void clear() {
+            if(size > 0) {
+                Arrays.fill(flags, (byte) 0);
+                if(vals!=null) {
+                    Arrays.fill(vals, null);
+                }
+                size = 0;
+            }
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            long[] oldAckVals = ackVals;
+            int[] oldTasks = tasks;
+            byte[] oldFlags = flags;
+            Object[] oldVals = vals;
+            allocate(oldKeys.length * 2);
+            if(oldVals!=null) {
+                vals = new Object[keys.length];
+            }
+            for(int j=0; j<oldKeys.length; j++) {
+                if(oldFlags[j]!=0) {
+                    int i = hash(oldKeys[j]) & mask;
+                    while(flags[i]!=0) {
+                        i = (i + 1) & mask;
+                    }
+                    keys[i] = oldKeys[j];
+                    ackVals[i] = oldAckVals[j];
+                    tasks[i] = oldTasks[j];
+                    flags[i] = oldFlags[j];
+                    if(oldVals!=null) {
+                        vals[i] = oldVals[j];
+                    }
+                    size++;
+                }
+            }
+        }
+    }
+}
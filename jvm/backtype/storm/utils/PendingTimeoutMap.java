@@ -0,0 +1,206 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package backtype.storm.utils;
+
+/**
+ * Tracks in-flight tuple trees of a spout by their long root id, and times
+ * each of them out on its own after timeoutMs. Deadlines are kept on a
+ * TimerWheel with tickMs slots, so a tree times out between timeoutMs and one
+ * tick past it, and expiries come a slot at a time rather than all of a
+ * rotation at once as with LongRotatingMap.
+ *
+ * Ids are kept in an open-addressing table of primitive longs. Putting and
+ * removing an id take O(1) time and do not box it.
+ *
+ * The map has no thread of its own, the owner calls expire to time trees out.
+ * This class is not thread-safe.
+ */
+public class PendingTimeoutMap<V> {
+    public static final long DEFAULT_TICK_MS = 1000;
+    private static final int MAX_WHEEL_BUCKETS = 4096;
+    private static final int DEFAULT_CAPACITY = 64;
+
+    public static interface ExpiredCallback<V> {
+        public void expire(long id, V val);
+    }
+
+    private static class Entry<V> {
+        final long id;
+        final V val;
+
+        Entry(long id, V val) {
+            this.id = id;
+            this.val = val;
+        }
+    }
+
+    private final long _timeoutMs;
+    private final TimerWheel<Entry<V>> _wheel;
+
+    // open addressing with linear probing, _timeouts[i] is null for a free slot
+    private long[] _ids;
+    private TimerWheel<Entry<V>>.Timeout[] _timeouts;
+    private int _size = 0;
+
+    public PendingTimeoutMap(long timeoutMs, long tickMs, final ExpiredCallback<V> callback) {
+        _timeoutMs = timeoutMs;
+        int buckets = 1;
+        while (buckets < MAX_WHEEL_BUCKETS && buckets * tickMs <= timeoutMs) {
+            buckets <<= 1;
+        }
+        _wheel = new TimerWheel<Entry<V>>(tickMs, buckets, new TimerWheel.ExpiredCallback<Entry<V>>() {
+            @Override
+            public void expire(Entry<V> entry) {
+                int slot = find(entry.id);
+                // an earlier callback of the same round may have removed or replaced it
+                if (slot < 0 || _timeouts[slot].getItem() != entry) {
+                    return;
+                }
+                removeSlot(slot);
+                if (callback != null) {
+                    callback.expire(entry.id, entry.val);
+                }
+            }
+        });
+        allocate(DEFAULT_CAPACITY);
+    }
+
+    public PendingTimeoutMap(long timeoutMs, ExpiredCallback<V> callback) {
+        this(timeoutMs, DEFAULT_TICK_MS, callback);
+    }
+
+    /**
+     * Starts tracking id, replacing and restarting the timeout of an id
+     * that is already tracked.
+     */
+    public void put(long id, V val) {
+        int slot = find(id);
+        if (slot >= 0) {
+            _timeouts[slot].cancel();
+        } else {
+            if ((_size + 1) * 2 > _ids.length) {
+                resize(_ids.length * 2);
+            }
+            slot = freeSlot(id);
+            _ids[slot] = id;
+            _size++;
+        }
+        _timeouts[slot] = _wheel.schedule(new Entry<V>(id, val), _timeoutMs);
+    }
+
+    public V get(long id) {
+        int slot = find(id);
+        return slot < 0 ? null : _timeouts[slot].getItem().val;
+    }
+
+    public boolean containsKey(long id) {
+        return find(id) >= 0;
+    }
+
+    /**
+     * Stops tracking id, returning what it was put with or null if it was
+     * not tracked.
+     */
+    public V remove(long id) {
+        int slot = find(id);
+        if (slot < 0) {
+            return null;
+        }
+        TimerWheel<Entry<V>>.Timeout timeout = _timeouts[slot];
+        timeout.cancel();
+        removeSlot(slot);
+        return timeout.getItem().val;
+    }
+
+    public int size() {
+        return _size;
+    }
+
+    /**
+     * Times out every tree that is past its deadline, calling back for each.
+     * Cheap when no slot of the wheel went by since the last call.
+     */
+    public void expire() {
+        _wheel.advance(Time.currentTimeMillis());
+    }
+
+    private static int hash(long id) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private int find(long id) {
+        int mask = _ids.length - 1;
+        for (int i = hash(id) & mask; _timeouts[i] != null; i = (i + 1) & mask) {
+            if (_ids[i] == id) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int freeSlot(long id) {
+        int mask = _ids.length - 1;
+        int i = hash(id) & mask;
+        while (_timeouts[i] != null) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    /**
+     * Frees a slot, moving later entries of its probe run back so that
+     * lookups never stop early at the hole.
+     */
+    private void removeSlot(int slot) {
+        int mask = _ids.length - 1;
+        _timeouts[slot] = null;
+        _size--;
+        int hole = slot;
+        for (int i = (slot + 1) & mask; _timeouts[i] != null; i = (i + 1) & mask) {
+            int home = hash(_ids[i]) & mask;
+            // the entry can fill the hole if its home slot is not between the hole and it
+            if (((i - home) & mask) >= ((i - hole) & mask)) {
+                _ids[hole] = _ids[i];
+                _timeouts[hole] = _timeouts[i];
+                _timeouts[i] = null;
+                hole = i;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        _ids = new long[capacity];
+        @SuppressWarnings("unchecked")
+        TimerWheel<Entry<V>>.Timeout[] timeouts = new TimerWheel.Timeout[capacity];
+        _timeouts = timeouts;
+    }
+
+    private void resize(int capacity) {
+        long[] ids = _ids;
+        TimerWheel<Entry<V>>.Timeout[] timeouts = _timeouts;
+        allocate(capacity);
+        for (int i = 0; i < ids.length; i++) {
+            if (timeouts[i] != null) {
+                int slot = freeSlot(ids[i]);
+                _ids[slot] = ids[i];
+                _timeouts[slot] = timeouts[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package backtype.storm.utils;
+
+import com.lmax.disruptor.AlertException;
+import com.lmax.disruptor.Sequence;
+import com.lmax.disruptor.SequenceBarrier;
+import com.lmax.disruptor.WaitStrategy;
+import com.lmax.disruptor.util.Util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Wait strategy that first busy spins, then yields, and finally parks the consumer
+ * with an exponentially growing park time, so that a busy queue is served with
+ * spin latency while an idle one costs almost no CPU.
+ *
+ * Producers never signal this strategy; a parked consumer notices new events after
+ * at most maxParkNanos.
+ */
+public class ProgressiveWaitStrategy implements WaitStrategy {
+    private static final int DEFAULT_SPIN_TRIES = 100;
+    private static final int DEFAULT_YIELD_TRIES = 100;
+    private static final long DEFAULT_MIN_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(1);
+    private static final long DEFAULT_MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final int _spinTries;
+    private final int _yieldTries;
+    private final long _minParkNanos;
+    private final long _maxParkNanos;
+
+    // only the consumer thread updates these, once per waitFor call
+    private volatile long _spins = 0;
+    private volatile long _yields = 0;
+    private volatile long _parks = 0;
+
+    public ProgressiveWaitStrategy() {
+        this(DEFAULT_SPIN_TRIES, DEFAULT_YIELD_TRIES, DEFAULT_MIN_PARK_NANOS, DEFAULT_MAX_PARK_NANOS);
+    }
+
+    public ProgressiveWaitStrategy(int spinTries, int yieldTries, long minParkNanos, long maxParkNanos) {
+        if(minParkNanos <= 0 || maxParkNanos < minParkNanos) {
+            throw new IllegalArgumentException("Park times must satisfy 0 < minParkNanos <= maxParkNanos");
+        }
+        _spinTries = spinTries;
+        _yieldTries = yieldTries;
+        _minParkNanos = minParkNanos;
+        _maxParkNanos = maxParkNanos;
+    }
+
+    @Override
+    public long waitFor(long sequence, Sequence cursor, Sequence[] dependents, SequenceBarrier barrier)
+            throws AlertException, InterruptedException {
+        return waitFor(sequence, cursor, dependents, barrier, Long.MAX_VALUE);
+    }
+
+    @Override
+    public long waitFor(long sequence, Sequence cursor, Sequence[] dependents, SequenceBarrier barrier,
+                        long timeout, TimeUnit sourceUnit) throws AlertException, InterruptedException {
+        return waitFor(sequence, cursor, dependents, barrier, sourceUnit.toNanos(timeout));
+    }
+
+    private long waitFor(long sequence, Sequence cursor, Sequence[] dependents, SequenceBarrier barrier,
+                         long timeoutNanos) throws AlertException, InterruptedException {
+        long availableSequence = available(cursor, dependents);
+        if(availableSequence >= sequence) {
+            return availableSequence;
+        }
+
+        final long deadline = timeoutNanos == Long.MAX_VALUE ? Long.MAX_VALUE : System.nanoTime() + timeoutNanos;
+        long spins = 0;
+        long yields = 0;
+        long parks = 0;
+        long parkNanos = _minParkNanos;
+        int tries = 0;
+        try {
+            while((availableSequence = available(cursor, dependents)) < sequence) {
+                barrier.checkAlert();
+                if(tries < _spinTries) {
+                    spins++;
+                } else if(tries < _spinTries + _yieldTries) {
+                    yields++;
+                    Thread.yield();
+                } else {
+                    long remaining = deadline - System.nanoTime();
+                    if(remaining <= 0) {
+                        break;
+                    }
+                    parks++;
+                    LockSupport.parkNanos(Math.min(parkNanos, remaining));
+                    if(Thread.interrupted()) {
+                        throw new InterruptedException();
+                    }
+                    parkNanos = Math.min(parkNanos << 1, _maxParkNanos);
+                }
+                tries++;
+            }
+        } finally {
+            _spins += spins;
+            _yields += yields;
+            _parks += parks;
+        }
+        return availableSequence;
+    }
+
+    private static long available(Sequence cursor, Sequence[] dependents) {
+        if(dependents.length == 0) {
+            return cursor.get();
+        }
+        return Util.getMinimumSequence(dependents);
+    }
+
+    @Override
+    public void signalAllWhenBlocking() {
+    }
+
+    public Map<String, Object> getState() {
+        Map<String, Object> state = new HashMap<String, Object>();
+        state.put("wait_spins", _spins);
+        state.put("wait_yields", _yields);
+        state.put("wait_parks", _parks);
+        return state;
+    }
+}
@@ -18,6 +18,7 @@
 package backtype.storm.utils;
 
 import backtype.storm.Config;
+import backtype.storm.multilang.IBatchingSerializer;
 import backtype.storm.multilang.ISerializer;
 import backtype.storm.multilang.BoltMsg;
 import backtype.storm.multilang.NoOutputException;
@@ -120,6 +121,15 @@ public class ShellProcess implements Serializable {
         logErrorStream();
     }
 
+    /**
+     * Writes out messages a batching serializer is still holding on to.
+     */
+    public void flush() throws IOException {
+        if (serializer instanceof IBatchingSerializer) {
+            ((IBatchingSerializer) serializer).flush();
+        }
+    }
+
     public void logErrorStream() {
         try {
             while (processErrorStream.available() > 0) {
@@ -0,0 +1,171 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package backtype.storm.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A hashed timing wheel. Timeouts hash into one of numBuckets buckets by the
+ * tick they are due in, and advancing the wheel only looks at the buckets of
+ * the ticks that went by, so scheduling and cancelling a timeout take O(1)
+ * time no matter how many are pending. A timeout fires between its deadline
+ * and one tick past it, depending on how often the wheel is advanced.
+ *
+ * The wheel has no thread of its own. Whoever owns it calls advance, and the
+ * expired callback runs on that thread, outside of the wheel's lock.
+ */
+public class TimerWheel<T> {
+    public static interface ExpiredCallback<T> {
+        public void expire(T item);
+    }
+
+    private final long _tickMs;
+    private final int _mask;
+    private final Timeout[] _buckets;
+    private final ExpiredCallback<T> _callback;
+    private final long _startMs;
+    // the last tick that has been expired
+    private long _tick = 0;
+    private int _size = 0;
+
+    public TimerWheel(long tickMs, int numBuckets, ExpiredCallback<T> callback) {
+        if(tickMs<1) {
+            throw new IllegalArgumentException("tickMs must be >= 1");
+        }
+        if(numBuckets<1 || Integer.bitCount(numBuckets)!=1) {
+            throw new IllegalArgumentException("numBuckets must be a power of 2");
+        }
+        _tickMs = tickMs;
+        _mask = numBuckets - 1;
+        // generic arrays can't be created, the raw one only ever holds Timeouts of this wheel
+        @SuppressWarnings("unchecked")
+        Timeout[] buckets = new TimerWheel.Timeout[numBuckets];
+        _buckets = buckets;
+        for(int i=0; i<numBuckets; i++) {
+            // sentinel, the bucket is a circular list through it
+            Timeout head = new Timeout(null, 0);
+            head.prev = head;
+            head.next = head;
+            _buckets[i] = head;
+        }
+        _callback = callback;
+        _startMs = Time.currentTimeMillis();
+    }
+
+    /**
+     * Schedules item to expire once delayMs have passed. The returned timeout
+     * can be cancelled until then.
+     */
+    public synchronized Timeout schedule(T item, long delayMs) {
+        long elapsed = Time.currentTimeMillis() - _startMs + Math.max(delayMs, 0);
+        long deadline = Math.max((elapsed + _tickMs - 1) / _tickMs, _tick + 1);
+        Timeout timeout = new Timeout(item, deadline);
+        Timeout head = _buckets[(int) (deadline & _mask)];
+        timeout.prev = head.prev;
+        timeout.next = head;
+        head.prev.next = timeout;
+        head.prev = timeout;
+        _size++;
+        return timeout;
+    }
+
+    /**
+     * Expires everything that was due by nowMs.
+     */
+    public void advance(long nowMs) {
+        List<T> expired;
+        synchronized(this) {
+            long target = (nowMs - _startMs) / _tickMs;
+            if(target <= _tick) {
+                return;
+            }
+            expired = new ArrayList<T>();
+            if(target - _tick >= _buckets.length) {
+                // every bucket is due, go around once instead of once per tick
+                for(Timeout head: _buckets) {
+                    expireBucket(head, target, expired);
+                }
+                _tick = target;
+            }
+            while(_tick < target) {
+                _tick++;
+                expireBucket(_buckets[(int) (_tick & _mask)], _tick, expired);
+            }
+        }
+        if(_callback!=null) {
+            for(T item: expired) {
+                _callback.expire(item);
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return _size;
+    }
+
+    private void expireBucket(Timeout head, long tick, List<T> expired) {
+        Timeout t = head.next;
+        while(t!=head) {
+            Timeout next = t.next;
+            // later rounds of the wheel share the bucket and stay in it
+            if(t.deadline <= tick) {
+                t.unlink();
+                expired.add(t.item);
+            }
+            t = next;
+        }
+    }
+
+    public class Timeout {
+        private final T item;
+        private final long deadline;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(T item, long deadline) {
+            this.item = item;
+            this.deadline = deadline;
+        }
+
+        public T getItem() {
+            return item;
+        }
+
+        /**
+         * Returns false if the timeout has already expired or been cancelled.
+         */
+        public boolean cancel() {
+            synchronized(TimerWheel.this) {
+                if(next==null) {
+                    return false;
+                }
+                unlink();
+                return true;
+            }
+        }
+
+        private void unlink() {
+            prev.next = next;
+            next.prev = prev;
+            prev = null;
+            next = null;
+            _size--;
+        }
+    }
+}
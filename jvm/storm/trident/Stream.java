@@ -157,6 +157,12 @@ public class Stream implements IAggregatableStream {
                     functionFields,
                     new AggregateProcessor(inputFields, agg)));
     }
+
+    @Override
+    public Stream partialAggregate(Fields inputFields, Aggregator agg, Fields functionFields) {
+        // a single partial result per partition, there is nothing to bound
+        return partitionAggregate(inputFields, agg, functionFields);
+    }
     
     public Stream stateQuery(TridentState state, Fields inputFields, QueryFunction function, Fields functionFields) {
         projectionValidation(inputFields);
@@ -96,7 +96,10 @@ public class ChainedAggregatorDeclarer implements ChainedFullAggregatorDeclarer,
         Fields outFields = new Fields(allOutFields);
         Aggregator combined = new ChainedAggregatorImpl(aggs, inputFields, new ComboList.Factory(outSizes));
         
-        if(_type!=AggType.FULL) {
+        if(_type==AggType.FULL_COMBINE) {
+            // combined again after repartitioning, so groups can be flushed early to bound memory
+            _stream = _stream.partialAggregate(inFields, combined, outFields);
+        } else if(_type!=AggType.FULL) {
             _stream = _stream.partitionAggregate(inFields, combined, outFields);
         }
         if(_type!=AggType.PARTITION) {
@@ -148,6 +148,15 @@ public class GroupedStream implements IAggregatableStream, GlobalAggregationSche
         return new GroupedStream(s, _groupFields);
     }
 
+    @Override
+    public IAggregatableStream partialAggregate(Fields inputFields, Aggregator agg, Fields functionFields) {
+        Aggregator groupedAgg = new GroupedAggregator(agg, _groupFields, inputFields, functionFields.size(), true);
+        Fields allInFields = TridentUtils.fieldsUnion(_groupFields, inputFields);
+        Fields allOutFields = TridentUtils.fieldsConcat(_groupFields, functionFields);
+        Stream s = _stream.partitionAggregate(allInFields, groupedAgg, allOutFields);
+        return new GroupedStream(s, _groupFields);
+    }
+
     @Override
     public IAggregatableStream aggPartition(GroupedStream s) {
         return new GroupedStream(s._stream.partitionBy(_groupFields), _groupFields);
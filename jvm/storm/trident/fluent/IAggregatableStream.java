@@ -26,6 +26,8 @@ import storm.trident.operation.impl.SingleEmitAggregator.BatchToPartition;
 public interface IAggregatableStream {
     IAggregatableStream each(Fields inputFields, Function function, Fields functionFields);
     IAggregatableStream partitionAggregate(Fields inputFields, Aggregator agg, Fields functionFields);
+    // like partitionAggregate, for partial results that are aggregated again after repartitioning
+    IAggregatableStream partialAggregate(Fields inputFields, Aggregator agg, Fields functionFields);
     Stream toStream();
     Fields getOutputFields();
 }
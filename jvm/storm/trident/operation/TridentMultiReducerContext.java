@@ -17,6 +17,7 @@
  */
 package storm.trident.operation;
 
+import backtype.storm.task.TopologyContext;
 import backtype.storm.tuple.Fields;
 import java.util.List;
 import storm.trident.tuple.TridentTuple;
@@ -25,12 +26,25 @@ import storm.trident.tuple.TridentTupleView.ProjectionFactory;
 
 public class TridentMultiReducerContext {
     List<TridentTuple.Factory> _factories;
+    TopologyContext _topoContext;
     
     public TridentMultiReducerContext(List<TridentTuple.Factory> factories) {
+        this(null, factories);
+    }
+    
+    public TridentMultiReducerContext(TopologyContext topoContext, List<TridentTuple.Factory> factories) {
         _factories = factories;        
+        _topoContext = topoContext;
     }
     
     public ProjectionFactory makeProjectionFactory(int streamIndex, Fields fields) {
         return new ProjectionFactory(_factories.get(streamIndex), fields);
     }    
+
+    /**
+     * See WorkerTopologyContext.getWorkerTmpDir, null without a topology context.
+     */
+    public String getWorkerTmpDir() {
+        return _topoContext == null ? null : _topoContext.getWorkerTmpDir();
+    }
 }
@@ -53,6 +53,13 @@ public class TridentOperationContext implements IMetricsContext{
         return _topoContext.getThisTaskIndex();
     }
 
+    /**
+     * See WorkerTopologyContext.getWorkerTmpDir.
+     */
+    public String getWorkerTmpDir() {
+        return _topoContext.getWorkerTmpDir();
+    }
+
     public <T extends IMetric> T registerMetric(String name, T metric, int timeBucketSizeInSecs) {
         return _topoContext.registerMetric(name, metric, timeBucketSizeInSecs);
     }
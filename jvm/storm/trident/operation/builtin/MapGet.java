@@ -21,16 +21,22 @@ import backtype.storm.tuple.Values;
 import java.util.List;
 import storm.trident.operation.TridentCollector;
 import storm.trident.state.BaseQueryFunction;
+import storm.trident.state.map.KeyedMapOperation;
 import storm.trident.state.map.ReadOnlyMapState;
 import storm.trident.tuple.TridentTuple;
 
 
-public class MapGet extends BaseQueryFunction<ReadOnlyMapState, Object> {
+public class MapGet extends BaseQueryFunction<ReadOnlyMapState, Object> implements KeyedMapOperation {
     @Override
     public List<Object> batchRetrieve(ReadOnlyMapState map, List<TridentTuple> keys) {
         return map.multiGet((List) keys);
     }    
     
+    @Override
+    public List<Object> getKey(TridentTuple tuple) {
+        return tuple;
+    }
+
     @Override
     public void execute(TridentTuple tuple, Object result, TridentCollector collector) {
         collector.emit(new Values(result));
@@ -0,0 +1,365 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package storm.trident.operation.impl;
+
+import backtype.storm.Config;
+import backtype.storm.serialization.KryoValuesDeserializer;
+import backtype.storm.serialization.KryoValuesSerializer;
+import backtype.storm.utils.Utils;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilenameFilter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Holds on to the tuples of groups that did not fit in memory during a batch.
+ * Tuples are buffered and, every runSize tuples, sorted by the hash of their
+ * group and written out as a run in the worker's tmp dir. When the batch completes
+ * the runs are merged and every group is handed back with its tuples, in the
+ * order they arrived, so only one spilled group is in memory at a time.
+ *
+ * Only the group and the values the operation reads are spilled. Spillers are
+ * made by a Factory, which deletes the runs of batches that never completed.
+ */
+public class GroupSpiller {
+    private static final Logger LOG = LoggerFactory.getLogger(GroupSpiller.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String RUN_PREFIX = "trident-spill";
+    private static final String RUN_SUFFIX = ".run";
+
+    public interface GroupHandler {
+        void group(List<Object> group, List<SpilledTuple> tuples);
+    }
+
+    public static class SpilledTuple {
+        public final int streamIndex;
+        public final List<Object> values;
+
+        SpilledTuple(int streamIndex, List<Object> values) {
+            this.streamIndex = streamIndex;
+            this.values = values;
+        }
+    }
+
+    /**
+     * Makes the spillers of one operation, which write their runs to dir. A batch
+     * that fails or times out never completes, so its spiller is never merged. The
+     * runs of such spillers are deleted once they are older than the message
+     * timeout, when the next one is made, and older runs in dir are swept when the
+     * factory is created. dir belongs to this worker and the supervisor deletes it
+     * with the worker; without one, runs go to java.io.tmpdir and are not swept.
+     */
+    public static class Factory {
+        private final Map _conf;
+        private final File _dir;
+        private final int _runSize;
+        private final long _maxAgeMs;
+        private final List<GroupSpiller> _live = new ArrayList<GroupSpiller>();
+
+        public Factory(Map conf, String dir, int runSize) {
+            _conf = conf;
+            _dir = dir == null ? null : new File(dir);
+            _runSize = runSize;
+            _maxAgeMs = 1000L * Utils.getInt(conf.get(Config.TOPOLOGY_MESSAGE_TIMEOUT_SECS), 30);
+            if(_dir != null) {
+                if(!_dir.isDirectory() && !_dir.mkdirs()) {
+                    throw new RuntimeException("Could not create spill directory " + _dir);
+                }
+                deleteStaleRuns(_dir, _maxAgeMs);
+            }
+        }
+
+        public GroupSpiller create() {
+            long now = System.currentTimeMillis();
+            for(GroupSpiller s: new ArrayList<GroupSpiller>(_live)) {
+                if(now - s._createdMs > _maxAgeMs) {
+                    LOG.info("Deleting {} runs of a batch that did not complete", s._runs.size());
+                    s.cleanup();
+                }
+            }
+            GroupSpiller ret = new GroupSpiller(this);
+            _live.add(ret);
+            return ret;
+        }
+    }
+
+    private static class Record {
+        final int hash;
+        final int streamIndex;
+        final byte[] bytes;
+
+        Record(int hash, int streamIndex, byte[] bytes) {
+            this.hash = hash;
+            this.streamIndex = streamIndex;
+            this.bytes = bytes;
+        }
+    }
+
+    private static final Comparator<Record> BY_HASH = new Comparator<Record>() {
+        @Override
+        public int compare(Record a, Record b) {
+            return a.hash < b.hash ? -1 : (a.hash == b.hash ? 0 : 1);
+        }
+    };
+
+    private final Factory _factory;
+    private final long _createdMs = System.currentTimeMillis();
+    private KryoValuesSerializer _ser;
+    private KryoValuesDeserializer _deser;
+    private List<Record> _buffer = new ArrayList<Record>();
+    private final List<File> _runs = new ArrayList<File>();
+    private long _spilled = 0;
+
+    private GroupSpiller(Factory factory) {
+        _factory = factory;
+    }
+
+    public void add(List<Object> group, int streamIndex, List<Object> values) {
+        if(_ser == null) {
+            _ser = new KryoValuesSerializer(_factory._conf);
+        }
+        try {
+            List<Object> record = Arrays.asList((Object) new ArrayList<Object>(group), new ArrayList<Object>(values));
+            _buffer.add(new Record(group.hashCode(), streamIndex, _ser.serialize(record)));
+        } catch(IOException e) {
+            throw new RuntimeException(e);
+        }
+        _spilled++;
+        if(_buffer.size() >= _factory._runSize) {
+            writeRun();
+        }
+    }
+
+    /**
+     * Hands every spilled group to the handler and deletes the runs.
+     */
+    public void forEachGroup(GroupHandler handler) {
+        try {
+            if(_runs.isEmpty()) {
+                Collections.sort(_buffer, BY_HASH);
+                merge(Arrays.<Run>asList(new BufferRun(_buffer)), handler);
+            } else {
+                if(!_buffer.isEmpty()) {
+                    writeRun();
+                }
+                LOG.info("Merging {} tuples spilled to {} runs", _spilled, _runs.size());
+                List<Run> runs = new ArrayList<Run>();
+                try {
+                    for(File f: _runs) {
+                        runs.add(new FileRun(f));
+                    }
+                    merge(runs, handler);
+                } finally {
+                    for(Run r: runs) {
+                        r.close();
+                    }
+                }
+            }
+        } catch(IOException e) {
+            throw new RuntimeException(e);
+        } finally {
+            cleanup();
+        }
+    }
+
+    public void cleanup() {
+        for(File f: _runs) {
+            if(!f.delete()) {
+                LOG.warn("Could not delete spilled run {}", f);
+            }
+        }
+        _runs.clear();
+        _buffer = new ArrayList<Record>();
+        _spilled = 0;
+        _factory._live.remove(this);
+    }
+
+    // runs are read back within the batch, so any run older than a batch can live is garbage
+    private static void deleteStaleRuns(File dir, long maxAgeMs) {
+        File[] runs = dir.listFiles(new FilenameFilter() {
+            @Override
+            public boolean accept(File dir, String name) {
+                return name.startsWith(RUN_PREFIX) && name.endsWith(RUN_SUFFIX);
+            }
+        });
+        if(runs == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        for(File f: runs) {
+            if(now - f.lastModified() > maxAgeMs && !f.delete()) {
+                LOG.warn("Could not delete stale spilled run {}", f);
+            }
+        }
+    }
+
+    private void writeRun() {
+        // stable, so tuples of a group keep their arrival order within the run
+        Collections.sort(_buffer, BY_HASH);
+        File f = null;
+        try {
+            f = File.createTempFile(RUN_PREFIX, RUN_SUFFIX, _factory._dir);
+            _runs.add(f);
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(f), BUFFER_SIZE));
+            try {
+                for(Record r: _buffer) {
+                    out.writeInt(r.hash);
+                    out.writeInt(r.streamIndex);
+                    out.writeInt(r.bytes.length);
+                    out.write(r.bytes);
+                }
+            } finally {
+                out.close();
+            }
+        } catch(IOException e) {
+            throw new RuntimeException("Could not spill grouped tuples to " + f, e);
+        }
+        _buffer = new ArrayList<Record>();
+    }
+
+    private void merge(List<Run> runs, GroupHandler handler) throws IOException {
+        // runs are in arrival order, so breaking ties on the run index keeps tuples in order
+        PriorityQueue<Run> queue = new PriorityQueue<Run>(Math.max(1, runs.size()), new Comparator<Run>() {
+            @Override
+            public int compare(Run a, Run b) {
+                int ret = BY_HASH.compare(a.current, b.current);
+                return ret != 0 ? ret : (a.index < b.index ? -1 : (a.index == b.index ? 0 : 1));
+            }
+        });
+        for(int i=0; i<runs.size(); i++) {
+            Run r = runs.get(i);
+            r.index = i;
+            if(r.advance()) {
+                queue.add(r);
+            }
+        }
+        List<Record> block = new ArrayList<Record>();
+        while(!queue.isEmpty()) {
+            Run r = queue.poll();
+            if(!block.isEmpty() && block.get(0).hash != r.current.hash) {
+                handleBlock(block, handler);
+                block.clear();
+            }
+            block.add(r.current);
+            if(r.advance()) {
+                queue.add(r);
+            }
+        }
+        if(!block.isEmpty()) {
+            handleBlock(block, handler);
+        }
+    }
+
+    // every group in a block has the same hash, so they have to be told apart by their values
+    private void handleBlock(List<Record> block, GroupHandler handler) throws IOException {
+        if(_deser == null) {
+            _deser = new KryoValuesDeserializer(_factory._conf);
+        }
+        Map<List<Object>, List<SpilledTuple>> groups = new LinkedHashMap<List<Object>, List<SpilledTuple>>();
+        for(Record r: block) {
+            List<Object> record = _deser.deserialize(r.bytes);
+            List<Object> group = (List<Object>) record.get(0);
+            List<SpilledTuple> tuples = groups.get(group);
+            if(tuples == null) {
+                tuples = new ArrayList<SpilledTuple>();
+                groups.put(group, tuples);
+            }
+            tuples.add(new SpilledTuple(r.streamIndex, (List<Object>) record.get(1)));
+        }
+        for(Map.Entry<List<Object>, List<SpilledTuple>> e: groups.entrySet()) {
+            handler.group(e.getKey(), e.getValue());
+        }
+    }
+
+    private static abstract class Run {
+        int index;
+        Record current;
+
+        abstract boolean advance() throws IOException;
+
+        void close() {
+        }
+    }
+
+    private static class BufferRun extends Run {
+        final List<Record> _records;
+        int _pos = 0;
+
+        BufferRun(List<Record> records) {
+            _records = records;
+        }
+
+        @Override
+        boolean advance() {
+            if(_pos == _records.size()) {
+                return false;
+            }
+            current = _records.get(_pos++);
+            return true;
+        }
+    }
+
+    private static class FileRun extends Run {
+        final DataInputStream _in;
+
+        FileRun(File f) throws IOException {
+            _in = new DataInputStream(new BufferedInputStream(new FileInputStream(f), BUFFER_SIZE));
+        }
+
+        @Override
+        boolean advance() throws IOException {
+            int hash;
+            try {
+                hash = _in.readInt();
+            } catch(EOFException e) {
+                return false;
+            }
+            int streamIndex = _in.readInt();
+            byte[] bytes = new byte[_in.readInt()];
+            _in.readFully(bytes);
+            current = new Record(hash, streamIndex, bytes);
+            return true;
+        }
+
+        @Override
+        void close() {
+            try {
+                _in.close();
+            } catch(IOException e) {
+                LOG.warn("Could not close spilled run", e);
+            }
+        }
+    }
+}
@@ -17,8 +17,12 @@
  */
 package storm.trident.operation.impl;
 
+import backtype.storm.Config;
 import backtype.storm.tuple.Fields;
+import backtype.storm.utils.Utils;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -31,14 +35,30 @@ import storm.trident.tuple.TridentTupleView;
 import storm.trident.tuple.TridentTupleView.ProjectionFactory;
 
 public class GroupedAggregator implements Aggregator<Object[]> {
+    public static final int DEFAULT_PARTIAL_MAX_GROUPS = 10000;
+
     ProjectionFactory _groupFactory;
     ProjectionFactory _inputFactory;
+    TridentTupleView.FreshOutputFactory _spilledInputFactory;
+    GroupSpiller.Factory _spillers;
     Aggregator _agg;
     ComboList.Factory _fact;
     Fields _inFields;
     Fields _groupFields;
+    int _spillThreshold;
+    boolean _partial;
+    int _maxGroups;
     
     public GroupedAggregator(Aggregator agg, Fields group, Fields input, int outSize) {
+        this(agg, group, input, outSize, false);
+    }
+
+    /**
+     * A partial aggregator's results are aggregated again downstream, so it only keeps
+     * the most recently used groups of a batch and emits the others early.
+     */
+    public GroupedAggregator(Aggregator agg, Fields group, Fields input, int outSize, boolean partial) {
+        _partial = partial;
         _groupFields = group;
         _inFields = input;
         _agg = agg;
@@ -52,12 +72,21 @@ public class GroupedAggregator implements Aggregator<Object[]> {
     public void prepare(Map conf, TridentOperationContext context) {
         _inputFactory = context.makeProjectionFactory(_inFields);
         _groupFactory = context.makeProjectionFactory(_groupFields);
+        if(_partial) {
+            _maxGroups = Utils.getInt(conf.get(Config.TOPOLOGY_TRIDENT_PARTIAL_AGGREGATION_MAX_GROUPS), DEFAULT_PARTIAL_MAX_GROUPS);
+        } else {
+            _spillThreshold = Utils.getInt(conf.get(Config.TOPOLOGY_TRIDENT_BATCH_SPILL_THRESHOLD), 0);
+        }
+        if(_spillThreshold > 0) {
+            _spillers = new GroupSpiller.Factory(conf, context.getWorkerTmpDir(), _spillThreshold);
+            _spilledInputFactory = new TridentTupleView.FreshOutputFactory(_inFields);
+        }
         _agg.prepare(conf, new TridentOperationContext(context, _inputFactory));
     }
 
     @Override
     public Object[] init(Object batchId, TridentCollector collector) {
-        return new Object[] {new GroupCollector(collector, _fact), new HashMap(), batchId};
+        return new Object[] {new GroupCollector(collector, _fact), (_partial ? new LinkedHashMap(16, 0.75f, true) : new HashMap()), batchId, null};
     }
 
     @Override
@@ -66,8 +95,20 @@ public class GroupedAggregator implements Aggregator<Object[]> {
         Map<List, Object> val = (Map) arr[1];
         TridentTuple group = _groupFactory.create((TridentTupleView) tuple);
         TridentTuple input = _inputFactory.create((TridentTupleView) tuple);
+        if(_spillThreshold > 0 && val.size() >= _spillThreshold && !val.containsKey(group)) {
+            GroupSpiller spiller = (GroupSpiller) arr[3];
+            if(spiller == null) {
+                spiller = _spillers.create();
+                arr[3] = spiller;
+            }
+            spiller.add(group, 0, input);
+            return;
+        }
         Object curr;
         if(!val.containsKey(group)) {
+            if(_maxGroups > 0 && val.size() >= _maxGroups) {
+                flushEldest(val, groupColl);
+            }
             curr = _agg.init(arr[2], groupColl);
             val.put((List) group, curr);
         } else {
@@ -78,14 +119,37 @@ public class GroupedAggregator implements Aggregator<Object[]> {
         
     }
 
+    private void flushEldest(Map<List, Object> val, GroupCollector groupColl) {
+        Iterator<Entry<List, Object>> it = val.entrySet().iterator();
+        Entry<List, Object> eldest = it.next();
+        it.remove();
+        groupColl.currGroup = eldest.getKey();
+        _agg.complete(eldest.getValue(), groupColl);
+    }
+
     @Override
-    public void complete(Object[] arr, TridentCollector collector) {
+    public void complete(final Object[] arr, TridentCollector collector) {
         Map<List, Object> val = (Map) arr[1];        
-        GroupCollector groupColl = (GroupCollector) arr[0];
+        final GroupCollector groupColl = (GroupCollector) arr[0];
         for(Entry<List, Object> e: val.entrySet()) {
             groupColl.currGroup = e.getKey();
             _agg.complete(e.getValue(), groupColl);
         }
+        GroupSpiller spiller = (GroupSpiller) arr[3];
+        if(spiller != null) {
+            val.clear();
+            spiller.forEachGroup(new GroupSpiller.GroupHandler() {
+                @Override
+                public void group(List<Object> group, List<GroupSpiller.SpilledTuple> tuples) {
+                    groupColl.currGroup = group;
+                    Object curr = _agg.init(arr[2], groupColl);
+                    for(GroupSpiller.SpilledTuple t: tuples) {
+                        _agg.aggregate(curr, _spilledInputFactory.create(t.values), groupColl);
+                    }
+                    _agg.complete(curr, groupColl);
+                }
+            });
+        }
     }
 
     @Override
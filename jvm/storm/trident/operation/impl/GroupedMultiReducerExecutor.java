@@ -17,7 +17,9 @@
  */
 package storm.trident.operation.impl;
 
+import backtype.storm.Config;
 import backtype.storm.tuple.Fields;
+import backtype.storm.utils.Utils;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -27,15 +29,27 @@ import storm.trident.operation.MultiReducer;
 import storm.trident.operation.TridentCollector;
 import storm.trident.operation.TridentMultiReducerContext;
 import storm.trident.tuple.TridentTuple;
+import storm.trident.tuple.TridentTupleView;
 import storm.trident.tuple.TridentTupleView.ProjectionFactory;
 
 
-public class GroupedMultiReducerExecutor implements MultiReducer<Map<TridentTuple, Object>> {
+public class GroupedMultiReducerExecutor implements MultiReducer<GroupedMultiReducerExecutor.BatchState> {
+    public static class BatchState {
+        Map<TridentTuple, Object> groups = new HashMap<TridentTuple, Object>();
+        // tuples given to groups held in memory, they may all be buffered by the reducer
+        long inMemory = 0;
+        GroupSpiller spiller;
+    }
+
     GroupedMultiReducer _reducer;
     List<Fields> _groupFields;
     List<Fields> _inputFields;
     List<ProjectionFactory> _groupFactories = new ArrayList<ProjectionFactory>();
     List<ProjectionFactory> _inputFactories = new ArrayList<ProjectionFactory>();
+    List<TridentTupleView.FreshOutputFactory> _spilledGroupFactories = new ArrayList<TridentTupleView.FreshOutputFactory>();
+    List<TridentTupleView.FreshOutputFactory> _spilledInputFactories = new ArrayList<TridentTupleView.FreshOutputFactory>();
+    GroupSpiller.Factory _spillers;
+    int _spillThreshold;
     
     public GroupedMultiReducerExecutor(GroupedMultiReducer reducer, List<Fields> groupFields, List<Fields> inputFields) {
         if(inputFields.size()!=groupFields.size()) {
@@ -52,21 +66,37 @@ public class GroupedMultiReducerExecutor implements MultiReducer<Map<TridentTupl
             _groupFactories.add(context.makeProjectionFactory(i, _groupFields.get(i)));
             _inputFactories.add(context.makeProjectionFactory(i, _inputFields.get(i)));
         }
+        _spillThreshold = Utils.getInt(conf.get(Config.TOPOLOGY_TRIDENT_BATCH_SPILL_THRESHOLD), 0);
+        if(_spillThreshold > 0) {
+            _spillers = new GroupSpiller.Factory(conf, context.getWorkerTmpDir(), _spillThreshold);
+            for(int i=0; i<_groupFields.size(); i++) {
+                _spilledGroupFactories.add(new TridentTupleView.FreshOutputFactory(_groupFields.get(i)));
+                _spilledInputFactories.add(new TridentTupleView.FreshOutputFactory(_inputFields.get(i)));
+            }
+        }
         _reducer.prepare(conf, new TridentMultiReducerContext((List) _inputFactories));
     }
 
     @Override
-    public Map<TridentTuple, Object> init(TridentCollector collector) {
-        return new HashMap();
+    public BatchState init(TridentCollector collector) {
+        return new BatchState();
     }
 
     @Override
-    public void execute(Map<TridentTuple, Object> state, int streamIndex, TridentTuple full, TridentCollector collector) {
+    public void execute(BatchState batch, int streamIndex, TridentTuple full, TridentCollector collector) {
+        Map<TridentTuple, Object> state = batch.groups;
         ProjectionFactory groupFactory = _groupFactories.get(streamIndex);
         ProjectionFactory inputFactory = _inputFactories.get(streamIndex);
         
         TridentTuple group = groupFactory.create(full);
         TridentTuple input = inputFactory.create(full);
+        if(_spillThreshold > 0 && batch.inMemory >= _spillThreshold && !state.containsKey(group)) {
+            if(batch.spiller == null) {
+                batch.spiller = _spillers.create();
+            }
+            batch.spiller.add(group, streamIndex, input);
+            return;
+        }
         
         Object curr;
         if(!state.containsKey(group)) {
@@ -75,16 +105,34 @@ public class GroupedMultiReducerExecutor implements MultiReducer<Map<TridentTupl
         } else {
             curr = state.get(group);
         }
+        batch.inMemory++;
         _reducer.execute(curr, streamIndex, group, input, collector);
     }
 
     @Override
-    public void complete(Map<TridentTuple, Object> state, TridentCollector collector) {
+    public void complete(BatchState batch, final TridentCollector collector) {
+        Map<TridentTuple, Object> state = batch.groups;
         for(Map.Entry e: state.entrySet()) {
             TridentTuple group = (TridentTuple) e.getKey();
             Object val = e.getValue();
             _reducer.complete(val, group, collector);
         }
+        if(batch.spiller != null) {
+            state.clear();
+            batch.spiller.forEachGroup(new GroupSpiller.GroupHandler() {
+                @Override
+                public void group(List<Object> values, List<GroupSpiller.SpilledTuple> tuples) {
+                    // the group has the same values on every stream it was seen on
+                    TridentTuple group = _spilledGroupFactories.get(tuples.get(0).streamIndex).create(values);
+                    Object curr = _reducer.init(collector, group);
+                    for(GroupSpiller.SpilledTuple t: tuples) {
+                        TridentTuple input = _spilledInputFactories.get(t.streamIndex).create(t.values);
+                        _reducer.execute(curr, t.streamIndex, group, input, collector);
+                    }
+                    _reducer.complete(curr, group, collector);
+                }
+            });
+        }
     }
 
     @Override
@@ -17,9 +17,11 @@
  */
 package storm.trident.planner.processor;
 
+import backtype.storm.Config;
 import backtype.storm.task.TopologyContext;
 import storm.trident.topology.TransactionAttempt;
 import backtype.storm.tuple.Fields;
+import backtype.storm.utils.Utils;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -28,6 +30,8 @@ import storm.trident.planner.ProcessorContext;
 import storm.trident.planner.TridentProcessor;
 import storm.trident.state.State;
 import storm.trident.state.StateUpdater;
+import storm.trident.state.map.KeyedMapOperation;
+import storm.trident.state.map.Prefetchable;
 import storm.trident.tuple.TridentTuple;
 import storm.trident.tuple.TridentTuple.Factory;
 import storm.trident.tuple.TridentTupleView.ProjectionFactory;
@@ -41,6 +45,7 @@ public class PartitionPersistProcessor implements TridentProcessor {
     Fields _inputFields;
     ProjectionFactory _projection;
     FreshCollector _collector;
+    int _prefetchKeys = 0;
 
     public PartitionPersistProcessor(String stateId, Fields inputFields, StateUpdater updater) {
         _updater = updater;
@@ -58,6 +63,9 @@ public class PartitionPersistProcessor implements TridentProcessor {
         _state = (State) context.getTaskData(_stateId);
         _projection = new ProjectionFactory(parents.get(0), _inputFields);
         _collector = new FreshCollector(tridentContext);
+        if(_state instanceof Prefetchable && _updater instanceof KeyedMapOperation) {
+            _prefetchKeys = Utils.getInt(conf.get(Config.TOPOLOGY_TRIDENT_STATE_PREFETCH_KEYS), 0);
+        }
         _updater.prepare(conf, new TridentOperationContext(context, _projection));
     }
 
@@ -68,12 +76,22 @@ public class PartitionPersistProcessor implements TridentProcessor {
 
     @Override
     public void startBatch(ProcessorContext processorContext) {
-        processorContext.state[_context.getStateIndex()] = new ArrayList<TridentTuple>();        
+        processorContext.state[_context.getStateIndex()] = new BatchState();        
     }
     
     @Override
     public void execute(ProcessorContext processorContext, String streamId, TridentTuple tuple) {
-        ((List) processorContext.state[_context.getStateIndex()]).add(_projection.create(tuple));
+        BatchState state = (BatchState) processorContext.state[_context.getStateIndex()];
+        TridentTuple projected = _projection.create(tuple);
+        state.tuples.add(projected);
+        // reads start now and overlap with the rest of the batch, the commit picks them up
+        if(_prefetchKeys > 0) {
+            state.prefetch.add(((KeyedMapOperation) _updater).getKey(projected));
+            if(state.prefetch.size() >= _prefetchKeys) {
+                ((Prefetchable) _state).prefetch(state.prefetch);
+                state.prefetch = new ArrayList<List<Object>>();
+            }
+        }
     }
 
     @Override
@@ -81,7 +99,7 @@ public class PartitionPersistProcessor implements TridentProcessor {
         _collector.setContext(processorContext);
         Object batchId = processorContext.batchId;
         // since this processor type is a committer, this occurs in the commit phase
-        List<TridentTuple> buffer = (List) processorContext.state[_context.getStateIndex()];
+        List<TridentTuple> buffer = ((BatchState) processorContext.state[_context.getStateIndex()]).tuples;
         
         // don't update unless there are tuples
         // this helps out with things like global partition persist, where multiple tasks may still
@@ -100,6 +118,12 @@ public class PartitionPersistProcessor implements TridentProcessor {
         }
     }    
 
+    private static class BatchState {
+        public List<TridentTuple> tuples = new ArrayList<TridentTuple>();
+        // keys that have come in since the last prefetch
+        public List<List<Object>> prefetch = new ArrayList<List<Object>>();
+    }
+
     @Override
     public Factory getOutputFactory() {
         return _collector.getOutputFactory();
@@ -17,8 +17,10 @@
  */
 package storm.trident.planner.processor;
 
+import backtype.storm.Config;
 import backtype.storm.task.TopologyContext;
 import backtype.storm.tuple.Fields;
+import backtype.storm.utils.Utils;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -27,6 +29,8 @@ import storm.trident.planner.ProcessorContext;
 import storm.trident.planner.TridentProcessor;
 import storm.trident.state.QueryFunction;
 import storm.trident.state.State;
+import storm.trident.state.map.KeyedMapOperation;
+import storm.trident.state.map.Prefetchable;
 import storm.trident.tuple.TridentTuple;
 import storm.trident.tuple.TridentTuple.Factory;
 import storm.trident.tuple.TridentTupleView.ProjectionFactory;
@@ -40,6 +44,7 @@ public class StateQueryProcessor implements TridentProcessor {
     Fields _inputFields;
     ProjectionFactory _projection;
     AppendCollector _collector;
+    int _prefetchKeys = 0;
     
     public StateQueryProcessor(String stateId, Fields inputFields, QueryFunction function) {
         _stateId = stateId;
@@ -57,6 +62,9 @@ public class StateQueryProcessor implements TridentProcessor {
         _state = (State) context.getTaskData(_stateId);
         _projection = new ProjectionFactory(parents.get(0), _inputFields);
         _collector = new AppendCollector(tridentContext);
+        if(_state instanceof Prefetchable && _function instanceof KeyedMapOperation) {
+            _prefetchKeys = Utils.getInt(conf.get(Config.TOPOLOGY_TRIDENT_STATE_PREFETCH_KEYS), 0);
+        }
         _function.prepare(conf, new TridentOperationContext(context, _projection));
     }
 
@@ -74,7 +82,15 @@ public class StateQueryProcessor implements TridentProcessor {
     public void execute(ProcessorContext processorContext, String streamId, TridentTuple tuple) {
         BatchState state = (BatchState) processorContext.state[_context.getStateIndex()];
         state.tuples.add(tuple);
-        state.args.add(_projection.create(tuple));
+        TridentTuple args = _projection.create(tuple);
+        state.args.add(args);
+        if(_prefetchKeys > 0) {
+            state.prefetch.add(((KeyedMapOperation) _function).getKey(args));
+            if(state.prefetch.size() >= _prefetchKeys) {
+                ((Prefetchable) _state).prefetch(state.prefetch);
+                state.prefetch = new ArrayList<List<Object>>();
+            }
+        }
     }
 
     @Override
@@ -97,6 +113,8 @@ public class StateQueryProcessor implements TridentProcessor {
     private static class BatchState {
         public List<TridentTuple> tuples = new ArrayList<TridentTuple>();
         public List<TridentTuple> args = new ArrayList<TridentTuple>();
+        // keys that have come in since the last prefetch
+        public List<List<Object>> prefetch = new ArrayList<List<Object>>();
     }
 
     @Override
@@ -62,6 +62,12 @@ public class CachedBatchReadsMap<T> {
         return ret;
     }
 
+    public void prefetch(List<List<Object>> keys) {
+        if(_delegate instanceof Prefetchable) {
+            ((Prefetchable) _delegate).prefetch(keys);
+        }
+    }
+
     public void multiPut(List<List<Object>> keys, List<T> vals) {
         _delegate.multiPut(keys, vals);
         cache(keys, vals);
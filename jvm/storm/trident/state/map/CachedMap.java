@@ -17,33 +17,91 @@
  */
 package storm.trident.state.map;
 
+import backtype.storm.metric.api.IMetric;
+import backtype.storm.task.IMetricsContext;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import storm.trident.util.LRUMap;
+import storm.trident.util.TinyLFUCache;
 
 /**
  * Useful to layer over a map that communicates with a database. you generally layer opaque map over this over your database store
  * @author nathan
  * @param <T>
  */
-public class CachedMap<T> implements IBackingMap<T> {
-    LRUMap<List<Object>, T> _cache;
+public class CachedMap<T> implements IBackingMap<T>, Prefetchable {
+    // stands in for values the database has no entry for, so those are cached too
+    private static final Object NULL = new Object();
+
+    TinyLFUCache<List<Object>, Object> _cache;
     IBackingMap<T> _delegate;
 
     public CachedMap(IBackingMap<T> delegate, int cacheSize) {
-        _cache = new LRUMap<List<Object>, T>(cacheSize);
+        _cache = new TinyLFUCache<List<Object>, Object>(cacheSize);
+        _delegate = delegate;
+    }
+
+    /**
+     * Bounds the cache by the total weight of its entries rather than their number.
+     * The weigher is given null for keys the database has no value for.
+     *
+     * @param expireAfterWriteMillis 0 to keep entries until they are evicted
+     */
+    public CachedMap(IBackingMap<T> delegate, long maxWeight, final TinyLFUCache.Weigher<List<Object>, T> weigher, long expireAfterWriteMillis) {
+        _cache = new TinyLFUCache<List<Object>, Object>(maxWeight, new TinyLFUCache.Weigher<List<Object>, Object>() {
+            @Override
+            public int weigh(List<Object> key, Object value) {
+                @SuppressWarnings("unchecked")
+                T val = value == NULL ? null : (T) value;
+                return weigher.weigh(key, val);
+            }
+        }, expireAfterWriteMillis);
         _delegate = delegate;
     }
 
+    /**
+     * Reports the hits, misses, evictions and expirations of the cache since the last
+     * report, along with its current weight, e.g. from a StateFactory's makeState.
+     */
+    public void registerMetrics(IMetricsContext context, String name, int timeBucketSizeInSecs) {
+        context.registerMetric(name, new IMetric() {
+            long _lastHits = 0;
+            long _lastMisses = 0;
+            long _lastEvictions = 0;
+            long _lastExpirations = 0;
+
+            @Override
+            public Object getValueAndReset() {
+                long hits = _cache.hitCount();
+                long misses = _cache.missCount();
+                long evictions = _cache.evictionCount();
+                long expirations = _cache.expirationCount();
+                Map<String, Long> ret = new HashMap<String, Long>();
+                ret.put("hits", hits - _lastHits);
+                ret.put("misses", misses - _lastMisses);
+                ret.put("evictions", evictions - _lastEvictions);
+                ret.put("expirations", expirations - _lastExpirations);
+                ret.put("weight", _cache.weightedSize());
+                _lastHits = hits;
+                _lastMisses = misses;
+                _lastEvictions = evictions;
+                _lastExpirations = expirations;
+                return ret;
+            }
+        }, timeBucketSizeInSecs);
+    }
+
     @Override
     public List<T> multiGet(List<List<Object>> keys) {
         Map<List<Object>, T> results = new HashMap<List<Object>, T>();
         List<List<Object>> toGet = new ArrayList<List<Object>>();
         for(List<Object> key: keys) {
-            if(_cache.containsKey(key)) {
-                results.put(key, _cache.get(key));
+            Object cached = _cache.get(key);
+            if(cached != null) {
+                @SuppressWarnings("unchecked")
+                T val = cached == NULL ? null : (T) cached;
+                results.put(key, val);
             } else {
                 toGet.add(key);
             }
@@ -53,7 +111,7 @@ public class CachedMap<T> implements IBackingMap<T> {
         for(int i=0; i<toGet.size(); i++) {
             List<Object> key = toGet.get(i);
             T val = fetchedVals.get(i);
-            _cache.put(key, val);
+            cache(key, val);
             results.put(key, val);
         }
 
@@ -64,6 +122,19 @@ public class CachedMap<T> implements IBackingMap<T> {
         return ret;
     }
 
+    @Override
+    public void prefetch(List<List<Object>> keys) {
+        if(_delegate instanceof Prefetchable) {
+            List<List<Object>> uncached = new ArrayList<List<Object>>();
+            for(List<Object> key: keys) {
+                if(!_cache.containsKey(key)) {
+                    uncached.add(key);
+                }
+            }
+            ((Prefetchable) _delegate).prefetch(uncached);
+        }
+    }
+
     @Override
     public void multiPut(List<List<Object>> keys, List<T> values) {
         cache(keys, values);
@@ -72,8 +143,12 @@ public class CachedMap<T> implements IBackingMap<T> {
 
     private void cache(List<List<Object>> keys, List<T> values) {
         for(int i=0; i<keys.size(); i++) {
-            _cache.put(keys.get(i), values.get(i));
+            cache(keys.get(i), values.get(i));
         }
     }
 
+    private void cache(List<Object> key, T val) {
+        _cache.put(key, val == null ? NULL : val);
+    }
+
 }
@@ -32,7 +32,7 @@ import storm.trident.tuple.ComboList;
 import storm.trident.tuple.TridentTuple;
 import storm.trident.tuple.TridentTupleView.ProjectionFactory;
 
-public class MapCombinerAggStateUpdater implements StateUpdater<MapState> {
+public class MapCombinerAggStateUpdater implements StateUpdater<MapState>, KeyedMapOperation {
     CombinerAggregator _agg;
     Fields _groupFields;
     Fields _inputFields;
@@ -70,6 +70,11 @@ public class MapCombinerAggStateUpdater implements StateUpdater<MapState> {
         }
     }
 
+    @Override
+    public List<Object> getKey(TridentTuple tuple) {
+        return _groupFactory.create(tuple);
+    }
+
     @Override
     public void prepare(Map conf, TridentOperationContext context) {
         _groupFactory = context.makeProjectionFactory(_groupFields);
@@ -33,7 +33,7 @@ import storm.trident.tuple.ComboList;
 import storm.trident.tuple.TridentTuple;
 import storm.trident.tuple.TridentTupleView.ProjectionFactory;
 
-public class MapReducerAggStateUpdater implements StateUpdater<MapState> {
+public class MapReducerAggStateUpdater implements StateUpdater<MapState>, KeyedMapOperation {
     ReducerAggregator _agg;
     Fields _groupFields;
     Fields _inputFields;
@@ -79,6 +79,11 @@ public class MapReducerAggStateUpdater implements StateUpdater<MapState> {
         }
     }
 
+    @Override
+    public List<Object> getKey(TridentTuple tuple) {
+        return _groupFactory.create(tuple);
+    }
+
     @Override
     public void prepare(Map conf, TridentOperationContext context) {
         _groupFactory = context.makeProjectionFactory(_groupFields);
@@ -22,7 +22,7 @@ import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 
-public class MicroBatchIBackingMap<T> implements IBackingMap<T> {
+public class MicroBatchIBackingMap<T> implements IBackingMap<T>, Prefetchable {
     IBackingMap<T> _delegate;
     Options _options;
 
@@ -60,6 +60,13 @@ public class MicroBatchIBackingMap<T> implements IBackingMap<T> {
         }
     }
 
+    @Override
+    public void prefetch(List<List<Object>> keys) {
+        if(_delegate instanceof Prefetchable) {
+            ((Prefetchable) _delegate).prefetch(keys);
+        }
+    }
+
     @Override
     public List<T> multiGet(final List<List<Object>> keys) {
         int thisBatchSize;
@@ -23,7 +23,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 
-public class NonTransactionalMap<T> implements MapState<T> {
+public class NonTransactionalMap<T> implements MapState<T>, Prefetchable {
     public static <T> MapState<T> build(IBackingMap<T> backing) {
         return new NonTransactionalMap<T>(backing);
     }
@@ -57,6 +57,13 @@ public class NonTransactionalMap<T> implements MapState<T> {
         _backing.multiPut(keys, vals);
     }
 
+    @Override
+    public void prefetch(List<List<Object>> keys) {
+        if(_backing instanceof Prefetchable) {
+            ((Prefetchable) _backing).prefetch(keys);
+        }
+    }
+
     @Override
     public void beginCommit(Long txid) {
     }
@@ -24,7 +24,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 
-public class OpaqueMap<T> implements MapState<T> {
+public class OpaqueMap<T> implements MapState<T>, Prefetchable {
     public static <T> MapState<T> build(IBackingMap<OpaqueValue> backing) {
         return new OpaqueMap<T>(backing);
     }
@@ -97,6 +97,11 @@ public class OpaqueMap<T> implements MapState<T> {
         multiUpdate(keys, updaters);
     }
 
+    @Override
+    public void prefetch(List<List<Object>> keys) {
+        _backing.prefetch(keys);
+    }
+
     @Override
     public void beginCommit(Long txid) {
         _currTx = txid;
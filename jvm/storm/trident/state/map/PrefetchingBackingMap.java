@@ -0,0 +1,207 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package storm.trident.state.map;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Splits reads against the backing store into chunks that are fetched in
+ * parallel, and lets them start early through prefetch. Layer it directly over
+ * the store, under CachedMap and the map state, e.g.
+ * OpaqueMap.build(new CachedMap(new PrefetchingBackingMap(store, 100, 8), 1000)).
+ *
+ * Unless the store implements IAsyncBackingMap, its multiGet is called from
+ * several threads at once, so it has to be thread safe.
+ *
+ * A prefetched value is dropped when its key is written, since the read may
+ * have happened before the write. Prefetches of a batch that never reads them,
+ * for instance one that failed, are dropped once they are older than
+ * maxPendingAgeMs or more than maxPending keys are outstanding, whichever comes
+ * first, so a later batch never reads a value older than that.
+ *
+ * All instances in a worker share one pool of daemon threads, sized to the
+ * largest parallelism asked for. Idle threads exit after a while, so the pool
+ * needs no shutdown when the state goes away.
+ */
+public class PrefetchingBackingMap<T> implements IBackingMap<T>, Prefetchable {
+    public static final int DEFAULT_MAX_PENDING = 100000;
+    public static final long DEFAULT_MAX_PENDING_AGE_MS = 10000;
+    private static final long IDLE_THREAD_TIMEOUT_SECS = 60;
+
+    private static ThreadPoolExecutor _sharedExecutor;
+
+    private static class Pending<T> {
+        final Future<List<T>> chunk;
+        final int index;
+        final long startNanos;
+
+        Pending(Future<List<T>> chunk, int index, long startNanos) {
+            this.chunk = chunk;
+            this.index = index;
+            this.startNanos = startNanos;
+        }
+    }
+
+    IBackingMap<T> _delegate;
+    int _chunkSize;
+    ExecutorService _executor;
+    Map<List<Object>, Pending<T>> _pending;
+    long _maxPendingAgeNanos;
+
+    public PrefetchingBackingMap(IBackingMap<T> delegate, int chunkSize, int parallelism) {
+        this(delegate, chunkSize, parallelism, DEFAULT_MAX_PENDING, DEFAULT_MAX_PENDING_AGE_MS);
+    }
+
+    public PrefetchingBackingMap(IBackingMap<T> delegate, int chunkSize, int parallelism, final int maxPending, long maxPendingAgeMs) {
+        if(chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        _delegate = delegate;
+        _chunkSize = chunkSize;
+        _maxPendingAgeNanos = TimeUnit.MILLISECONDS.toNanos(maxPendingAgeMs);
+        if(!(delegate instanceof IAsyncBackingMap)) {
+            _executor = sharedExecutor(parallelism);
+        }
+        _pending = new LinkedHashMap<List<Object>, Pending<T>>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<Object>, Pending<T>> eldest) {
+                return size() > maxPending;
+            }
+        };
+    }
+
+    @Override
+    public void prefetch(List<List<Object>> keys) {
+        expirePending();
+        List<List<Object>> toFetch = new ArrayList<List<Object>>(keys.size());
+        Set<List<Object>> seen = new HashSet<List<Object>>();
+        for(List<Object> key: keys) {
+            if(!_pending.containsKey(key) && seen.add(key)) {
+                toFetch.add(key);
+            }
+        }
+        fetch(toFetch, _pending);
+    }
+
+    @Override
+    public List<T> multiGet(List<List<Object>> keys) {
+        expirePending();
+        Map<List<Object>, Pending<T>> found = new HashMap<List<Object>, Pending<T>>();
+        List<List<Object>> toFetch = new ArrayList<List<Object>>();
+        for(List<Object> key: keys) {
+            Pending<T> p = _pending.remove(key);
+            if(p != null) {
+                found.put(key, p);
+            } else if(!found.containsKey(key)) {
+                found.put(key, null);
+                toFetch.add(key);
+            }
+        }
+        fetch(toFetch, found);
+
+        List<T> ret = new ArrayList<T>(keys.size());
+        for(List<Object> key: keys) {
+            Pending<T> p = found.get(key);
+            try {
+                ret.add(p.chunk.get().get(p.index));
+            } catch(InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            } catch(ExecutionException e) {
+                throw new RuntimeException("Failed to read from the backing map", e.getCause());
+            }
+        }
+        return ret;
+    }
+
+    @Override
+    public void multiPut(List<List<Object>> keys, List<T> vals) {
+        for(List<Object> key: keys) {
+            _pending.remove(key);
+        }
+        _delegate.multiPut(keys, vals);
+    }
+
+    static synchronized ExecutorService sharedExecutor(int parallelism) {
+        if(parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+        }
+        if(_sharedExecutor == null) {
+            _sharedExecutor = new ThreadPoolExecutor(parallelism, parallelism, IDLE_THREAD_TIMEOUT_SECS, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread t = new Thread(r, "trident-state-prefetch");
+                    t.setDaemon(true);
+                    return t;
+                }
+            });
+            _sharedExecutor.allowCoreThreadTimeOut(true);
+        } else if(parallelism > _sharedExecutor.getMaximumPoolSize()) {
+            // grow the maximum first, the core size may never exceed it
+            _sharedExecutor.setMaximumPoolSize(parallelism);
+            _sharedExecutor.setCorePoolSize(parallelism);
+        }
+        return _sharedExecutor;
+    }
+
+    // entries are inserted in fetch order, so the stale ones are at the head
+    private void expirePending() {
+        long now = System.nanoTime();
+        Iterator<Pending<T>> it = _pending.values().iterator();
+        while(it.hasNext() && now - it.next().startNanos > _maxPendingAgeNanos) {
+            it.remove();
+        }
+    }
+
+    private void fetch(List<List<Object>> keys, Map<List<Object>, Pending<T>> into) {
+        long now = System.nanoTime();
+        for(int start=0; start<keys.size(); start+=_chunkSize) {
+            final List<List<Object>> chunk = new ArrayList<List<Object>>(keys.subList(start, Math.min(keys.size(), start + _chunkSize)));
+            Future<List<T>> future;
+            if(_delegate instanceof IAsyncBackingMap) {
+                future = ((IAsyncBackingMap<T>) _delegate).multiGetAsync(chunk);
+            } else {
+                future = _executor.submit(new Callable<List<T>>() {
+                    @Override
+                    public List<T> call() {
+                        return _delegate.multiGet(chunk);
+                    }
+                });
+            }
+            for(int i=0; i<chunk.size(); i++) {
+                into.put(chunk.get(i), new Pending<T>(future, i, now));
+            }
+        }
+    }
+}
@@ -23,7 +23,7 @@ import storm.trident.state.ValueUpdater;
 import storm.trident.state.snapshot.Snapshottable;
 
 
-public class SnapshottableMap<T> implements MapState<T>, Snapshottable<T> {
+public class SnapshottableMap<T> implements MapState<T>, Snapshottable<T>, Prefetchable {
     MapState<T> _delegate;
     List<List<Object>> _keys;
 
@@ -47,6 +47,13 @@ public class SnapshottableMap<T> implements MapState<T>, Snapshottable<T> {
         _delegate.multiPut(keys, vals);
     }
 
+    @Override
+    public void prefetch(List<List<Object>> keys) {
+        if(_delegate instanceof Prefetchable) {
+            ((Prefetchable) _delegate).prefetch(keys);
+        }
+    }
+
     @Override
     public void beginCommit(Long txid) {
         _delegate.beginCommit(txid);
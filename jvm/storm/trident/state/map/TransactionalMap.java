@@ -24,7 +24,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 
-public class TransactionalMap<T> implements MapState<T> {
+public class TransactionalMap<T> implements MapState<T>, Prefetchable {
     public static <T> MapState<T> build(IBackingMap<TransactionalValue> backing) {
         return new TransactionalMap<T>(backing);
     }
@@ -95,6 +95,11 @@ public class TransactionalMap<T> implements MapState<T> {
         _backing.multiPut(keys, newVals);
     }
 
+    @Override
+    public void prefetch(List<List<Object>> keys) {
+        _backing.prefetch(keys);
+    }
+
     @Override
     public void beginCommit(Long txid) {
         _currTx = txid;
@@ -18,12 +18,15 @@
 package storm.trident.topology;
 
 import backtype.storm.Config;
+import backtype.storm.metric.api.MeanReducer;
+import backtype.storm.metric.api.MultiReducedMetric;
 import backtype.storm.spout.SpoutOutputCollector;
 import backtype.storm.task.TopologyContext;
 import backtype.storm.topology.OutputFieldsDeclarer;
 import backtype.storm.topology.base.BaseRichSpout;
 import backtype.storm.tuple.Fields;
 import backtype.storm.tuple.Values;
+import backtype.storm.utils.Utils;
 import backtype.storm.utils.WindowedTimeThrottler;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -57,6 +60,8 @@ public class MasterBatchCoordinator extends BaseRichSpout {
     
     private SpoutOutputCollector _collector;
     Long _currTransaction;
+    // the current transaction moved on and has to be written with the next sync
+    boolean _currTransactionChanged = false;
     int _maxTransactionActive;
     
     List<ITridentSpout.BatchCoordinator> _coordinators = new ArrayList();
@@ -65,6 +70,8 @@ public class MasterBatchCoordinator extends BaseRichSpout {
     List<String> _managedSpoutIds;
     List<ITridentSpout> _spouts;
     WindowedTimeThrottler _throttler;
+    // mean time spent by batches in each phase, and in writing the coordinator state
+    MultiReducedMetric _latencies;
     
     boolean _active = true;
     
@@ -93,6 +100,8 @@ public class MasterBatchCoordinator extends BaseRichSpout {
     @Override
     public void open(Map conf, TopologyContext context, SpoutOutputCollector collector) {
         _throttler = new WindowedTimeThrottler((Number)conf.get(Config.TOPOLOGY_TRIDENT_BATCH_EMIT_INTERVAL_MILLIS), 1);
+        _latencies = context.registerMetric("__trident-batch-latency-ms", new MultiReducedMetric(new MeanReducer()),
+                Utils.getInt(conf.get(Config.TOPOLOGY_BUILTIN_METRICS_BUCKET_SIZE_SECS), 60));
         for(String spoutId: _managedSpoutIds) {
             _states.add(TransactionalState.newCoordinatorState(conf, spoutId));
         }
@@ -131,16 +140,19 @@ public class MasterBatchCoordinator extends BaseRichSpout {
         TransactionAttempt tx = (TransactionAttempt) msgId;
         TransactionStatus status = _activeTx.get(tx.getTransactionId());
         if(status!=null && tx.equals(status.attempt)) {
+            long now = System.currentTimeMillis();
             if(status.status==AttemptStatus.PROCESSING) {
                 status.status = AttemptStatus.PROCESSED;
+                _latencies.scope("process").update(now - status.phaseStartTime);
+                status.phaseStartTime = now;
             } else if(status.status==AttemptStatus.COMMITTING) {
+                _latencies.scope("commit").update(now - status.phaseStartTime);
                 _activeTx.remove(tx.getTransactionId());
                 _attemptIds.remove(tx.getTransactionId());
                 _collector.emit(SUCCESS_STREAM_ID, new Values(tx));
                 _currTransaction = nextTransactionId(tx.getTransactionId());
-                for(TransactionalState state: _states) {
-                    state.setData(CURRENT_TX, _currTransaction);                    
-                }
+                // written by sync, together with any new attempt ids and before the next commit goes out
+                _currTransactionChanged = true;
             }
             sync();
         }
@@ -171,11 +183,11 @@ public class MasterBatchCoordinator extends BaseRichSpout {
         // tx 1, 2, 3 active, tx 2 is acked. there won't be a commit for tx 2 (because tx 1 isn't committed yet),
         // and there won't be a batch for tx 4 because there's max_spout_pending tx active
         TransactionStatus maybeCommit = _activeTx.get(_currTransaction);
-        if(maybeCommit!=null && maybeCommit.status == AttemptStatus.PROCESSED) {
-            maybeCommit.status = AttemptStatus.COMMITTING;
-            _collector.emit(COMMIT_STREAM_ID, new Values(maybeCommit.attempt), maybeCommit.attempt);
+        if(maybeCommit!=null && maybeCommit.status != AttemptStatus.PROCESSED) {
+            maybeCommit = null;
         }
         
+        List<TransactionAttempt> toEmit = new ArrayList<TransactionAttempt>();
         if(_active) {
             if(_activeTx.size() < _maxTransactionActive) {
                 Long curr = _currTransaction;
@@ -191,19 +203,51 @@ public class MasterBatchCoordinator extends BaseRichSpout {
                             attemptId++;
                         }
                         _attemptIds.put(curr, attemptId);
-                        for(TransactionalState state: _states) {
-                            state.setData(CURRENT_ATTEMPTS, _attemptIds);
-                        }
                         
                         TransactionAttempt attempt = new TransactionAttempt(curr, attemptId);
                         _activeTx.put(curr, new TransactionStatus(attempt));
-                        _collector.emit(BATCH_STREAM_ID, new Values(attempt), attempt);
+                        toEmit.add(attempt);
                         _throttler.markEvent();
                     }
                     curr = nextTransactionId(curr);
                 }
             }
         }
+
+        // the current txid has to be stored before the next commit goes out, or a restart could
+        // replay a committed batch. attempt ids have to be stored before their batches go out,
+        // so they never get reused
+        writeState(!toEmit.isEmpty());
+        if(maybeCommit!=null) {
+            long now = System.currentTimeMillis();
+            _latencies.scope("commit-wait").update(now - maybeCommit.phaseStartTime);
+            maybeCommit.status = AttemptStatus.COMMITTING;
+            maybeCommit.phaseStartTime = now;
+            _collector.emit(COMMIT_STREAM_ID, new Values(maybeCommit.attempt), maybeCommit.attempt);
+        }
+        for(TransactionAttempt attempt: toEmit) {
+            _collector.emit(BATCH_STREAM_ID, new Values(attempt), attempt);
+        }
+    }
+
+    // writes whatever changed in one multi-op per state rather than a write per change
+    private void writeState(boolean attemptsChanged) {
+        if(!_currTransactionChanged && !attemptsChanged) {
+            return;
+        }
+        Map<String, Object> data = new HashMap<String, Object>();
+        if(_currTransactionChanged) {
+            data.put(CURRENT_TX, _currTransaction);
+        }
+        if(attemptsChanged) {
+            data.put(CURRENT_ATTEMPTS, _attemptIds);
+        }
+        long start = System.currentTimeMillis();
+        for(TransactionalState state: _states) {
+            state.setData(data);
+        }
+        _latencies.scope("state-write").update(System.currentTimeMillis() - start);
+        _currTransactionChanged = false;
     }
     
     private boolean isReady(long txid) {
@@ -232,10 +276,12 @@ public class MasterBatchCoordinator extends BaseRichSpout {
     private static class TransactionStatus {
         TransactionAttempt attempt;
         AttemptStatus status;
+        long phaseStartTime;
         
         public TransactionStatus(TransactionAttempt attempt) {
             this.attempt = attempt;
             this.status = AttemptStatus.PROCESSING;
+            this.phaseStartTime = System.currentTimeMillis();
         }
 
         @Override
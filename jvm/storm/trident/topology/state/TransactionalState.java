@@ -25,12 +25,16 @@ import backtype.storm.utils.ZookeeperAuthInfo;
 import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.api.ProtectACLCreateModePathAndBytesable;
 import org.apache.curator.framework.api.PathAndBytesable;
+import org.apache.curator.framework.api.transaction.CuratorTransaction;
+import org.apache.curator.framework.api.transaction.CuratorTransactionFinal;
 
 import java.io.UnsupportedEncodingException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import org.apache.zookeeper.CreateMode;
 import org.apache.zookeeper.KeeperException;
 import org.apache.zookeeper.ZooDefs;
@@ -41,6 +45,8 @@ import org.json.simple.JSONValue;
 public class TransactionalState {
     CuratorFramework _curator;
     List<ACL> _zkAcls = null;
+    // nodes known to exist, they can be written without checking first
+    Set<String> _existing = new HashSet<String>();
     
     public static TransactionalState newUserState(Map conf, String id) {
         return new TransactionalState(conf, id, "user");
@@ -102,12 +108,7 @@ public class TransactionalState {
 
     public void setData(String path, Object obj) {
         path = "/" + path;
-        byte[] ser;
-        try {
-            ser = JSONValue.toJSONString(obj).getBytes("UTF-8");
-        } catch (UnsupportedEncodingException e) {
-            throw new RuntimeException(e);
-        }
+        byte[] ser = serialize(obj);
         try {
             if(_curator.checkExists().forPath(path)!=null) {
                 _curator.setData().forPath(path, ser);
@@ -120,8 +121,40 @@ public class TransactionalState {
         }        
     }
     
+    /**
+     * Writes several nodes in a single ZooKeeper multi-op, so they take one round trip
+     * and change together. Nodes that don't exist yet are created on their own first.
+     */
+    public void setData(Map<String, Object> data) {
+        try {
+            CuratorTransaction tx = _curator.inTransaction();
+            CuratorTransactionFinal ops = null;
+            for(Map.Entry<String, Object> e: data.entrySet()) {
+                String path = "/" + e.getKey();
+                if(!_existing.contains(path)) {
+                    setData(e.getKey(), e.getValue());
+                    _existing.add(path);
+                } else {
+                    ops = (ops == null ? tx : ops).setData().forPath(path, serialize(e.getValue())).and();
+                }
+            }
+            if(ops != null) {
+                ops.commit();
+            }
+        } catch(KeeperException.NoNodeException e) {
+            // deleted behind our back, write them one by one so they get created again
+            _existing.clear();
+            for(Map.Entry<String, Object> entry: data.entrySet()) {
+                setData(entry.getKey(), entry.getValue());
+            }
+        } catch(Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     public void delete(String path) {
         path = "/" + path;
+        _existing.remove(path);
         try {
             _curator.delete().forPath(path);
         } catch (Exception e) {
@@ -163,6 +196,14 @@ public class TransactionalState {
         _curator.close();
     }
     
+    private static byte[] serialize(Object obj) {
+        try {
+            return JSONValue.toJSONString(obj).getBytes("UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     private Object getWithBackup(Map amap, Object primary, Object backup) {
         Object ret = amap.get(primary);
         if(ret==null) return amap.get(backup);
@@ -0,0 +1,352 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package storm.trident.util;
+
+import backtype.storm.utils.Time;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A cache bounded by the total weight of its entries, with a W-TinyLFU policy.
+ *
+ * New entries go to a small LRU window. When the window overflows, its least
+ * recently used entry only makes it into the main cache if it has been asked
+ * for more often than the entry it would push out, as estimated by a count-min
+ * sketch of recent accesses. The main cache is a segmented LRU, so entries hit
+ * at least twice are protected from a burst of one-off keys. This holds a much
+ * better hit ratio than plain LRU on skewed keys and on scans.
+ *
+ * Every access reorders the policy, so all operations take the cache's lock.
+ */
+public class TinyLFUCache<K, V> {
+    public interface Weigher<K, V> {
+        int weigh(K key, V value);
+    }
+
+    private static final int WINDOW = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+    // the order in which queues give up entries when the cache is over its weight
+    private static final int[] EVICTION_ORDER = {PROBATION, PROTECTED, WINDOW};
+
+    private static class Node<K, V> {
+        K key;
+        V value;
+        int weight;
+        long writeTime;
+        int queue;
+        Node<K, V> prev;
+        Node<K, V> next;
+    }
+
+    private final Map<K, Node<K, V>> _data = new HashMap<K, Node<K, V>>();
+    // circular lists with a sentinel each, least recently used first
+    @SuppressWarnings("unchecked")
+    private final Node<K, V>[] _queues = new Node[3];
+    private final long[] _weights = new long[3];
+    private final long _maxWeight;
+    private final long _windowMax;
+    private final long _protectedMax;
+    private final Weigher<K, V> _weigher;
+    private final long _expireAfterWriteMs;
+    private final FrequencySketch _sketch = new FrequencySketch();
+
+    private long _hits = 0;
+    private long _misses = 0;
+    private long _evictions = 0;
+    private long _expirations = 0;
+
+    /**
+     * @param weigher null to give every entry a weight of 1
+     * @param expireAfterWriteMs 0 to never expire entries
+     */
+    public TinyLFUCache(long maxWeight, Weigher<K, V> weigher, long expireAfterWriteMs) {
+        if(maxWeight <= 0) {
+            throw new IllegalArgumentException("Cache weight must be positive: " + maxWeight);
+        }
+        _maxWeight = maxWeight;
+        _windowMax = Math.max(1, maxWeight / 100);
+        _protectedMax = (maxWeight - _windowMax) * 8 / 10;
+        _weigher = weigher;
+        _expireAfterWriteMs = expireAfterWriteMs;
+        for(int i=0; i<_queues.length; i++) {
+            Node<K, V> sentinel = new Node<K, V>();
+            sentinel.prev = sentinel;
+            sentinel.next = sentinel;
+            _queues[i] = sentinel;
+        }
+    }
+
+    public TinyLFUCache(int maxSize) {
+        this(maxSize, null, 0);
+    }
+
+    public synchronized boolean containsKey(K key) {
+        Node<K, V> node = _data.get(key);
+        return node != null && !isExpired(node);
+    }
+
+    /**
+     * Returns null when the key is not cached, use containsKey to tell that
+     * apart from a cached null value.
+     */
+    public synchronized V get(K key) {
+        _sketch.increment(key);
+        Node<K, V> node = _data.get(key);
+        if(node != null && isExpired(node)) {
+            remove(node);
+            _expirations++;
+            node = null;
+        }
+        if(node == null) {
+            _misses++;
+            return null;
+        }
+        _hits++;
+        onAccess(node);
+        return node.value;
+    }
+
+    public synchronized void put(K key, V value) {
+        int weight = _weigher == null ? 1 : _weigher.weigh(key, value);
+        long now = _expireAfterWriteMs > 0 ? Time.currentTimeMillis() : 0;
+        Node<K, V> node = _data.get(key);
+        if(node == null) {
+            _sketch.increment(key);
+            _sketch.ensureCapacity(_data.size() + 1);
+            node = new Node<K, V>();
+            node.key = key;
+            node.value = value;
+            node.weight = weight;
+            node.writeTime = now;
+            _data.put(key, node);
+            link(node, WINDOW);
+        } else {
+            _weights[node.queue] += weight - node.weight;
+            node.value = value;
+            node.weight = weight;
+            node.writeTime = now;
+            onAccess(node);
+        }
+        evict();
+    }
+
+    public synchronized void remove(K key) {
+        Node<K, V> node = _data.get(key);
+        if(node != null) {
+            remove(node);
+        }
+    }
+
+    public synchronized int size() {
+        return _data.size();
+    }
+
+    public synchronized long weightedSize() {
+        return _weights[WINDOW] + _weights[PROBATION] + _weights[PROTECTED];
+    }
+
+    public synchronized long hitCount() {
+        return _hits;
+    }
+
+    public synchronized long missCount() {
+        return _misses;
+    }
+
+    public synchronized long evictionCount() {
+        return _evictions;
+    }
+
+    public synchronized long expirationCount() {
+        return _expirations;
+    }
+
+    private boolean isExpired(Node<K, V> node) {
+        return _expireAfterWriteMs > 0 && Time.currentTimeMillis() - node.writeTime >= _expireAfterWriteMs;
+    }
+
+    private void onAccess(Node<K, V> node) {
+        if(node.queue == PROBATION) {
+            unlink(node);
+            link(node, PROTECTED);
+            // make room by demoting the coldest protected entries back to probation
+            while(_weights[PROTECTED] > _protectedMax) {
+                Node<K, V> demoted = _queues[PROTECTED].next;
+                unlink(demoted);
+                link(demoted, PROBATION);
+            }
+        } else {
+            unlink(node);
+            link(node, node.queue);
+        }
+    }
+
+    private void evict() {
+        while(_weights[WINDOW] > _windowMax) {
+            Node<K, V> candidate = _queues[WINDOW].next;
+            unlink(candidate);
+            admit(candidate);
+        }
+        // updates can grow entries that are already in the main cache
+        while(weightedSize() > _maxWeight) {
+            Node<K, V> victim = coldest();
+            if(victim == null) {
+                break;
+            }
+            unlink(victim);
+            evicted(victim);
+        }
+    }
+
+    // moves an entry that left the window into probation, if it is hotter than what it displaces
+    private void admit(Node<K, V> candidate) {
+        long mainMax = _maxWeight - _windowMax;
+        int candidateFreq = _sketch.frequency(candidate.key);
+        while(_weights[PROBATION] + _weights[PROTECTED] + candidate.weight > mainMax) {
+            Node<K, V> victim = _queues[PROBATION].next;
+            if(victim == _queues[PROBATION]) {
+                victim = _queues[PROTECTED].next;
+                if(victim == _queues[PROTECTED]) {
+                    // heavier than the whole main cache
+                    evicted(candidate);
+                    return;
+                }
+            }
+            if(candidateFreq > _sketch.frequency(victim.key)) {
+                unlink(victim);
+                evicted(victim);
+            } else {
+                evicted(candidate);
+                return;
+            }
+        }
+        link(candidate, PROBATION);
+    }
+
+    private Node<K, V> coldest() {
+        for(int q: EVICTION_ORDER) {
+            if(_queues[q].next != _queues[q]) {
+                return _queues[q].next;
+            }
+        }
+        return null;
+    }
+
+    private void remove(Node<K, V> node) {
+        unlink(node);
+        _data.remove(node.key);
+    }
+
+    private void evicted(Node<K, V> node) {
+        _data.remove(node.key);
+        _evictions++;
+    }
+
+    private void link(Node<K, V> node, int queue) {
+        Node<K, V> sentinel = _queues[queue];
+        node.queue = queue;
+        node.prev = sentinel.prev;
+        node.next = sentinel;
+        sentinel.prev.next = node;
+        sentinel.prev = node;
+        _weights[queue] += node.weight;
+    }
+
+    private void unlink(Node<K, V> node) {
+        node.prev.next = node.next;
+        node.next.prev = node.prev;
+        node.prev = null;
+        node.next = null;
+        _weights[node.queue] -= node.weight;
+    }
+
+    /**
+     * A count-min sketch of 4 bit counters, 16 to a long, that halves all of
+     * them every 10 increments per slot so it follows recent popularity.
+     */
+    static class FrequencySketch {
+        private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+        private static final long RESET_MASK = 0x7777777777777777L;
+        private static final int MAX_TABLE_SIZE = 1 << 22;
+
+        private long[] _table = new long[16];
+        private int _size = 0;
+
+        void ensureCapacity(int entries) {
+            if(entries <= _table.length || _table.length >= MAX_TABLE_SIZE) {
+                return;
+            }
+            int length = _table.length;
+            while(length < entries && length < MAX_TABLE_SIZE) {
+                length <<= 1;
+            }
+            _table = new long[length];
+            _size = 0;
+        }
+
+        int frequency(Object key) {
+            int hash = spread(key.hashCode());
+            int start = (hash & 3) << 2;
+            int freq = Integer.MAX_VALUE;
+            for(int i=0; i<4; i++) {
+                int index = indexOf(hash, i);
+                int count = (int) ((_table[index] >>> ((start + i) << 2)) & 0xfL);
+                freq = Math.min(freq, count);
+            }
+            return freq;
+        }
+
+        void increment(Object key) {
+            int hash = spread(key.hashCode());
+            int start = (hash & 3) << 2;
+            boolean added = false;
+            for(int i=0; i<4; i++) {
+                int index = indexOf(hash, i);
+                long mask = 0xfL << ((start + i) << 2);
+                if((_table[index] & mask) != mask) {
+                    _table[index] += 1L << ((start + i) << 2);
+                    added = true;
+                }
+            }
+            if(added && ++_size >= _table.length * 10) {
+                reset();
+            }
+        }
+
+        private void reset() {
+            for(int i=0; i<_table.length; i++) {
+                _table[i] = (_table[i] >>> 1) & RESET_MASK;
+            }
+            _size /= 2;
+        }
+
+        private int indexOf(int hash, int i) {
+            long h = (hash + SEEDS[i]) * SEEDS[i];
+            h += h >>> 32;
+            return ((int) h) & (_table.length - 1);
+        }
+
+        private static int spread(int x) {
+            x = ((x >>> 16) ^ x) * 0x45d9f3b;
+            x = ((x >>> 16) ^ x) * 0x45d9f3b;
+            return (x >>> 16) ^ x;
+        }
+    }
+}
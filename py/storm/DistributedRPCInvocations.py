@@ -51,6 +51,15 @@ class Iface:
     """
     pass
 
+  def fetchRequests(self, functionName, maxCount, waitMs):
+    """
+    Parameters:
+     - functionName
+     - maxCount
+     - waitMs
+    """
+    pass
+
   def failRequest(self, id):
     """
     Parameters:
@@ -132,6 +141,43 @@ class Client(Iface):
       raise result.aze
     raise TApplicationException(TApplicationException.MISSING_RESULT, "fetchRequest failed: unknown result");
 
+  def fetchRequests(self, functionName, maxCount, waitMs):
+    """
+    Parameters:
+     - functionName
+     - maxCount
+     - waitMs
+    """
+    self.send_fetchRequests(functionName, maxCount, waitMs)
+    return self.recv_fetchRequests()
+
+  def send_fetchRequests(self, functionName, maxCount, waitMs):
+    self._oprot.writeMessageBegin('fetchRequests', TMessageType.CALL, self._seqid)
+    args = fetchRequests_args()
+    args.functionName = functionName
+    args.maxCount = maxCount
+    args.waitMs = waitMs
+    args.write(self._oprot)
+    self._oprot.writeMessageEnd()
+    self._oprot.trans.flush()
+
+  def recv_fetchRequests(self):
+    iprot = self._iprot
+    (fname, mtype, rseqid) = iprot.readMessageBegin()
+    if mtype == TMessageType.EXCEPTION:
+      x = TApplicationException()
+      x.read(iprot)
+      iprot.readMessageEnd()
+      raise x
+    result = fetchRequests_result()
+    result.read(iprot)
+    iprot.readMessageEnd()
+    if result.success is not None:
+      return result.success
+    if result.aze is not None:
+      raise result.aze
+    raise TApplicationException(TApplicationException.MISSING_RESULT, "fetchRequests failed: unknown result");
+
   def failRequest(self, id):
     """
     Parameters:
@@ -170,6 +216,7 @@ class Processor(Iface, TProcessor):
     self._processMap = {}
     self._processMap["result"] = Processor.process_result
     self._processMap["fetchRequest"] = Processor.process_fetchRequest
+    self._processMap["fetchRequests"] = Processor.process_fetchRequests
     self._processMap["failRequest"] = Processor.process_failRequest
 
   def process(self, iprot, oprot):
@@ -215,6 +262,20 @@ class Processor(Iface, TProcessor):
     oprot.writeMessageEnd()
     oprot.trans.flush()
 
+  def process_fetchRequests(self, seqid, iprot, oprot):
+    args = fetchRequests_args()
+    args.read(iprot)
+    iprot.readMessageEnd()
+    result = fetchRequests_result()
+    try:
+      result.success = self._handler.fetchRequests(args.functionName, args.maxCount, args.waitMs)
+    except AuthorizationException, aze:
+      result.aze = aze
+    oprot.writeMessageBegin("fetchRequests", TMessageType.REPLY, seqid)
+    result.write(oprot)
+    oprot.writeMessageEnd()
+    oprot.trans.flush()
+
   def process_failRequest(self, seqid, iprot, oprot):
     args = failRequest_args()
     args.read(iprot)
@@ -520,6 +581,184 @@ class fetchRequest_result:
   def __ne__(self, other):
     return not (self == other)
 
+class fetchRequests_args:
+  """
+  Attributes:
+   - functionName
+   - maxCount
+   - waitMs
+  """
+
+  thrift_spec = (
+    None, # 0
+    (1, TType.STRING, 'functionName', None, None, ), # 1
+    (2, TType.I32, 'maxCount', None, None, ), # 2
+    (3, TType.I32, 'waitMs', None, None, ), # 3
+  )
+
+  def __init__(self, functionName=None, maxCount=None, waitMs=None,):
+    self.functionName = functionName
+    self.maxCount = maxCount
+    self.waitMs = waitMs
+
+  def read(self, iprot):
+    if iprot.__class__ == TBinaryProtocol.TBinaryProtocolAccelerated and isinstance(iprot.trans, TTransport.CReadableTransport) and self.thrift_spec is not None and fastbinary is not None:
+      fastbinary.decode_binary(self, iprot.trans, (self.__class__, self.thrift_spec))
+      return
+    iprot.readStructBegin()
+    while True:
+      (fname, ftype, fid) = iprot.readFieldBegin()
+      if ftype == TType.STOP:
+        break
+      if fid == 1:
+        if ftype == TType.STRING:
+          self.functionName = iprot.readString().decode('utf-8')
+        else:
+          iprot.skip(ftype)
+      elif fid == 2:
+        if ftype == TType.I32:
+          self.maxCount = iprot.readI32();
+        else:
+          iprot.skip(ftype)
+      elif fid == 3:
+        if ftype == TType.I32:
+          self.waitMs = iprot.readI32();
+        else:
+          iprot.skip(ftype)
+      else:
+        iprot.skip(ftype)
+      iprot.readFieldEnd()
+    iprot.readStructEnd()
+
+  def write(self, oprot):
+    if oprot.__class__ == TBinaryProtocol.TBinaryProtocolAccelerated and self.thrift_spec is not None and fastbinary is not None:
+      oprot.trans.write(fastbinary.encode_binary(self, (self.__class__, self.thrift_spec)))
+      return
+    oprot.writeStructBegin('fetchRequests_args')
+    if self.functionName is not None:
+      oprot.writeFieldBegin('functionName', TType.STRING, 1)
+      oprot.writeString(self.functionName.encode('utf-8'))
+      oprot.writeFieldEnd()
+    if self.maxCount is not None:
+      oprot.writeFieldBegin('maxCount', TType.I32, 2)
+      oprot.writeI32(self.maxCount)
+      oprot.writeFieldEnd()
+    if self.waitMs is not None:
+      oprot.writeFieldBegin('waitMs', TType.I32, 3)
+      oprot.writeI32(self.waitMs)
+      oprot.writeFieldEnd()
+    oprot.writeFieldStop()
+    oprot.writeStructEnd()
+
+  def validate(self):
+    return
+
+
+  def __hash__(self):
+    value = 17
+    value = (value * 31) ^ hash(self.functionName)
+    value = (value * 31) ^ hash(self.maxCount)
+    value = (value * 31) ^ hash(self.waitMs)
+    return value
+
+  def __repr__(self):
+    L = ['%s=%r' % (key, value)
+      for key, value in self.__dict__.iteritems()]
+    return '%s(%s)' % (self.__class__.__name__, ', '.join(L))
+
+  def __eq__(self, other):
+    return isinstance(other, self.__class__) and self.__dict__ == other.__dict__
+
+  def __ne__(self, other):
+    return not (self == other)
+
+class fetchRequests_result:
+  """
+  Attributes:
+   - success
+   - aze
+  """
+
+  thrift_spec = (
+    (0, TType.LIST, 'success', (TType.STRUCT,(DRPCRequest, DRPCRequest.thrift_spec)), None, ), # 0
+    (1, TType.STRUCT, 'aze', (AuthorizationException, AuthorizationException.thrift_spec), None, ), # 1
+  )
+
+  def __init__(self, success=None, aze=None,):
+    self.success = success
+    self.aze = aze
+
+  def read(self, iprot):
+    if iprot.__class__ == TBinaryProtocol.TBinaryProtocolAccelerated and isinstance(iprot.trans, TTransport.CReadableTransport) and self.thrift_spec is not None and fastbinary is not None:
+      fastbinary.decode_binary(self, iprot.trans, (self.__class__, self.thrift_spec))
+      return
+    iprot.readStructBegin()
+    while True:
+      (fname, ftype, fid) = iprot.readFieldBegin()
+      if ftype == TType.STOP:
+        break
+      if fid == 0:
+        if ftype == TType.LIST:
+          self.success = []
+          (_etype443, _size440) = iprot.readListBegin()
+          for _i444 in xrange(_size440):
+            _elem445 = DRPCRequest()
+            _elem445.read(iprot)
+            self.success.append(_elem445)
+          iprot.readListEnd()
+        else:
+          iprot.skip(ftype)
+      elif fid == 1:
+        if ftype == TType.STRUCT:
+          self.aze = AuthorizationException()
+          self.aze.read(iprot)
+        else:
+          iprot.skip(ftype)
+      else:
+        iprot.skip(ftype)
+      iprot.readFieldEnd()
+    iprot.readStructEnd()
+
+  def write(self, oprot):
+    if oprot.__class__ == TBinaryProtocol.TBinaryProtocolAccelerated and self.thrift_spec is not None and fastbinary is not None:
+      oprot.trans.write(fastbinary.encode_binary(self, (self.__class__, self.thrift_spec)))
+      return
+    oprot.writeStructBegin('fetchRequests_result')
+    if self.success is not None:
+      oprot.writeFieldBegin('success', TType.LIST, 0)
+      oprot.writeListBegin(TType.STRUCT, len(self.success))
+      for iter446 in self.success:
+        iter446.write(oprot)
+      oprot.writeListEnd()
+      oprot.writeFieldEnd()
+    if self.aze is not None:
+      oprot.writeFieldBegin('aze', TType.STRUCT, 1)
+      self.aze.write(oprot)
+      oprot.writeFieldEnd()
+    oprot.writeFieldStop()
+    oprot.writeStructEnd()
+
+  def validate(self):
+    return
+
+
+  def __hash__(self):
+    value = 17
+    value = (value * 31) ^ hash(self.success)
+    value = (value * 31) ^ hash(self.aze)
+    return value
+
+  def __repr__(self):
+    L = ['%s=%r' % (key, value)
+      for key, value in self.__dict__.iteritems()]
+    return '%s(%s)' % (self.__class__.__name__, ', '.join(L))
+
+  def __eq__(self, other):
+    return isinstance(other, self.__class__) and self.__dict__ == other.__dict__
+
+  def __ne__(self, other):
+    return not (self == other)
+
 class failRequest_args:
   """
   Attributes:
@@ -180,6 +180,25 @@ class Iface:
     """
     pass
 
+  def workerHeartbeat(self, stormId, node, port, heartbeat):
+    """
+    Parameters:
+     - stormId
+     - node
+     - port
+     - heartbeat
+    """
+    pass
+
+  def removeWorkerHeartbeat(self, stormId, node, port):
+    """
+    Parameters:
+     - stormId
+     - node
+     - port
+    """
+    pass
+
 
 class Client(Iface):
   def __init__(self, iprot, oprot=None):
@@ -875,6 +894,78 @@ class Client(Iface):
       raise result.aze
     raise TApplicationException(TApplicationException.MISSING_RESULT, "getUserTopology failed: unknown result");
 
+  def workerHeartbeat(self, stormId, node, port, heartbeat):
+    """
+    Parameters:
+     - stormId
+     - node
+     - port
+     - heartbeat
+    """
+    self.send_workerHeartbeat(stormId, node, port, heartbeat)
+    self.recv_workerHeartbeat()
+
+  def send_workerHeartbeat(self, stormId, node, port, heartbeat):
+    self._oprot.writeMessageBegin('workerHeartbeat', TMessageType.CALL, self._seqid)
+    args = workerHeartbeat_args()
+    args.stormId = stormId
+    args.node = node
+    args.port = port
+    args.heartbeat = heartbeat
+    args.write(self._oprot)
+    self._oprot.writeMessageEnd()
+    self._oprot.trans.flush()
+
+  def recv_workerHeartbeat(self):
+    iprot = self._iprot
+    (fname, mtype, rseqid) = iprot.readMessageBegin()
+    if mtype == TMessageType.EXCEPTION:
+      x = TApplicationException()
+      x.read(iprot)
+      iprot.readMessageEnd()
+      raise x
+    result = workerHeartbeat_result()
+    result.read(iprot)
+    iprot.readMessageEnd()
+    if result.aze is not None:
+      raise result.aze
+    return
+
+  def removeWorkerHeartbeat(self, stormId, node, port):
+    """
+    Parameters:
+     - stormId
+     - node
+     - port
+    """
+    self.send_removeWorkerHeartbeat(stormId, node, port)
+    self.recv_removeWorkerHeartbeat()
+
+  def send_removeWorkerHeartbeat(self, stormId, node, port):
+    self._oprot.writeMessageBegin('removeWorkerHeartbeat', TMessageType.CALL, self._seqid)
+    args = removeWorkerHeartbeat_args()
+    args.stormId = stormId
+    args.node = node
+    args.port = port
+    args.write(self._oprot)
+    self._oprot.writeMessageEnd()
+    self._oprot.trans.flush()
+
+  def recv_removeWorkerHeartbeat(self):
+    iprot = self._iprot
+    (fname, mtype, rseqid) = iprot.readMessageBegin()
+    if mtype == TMessageType.EXCEPTION:
+      x = TApplicationException()
+      x.read(iprot)
+      iprot.readMessageEnd()
+      raise x
+    result = removeWorkerHeartbeat_result()
+    result.read(iprot)
+    iprot.readMessageEnd()
+    if result.aze is not None:
+      raise result.aze
+    return
+
 
 class Processor(Iface, TProcessor):
   def __init__(self, handler):
@@ -900,6 +991,8 @@ class Processor(Iface, TProcessor):
     self._processMap["getTopologyConf"] = Processor.process_getTopologyConf
     self._processMap["getTopology"] = Processor.process_getTopology
     self._processMap["getUserTopology"] = Processor.process_getUserTopology
+    self._processMap["workerHeartbeat"] = Processor.process_workerHeartbeat
+    self._processMap["removeWorkerHeartbeat"] = Processor.process_removeWorkerHeartbeat
 
   def process(self, iprot, oprot):
     (name, type, seqid) = iprot.readMessageBegin()
@@ -1230,6 +1323,34 @@ class Processor(Iface, TProcessor):
     oprot.writeMessageEnd()
     oprot.trans.flush()
 
+  def process_workerHeartbeat(self, seqid, iprot, oprot):
+    args = workerHeartbeat_args()
+    args.read(iprot)
+    iprot.readMessageEnd()
+    result = workerHeartbeat_result()
+    try:
+      self._handler.workerHeartbeat(args.stormId, args.node, args.port, args.heartbeat)
+    except AuthorizationException, aze:
+      result.aze = aze
+    oprot.writeMessageBegin("workerHeartbeat", TMessageType.REPLY, seqid)
+    result.write(oprot)
+    oprot.writeMessageEnd()
+    oprot.trans.flush()
+
+  def process_removeWorkerHeartbeat(self, seqid, iprot, oprot):
+    args = removeWorkerHeartbeat_args()
+    args.read(iprot)
+    iprot.readMessageEnd()
+    result = removeWorkerHeartbeat_result()
+    try:
+      self._handler.removeWorkerHeartbeat(args.stormId, args.node, args.port)
+    except AuthorizationException, aze:
+      result.aze = aze
+    oprot.writeMessageBegin("removeWorkerHeartbeat", TMessageType.REPLY, seqid)
+    result.write(oprot)
+    oprot.writeMessageEnd()
+    oprot.trans.flush()
+
 
 # HELPER FUNCTIONS AND STRUCTURES
 
@@ -4321,3 +4442,330 @@ class getUserTopology_result:
 
   def __ne__(self, other):
     return not (self == other)
+
+class workerHeartbeat_args:
+  """
+  Attributes:
+   - stormId
+   - node
+   - port
+   - heartbeat
+  """
+
+  thrift_spec = (
+    None, # 0
+    (1, TType.STRING, 'stormId', None, None, ), # 1
+    (2, TType.STRING, 'node', None, None, ), # 2
+    (3, TType.I32, 'port', None, None, ), # 3
+    (4, TType.STRING, 'heartbeat', None, None, ), # 4
+  )
+
+  def __init__(self, stormId=None, node=None, port=None, heartbeat=None,):
+    self.stormId = stormId
+    self.node = node
+    self.port = port
+    self.heartbeat = heartbeat
+
+  def read(self, iprot):
+    if iprot.__class__ == TBinaryProtocol.TBinaryProtocolAccelerated and isinstance(iprot.trans, TTransport.CReadableTransport) and self.thrift_spec is not None and fastbinary is not None:
+      fastbinary.decode_binary(self, iprot.trans, (self.__class__, self.thrift_spec))
+      return
+    iprot.readStructBegin()
+    while True:
+      (fname, ftype, fid) = iprot.readFieldBegin()
+      if ftype == TType.STOP:
+        break
+      if fid == 1:
+        if ftype == TType.STRING:
+          self.stormId = iprot.readString().decode('utf-8')
+        else:
+          iprot.skip(ftype)
+      elif fid == 2:
+        if ftype == TType.STRING:
+          self.node = iprot.readString().decode('utf-8')
+        else:
+          iprot.skip(ftype)
+      elif fid == 3:
+        if ftype == TType.I32:
+          self.port = iprot.readI32();
+        else:
+          iprot.skip(ftype)
+      elif fid == 4:
+        if ftype == TType.STRING:
+          self.heartbeat = iprot.readString();
+        else:
+          iprot.skip(ftype)
+      else:
+        iprot.skip(ftype)
+      iprot.readFieldEnd()
+    iprot.readStructEnd()
+
+  def write(self, oprot):
+    if oprot.__class__ == TBinaryProtocol.TBinaryProtocolAccelerated and self.thrift_spec is not None and fastbinary is not None:
+      oprot.trans.write(fastbinary.encode_binary(self, (self.__class__, self.thrift_spec)))
+      return
+    oprot.writeStructBegin('workerHeartbeat_args')
+    if self.stormId is not None:
+      oprot.writeFieldBegin('stormId', TType.STRING, 1)
+      oprot.writeString(self.stormId.encode('utf-8'))
+      oprot.writeFieldEnd()
+    if self.node is not None:
+      oprot.writeFieldBegin('node', TType.STRING, 2)
+      oprot.writeString(self.node.encode('utf-8'))
+      oprot.writeFieldEnd()
+    if self.port is not None:
+      oprot.writeFieldBegin('port', TType.I32, 3)
+      oprot.writeI32(self.port)
+      oprot.writeFieldEnd()
+    if self.heartbeat is not None:
+      oprot.writeFieldBegin('heartbeat', TType.STRING, 4)
+      oprot.writeString(self.heartbeat)
+      oprot.writeFieldEnd()
+    oprot.writeFieldStop()
+    oprot.writeStructEnd()
+
+  def validate(self):
+    return
+
+
+  def __hash__(self):
+    value = 17
+    value = (value * 31) ^ hash(self.stormId)
+    value = (value * 31) ^ hash(self.node)
+    value = (value * 31) ^ hash(self.port)
+    value = (value * 31) ^ hash(self.heartbeat)
+    return value
+
+  def __repr__(self):
+    L = ['%s=%r' % (key, value)
+      for key, value in self.__dict__.iteritems()]
+    return '%s(%s)' % (self.__class__.__name__, ', '.join(L))
+
+  def __eq__(self, other):
+    return isinstance(other, self.__class__) and self.__dict__ == other.__dict__
+
+  def __ne__(self, other):
+    return not (self == other)
+
+class workerHeartbeat_result:
+  """
+  Attributes:
+   - aze
+  """
+
+  thrift_spec = (
+    None, # 0
+    (1, TType.STRUCT, 'aze', (AuthorizationException, AuthorizationException.thrift_spec), None, ), # 1
+  )
+
+  def __init__(self, aze=None,):
+    self.aze = aze
+
+  def read(self, iprot):
+    if iprot.__class__ == TBinaryProtocol.TBinaryProtocolAccelerated and isinstance(iprot.trans, TTransport.CReadableTransport) and self.thrift_spec is not None and fastbinary is not None:
+      fastbinary.decode_binary(self, iprot.trans, (self.__class__, self.thrift_spec))
+      return
+    iprot.readStructBegin()
+    while True:
+      (fname, ftype, fid) = iprot.readFieldBegin()
+      if ftype == TType.STOP:
+        break
+      if fid == 1:
+        if ftype == TType.STRUCT:
+          self.aze = AuthorizationException()
+          self.aze.read(iprot)
+        else:
+          iprot.skip(ftype)
+      else:
+        iprot.skip(ftype)
+      iprot.readFieldEnd()
+    iprot.readStructEnd()
+
+  def write(self, oprot):
+    if oprot.__class__ == TBinaryProtocol.TBinaryProtocolAccelerated and self.thrift_spec is not None and fastbinary is not None:
+      oprot.trans.write(fastbinary.encode_binary(self, (self.__class__, self.thrift_spec)))
+      return
+    oprot.writeStructBegin('workerHeartbeat_result')
+    if self.aze is not None:
+      oprot.writeFieldBegin('aze', TType.STRUCT, 1)
+      self.aze.write(oprot)
+      oprot.writeFieldEnd()
+    oprot.writeFieldStop()
+    oprot.writeStructEnd()
+
+  def validate(self):
+    return
+
+
+  def __hash__(self):
+    value = 17
+    value = (value * 31) ^ hash(self.aze)
+    return value
+
+  def __repr__(self):
+    L = ['%s=%r' % (key, value)
+      for key, value in self.__dict__.iteritems()]
+    return '%s(%s)' % (self.__class__.__name__, ', '.join(L))
+
+  def __eq__(self, other):
+    return isinstance(other, self.__class__) and self.__dict__ == other.__dict__
+
+  def __ne__(self, other):
+    return not (self == other)
+
+class removeWorkerHeartbeat_args:
+  """
+  Attributes:
+   - stormId
+   - node
+   - port
+  """
+
+  thrift_spec = (
+    None, # 0
+    (1, TType.STRING, 'stormId', None, None, ), # 1
+    (2, TType.STRING, 'node', None, None, ), # 2
+    (3, TType.I32, 'port', None, None, ), # 3
+  )
+
+  def __init__(self, stormId=None, node=None, port=None,):
+    self.stormId = stormId
+    self.node = node
+    self.port = port
+
+  def read(self, iprot):
+    if iprot.__class__ == TBinaryProtocol.TBinaryProtocolAccelerated and isinstance(iprot.trans, TTransport.CReadableTransport) and self.thrift_spec is not None and fastbinary is not None:
+      fastbinary.decode_binary(self, iprot.trans, (self.__class__, self.thrift_spec))
+      return
+    iprot.readStructBegin()
+    while True:
+      (fname, ftype, fid) = iprot.readFieldBegin()
+      if ftype == TType.STOP:
+        break
+      if fid == 1:
+        if ftype == TType.STRING:
+          self.stormId = iprot.readString().decode('utf-8')
+        else:
+          iprot.skip(ftype)
+      elif fid == 2:
+        if ftype == TType.STRING:
+          self.node = iprot.readString().decode('utf-8')
+        else:
+          iprot.skip(ftype)
+      elif fid == 3:
+        if ftype == TType.I32:
+          self.port = iprot.readI32();
+        else:
+          iprot.skip(ftype)
+      else:
+        iprot.skip(ftype)
+      iprot.readFieldEnd()
+    iprot.readStructEnd()
+
+  def write(self, oprot):
+    if oprot.__class__ == TBinaryProtocol.TBinaryProtocolAccelerated and self.thrift_spec is not None and fastbinary is not None:
+      oprot.trans.write(fastbinary.encode_binary(self, (self.__class__, self.thrift_spec)))
+      return
+    oprot.writeStructBegin('removeWorkerHeartbeat_args')
+    if self.stormId is not None:
+      oprot.writeFieldBegin('stormId', TType.STRING, 1)
+      oprot.writeString(self.stormId.encode('utf-8'))
+      oprot.writeFieldEnd()
+    if self.node is not None:
+      oprot.writeFieldBegin('node', TType.STRING, 2)
+      oprot.writeString(self.node.encode('utf-8'))
+      oprot.writeFieldEnd()
+    if self.port is not None:
+      oprot.writeFieldBegin('port', TType.I32, 3)
+      oprot.writeI32(self.port)
+      oprot.writeFieldEnd()
+    oprot.writeFieldStop()
+    oprot.writeStructEnd()
+
+  def validate(self):
+    return
+
+
+  def __hash__(self):
+    value = 17
+    value = (value * 31) ^ hash(self.stormId)
+    value = (value * 31) ^ hash(self.node)
+    value = (value * 31) ^ hash(self.port)
+    return value
+
+  def __repr__(self):
+    L = ['%s=%r' % (key, value)
+      for key, value in self.__dict__.iteritems()]
+    return '%s(%s)' % (self.__class__.__name__, ', '.join(L))
+
+  def __eq__(self, other):
+    return isinstance(other, self.__class__) and self.__dict__ == other.__dict__
+
+  def __ne__(self, other):
+    return not (self == other)
+
+class removeWorkerHeartbeat_result:
+  """
+  Attributes:
+   - aze
+  """
+
+  thrift_spec = (
+    None, # 0
+    (1, TType.STRUCT, 'aze', (AuthorizationException, AuthorizationException.thrift_spec), None, ), # 1
+  )
+
+  def __init__(self, aze=None,):
+    self.aze = aze
+
+  def read(self, iprot):
+    if iprot.__class__ == TBinaryProtocol.TBinaryProtocolAccelerated and isinstance(iprot.trans, TTransport.CReadableTransport) and self.thrift_spec is not None and fastbinary is not None:
+      fastbinary.decode_binary(self, iprot.trans, (self.__class__, self.thrift_spec))
+      return
+    iprot.readStructBegin()
+    while True:
+      (fname, ftype, fid) = iprot.readFieldBegin()
+      if ftype == TType.STOP:
+        break
+      if fid == 1:
+        if ftype == TType.STRUCT:
+          self.aze = AuthorizationException()
+          self.aze.read(iprot)
+        else:
+          iprot.skip(ftype)
+      else:
+        iprot.skip(ftype)
+      iprot.readFieldEnd()
+    iprot.readStructEnd()
+
+  def write(self, oprot):
+    if oprot.__class__ == TBinaryProtocol.TBinaryProtocolAccelerated and self.thrift_spec is not None and fastbinary is not None:
+      oprot.trans.write(fastbinary.encode_binary(self, (self.__class__, self.thrift_spec)))
+      return
+    oprot.writeStructBegin('removeWorkerHeartbeat_result')
+    if self.aze is not None:
+      oprot.writeFieldBegin('aze', TType.STRUCT, 1)
+      self.aze.write(oprot)
+      oprot.writeFieldEnd()
+    oprot.writeFieldStop()
+    oprot.writeStructEnd()
+
+  def validate(self):
+    return
+
+
+  def __hash__(self):
+    value = 17
+    value = (value * 31) ^ hash(self.aze)
+    return value
+
+  def __repr__(self):
+    L = ['%s=%r' % (key, value)
+      for key, value in self.__dict__.iteritems()]
+    return '%s(%s)' % (self.__class__.__name__, ', '.join(L))
+
+  def __eq__(self, other):
+    return isinstance(other, self.__class__) and self.__dict__ == other.__dict__
+
+  def __ne__(self, other):
+    return not (self == other)
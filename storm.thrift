@@ -160,6 +160,10 @@ struct ClusterSummary {
   1: required list<SupervisorSummary> supervisors;
   2: required i32 nimbus_uptime_secs;
   3: required list<TopologySummary> topologies;
+  // how long each phase of the last scheduling round took, "total" is the whole round
+  4: optional map<string, i64> scheduling_phase_ms;
+  5: optional i64 full_scheduling_rounds;
+  6: optional i64 skipped_scheduling_rounds;
 }
 
 struct ErrorInfo {
@@ -377,6 +381,10 @@ service Nimbus {
    * Returns the user specified topology as submitted originally. Compare {@link #getTopology(String id)}.
    */
   StormTopology getUserTopology(1: string id) throws (1: NotAliveException e, 2: AuthorizationException aze);
+
+  // worker heartbeats, only accepted when Nimbus keeps them in memory with the NimbusHeartbeatStore
+  void workerHeartbeat(1: string stormId, 2: string node, 3: i32 port, 4: binary heartbeat) throws (1: AuthorizationException aze);
+  void removeWorkerHeartbeat(1: string stormId, 2: string node, 3: i32 port) throws (1: AuthorizationException aze);
 }
 
 struct DRPCRequest {
@@ -395,5 +403,6 @@ service DistributedRPC {
 service DistributedRPCInvocations {
   void result(1: string id, 2: string result) throws (1: AuthorizationException aze);
   DRPCRequest fetchRequest(1: string functionName) throws (1: AuthorizationException aze);
+  list<DRPCRequest> fetchRequests(1: string functionName, 2: i32 maxCount, 3: i32 waitMs) throws (1: AuthorizationException aze);
   void failRequest(1: string id) throws (1: AuthorizationException aze);  
 }
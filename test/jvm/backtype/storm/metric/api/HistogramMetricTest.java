@@ -0,0 +1,109 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package backtype.storm.metric.api;
+
+import java.util.Map;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class HistogramMetricTest {
+    @SuppressWarnings("unchecked")
+    private static Map<String, Long> report(HistogramMetric histogram) {
+        return (Map<String, Long>) histogram.getValueAndReset();
+    }
+
+    private static void assertWithinPrecision(long expected, long actual) {
+        assertTrue("expected about " + expected + " but was " + actual,
+                actual >= expected && actual <= expected + expected / 32);
+    }
+
+    @Test
+    public void testBucketsCoverEveryValue() {
+        for(long v=0; v<1000000; v+=7) {
+            long highest = HistogramMetric.highestEquivalentValue(HistogramMetric.index(v));
+            assertWithinPrecision(v, highest);
+            assertEquals(HistogramMetric.index(v), HistogramMetric.index(highest));
+        }
+    }
+
+    @Test
+    public void testPercentiles() {
+        HistogramMetric histogram = new HistogramMetric();
+        for(long v=1; v<=10000; v++) {
+            histogram.update(v);
+        }
+        Map<String, Long> report = report(histogram);
+        assertEquals(Long.valueOf(10000), report.get("count"));
+        assertEquals(Long.valueOf(10000), report.get("max"));
+        assertWithinPrecision(5000, report.get("p50"));
+        assertWithinPrecision(9900, report.get("p99"));
+        assertWithinPrecision(9990, report.get("p999"));
+    }
+
+    @Test
+    public void testSmallValuesAreExact() {
+        HistogramMetric histogram = new HistogramMetric();
+        for(int i=0; i<99; i++) {
+            histogram.update(5);
+        }
+        histogram.update(40);
+        Map<String, Long> report = report(histogram);
+        assertEquals(Long.valueOf(5), report.get("p50"));
+        assertEquals(Long.valueOf(5), report.get("p99"));
+        assertEquals(Long.valueOf(40), report.get("p999"));
+        assertEquals(Long.valueOf(40), report.get("max"));
+    }
+
+    @Test
+    public void testValuesAboveTheRangeKeepTheirMax() {
+        HistogramMetric histogram = new HistogramMetric(1000);
+        histogram.update(-3);
+        histogram.update(50000);
+        Map<String, Long> report = report(histogram);
+        assertEquals(Long.valueOf(0), report.get("p50"));
+        assertWithinPrecision(1000, report.get("p999"));
+        assertEquals(Long.valueOf(50000), report.get("max"));
+    }
+
+    @Test
+    public void testResetsAfterReport() {
+        HistogramMetric histogram = new HistogramMetric();
+        assertNull(histogram.getValueAndReset());
+        histogram.update(100);
+        report(histogram);
+        assertNull(histogram.getValueAndReset());
+        histogram.update(7);
+        assertEquals(Long.valueOf(7), report(histogram).get("max"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testMultiHistogramLeavesOutIdleScopes() {
+        MultiHistogramMetric multi = new MultiHistogramMetric();
+        multi.scope("a").update(10);
+        multi.scope("b");
+        Map<String, Object> report = (Map<String, Object>) multi.getValueAndReset();
+        assertEquals(1, report.size());
+        assertEquals(Long.valueOf(10), ((Map<String, Long>) report.get("a")).get("p50"));
+        assertTrue(((Map<String, Object>) multi.getValueAndReset()).isEmpty());
+    }
+}
@@ -0,0 +1,62 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package backtype.storm.stats;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+
+public class RollingWindowSetTest {
+    private static void assertValue(RollingWindowSet set, int nowSecs, long[] sums, long[] counts) {
+        long[] actualSums = new long[RollingWindowSet.NUM_WINDOWS + 1];
+        long[] actualCounts = new long[RollingWindowSet.NUM_WINDOWS + 1];
+        set.value(nowSecs, actualSums, actualCounts);
+        assertArrayEquals(sums, actualSums);
+        assertArrayEquals(counts, actualCounts);
+    }
+
+    @Test
+    public void testSumsEveryWindow() {
+        RollingWindowSet set = new RollingWindowSet();
+        set.add(10, 5);
+        set.add(20, 7);
+        set.add(100, 1);
+        assertValue(set, 100, new long[] {13, 13, 13, 13}, new long[] {3, 3, 3, 3});
+    }
+
+    @Test
+    public void testOldBucketsFallOutOfTheirWindow() {
+        RollingWindowSet set = new RollingWindowSet();
+        set.add(10, 5);
+        set.add(700, 2);
+        // the 10 minute window only covers the second update
+        assertValue(set, 700, new long[] {2, 7, 7, 7}, new long[] {1, 2, 2, 2});
+        // past 3 hours only the day and all time windows still have the first
+        assertValue(set, 3 * 3600 + 100, new long[] {0, 2, 7, 7}, new long[] {0, 1, 2, 2});
+        assertValue(set, 2 * 24 * 3600, new long[] {0, 0, 0, 7}, new long[] {0, 0, 0, 2});
+    }
+
+    @Test
+    public void testReusedBucketIsReset() {
+        RollingWindowSet set = new RollingWindowSet();
+        set.add(5, 5);
+        // 20 buckets of 30 secs later, the same slot of the 10 minute ring
+        set.add(605, 3);
+        assertValue(set, 605, new long[] {3, 8, 8, 8}, new long[] {1, 2, 2, 2});
+    }
+}
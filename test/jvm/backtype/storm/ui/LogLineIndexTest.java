@@ -0,0 +1,110 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package backtype.storm.ui;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class LogLineIndexTest {
+    private File _file;
+
+    @Before
+    public void setUp() throws IOException {
+        _file = File.createTempFile("log-line-index-test", ".log");
+    }
+
+    @After
+    public void tearDown() {
+        _file.delete();
+    }
+
+    private void append(String s) throws IOException {
+        FileOutputStream out = new FileOutputStream(_file, true);
+        try {
+            out.write(s.getBytes("UTF-8"));
+        } finally {
+            out.close();
+        }
+    }
+
+    private static String line(char c, int length) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < length - 1; i++) {
+            sb.append(c);
+        }
+        return sb.append('\n').toString();
+    }
+
+    @Test
+    public void testShortLines() throws IOException {
+        append("ab\ncd\nef\n");
+        assertEquals(0, LogLineIndex.lineStart(_file, 0));
+        assertEquals(0, LogLineIndex.lineStart(_file, 2));
+        assertEquals(3, LogLineIndex.lineStart(_file, 3));
+        assertEquals(3, LogLineIndex.lineStart(_file, 4));
+        assertEquals(6, LogLineIndex.lineStart(_file, 7));
+        // offsets past the end are taken as the last byte
+        assertEquals(6, LogLineIndex.lineStart(_file, 1000));
+    }
+
+    @Test
+    public void testLinesSpanningBlocks() throws IOException {
+        int block = LogLineIndex.BLOCK_SIZE;
+        // one line covering the first block and a bit, then one covering three more blocks
+        append(line('a', block + 10));
+        append(line('b', 3 * block));
+        append("c\n");
+        long second = block + 10;
+        long third = second + 3 * block;
+        assertEquals(0, LogLineIndex.lineStart(_file, block - 1));
+        assertEquals(0, LogLineIndex.lineStart(_file, block + 9));
+        assertEquals(second, LogLineIndex.lineStart(_file, second));
+        // in a block that starts in the middle of the second line, with no newline before offset
+        assertEquals(second, LogLineIndex.lineStart(_file, 3 * block + 5));
+        assertEquals(third, LogLineIndex.lineStart(_file, third + 1));
+        // going back to an earlier block uses what was indexed already
+        assertEquals(second, LogLineIndex.lineStart(_file, 2 * block + 1));
+    }
+
+    @Test
+    public void testGrowingAndTruncatedLog() throws IOException {
+        int block = LogLineIndex.BLOCK_SIZE;
+        append(line('a', 10));
+        assertEquals(0, LogLineIndex.lineStart(_file, 5));
+        append(line('b', 2 * block));
+        assertEquals(10, LogLineIndex.lineStart(_file, 2 * block));
+
+        RandomAccessFile raf = new RandomAccessFile(_file, "rw");
+        try {
+            raf.setLength(0);
+        } finally {
+            raf.close();
+        }
+        append(line('c', 3));
+        append(line('d', 2 * block));
+        assertEquals(3, LogLineIndex.lineStart(_file, block + 3));
+    }
+}
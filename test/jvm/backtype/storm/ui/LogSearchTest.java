@@ -0,0 +1,148 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package backtype.storm.ui;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class LogSearchTest {
+    private File _plain;
+    private File _gz;
+
+    @Before
+    public void setUp() throws IOException {
+        _plain = File.createTempFile("log-search-test", ".log");
+        _gz = File.createTempFile("log-search-test", ".log.gz");
+    }
+
+    @After
+    public void tearDown() {
+        _plain.delete();
+        _gz.delete();
+    }
+
+    private static void write(File file, byte[] bytes) throws IOException {
+        OutputStream out = new FileOutputStream(file);
+        if (LogSearch.isGzip(file)) {
+            out = new GZIPOutputStream(out);
+        }
+        try {
+            out.write(bytes);
+        } finally {
+            out.close();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> matches(Map<String, Object> result) {
+        return (List<Map<String, Object>>) result.get("matches");
+    }
+
+    @Test
+    public void testFindsMatchesWithTheirLines() throws Exception {
+        byte[] log = "first line\nsecond needle here\nthird\nneedle again\n".getBytes("UTF-8");
+        write(_plain, log);
+        write(_gz, log);
+        for (File f : new File[] {_plain, _gz}) {
+            Map<String, Object> result = LogSearch.search(f, "needle", 0, 10);
+            List<Map<String, Object>> matches = matches(result);
+            assertEquals(2, matches.size());
+            assertFalse(result.containsKey("nextByteOffset"));
+
+            Map<String, Object> first = matches.get(0);
+            assertEquals(18L, first.get("byteOffset"));
+            assertEquals(11L, first.get("beforeByteOffset"));
+            assertEquals("second ", first.get("beforeString"));
+            assertEquals("needle", first.get("matchString"));
+            assertEquals(" here", first.get("afterString"));
+            assertEquals(36L, matches.get(1).get("byteOffset"));
+            assertEquals(36L, matches.get(1).get("beforeByteOffset"));
+            assertEquals((long) log.length, LogSearch.logLength(f));
+        }
+    }
+
+    @Test
+    public void testPagesThroughMatches() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 5; i++) {
+            sb.append("x needle ").append(i).append('\n');
+        }
+        write(_gz, sb.toString().getBytes("UTF-8"));
+        Map<String, Object> page = LogSearch.search(_gz, "needle", 0, 2);
+        assertEquals(2, matches(page).size());
+        long next = (Long) page.get("nextByteOffset");
+        page = LogSearch.search(_gz, "needle", next, 2);
+        assertEquals(2, matches(page).size());
+        assertEquals(2L * "x needle 0\n".length() + 2, (long) (Long) matches(page).get(0).get("byteOffset"));
+        page = LogSearch.search(_gz, "needle", (Long) page.get("nextByteOffset"), 2);
+        assertEquals(1, matches(page).size());
+        assertFalse(page.containsKey("nextByteOffset"));
+    }
+
+    @Test
+    public void testBeforeOffsetCountsBytesOfSplitCharacters() throws Exception {
+        // a long line of two byte characters, so the context before the match starts
+        // in the middle of one and beforeString does not re-encode to the same bytes
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < LogSearch.CONTEXT_BYTES; i++) {
+            sb.append('é');
+        }
+        sb.append("x").append("needle\n");
+        byte[] log = sb.toString().getBytes("UTF-8");
+        write(_gz, log);
+        Map<String, Object> match = matches(LogSearch.search(_gz, "needle", 0, 1)).get(0);
+        long offset = (Long) match.get("byteOffset");
+        assertEquals(2L * LogSearch.CONTEXT_BYTES + 1, offset);
+        assertEquals(offset - LogSearch.CONTEXT_BYTES, (long) (Long) match.get("beforeByteOffset"));
+        assertTrue(((String) match.get("beforeString")).getBytes("UTF-8").length != LogSearch.CONTEXT_BYTES);
+    }
+
+    @Test
+    public void testRejectsBadRequests() throws Exception {
+        write(_plain, "abc\n".getBytes("UTF-8"));
+        try {
+            LogSearch.search(_plain, "", 0, 1);
+            fail("empty search");
+        } catch (InvalidRequestException e) {
+        }
+        try {
+            LogSearch.search(_plain, "abc", 100, 1);
+            fail("past the end");
+        } catch (InvalidRequestException e) {
+        }
+        try {
+            LogSearch.search(_plain, "abc", 0, 0);
+            fail("no matches asked for");
+        } catch (InvalidRequestException e) {
+        }
+    }
+}
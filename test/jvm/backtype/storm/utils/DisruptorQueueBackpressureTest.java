@@ -0,0 +1,136 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package backtype.storm.utils;
+
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.EventHandler;
+import com.lmax.disruptor.MultiThreadedClaimStrategy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class DisruptorQueueBackpressureTest {
+    private static final EventHandler<Object> NOOP = new EventHandler<Object>() {
+        @Override
+        public void onEvent(Object o, long seq, boolean batchEnd) {
+        }
+    };
+
+    private static class Counter implements DisruptorBackpressureCallback {
+        final AtomicInteger high = new AtomicInteger();
+        final AtomicInteger low = new AtomicInteger();
+
+        @Override
+        public void highWaterMark() {
+            high.incrementAndGet();
+        }
+
+        @Override
+        public void lowWaterMark() {
+            low.incrementAndGet();
+        }
+    }
+
+    private static DisruptorQueue queue(int size) {
+        DisruptorQueue q = new DisruptorQueue("test", new MultiThreadedClaimStrategy(size), new BlockingWaitStrategy(), 10);
+        q.consumerStarted();
+        // drain the initial cache flush marker
+        q.consumeBatch(NOOP);
+        return q;
+    }
+
+    @Test
+    public void testWatermarks() {
+        DisruptorQueue q = queue(16);
+        Counter cb = new Counter();
+        q.enableBackpressure(0.75, 0.25, cb);
+
+        for (int i = 0; i < 11; i++) {
+            q.publish(i);
+        }
+        assertFalse(q.getThrottleOn());
+        q.publish(11);
+        assertTrue(q.getThrottleOn());
+        assertEquals(1, cb.high.get());
+        q.publish(12);
+        assertEquals(1, cb.high.get());
+
+        q.consumeBatch(NOOP);
+        assertFalse(q.getThrottleOn());
+        assertEquals(1, cb.low.get());
+    }
+
+    @Test
+    public void testThrottleOffOnceDrainedUnderContention() throws Exception {
+        final DisruptorQueue q = queue(64);
+        Counter cb = new Counter();
+        q.enableBackpressure(0.5, 0.1, cb);
+
+        Thread[] producers = new Thread[4];
+        for (int p = 0; p < producers.length; p++) {
+            producers[p] = new Thread() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < 20000; i++) {
+                        q.publish(i);
+                    }
+                }
+            };
+            producers[p].start();
+        }
+        Thread consumer = new Thread() {
+            @Override
+            public void run() {
+                while (!isInterrupted()) {
+                    q.consumeBatch(NOOP);
+                }
+            }
+        };
+        consumer.start();
+        for (Thread p : producers) {
+            p.join();
+        }
+        while (q.population() > 0) {
+            Thread.sleep(1);
+        }
+        consumer.interrupt();
+        consumer.join();
+
+        // the queue is idle, however the producers and the consumer raced on the flag
+        assertFalse(q.getThrottleOn());
+        assertEquals(cb.high.get(), cb.low.get());
+    }
+
+    @Test
+    public void testWatermarksNeverMeet() {
+        DisruptorQueue q = queue(4);
+        Counter cb = new Counter();
+        q.enableBackpressure(0.2, 0.1, cb);
+        q.publish(0);
+        assertTrue(q.getThrottleOn());
+        q.consumeBatch(NOOP);
+        assertFalse(q.getThrottleOn());
+        assertEquals(1, cb.high.get());
+        assertEquals(1, cb.low.get());
+    }
+}
@@ -0,0 +1,93 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package backtype.storm.utils;
+
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.EventHandler;
+import com.lmax.disruptor.InsufficientCapacityException;
+import com.lmax.disruptor.MultiThreadedClaimStrategy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class DisruptorQueueTest {
+
+    private static class Collector implements EventHandler<Object> {
+        final List<Object> events = new ArrayList<Object>();
+
+        @Override
+        public void onEvent(Object o, long seq, boolean batchEnd) {
+            events.add(o);
+        }
+    }
+
+    private static DisruptorQueue batchingQueue(int size, int batchSize) {
+        DisruptorQueue q = new DisruptorQueue("test", new MultiThreadedClaimStrategy(size), new BlockingWaitStrategy(),
+                10, batchSize, 10000);
+        q.consumerStarted();
+        q.consumeBatch(new Collector());
+        return q;
+    }
+
+    @Test
+    public void testBatchedPublishesArriveOnceTheBatchIsFull() {
+        DisruptorQueue q = batchingQueue(16, 3);
+        Collector c = new Collector();
+        q.publish(1);
+        q.publish(2);
+        q.consumeBatch(c);
+        assertEquals(0, c.events.size());
+        q.publish(3);
+        q.consumeBatch(c);
+        assertEquals(3, c.events.size());
+        assertEquals(1, c.events.get(0));
+        assertEquals(3, c.events.get(2));
+        q.haltWithInterrupt();
+    }
+
+    @Test
+    public void testTryPublishGoesAfterThePendingBatch() throws Exception {
+        DisruptorQueue q = batchingQueue(4, 8);
+        Collector c = new Collector();
+        for (int i = 0; i < 6; i++) {
+            q.publish(i);
+        }
+        // only 4 of the batch fit, the rest stays in it and the new object is refused
+        try {
+            q.tryPublish(6);
+            fail("the queue is full");
+        } catch (InsufficientCapacityException e) {
+        }
+        q.consumeBatch(c);
+        q.tryPublish(7);
+        q.consumeBatch(c);
+
+        List<Object> expected = new ArrayList<Object>();
+        for (int i = 0; i < 6; i++) {
+            expected.add(i);
+        }
+        expected.add(7);
+        assertEquals(expected, c.events);
+        q.haltWithInterrupt();
+    }
+}
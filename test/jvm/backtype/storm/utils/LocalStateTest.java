@@ -0,0 +1,135 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package backtype.storm.utils;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import backtype.storm.generated.GlobalStreamId;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class LocalStateTest {
+    private File _dir;
+
+    @Before
+    public void setUp() throws IOException {
+        _dir = Files.createTempDirectory("local-state-test").toFile();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(_dir);
+    }
+
+    private static GlobalStreamId id(String component) {
+        return new GlobalStreamId(component, "stream");
+    }
+
+    private int countLogs() {
+        int logs = 0;
+        for (File f : _dir.listFiles()) {
+            if (f.getName().endsWith(".log")) {
+                logs++;
+            }
+        }
+        return logs;
+    }
+
+    @Test
+    public void testPutGetRemoveSurviveReopen() throws IOException {
+        LocalState ls = new LocalState(_dir.getPath(), 0);
+        assertNull(ls.get("a"));
+        ls.put("a", id("1"));
+        ls.put("b", id("2"));
+        ls.remove("b");
+        assertEquals(id("1"), ls.get("a"));
+
+        LocalState reopened = new LocalState(_dir.getPath(), 0);
+        assertEquals(id("1"), reopened.get("a"));
+        assertNull(reopened.get("b"));
+        assertEquals(1, reopened.snapshot().size());
+    }
+
+    @Test
+    public void testReadersSeeWritesOfOtherInstances() throws IOException {
+        LocalState writer = new LocalState(_dir.getPath(), 0);
+        LocalState reader = new LocalState(_dir.getPath(), 0);
+        writer.put("a", id("1"));
+        assertEquals(id("1"), reader.get("a"));
+        writer.put("a", id("2"));
+        assertEquals(id("2"), reader.get("a"));
+    }
+
+    @Test
+    public void testCompactionIsSeenByOtherInstances() throws IOException {
+        LocalState writer = new LocalState(_dir.getPath(), 0);
+        LocalState reader = new LocalState(_dir.getPath(), 0);
+        writer.put("a", id("first"));
+        assertEquals(id("first"), reader.get("a"));
+
+        StringBuilder big = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            big.append('x');
+        }
+        // enough log to be compacted into new versions several times
+        for (int i = 0; i < 300; i++) {
+            writer.put("a", id(big.toString() + i));
+        }
+        assertEquals(id(big.toString() + 299), reader.get("a"));
+        assertEquals(1, countLogs());
+        assertEquals(id(big.toString() + 299), new LocalState(_dir.getPath(), 0).get("a"));
+    }
+
+    @Test
+    public void testTornRecordIsDropped() throws IOException {
+        LocalState ls = new LocalState(_dir.getPath(), 0);
+        ls.put("a", id("1"));
+        ls.put("b", id("2"));
+        File log = null;
+        for (File f : _dir.listFiles()) {
+            if (f.getName().endsWith(".log")) {
+                log = f;
+            }
+        }
+        FileOutputStream out = new FileOutputStream(log, true);
+        try {
+            // a record header promising more than what follows it
+            out.write(new byte[] {0, 0, 0, 100, 1, 2, 3, 4, 5});
+        } finally {
+            out.close();
+        }
+
+        LocalState reopened = new LocalState(_dir.getPath(), 0);
+        assertEquals(id("1"), reopened.get("a"));
+        assertEquals(id("2"), reopened.get("b"));
+        // the next write goes where the torn record was
+        reopened.put("c", id("3"));
+        LocalState again = new LocalState(_dir.getPath(), 0);
+        assertEquals(id("3"), again.get("c"));
+        assertEquals(3, again.snapshot().size());
+    }
+}
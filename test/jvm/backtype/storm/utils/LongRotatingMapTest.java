@@ -0,0 +1,185 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package backtype.storm.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class LongRotatingMapTest {
+
+    private static class Recorder implements LongRotatingMap.ExpiredCallback<String> {
+        List<Long> keys = new ArrayList<Long>();
+        List<String> vals = new ArrayList<String>();
+
+        @Override
+        public void expire(long key, String val) {
+            keys.add(key);
+            vals.add(val);
+        }
+    }
+
+    @Test
+    public void testPutGetRemove() {
+        LongRotatingMap<String> map = new LongRotatingMap<String>(3);
+        map.put(1L, "a");
+        map.put(-2L, "b");
+        assertEquals("a", map.get(1L));
+        assertEquals("b", map.get(-2L));
+        assertNull(map.get(3L));
+        assertTrue(map.containsKey(1L));
+        assertEquals(2, map.size());
+
+        assertEquals("a", map.remove(1L));
+        assertFalse(map.containsKey(1L));
+        assertNull(map.remove(1L));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void testRotateExpiresOldestBucket() {
+        Recorder rec = new Recorder();
+        LongRotatingMap<String> map = new LongRotatingMap<String>(3, rec);
+        map.put(1L, "a");
+        assertEquals(0, map.rotate());
+        map.put(2L, "b");
+        assertEquals(0, map.rotate());
+        assertTrue(rec.keys.isEmpty());
+
+        assertEquals(1, map.rotate());
+        assertEquals(1L, (long) rec.keys.get(0));
+        assertEquals("a", rec.vals.get(0));
+        assertFalse(map.containsKey(1L));
+        assertTrue(map.containsKey(2L));
+
+        assertEquals(1, map.rotate());
+        assertEquals("b", rec.vals.get(1));
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    public void testUpdateMovesKeyToNewestBucket() {
+        Recorder rec = new Recorder();
+        LongRotatingMap<String> map = new LongRotatingMap<String>(2, rec);
+        map.put(1L, "a");
+        map.updateAck(1L, 5L);
+        map.rotate();
+        // touching the key again keeps it and its value from expiring
+        assertEquals(0L, map.updateAck(1L, 5L));
+        assertEquals(0, map.rotate());
+        assertEquals("a", map.get(1L));
+        assertEquals(1, map.rotate());
+        assertEquals(1L, (long) rec.keys.get(0));
+    }
+
+    @Test
+    public void testAckValsTasksAndFlags() {
+        LongRotatingMap<Object> map = new LongRotatingMap<Object>(2);
+        assertEquals(6L, map.updateAck(7L, 6L));
+        assertEquals(3L, map.updateAck(7L, 5L));
+        assertEquals(3L, map.getAckVal(7L));
+        assertEquals(0L, map.getAckVal(8L));
+        assertFalse(map.hasSpoutTask(7L));
+        map.setSpoutTask(7L, 11);
+        assertTrue(map.hasSpoutTask(7L));
+        assertEquals(11, map.getSpoutTask(7L));
+        assertFalse(map.isFailed(7L));
+        map.setFailed(7L);
+        assertTrue(map.isFailed(7L));
+        assertNull(map.get(7L));
+    }
+
+    @Test
+    public void testRemoveIfDone() {
+        LongRotatingMap<Object> map = new LongRotatingMap<Object>(2);
+        assertEquals(-1L, map.removeIfDone(1L));
+
+        // no spout task yet, so not done even though the ack value is 0
+        map.updateAck(1L, 4L);
+        map.updateAck(1L, 4L);
+        assertEquals(-1L, map.removeIfDone(1L));
+        map.setSpoutTask(1L, 9);
+        assertEquals(9L << 1, map.removeIfDone(1L));
+        assertFalse(map.containsKey(1L));
+
+        map.updateAck(2L, 4L);
+        map.setSpoutTask(2L, 3);
+        assertEquals(-1L, map.removeIfDone(2L));
+        map.rotate();
+        map.setFailed(2L);
+        assertEquals((3L << 1) | 1, map.removeIfDone(2L));
+        assertEquals(0, map.size());
+
+        // acked wins over failed
+        map.setSpoutTask(3L, 5);
+        map.setFailed(3L);
+        assertEquals(5L << 1, map.removeIfDone(3L));
+    }
+
+    @Test
+    public void testGrowKeepsEntries() {
+        LongRotatingMap<Long> map = new LongRotatingMap<Long>(2);
+        for(long i=0; i<1000; i++) {
+            map.put(i * 31, i);
+            map.updateAck(i * 31, i);
+        }
+        assertEquals(1000, map.size());
+        for(long i=0; i<1000; i++) {
+            assertEquals(Long.valueOf(i), map.get(i * 31));
+            assertEquals(i, map.getAckVal(i * 31));
+        }
+        for(long i=0; i<1000; i+=2) {
+            map.remove(i * 31);
+        }
+        for(long i=1; i<1000; i+=2) {
+            assertEquals(Long.valueOf(i), map.get(i * 31));
+        }
+        assertEquals(500, map.size());
+    }
+
+    @Test
+    public void testThrowingCallbackDoesNotStopExpiration() {
+        final List<Long> expired = new ArrayList<Long>();
+        LongRotatingMap<Object> map = new LongRotatingMap<Object>(2, new LongRotatingMap.ExpiredCallback<Object>() {
+            @Override
+            public void expire(long key, Object val) {
+                expired.add(key);
+                throw new RuntimeException("expire " + key);
+            }
+        });
+        map.updateAck(1L, 1L);
+        map.updateAck(2L, 1L);
+        map.updateAck(3L, 1L);
+        map.rotate();
+        assertEquals(3, map.rotate());
+        assertEquals(3, expired.size());
+        assertEquals(0, map.size());
+
+        // the expired bucket was recycled and the map keeps working
+        map.updateAck(4L, 1L);
+        map.rotate();
+        assertEquals(1, map.rotate());
+        assertEquals(4, expired.size());
+    }
+}
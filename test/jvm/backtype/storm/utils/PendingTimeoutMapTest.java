@@ -0,0 +1,153 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package backtype.storm.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class PendingTimeoutMapTest {
+    private List<Long> _expiredIds;
+    private List<String> _expiredVals;
+    private PendingTimeoutMap<String> _map;
+
+    @Before
+    public void setUp() {
+        Time.startSimulating();
+        _expiredIds = new ArrayList<Long>();
+        _expiredVals = new ArrayList<String>();
+        _map = new PendingTimeoutMap<String>(100, 10, new PendingTimeoutMap.ExpiredCallback<String>() {
+            @Override
+            public void expire(long id, String val) {
+                _expiredIds.add(id);
+                _expiredVals.add(val);
+            }
+        });
+    }
+
+    @After
+    public void tearDown() {
+        Time.stopSimulating();
+    }
+
+    private void advance(long ms) {
+        Time.advanceTime(ms);
+        _map.expire();
+    }
+
+    @Test
+    public void testPutGetRemove() {
+        _map.put(1L, "a");
+        _map.put(-5L, "b");
+        assertEquals("a", _map.get(1L));
+        assertEquals("b", _map.get(-5L));
+        assertTrue(_map.containsKey(1L));
+        assertNull(_map.get(2L));
+        assertEquals(2, _map.size());
+
+        assertEquals("a", _map.remove(1L));
+        assertNull(_map.remove(1L));
+        assertFalse(_map.containsKey(1L));
+        assertEquals(1, _map.size());
+    }
+
+    @Test
+    public void testExpire() {
+        _map.put(1L, "a");
+        advance(50);
+        _map.put(2L, "b");
+        advance(50);
+        assertEquals(1, _expiredIds.size());
+        assertEquals(1L, (long) _expiredIds.get(0));
+        assertEquals("a", _expiredVals.get(0));
+        assertFalse(_map.containsKey(1L));
+        assertTrue(_map.containsKey(2L));
+        advance(50);
+        assertEquals(2, _expiredIds.size());
+        assertEquals("b", _expiredVals.get(1));
+        assertEquals(0, _map.size());
+    }
+
+    @Test
+    public void testRemovedIdsDoNotExpire() {
+        _map.put(1L, "a");
+        _map.remove(1L);
+        advance(200);
+        assertTrue(_expiredIds.isEmpty());
+    }
+
+    @Test
+    public void testPutRestartsTimeout() {
+        _map.put(1L, "a");
+        advance(60);
+        _map.put(1L, "b");
+        advance(60);
+        assertTrue(_expiredIds.isEmpty());
+        assertEquals("b", _map.get(1L));
+        advance(50);
+        assertEquals(1, _expiredIds.size());
+        assertEquals("b", _expiredVals.get(0));
+    }
+
+    @Test
+    public void testExpireAcrossWheelRounds() {
+        // the wheel is capped at 4096 buckets, so 100s on 10ms ticks takes almost three rounds of it
+        PendingTimeoutMap<String> map = new PendingTimeoutMap<String>(100000, 10, new PendingTimeoutMap.ExpiredCallback<String>() {
+            @Override
+            public void expire(long id, String val) {
+                _expiredIds.add(id);
+            }
+        });
+        map.put(7L, "a");
+        for (int i = 0; i < 9999; i++) {
+            Time.advanceTime(10);
+            map.expire();
+        }
+        assertTrue(_expiredIds.isEmpty());
+        Time.advanceTime(10);
+        map.expire();
+        assertEquals(1, _expiredIds.size());
+        assertEquals(7L, (long) _expiredIds.get(0));
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    public void testManyIds() {
+        for (long i = 0; i < 1000; i++) {
+            _map.put(i * 17, "v" + i);
+        }
+        assertEquals(1000, _map.size());
+        for (long i = 0; i < 1000; i += 2) {
+            assertEquals("v" + i, _map.remove(i * 17));
+        }
+        for (long i = 1; i < 1000; i += 2) {
+            assertEquals("v" + i, _map.get(i * 17));
+        }
+        advance(110);
+        assertEquals(500, _expiredIds.size());
+        assertEquals(0, _map.size());
+    }
+}
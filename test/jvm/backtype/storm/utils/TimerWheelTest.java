@@ -0,0 +1,131 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package backtype.storm.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TimerWheelTest {
+    private List<String> _expired;
+    private TimerWheel<String> _wheel;
+
+    @Before
+    public void setUp() {
+        Time.startSimulating();
+        _expired = new ArrayList<String>();
+        _wheel = new TimerWheel<String>(10, 4, new TimerWheel.ExpiredCallback<String>() {
+            @Override
+            public void expire(String item) {
+                _expired.add(item);
+            }
+        });
+    }
+
+    @After
+    public void tearDown() {
+        Time.stopSimulating();
+    }
+
+    private void advance(long ms) {
+        Time.advanceTime(ms);
+        _wheel.advance(Time.currentTimeMillis());
+    }
+
+    @Test
+    public void testExpiresWithinOneTickOfDeadline() {
+        _wheel.schedule("a", 25);
+        assertEquals(1, _wheel.size());
+        advance(20);
+        assertTrue(_expired.isEmpty());
+        advance(10);
+        assertEquals(1, _expired.size());
+        assertEquals("a", _expired.get(0));
+        assertEquals(0, _wheel.size());
+    }
+
+    @Test
+    public void testCancel() {
+        TimerWheel<String>.Timeout a = _wheel.schedule("a", 10);
+        _wheel.schedule("b", 10);
+        assertTrue(a.cancel());
+        assertFalse(a.cancel());
+        assertEquals(1, _wheel.size());
+        advance(10);
+        assertEquals(1, _expired.size());
+        assertEquals("b", _expired.get(0));
+        assertFalse(a.cancel());
+    }
+
+    @Test
+    public void testCancelAfterExpiry() {
+        TimerWheel<String>.Timeout a = _wheel.schedule("a", 10);
+        advance(10);
+        assertEquals(1, _expired.size());
+        assertFalse(a.cancel());
+    }
+
+    @Test
+    public void testLaterRoundsStayInTheirBucket() {
+        // 4 buckets of 10ms, so "late" shares a bucket with "early" but is due three rounds later
+        _wheel.schedule("early", 10);
+        _wheel.schedule("late", 130);
+        advance(10);
+        assertEquals(1, _expired.size());
+        assertEquals("early", _expired.get(0));
+        for (int i = 0; i < 11; i++) {
+            advance(10);
+        }
+        assertEquals(1, _expired.size());
+        advance(10);
+        assertEquals(2, _expired.size());
+        assertEquals("late", _expired.get(1));
+    }
+
+    @Test
+    public void testAdvancingPastWholeRounds() {
+        _wheel.schedule("a", 15);
+        _wheel.schedule("b", 55);
+        _wheel.schedule("c", 500);
+        advance(100);
+        assertEquals(2, _expired.size());
+        assertTrue(_expired.contains("a"));
+        assertTrue(_expired.contains("b"));
+        assertEquals(1, _wheel.size());
+        advance(400);
+        assertEquals(3, _expired.size());
+        assertEquals(0, _wheel.size());
+    }
+
+    @Test
+    public void testScheduleAfterAdvanceIsNotDueImmediately() {
+        advance(100);
+        _wheel.schedule("a", 0);
+        _wheel.advance(Time.currentTimeMillis());
+        assertTrue(_expired.isEmpty());
+        advance(10);
+        assertEquals(1, _expired.size());
+    }
+}
@@ -0,0 +1,146 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package storm.trident.operation.impl;
+
+import backtype.storm.Config;
+import backtype.storm.utils.Utils;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class GroupSpillerTest {
+    private File _dir;
+    private Map _conf;
+
+    @Before
+    public void setUp() throws IOException {
+        _dir = Files.createTempDirectory("group-spiller-test").toFile();
+        _conf = Utils.readDefaultConfig();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(_dir);
+    }
+
+    private static List<Object> list(Object... values) {
+        return Arrays.asList(values);
+    }
+
+    private static Map<List<Object>, List<String>> collect(GroupSpiller spiller) {
+        final Map<List<Object>, List<String>> ret = new LinkedHashMap<List<Object>, List<String>>();
+        spiller.forEachGroup(new GroupSpiller.GroupHandler() {
+            @Override
+            public void group(List<Object> group, List<GroupSpiller.SpilledTuple> tuples) {
+                assertFalse("each group is handed over once", ret.containsKey(group));
+                List<String> values = new ArrayList<String>();
+                for(GroupSpiller.SpilledTuple t: tuples) {
+                    values.add(t.streamIndex + ":" + t.values.get(0));
+                }
+                ret.put(group, values);
+            }
+        });
+        return ret;
+    }
+
+    private void addInterleaved(GroupSpiller spiller) {
+        for(int i=0; i<9; i++) {
+            spiller.add(list("g" + (i % 3)), i % 2, list((Object) ("v" + i)));
+        }
+    }
+
+    private void checkInterleaved(Map<List<Object>, List<String>> groups) {
+        assertEquals(3, groups.size());
+        assertEquals(list("0:v0", "1:v3", "0:v6"), groups.get(list("g0")));
+        assertEquals(list("1:v1", "0:v4", "1:v7"), groups.get(list("g1")));
+        assertEquals(list("0:v2", "1:v5", "0:v8"), groups.get(list("g2")));
+    }
+
+    @Test
+    public void testGroupsFromMemory() {
+        GroupSpiller spiller = new GroupSpiller.Factory(_conf, _dir.getPath(), 100).create();
+        addInterleaved(spiller);
+        assertEquals(0, _dir.list().length);
+        checkInterleaved(collect(spiller));
+    }
+
+    @Test
+    public void testGroupsFromRuns() {
+        GroupSpiller spiller = new GroupSpiller.Factory(_conf, _dir.getPath(), 2).create();
+        addInterleaved(spiller);
+        assertEquals(4, _dir.list().length);
+        checkInterleaved(collect(spiller));
+        assertEquals(0, _dir.list().length);
+    }
+
+    @Test
+    public void testGroupsWithCollidingHashes() {
+        GroupSpiller spiller = new GroupSpiller.Factory(_conf, _dir.getPath(), 2).create();
+        // "Aa" and "BB" have the same String hash code
+        spiller.add(list("Aa"), 0, list((Object) "x"));
+        spiller.add(list("BB"), 0, list((Object) "y"));
+        spiller.add(list("Aa"), 0, list((Object) "z"));
+        Map<List<Object>, List<String>> groups = collect(spiller);
+        assertEquals(list("0:x", "0:z"), groups.get(list("Aa")));
+        assertEquals(list("0:y"), groups.get(list("BB")));
+    }
+
+    @Test
+    public void testRunsOfBatchesThatNeverCompleteAreDeleted() throws Exception {
+        Map conf = new java.util.HashMap(_conf);
+        conf.put(Config.TOPOLOGY_MESSAGE_TIMEOUT_SECS, 0);
+        GroupSpiller.Factory factory = new GroupSpiller.Factory(conf, _dir.getPath(), 2);
+        GroupSpiller abandoned = factory.create();
+        addInterleaved(abandoned);
+        assertEquals(4, _dir.list().length);
+        Thread.sleep(5);
+        GroupSpiller next = factory.create();
+        assertEquals(0, _dir.list().length);
+        next.add(list("g"), 0, list((Object) "v"));
+        assertEquals(1, collect(next).size());
+    }
+
+    @Test
+    public void testOldRunsAreSweptFromTheDirOnly() throws Exception {
+        File stale = new File(_dir, "trident-spill1.run");
+        File other = new File(_dir, "other.run");
+        File fresh = new File(_dir, "trident-spill2.run");
+        assertTrue(stale.createNewFile());
+        assertTrue(other.createNewFile());
+        assertTrue(fresh.createNewFile());
+        assertTrue(stale.setLastModified(System.currentTimeMillis() - 3600 * 1000));
+        assertTrue(other.setLastModified(System.currentTimeMillis() - 3600 * 1000));
+        new GroupSpiller.Factory(_conf, _dir.getPath(), 2);
+        assertFalse(stale.exists());
+        assertTrue(other.exists());
+        assertTrue(fresh.exists());
+    }
+}
@@ -0,0 +1,124 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package storm.trident.state.map;
+
+import backtype.storm.metric.api.CombinedMetric;
+import backtype.storm.metric.api.ICombiner;
+import backtype.storm.metric.api.IMetric;
+import backtype.storm.metric.api.IReducer;
+import backtype.storm.metric.api.ReducedMetric;
+import backtype.storm.task.IMetricsContext;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class CachedMapTest {
+    static class MemoryBackingMap implements IBackingMap<String> {
+        Map<List<Object>, String> _data = new HashMap<List<Object>, String>();
+        int _gets = 0;
+
+        @Override
+        public List<String> multiGet(List<List<Object>> keys) {
+            List<String> ret = new ArrayList<String>();
+            for(List<Object> key: keys) {
+                _gets++;
+                ret.add(_data.get(key));
+            }
+            return ret;
+        }
+
+        @Override
+        public void multiPut(List<List<Object>> keys, List<String> vals) {
+            for(int i=0; i<keys.size(); i++) {
+                _data.put(keys.get(i), vals.get(i));
+            }
+        }
+    }
+
+    static class CapturingMetricsContext implements IMetricsContext {
+        IMetric _metric;
+
+        @Override
+        public <T extends IMetric> T registerMetric(String name, T metric, int timeBucketSizeInSecs) {
+            _metric = metric;
+            return metric;
+        }
+
+        @Override
+        public ReducedMetric registerMetric(String name, IReducer reducer, int timeBucketSizeInSecs) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CombinedMetric registerMetric(String name, ICombiner combiner, int timeBucketSizeInSecs) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static List<List<Object>> keys(Object... keys) {
+        List<List<Object>> ret = new ArrayList<List<Object>>();
+        for(Object key: keys) {
+            ret.add(Arrays.asList(key));
+        }
+        return ret;
+    }
+
+    @Test
+    public void testCachesValuesAndMisses() {
+        MemoryBackingMap backing = new MemoryBackingMap();
+        backing.multiPut(keys("a"), Arrays.asList("1"));
+        CachedMap<String> map = new CachedMap<String>(backing, 10);
+
+        assertEquals(Arrays.asList("1", null), map.multiGet(keys("a", "b")));
+        assertEquals(2, backing._gets);
+        // keys the store has no value for are cached as well
+        assertEquals(Arrays.asList("1", null), map.multiGet(keys("a", "b")));
+        assertEquals(2, backing._gets);
+
+        map.multiPut(keys("b"), Arrays.asList("2"));
+        assertEquals(Arrays.asList("2"), map.multiGet(keys("b")));
+        assertEquals(2, backing._gets);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testMetricReportsCountsSinceLastReport() {
+        CachedMap<String> map = new CachedMap<String>(new MemoryBackingMap(), 10);
+        CapturingMetricsContext context = new CapturingMetricsContext();
+        map.registerMetrics(context, "cache", 60);
+
+        map.multiGet(keys("a", "b"));
+        map.multiGet(keys("a", "b", "c"));
+        Map<String, Long> report = (Map<String, Long>) context._metric.getValueAndReset();
+        assertEquals(Long.valueOf(2), report.get("hits"));
+        assertEquals(Long.valueOf(3), report.get("misses"));
+        assertEquals(Long.valueOf(0), report.get("evictions"));
+        assertEquals(Long.valueOf(3), report.get("weight"));
+
+        map.multiGet(keys("c"));
+        report = (Map<String, Long>) context._metric.getValueAndReset();
+        assertEquals(Long.valueOf(1), report.get("hits"));
+        assertEquals(Long.valueOf(0), report.get("misses"));
+    }
+}
@@ -0,0 +1,188 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package storm.trident.state.map;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class PrefetchingBackingMapTest {
+    static class MemoryBackingMap implements IBackingMap<String> {
+        Map<List<Object>, String> _data = Collections.synchronizedMap(new HashMap<List<Object>, String>());
+        List<List<List<Object>>> _reads = Collections.synchronizedList(new ArrayList<List<List<Object>>>());
+
+        @Override
+        public List<String> multiGet(List<List<Object>> keys) {
+            _reads.add(keys);
+            List<String> ret = new ArrayList<String>();
+            for(List<Object> key: keys) {
+                ret.add(_data.get(key));
+            }
+            return ret;
+        }
+
+        @Override
+        public void multiPut(List<List<Object>> keys, List<String> vals) {
+            for(int i=0; i<keys.size(); i++) {
+                _data.put(keys.get(i), vals.get(i));
+            }
+        }
+    }
+
+    static class AsyncMemoryBackingMap extends MemoryBackingMap implements IAsyncBackingMap<String> {
+        int _asyncReads = 0;
+
+        @Override
+        public List<String> multiGet(List<List<Object>> keys) {
+            throw new AssertionError("Read synchronously");
+        }
+
+        @Override
+        public Future<List<String>> multiGetAsync(final List<List<Object>> keys) {
+            _asyncReads++;
+            _reads.add(keys);
+            FutureTask<List<String>> ret = new FutureTask<List<String>>(new Callable<List<String>>() {
+                @Override
+                public List<String> call() {
+                    List<String> vals = new ArrayList<String>();
+                    for(List<Object> key: keys) {
+                        vals.add(_data.get(key));
+                    }
+                    return vals;
+                }
+            });
+            ret.run();
+            return ret;
+        }
+    }
+
+    private static List<List<Object>> keys(Object... keys) {
+        List<List<Object>> ret = new ArrayList<List<Object>>();
+        for(Object key: keys) {
+            ret.add(Arrays.asList(key));
+        }
+        return ret;
+    }
+
+    private static MemoryBackingMap backing(String... kvs) {
+        MemoryBackingMap ret = new MemoryBackingMap();
+        for(int i=0; i<kvs.length; i+=2) {
+            ret._data.put(Arrays.<Object>asList(kvs[i]), kvs[i + 1]);
+        }
+        return ret;
+    }
+
+    @Test
+    public void testReadsInChunks() {
+        MemoryBackingMap backing = backing("a", "1", "b", "2", "c", "3");
+        PrefetchingBackingMap<String> map = new PrefetchingBackingMap<String>(backing, 2, 4);
+        assertEquals(Arrays.asList("3", "1", null, "2", "1"), map.multiGet(keys("c", "a", "d", "b", "a")));
+        // a is read once, in chunks of at most 2
+        assertEquals(2, backing._reads.size());
+        int read = 0;
+        for(List<List<Object>> chunk: backing._reads) {
+            assertTrue(chunk.size() <= 2);
+            read += chunk.size();
+        }
+        assertEquals(4, read);
+    }
+
+    @Test
+    public void testMultiGetUsesPrefetchedValues() {
+        MemoryBackingMap backing = backing("a", "1", "b", "2");
+        PrefetchingBackingMap<String> map = new PrefetchingBackingMap<String>(backing, 10, 2);
+        map.prefetch(keys("a", "b", "a"));
+        assertEquals(Arrays.asList("2", "1"), map.multiGet(keys("b", "a")));
+        assertEquals(1, backing._reads.size());
+        assertEquals(2, backing._reads.get(0).size());
+        // the prefetched values were used up by the read
+        map.multiGet(keys("a"));
+        assertEquals(2, backing._reads.size());
+    }
+
+    @Test
+    public void testWriteDropsPrefetchedValue() {
+        MemoryBackingMap backing = backing("a", "1");
+        PrefetchingBackingMap<String> map = new PrefetchingBackingMap<String>(backing, 10, 2);
+        map.prefetch(keys("a"));
+        map.multiPut(keys("a"), Arrays.asList("2"));
+        assertEquals(Arrays.asList("2"), map.multiGet(keys("a")));
+    }
+
+    @Test
+    public void testBoundsOutstandingPrefetches() {
+        // reads run on the caller's thread, so the dropped read of a is recorded before the asserts
+        AsyncMemoryBackingMap backing = new AsyncMemoryBackingMap();
+        backing.multiPut(keys("a", "b", "c"), Arrays.asList("1", "2", "3"));
+        PrefetchingBackingMap<String> map = new PrefetchingBackingMap<String>(backing, 1, 2, 2, 10000);
+        map.prefetch(keys("a", "b", "c"));
+        // a was dropped to keep 2 outstanding, so it is read again
+        assertEquals(Arrays.asList("1", "2", "3"), map.multiGet(keys("a", "b", "c")));
+        assertEquals(4, backing._reads.size());
+        assertEquals(2, Collections.frequency(backing._reads, keys("a")));
+    }
+
+    @Test
+    public void testFailedReadIsRethrown() {
+        PrefetchingBackingMap<String> map = new PrefetchingBackingMap<String>(new MemoryBackingMap() {
+            @Override
+            public List<String> multiGet(List<List<Object>> keys) {
+                throw new IllegalStateException("down");
+            }
+        }, 10, 2);
+        try {
+            map.multiGet(keys("a"));
+            fail("Expected the read to fail");
+        } catch(RuntimeException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+    }
+
+    @Test
+    public void testUsesAsyncClient() {
+        AsyncMemoryBackingMap backing = new AsyncMemoryBackingMap();
+        backing._data.put(Arrays.<Object>asList("a"), "1");
+        PrefetchingBackingMap<String> map = new PrefetchingBackingMap<String>(backing, 1, 2);
+        assertEquals(Arrays.asList("1", null), map.multiGet(keys("a", "b")));
+        assertEquals(2, backing._asyncReads);
+    }
+
+    @Test
+    public void testSharesOneExecutor() {
+        ExecutorService small = PrefetchingBackingMap.sharedExecutor(1);
+        ExecutorService large = PrefetchingBackingMap.sharedExecutor(64);
+        assertSame(small, large);
+        assertTrue(((ThreadPoolExecutor) large).getMaximumPoolSize() >= 64);
+        assertTrue(((ThreadPoolExecutor) large).allowsCoreThreadTimeOut());
+    }
+}
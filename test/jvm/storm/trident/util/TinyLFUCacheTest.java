@@ -0,0 +1,181 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package storm.trident.util;
+
+import backtype.storm.utils.Time;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class TinyLFUCacheTest {
+    private static final TinyLFUCache.Weigher<String, String> LENGTH = new TinyLFUCache.Weigher<String, String>() {
+        @Override
+        public int weigh(String key, String value) {
+            return value.length();
+        }
+    };
+
+    private static String repeat(char c, int n) {
+        StringBuilder sb = new StringBuilder();
+        for(int i=0; i<n; i++) {
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    // asks for the key a few times before caching it, as a hot key would be
+    private static void putHot(TinyLFUCache<String, String> cache, String key) {
+        for(int i=0; i<3; i++) {
+            cache.get(key);
+        }
+        cache.put(key, key);
+    }
+
+    @Test
+    public void testGetAndPut() {
+        TinyLFUCache<String, String> cache = new TinyLFUCache<String, String>(10);
+        assertNull(cache.get("a"));
+        cache.put("a", "1");
+        assertEquals("1", cache.get("a"));
+        assertTrue(cache.containsKey("a"));
+        cache.put("a", "2");
+        assertEquals("2", cache.get("a"));
+        assertEquals(1, cache.size());
+        cache.remove("a");
+        assertFalse(cache.containsKey("a"));
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.weightedSize());
+    }
+
+    @Test
+    public void testWindowOnlyAdmitsEntriesHotterThanTheVictim() {
+        // a window of 1 and a main cache of 9
+        TinyLFUCache<String, String> cache = new TinyLFUCache<String, String>(10);
+        for(int i=0; i<10; i++) {
+            cache.put("a" + i, "v");
+        }
+        assertEquals(10, cache.size());
+
+        // pushes a9 out of the window, it is no hotter than a0 so it is dropped
+        cache.put("cold", "v");
+        assertFalse(cache.containsKey("a9"));
+        assertTrue(cache.containsKey("a0"));
+        assertEquals(1, cache.evictionCount());
+
+        // pushes cold out of the window, which loses to a0 as well
+        putHot(cache, "hot");
+        assertFalse(cache.containsKey("cold"));
+        assertTrue(cache.containsKey("a0"));
+
+        // pushes hot out of the window, which wins against a0, the eldest on probation
+        cache.put("next", "v");
+        assertTrue(cache.containsKey("hot"));
+        assertFalse(cache.containsKey("a0"));
+        assertTrue(cache.containsKey("a1"));
+        assertEquals(10, cache.size());
+    }
+
+    @Test
+    public void testEntriesHitOnProbationAreProtected() {
+        TinyLFUCache<String, String> cache = new TinyLFUCache<String, String>(10);
+        for(int i=0; i<10; i++) {
+            cache.put("a" + i, "v");
+        }
+        // moves a0 from probation to the protected segment
+        assertEquals("v", cache.get("a0"));
+
+        // a stream of hot keys displaces everything on probation, then each other
+        for(int i=0; i<20; i++) {
+            putHot(cache, "h" + i);
+        }
+        assertTrue(cache.containsKey("a0"));
+        for(int i=1; i<10; i++) {
+            assertFalse(cache.containsKey("a" + i));
+        }
+        assertEquals(10, cache.size());
+    }
+
+    @Test
+    public void testBoundedByWeight() {
+        TinyLFUCache<String, String> cache = new TinyLFUCache<String, String>(100, LENGTH, 0);
+        for(int i=0; i<10; i++) {
+            cache.put("k" + i, repeat('x', 30));
+            assertTrue(cache.weightedSize() <= 100);
+        }
+        assertEquals(3, cache.size());
+        assertEquals(90, cache.weightedSize());
+        assertEquals(7, cache.evictionCount());
+
+        // heavier than the whole cache, so never kept
+        cache.put("big", repeat('x', 200));
+        assertFalse(cache.containsKey("big"));
+        assertEquals(90, cache.weightedSize());
+    }
+
+    @Test
+    public void testGrowingAnEntryEvictsFromProbationFirst() {
+        TinyLFUCache<String, String> cache = new TinyLFUCache<String, String>(10, LENGTH, 0);
+        for(int i=0; i<10; i++) {
+            cache.put("a" + i, "v");
+        }
+        cache.get("a5");
+        // a5 is protected now, growing it by 2 evicts the two eldest on probation
+        cache.put("a5", "vvv");
+        assertEquals(10, cache.weightedSize());
+        assertTrue(cache.containsKey("a5"));
+        assertFalse(cache.containsKey("a0"));
+        assertFalse(cache.containsKey("a1"));
+        assertTrue(cache.containsKey("a2"));
+        assertEquals(2, cache.evictionCount());
+    }
+
+    @Test
+    public void testHitAndMissCounts() {
+        TinyLFUCache<String, String> cache = new TinyLFUCache<String, String>(10);
+        cache.put("a", "1");
+        cache.get("a");
+        cache.get("a");
+        cache.get("b");
+        assertEquals(2, cache.hitCount());
+        assertEquals(1, cache.missCount());
+    }
+
+    @Test
+    public void testExpireAfterWrite() {
+        Time.startSimulating();
+        try {
+            TinyLFUCache<String, String> cache = new TinyLFUCache<String, String>(10, null, 1000);
+            cache.put("a", "1");
+            Time.advanceTime(999);
+            assertEquals("1", cache.get("a"));
+            cache.put("b", "2");
+            Time.advanceTime(1);
+            assertFalse(cache.containsKey("a"));
+            assertNull(cache.get("a"));
+            assertEquals("2", cache.get("b"));
+            assertEquals(1, cache.expirationCount());
+            assertEquals(1, cache.size());
+        } finally {
+            Time.stopSimulating();
+        }
+    }
+}